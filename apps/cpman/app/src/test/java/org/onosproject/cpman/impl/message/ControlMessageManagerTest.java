@@ -176,5 +176,14 @@ public class ControlMessageManagerTest {
         public long getDispatchTimeLimit() {
             return 0;
         }
+
+        @Override
+        public void setDispatchWorkers(int count) {
+        }
+
+        @Override
+        public int getDispatchWorkers() {
+            return 0;
+        }
     }
 }
@@ -953,5 +953,14 @@ public class OpticalPathProvisionerTest {
         public long getDispatchTimeLimit() {
             return 0;
         }
+
+        @Override
+        public void setDispatchWorkers(int count) {
+        }
+
+        @Override
+        public int getDispatchWorkers() {
+            return 0;
+        }
     }
 }
@@ -18,17 +18,12 @@ package org.onosproject.routeservice.impl;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.googlecode.concurrenttrees.common.KeyValuePair;
-import com.googlecode.concurrenttrees.radix.node.concrete.DefaultByteArrayNodeFactory;
-import com.googlecode.concurrenttrees.radixinverted.ConcurrentInvertedRadixTree;
-import com.googlecode.concurrenttrees.radixinverted.InvertedRadixTree;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.IpPrefix;
-import org.onlab.util.GuavaCollectors;
-import org.onlab.util.Tools;
 import org.onosproject.routeservice.ResolvedRoute;
 import org.onosproject.routeservice.RouteEvent;
 import org.onosproject.routeservice.RouteTableId;
+import org.onosproject.routeservice.store.PrefixTable;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -37,8 +32,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import static org.onosproject.routeservice.RouteTools.createBinaryString;
-
 /**
  * Stores routes that have been resolved.
  */
@@ -48,16 +41,42 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
     private static final RouteTableId IPV4 = new RouteTableId("ipv4");
     private static final RouteTableId IPV6 = new RouteTableId("ipv6");
 
+    private volatile boolean lpmTrie;
+
     /**
      * Creates a new resolved route store.
      */
     public DefaultResolvedRouteStore() {
+        this(false);
+    }
+
+    /**
+     * Creates a new resolved route store.
+     *
+     * @param lpmTrie true to index routes with the bitwise trie, false for
+     *                the radix tree
+     */
+    public DefaultResolvedRouteStore(boolean lpmTrie) {
+        this.lpmTrie = lpmTrie;
         routeTables = new ConcurrentHashMap<>();
 
         routeTables.put(IPV4, new RouteTable());
         routeTables.put(IPV6, new RouteTable());
     }
 
+    /**
+     * Selects the structure used to index the routes by prefix. The route
+     * tables are re-indexed if the selection changes.
+     *
+     * @param lpmTrie true to use the bitwise trie, false for the radix tree
+     */
+    public void setLpmTrie(boolean lpmTrie) {
+        if (this.lpmTrie != lpmTrie) {
+            this.lpmTrie = lpmTrie;
+            routeTables.values().forEach(RouteTable::reindex);
+        }
+    }
+
     @Override
     public RouteEvent updateRoute(ResolvedRoute route, Set<ResolvedRoute> alternatives) {
         return getDefaultRouteTable(route).update(route, alternatives);
@@ -111,19 +130,29 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
      * Route table into which routes can be placed.
      */
     private class RouteTable {
-        private final InvertedRadixTree<ResolvedRoute> routeTable;
+        private volatile PrefixTable<ResolvedRoute> routeTable;
         private final Map<IpPrefix, Set<ResolvedRoute>> alternativeRoutes;
 
         /**
          * Creates a new route table.
          */
         public RouteTable() {
-            routeTable = new ConcurrentInvertedRadixTree<>(
-                    new DefaultByteArrayNodeFactory());
+            routeTable = PrefixTable.create(lpmTrie);
 
             alternativeRoutes = Maps.newHashMap();
         }
 
+        /**
+         * Rebuilds the prefix index using the currently selected structure.
+         */
+        public void reindex() {
+            synchronized (this) {
+                PrefixTable<ResolvedRoute> table = PrefixTable.create(lpmTrie);
+                routeTable.values().forEach(route -> table.put(route.prefix(), route));
+                routeTable = table;
+            }
+        }
+
         /**
          * Adds or updates the route in the route table.
          *
@@ -134,7 +163,7 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
             Set<ResolvedRoute> immutableAlternatives = checkAlternatives(route, alternatives);
 
             synchronized (this) {
-                ResolvedRoute oldRoute = routeTable.put(createBinaryString(route.prefix()), route);
+                ResolvedRoute oldRoute = routeTable.put(route.prefix(), route);
                 Set<ResolvedRoute> oldRoutes = alternativeRoutes.put(route.prefix(), immutableAlternatives);
 
                 if (!route.equals(oldRoute)) {
@@ -182,13 +211,10 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
          */
         public RouteEvent remove(IpPrefix prefix) {
             synchronized (this) {
-                String key = createBinaryString(prefix);
-
-                ResolvedRoute route = routeTable.getValueForExactKey(key);
+                ResolvedRoute route = routeTable.remove(prefix);
                 alternativeRoutes.remove(prefix);
 
                 if (route != null) {
-                    routeTable.remove(key);
                     return new RouteEvent(RouteEvent.Type.ROUTE_REMOVED, route);
                 }
                 return null;
@@ -201,9 +227,7 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
          * @return all routes
          */
         public Collection<ResolvedRoute> getRoutes() {
-            return Tools.stream(routeTable.getKeyValuePairsForKeysStartingWith(""))
-                    .map(KeyValuePair::getValue)
-                    .collect(GuavaCollectors.toImmutableList());
+            return routeTable.values();
         }
 
         /**
@@ -213,7 +237,7 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
          * @return best route
          */
         public Optional<ResolvedRoute> getRoute(IpPrefix prefix) {
-            return Optional.ofNullable(routeTable.getValueForExactKey(createBinaryString(prefix)));
+            return Optional.ofNullable(routeTable.get(prefix));
         }
 
         public Collection<ResolvedRoute> getAllRoutes(IpPrefix prefix) {
@@ -227,8 +251,7 @@ public class DefaultResolvedRouteStore implements ResolvedRouteStore {
          * @return most specific prefix containing the given
          */
         public Optional<ResolvedRoute> longestPrefixMatch(IpAddress ip) {
-            return Tools.stream(routeTable.getValuesForKeysPrefixing(createBinaryString(ip.toIpPrefix())))
-                    .reduce((a, b) -> b); // reduces to the last element in the stream
+            return Optional.ofNullable(routeTable.longestPrefixMatch(ip));
         }
     }
 }
@@ -19,11 +19,15 @@ package org.onosproject.routeservice.impl;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
+import org.apache.felix.scr.annotations.Modified;
+import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.IpPrefix;
+import org.onlab.util.Tools;
+import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.routeservice.InternalRouteEvent;
 import org.onosproject.routeservice.ResolvedRoute;
@@ -42,12 +46,14 @@ import org.onosproject.net.host.HostEvent;
 import org.onosproject.net.host.HostListener;
 import org.onosproject.net.host.HostService;
 import org.onosproject.store.service.StorageService;
+import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.GuardedBy;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -59,6 +65,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.onlab.util.Tools.groupedThreads;
 
@@ -86,7 +93,15 @@ public class RouteManager implements RouteService, RouteAdminService {
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected StorageService storageService;
 
-    private ResolvedRouteStore resolvedRouteStore;
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected ComponentConfigService cfgService;
+
+    private static final boolean DEFAULT_LPM_TRIE = false;
+    @Property(name = "lpmTrie", boolValue = DEFAULT_LPM_TRIE,
+            label = "Index resolved routes with a bitwise trie instead of a radix tree")
+    private boolean lpmTrie = DEFAULT_LPM_TRIE;
+
+    private DefaultResolvedRouteStore resolvedRouteStore;
 
     private RouteMonitor routeMonitor;
 
@@ -96,11 +111,13 @@ public class RouteManager implements RouteService, RouteAdminService {
     private ThreadFactory threadFactory;
 
     @Activate
-    protected void activate() {
+    protected void activate(ComponentContext context) {
         routeMonitor = new RouteMonitor(this, clusterService, storageService);
         threadFactory = groupedThreads("onos/route", "listener-%d", log);
 
-        resolvedRouteStore = new DefaultResolvedRouteStore();
+        cfgService.registerProperties(getClass());
+        resolvedRouteStore = new DefaultResolvedRouteStore(lpmTrie);
+        modified(context);
 
         routeStore.setDelegate(delegate);
         hostService.addListener(hostListener);
@@ -117,6 +134,24 @@ public class RouteManager implements RouteService, RouteAdminService {
 
         routeStore.unsetDelegate(delegate);
         hostService.removeListener(hostListener);
+
+        cfgService.unregisterProperties(getClass(), false);
+    }
+
+    @Modified
+    protected void modified(ComponentContext context) {
+        Dictionary<?, ?> properties = context != null ? context.getProperties() : null;
+        if (properties == null) {
+            return;
+        }
+
+        String s = Tools.get(properties, "lpmTrie");
+        boolean newLpmTrie = isNullOrEmpty(s) ? DEFAULT_LPM_TRIE : Boolean.parseBoolean(s.trim());
+        if (newLpmTrie != lpmTrie) {
+            lpmTrie = newLpmTrie;
+            resolvedRouteStore.setLpmTrie(lpmTrie);
+            log.info("Indexing resolved routes with {}", lpmTrie ? "bitwise trie" : "radix tree");
+        }
     }
 
     /**
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routeservice.store;
+
+import com.google.common.collect.ImmutableList;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Prefix table backed by a path-compressed binary trie over the bits of the
+ * prefixes of a single IP version.
+ * <p>
+ * Nodes are immutable and updates copy the path from the root to the
+ * updated node before publishing the new root, so lookups never lock and
+ * always see a consistent snapshot. Lookups walk the bits of the address
+ * in place and do not allocate.
+ * </p>
+ *
+ * @param <V> type of value
+ */
+public final class IpPrefixTrie<V> implements PrefixTable<V> {
+
+    private volatile Node<V> root;
+
+    @Override
+    public synchronized V put(IpPrefix prefix, V value) {
+        checkNotNull(value);
+        checkVersion(prefix.address());
+        V oldValue = get(prefix);
+        root = insert(root, prefix.address(), prefix.prefixLength(), value);
+        return oldValue;
+    }
+
+    @Override
+    public synchronized V remove(IpPrefix prefix) {
+        V oldValue = get(prefix);
+        if (oldValue != null) {
+            root = remove(root, prefix.address(), prefix.prefixLength());
+        }
+        return oldValue;
+    }
+
+    @Override
+    public V get(IpPrefix prefix) {
+        IpAddress key = prefix.address();
+        int length = prefix.prefixLength();
+        Node<V> node = root;
+        if (node == null || node.key.version() != key.version()) {
+            return null;
+        }
+        int checked = 0;
+        while (node != null && node.length <= length &&
+                matches(node.key, key, checked, node.length)) {
+            if (node.length == length) {
+                return node.value;
+            }
+            checked = node.length;
+            node = key.isBitSet(node.length) ? node.right : node.left;
+        }
+        return null;
+    }
+
+    @Override
+    public V longestPrefixMatch(IpAddress ip) {
+        Node<V> node = root;
+        if (node == null || node.key.version() != ip.version()) {
+            return null;
+        }
+        int bits = ip.isIp4() ? IpAddress.INET_BIT_LENGTH : IpAddress.INET6_BIT_LENGTH;
+        V best = null;
+        int checked = 0;
+        while (node != null && matches(node.key, ip, checked, node.length)) {
+            if (node.value != null) {
+                best = node.value;
+            }
+            if (node.length == bits) {
+                break;
+            }
+            checked = node.length;
+            node = ip.isBitSet(node.length) ? node.right : node.left;
+        }
+        return best;
+    }
+
+    @Override
+    public Collection<V> values() {
+        ImmutableList.Builder<V> builder = ImmutableList.builder();
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node<V> node = stack.pop();
+            if (node.value != null) {
+                builder.add(node.value);
+            }
+            if (node.right != null) {
+                stack.push(node.right);
+            }
+            if (node.left != null) {
+                stack.push(node.left);
+            }
+        }
+        return builder.build();
+    }
+
+    private void checkVersion(IpAddress key) {
+        Node<V> node = root;
+        checkArgument(node == null || node.key.version() == key.version(),
+                      "Mixed IP versions in prefix table: %s", key);
+    }
+
+    // Returns a copy of the sub-trie with the value associated with the key.
+    private static <V> Node<V> insert(Node<V> node, IpAddress key, int length, V value) {
+        if (node == null) {
+            return new Node<>(key, length, value, null, null);
+        }
+        int common = commonLength(node.key, key, Math.min(node.length, length));
+        if (common == node.length && common == length) {
+            return new Node<>(node.key, length, value, node.left, node.right);
+        }
+        if (common == node.length) {
+            // The key lies below this node.
+            return key.isBitSet(common) ?
+                    new Node<>(node.key, node.length, node.value,
+                               node.left, insert(node.right, key, length, value)) :
+                    new Node<>(node.key, node.length, node.value,
+                               insert(node.left, key, length, value), node.right);
+        }
+        if (common == length) {
+            // The key lies above this node.
+            return node.key.isBitSet(length) ?
+                    new Node<>(key, length, value, null, node) :
+                    new Node<>(key, length, value, node, null);
+        }
+        // The key diverges from this node; join both under a new branch.
+        Node<V> leaf = new Node<>(key, length, value, null, null);
+        return key.isBitSet(common) ?
+                new Node<>(key, common, null, node, leaf) :
+                new Node<>(key, common, null, leaf, node);
+    }
+
+    // Returns a copy of the sub-trie without a value for the key, or the
+    // same sub-trie if the key is not present.
+    private static <V> Node<V> remove(Node<V> node, IpAddress key, int length) {
+        if (node == null || node.length > length ||
+                !matches(node.key, key, 0, node.length)) {
+            return node;
+        }
+        if (node.length == length) {
+            return node.value == null ? node :
+                    collapse(node.key, node.length, null, node.left, node.right);
+        }
+        if (key.isBitSet(node.length)) {
+            Node<V> right = remove(node.right, key, length);
+            return right == node.right ? node :
+                    collapse(node.key, node.length, node.value, node.left, right);
+        }
+        Node<V> left = remove(node.left, key, length);
+        return left == node.left ? node :
+                collapse(node.key, node.length, node.value, left, node.right);
+    }
+
+    // Creates a node, eliding it if it carries neither a value nor a branch.
+    private static <V> Node<V> collapse(IpAddress key, int length, V value,
+                                        Node<V> left, Node<V> right) {
+        if (value == null) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+        }
+        return new Node<>(key, length, value, left, right);
+    }
+
+    // Returns the number of leading bits, up to the limit, shared by both keys.
+    private static int commonLength(IpAddress a, IpAddress b, int limit) {
+        for (int i = 0; i < limit; i++) {
+            if (a.isBitSet(i) != b.isBitSet(i)) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    // Indicates whether both keys share the bits in the given range.
+    private static boolean matches(IpAddress a, IpAddress b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (a.isBitSet(i) != b.isBitSet(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node<V> {
+        private final IpAddress key;
+        private final int length;
+        private final V value;
+        private final Node<V> left;
+        private final Node<V> right;
+
+        private Node(IpAddress key, int length, V value, Node<V> left, Node<V> right) {
+            this.key = key;
+            this.length = length;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
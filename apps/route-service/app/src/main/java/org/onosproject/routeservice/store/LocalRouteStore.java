@@ -16,10 +16,6 @@
 
 package org.onosproject.routeservice.store;
 
-import com.googlecode.concurrenttrees.common.KeyValuePair;
-import com.googlecode.concurrenttrees.radix.node.concrete.DefaultByteArrayNodeFactory;
-import com.googlecode.concurrenttrees.radixinverted.ConcurrentInvertedRadixTree;
-import com.googlecode.concurrenttrees.radixinverted.InvertedRadixTree;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.IpPrefix;
 import org.onosproject.routeservice.InternalRouteEvent;
@@ -28,16 +24,12 @@ import org.onosproject.routeservice.RouteSet;
 import org.onosproject.routeservice.RouteStore;
 import org.onosproject.routeservice.RouteStoreDelegate;
 import org.onosproject.routeservice.RouteTableId;
-import org.onosproject.routeservice.RouteTools;
 import org.onosproject.store.AbstractStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +49,8 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
     private static final RouteTableId IPV4 = new RouteTableId("ipv4");
     private static final RouteTableId IPV6 = new RouteTableId("ipv6");
 
+    private volatile boolean lpmTrie;
+
     /**
      * Sets up local route store.
      */
@@ -76,6 +70,21 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
         log.info("Stopped");
     }
 
+    /**
+     * Selects the structure used to index the routes by prefix. The route
+     * tables are re-indexed if the selection changes.
+     *
+     * @param lpmTrie true to use the bitwise trie, false for the radix tree
+     */
+    public void setLpmTrie(boolean lpmTrie) {
+        if (this.lpmTrie != lpmTrie) {
+            this.lpmTrie = lpmTrie;
+            if (routeTables != null) {
+                routeTables.values().forEach(RouteTable::reindex);
+            }
+        }
+    }
+
     @Override
     public void updateRoute(Route route) {
         getDefaultRouteTable(route).update(route);
@@ -123,7 +132,7 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
      * Route table into which routes can be placed.
      */
     private class RouteTable {
-        private final InvertedRadixTree<Route> routeTable;
+        private volatile PrefixTable<Route> routeTable;
         private final Map<IpPrefix, Route> routes = new ConcurrentHashMap<>();
         private final RouteTableId id;
 
@@ -132,8 +141,18 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
          */
         public RouteTable(RouteTableId id) {
             this.id = checkNotNull(id);
-            routeTable = new ConcurrentInvertedRadixTree<>(
-                    new DefaultByteArrayNodeFactory());
+            routeTable = PrefixTable.create(lpmTrie);
+        }
+
+        /**
+         * Rebuilds the prefix index using the currently selected structure.
+         */
+        public void reindex() {
+            synchronized (this) {
+                PrefixTable<Route> table = PrefixTable.create(lpmTrie);
+                routes.values().forEach(route -> table.put(route.prefix(), route));
+                routeTable = table;
+            }
         }
 
         /**
@@ -150,7 +169,7 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
                     return;
                 }
 
-                routeTable.put(RouteTools.createBinaryString(route.prefix()), route);
+                routeTable.put(route.prefix(), route);
 
                 notifyDelegate(new InternalRouteEvent(
                         InternalRouteEvent.Type.ROUTE_ADDED, singletonRouteSet(route)));
@@ -165,7 +184,7 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
         public void remove(Route route) {
             synchronized (this) {
                 Route removed = routes.remove(route.prefix());
-                routeTable.remove(RouteTools.createBinaryString(route.prefix()));
+                routeTable.remove(route.prefix());
 
                 if (removed != null) {
                     notifyDelegate(new InternalRouteEvent(
@@ -207,17 +226,7 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
          * @return all routes
          */
         public Collection<Route> getRoutes() {
-            Iterator<KeyValuePair<Route>> it =
-                    routeTable.getKeyValuePairsForKeysStartingWith("").iterator();
-
-            List<Route> routes = new LinkedList<>();
-
-            while (it.hasNext()) {
-                KeyValuePair<Route> entry = it.next();
-                routes.add(entry.getValue());
-            }
-
-            return routes;
+            return routeTable.values();
         }
 
         /**
@@ -227,17 +236,7 @@ public class LocalRouteStore extends AbstractStore<InternalRouteEvent, RouteStor
          * @return most specific prefix containing the given
          */
         public Route longestPrefixMatch(IpAddress ip) {
-            Iterable<Route> prefixes =
-                    routeTable.getValuesForKeysPrefixing(RouteTools.createBinaryString(ip.toIpPrefix()));
-
-            Iterator<Route> it = prefixes.iterator();
-
-            Route route = null;
-            while (it.hasNext()) {
-                route = it.next();
-            }
-
-            return route;
+            return routeTable.longestPrefixMatch(ip);
         }
 
         private RouteSet singletonRouteSet(Route route) {
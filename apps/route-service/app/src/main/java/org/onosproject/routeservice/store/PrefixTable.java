@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routeservice.store;
+
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.Collection;
+
+/**
+ * Index of values keyed by IP prefix supporting longest prefix match lookups.
+ * <p>
+ * Lookups may be performed concurrently with updates; updates are expected
+ * to be serialized by the caller.
+ * </p>
+ *
+ * @param <V> type of value
+ */
+public interface PrefixTable<V> {
+
+    /**
+     * Creates a new prefix table.
+     *
+     * @param trie true for a bitwise trie, false for a radix tree keyed on
+     *             the binary string representation of the prefix
+     * @param <V>  type of value
+     * @return new prefix table
+     */
+    static <V> PrefixTable<V> create(boolean trie) {
+        return trie ? new IpPrefixTrie<>() : new RadixPrefixTable<>();
+    }
+
+    /**
+     * Associates the value with the prefix.
+     *
+     * @param prefix IP prefix
+     * @param value  value
+     * @return value previously associated with the prefix; null if none
+     */
+    V put(IpPrefix prefix, V value);
+
+    /**
+     * Removes the value associated with the prefix.
+     *
+     * @param prefix IP prefix
+     * @return value removed; null if none
+     */
+    V remove(IpPrefix prefix);
+
+    /**
+     * Returns the value associated with exactly the given prefix.
+     *
+     * @param prefix IP prefix
+     * @return value; null if none
+     */
+    V get(IpPrefix prefix);
+
+    /**
+     * Returns the value associated with the longest prefix containing the
+     * given address.
+     *
+     * @param ip IP address to look up
+     * @return value; null if no prefix contains the address
+     */
+    V longestPrefixMatch(IpAddress ip);
+
+    /**
+     * Returns all values in the table.
+     *
+     * @return values
+     */
+    Collection<V> values();
+}
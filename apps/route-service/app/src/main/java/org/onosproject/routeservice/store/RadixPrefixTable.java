@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routeservice.store;
+
+import com.googlecode.concurrenttrees.common.KeyValuePair;
+import com.googlecode.concurrenttrees.radix.node.concrete.DefaultByteArrayNodeFactory;
+import com.googlecode.concurrenttrees.radixinverted.ConcurrentInvertedRadixTree;
+import com.googlecode.concurrenttrees.radixinverted.InvertedRadixTree;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onlab.util.GuavaCollectors;
+import org.onlab.util.Tools;
+
+import java.util.Collection;
+
+import static org.onosproject.routeservice.RouteTools.createBinaryString;
+
+/**
+ * Prefix table backed by an inverted radix tree keyed on the binary string
+ * representation of the prefixes.
+ *
+ * @param <V> type of value
+ */
+public final class RadixPrefixTable<V> implements PrefixTable<V> {
+
+    private final InvertedRadixTree<V> tree =
+            new ConcurrentInvertedRadixTree<>(new DefaultByteArrayNodeFactory());
+
+    @Override
+    public V put(IpPrefix prefix, V value) {
+        return tree.put(createBinaryString(prefix), value);
+    }
+
+    @Override
+    public V remove(IpPrefix prefix) {
+        String key = createBinaryString(prefix);
+        V value = tree.getValueForExactKey(key);
+        if (value != null) {
+            tree.remove(key);
+        }
+        return value;
+    }
+
+    @Override
+    public V get(IpPrefix prefix) {
+        return tree.getValueForExactKey(createBinaryString(prefix));
+    }
+
+    @Override
+    public V longestPrefixMatch(IpAddress ip) {
+        return Tools.stream(tree.getValuesForKeysPrefixing(createBinaryString(ip.toIpPrefix())))
+                .reduce((a, b) -> b) // reduces to the last element in the stream
+                .orElse(null);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Tools.stream(tree.getKeyValuePairsForKeysStartingWith(""))
+                .map(KeyValuePair::getValue)
+                .collect(GuavaCollectors.toImmutableList());
+    }
+}
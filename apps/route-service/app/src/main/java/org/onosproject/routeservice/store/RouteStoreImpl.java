@@ -63,6 +63,10 @@ public class RouteStoreImpl extends AbstractStore<InternalRouteEvent, RouteStore
             label = "Enable distributed route store")
     private boolean distributed;
 
+    @Property(name = "lpmTrie", boolValue = false,
+            label = "Index local routes with a bitwise trie instead of a radix tree")
+    private boolean lpmTrie;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     private RouteStore currentRouteStore;
 
@@ -111,6 +115,13 @@ public class RouteStoreImpl extends AbstractStore<InternalRouteEvent, RouteStore
             log.info("Switched to {} route store", distributed ? "distributed" : "local");
         }
 
+        boolean expectLpmTrie = Boolean.parseBoolean(Tools.get(properties, "lpmTrie"));
+        if (expectLpmTrie != lpmTrie) {
+            localRouteStore.setLpmTrie(expectLpmTrie);
+            this.lpmTrie = expectLpmTrie;
+            log.info("Indexing local routes with {}", lpmTrie ? "bitwise trie" : "radix tree");
+        }
+
     }
 
     @Override
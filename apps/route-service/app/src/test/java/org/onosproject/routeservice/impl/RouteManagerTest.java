@@ -33,6 +33,7 @@ import org.onosproject.routeservice.Route;
 import org.onosproject.routeservice.RouteEvent;
 import org.onosproject.routeservice.RouteListener;
 import org.onosproject.routeservice.store.LocalRouteStore;
+import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.DefaultHost;
@@ -106,11 +107,12 @@ public class RouteManagerTest {
         expect(routeManager.storageService.getWorkQueue(anyString(), anyObject()))
                 .andReturn(createNiceMock(WorkQueue.class));
         replay(routeManager.storageService);
+        routeManager.cfgService = new ComponentConfigAdapter();
 
         LocalRouteStore routeStore = new LocalRouteStore();
         routeStore.activate();
         routeManager.routeStore = routeStore;
-        routeManager.activate();
+        routeManager.activate(null);
 
         routeManager.addListener(routeListener);
     }
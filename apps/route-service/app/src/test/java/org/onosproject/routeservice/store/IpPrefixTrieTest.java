@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routeservice.store;
+
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the bitwise prefix trie.
+ */
+public class IpPrefixTrieTest {
+
+    private static final IpPrefix DEFAULT = IpPrefix.valueOf("0.0.0.0/0");
+    private static final IpPrefix P8 = IpPrefix.valueOf("10.0.0.0/8");
+    private static final IpPrefix P16 = IpPrefix.valueOf("10.1.0.0/16");
+    private static final IpPrefix P24 = IpPrefix.valueOf("10.1.2.0/24");
+    private static final IpPrefix OTHER = IpPrefix.valueOf("192.168.0.0/16");
+    private static final IpPrefix V6 = IpPrefix.valueOf("2001:db8::/32");
+
+    private final IpPrefixTrie<String> trie = new IpPrefixTrie<>();
+
+    private static IpAddress ip(String address) {
+        return IpAddress.valueOf(address);
+    }
+
+    /**
+     * Tests exact and longest prefix match lookups.
+     */
+    @Test
+    public void testLookups() {
+        trie.put(P16, "p16");
+        trie.put(P8, "p8");
+        trie.put(P24, "p24");
+        trie.put(OTHER, "other");
+
+        assertThat(trie.get(P8), is("p8"));
+        assertThat(trie.get(IpPrefix.valueOf("10.1.0.0/15")), is(nullValue()));
+        assertThat(trie.longestPrefixMatch(ip("10.1.2.3")), is("p24"));
+        assertThat(trie.longestPrefixMatch(ip("10.1.3.3")), is("p16"));
+        assertThat(trie.longestPrefixMatch(ip("10.2.0.1")), is("p8"));
+        assertThat(trie.longestPrefixMatch(ip("192.168.1.1")), is("other"));
+        assertThat(trie.longestPrefixMatch(ip("11.0.0.1")), is(nullValue()));
+
+        trie.put(DEFAULT, "default");
+        assertThat(trie.longestPrefixMatch(ip("11.0.0.1")), is("default"));
+        assertThat(trie.longestPrefixMatch(V6.address()), is(nullValue()));
+        assertThat(trie.values(), containsInAnyOrder("default", "p8", "p16", "p24", "other"));
+    }
+
+    /**
+     * Tests updating and removing prefixes.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        assertThat(trie.put(P16, "p16"), is(nullValue()));
+        assertThat(trie.put(P16, "p16b"), is("p16"));
+        trie.put(P24, "p24");
+
+        assertThat(trie.remove(P8), is(nullValue()));
+        assertThat(trie.remove(P16), is("p16b"));
+        assertThat(trie.longestPrefixMatch(ip("10.1.3.3")), is(nullValue()));
+        assertThat(trie.longestPrefixMatch(ip("10.1.2.3")), is("p24"));
+
+        assertThat(trie.remove(P24), is("p24"));
+        assertThat(trie.values(), is(empty()));
+    }
+
+    /**
+     * Tests IPv6 prefixes.
+     */
+    @Test
+    public void testIp6() {
+        IpPrefixTrie<String> trie6 = new IpPrefixTrie<>();
+        trie6.put(V6, "v6");
+        trie6.put(IpPrefix.valueOf("2001:db8:1::/48"), "v6-48");
+        trie6.put(IpPrefix.valueOf("2001:db8:1::1/128"), "host");
+
+        assertThat(trie6.longestPrefixMatch(ip("2001:db8:1::1")), is("host"));
+        assertThat(trie6.longestPrefixMatch(ip("2001:db8:1::2")), is("v6-48"));
+        assertThat(trie6.longestPrefixMatch(ip("2001:db8:2::1")), is("v6"));
+        assertThat(trie6.longestPrefixMatch(ip("10.1.2.3")), is(nullValue()));
+    }
+
+    /**
+     * Tests that lookups agree with the radix tree for random prefixes.
+     */
+    @Test
+    public void testAgainstRadixTree() {
+        RadixPrefixTable<IpPrefix> radix = new RadixPrefixTable<>();
+        IpPrefixTrie<IpPrefix> bitwise = new IpPrefixTrie<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            IpPrefix prefix = IpPrefix.valueOf(Ip4Address.valueOf(random.nextInt()),
+                                               random.nextInt(IpAddress.INET_BIT_LENGTH + 1));
+            radix.put(prefix, prefix);
+            bitwise.put(prefix, prefix);
+            if (i % 3 == 0) {
+                radix.remove(prefix);
+                bitwise.remove(prefix);
+            }
+        }
+        for (int i = 0; i < 2000; i++) {
+            IpAddress address = Ip4Address.valueOf(random.nextInt());
+            assertThat(bitwise.longestPrefixMatch(address), is(radix.longestPrefixMatch(address)));
+        }
+        assertThat(bitwise.values(), containsInAnyOrder(radix.values().toArray()));
+    }
+}
@@ -45,6 +45,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -64,12 +65,15 @@ public class DefaultRoutingHandler {
     private static final int RETRY_INTERVAL_MS = 250;
     private static final int RETRY_INTERVAL_SCALE = 1;
     private static final long STABLITY_THRESHOLD = 10; //secs
+    private static final int MAX_ECMP_GRAPH_THREADS = 4;
     private static Logger log = LoggerFactory.getLogger(DefaultRoutingHandler.class);
 
     private SegmentRoutingManager srManager;
     private RoutingRulePopulator rulePopulator;
     private HashMap<DeviceId, EcmpShortestPathGraph> currentEcmpSpgMap;
     private HashMap<DeviceId, EcmpShortestPathGraph> updatedEcmpSpgMap;
+    private final ForkJoinPool ecmpSpgPool;
+    private final EcmpGraphBuilder ecmpSpgBuilder;
     private DeviceConfiguration config;
     private final Lock statusLock = new ReentrantLock();
     private volatile Status populationStatus;
@@ -106,6 +110,18 @@ public class DefaultRoutingHandler {
         this.config = checkNotNull(srManager.deviceConfiguration);
         this.populationStatus = Status.IDLE;
         this.currentEcmpSpgMap = Maps.newHashMap();
+        this.ecmpSpgPool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(),
+                                                     MAX_ECMP_GRAPH_THREADS));
+        this.ecmpSpgBuilder = new EcmpGraphBuilder(srManager, ecmpSpgPool);
+    }
+
+    /**
+     * Gracefully shuts down the routing handler. Typically called when the
+     * handler is no longer needed.
+     */
+    public void shutdown() {
+        ecmpSpgPool.shutdown();
+        executorService.shutdown();
     }
 
     /**
@@ -184,18 +200,12 @@ public class DefaultRoutingHandler {
             log.debug("populateAllRoutingRules: populationStatus is STARTED");
 
             // take a snapshot of the topology
-            updatedEcmpSpgMap = new HashMap<>();
+            updatedEcmpSpgMap = computeEcmpSpgs();
             Set<EdgePair> edgePairs = new HashSet<>();
             Set<ArrayList<DeviceId>> routeChanges = new HashSet<>();
             for (Device dstSw : srManager.deviceService.getDevices()) {
-                EcmpShortestPathGraph ecmpSpgUpdated =
-                        new EcmpShortestPathGraph(dstSw.id(), srManager);
-                updatedEcmpSpgMap.put(dstSw.id(), ecmpSpgUpdated);
                 DeviceId pairDev = getPairDev(dstSw.id());
                 if (pairDev != null) {
-                    // pairDev may not be available yet, but we still need to add
-                    ecmpSpgUpdated = new EcmpShortestPathGraph(pairDev, srManager);
-                    updatedEcmpSpgMap.put(pairDev, ecmpSpgUpdated);
                     edgePairs.add(new EdgePair(dstSw.id(), pairDev));
                 }
                 DeviceId ret = shouldHandleRouting(dstSw.id());
@@ -269,10 +279,8 @@ public class DefaultRoutingHandler {
                     populationStatus = Status.ABORTED;
                     return;
                 }
+                updatedEcmpSpgMap.putAll(ecmpSpgBuilder.build(Sets.newHashSet(dev1, pairDev)));
                 for (ConnectPoint cp : cpts) {
-                    EcmpShortestPathGraph ecmpSpgUpdated =
-                            new EcmpShortestPathGraph(cp.deviceId(), srManager);
-                    updatedEcmpSpgMap.put(cp.deviceId(), ecmpSpgUpdated);
                     DeviceId retId = shouldHandleRouting(cp.deviceId());
                     if (retId == null) {
                         continue;
@@ -282,9 +290,7 @@ public class DefaultRoutingHandler {
             } else {
                 // single connect point
                 DeviceId dstSw = cpts.iterator().next().deviceId();
-                EcmpShortestPathGraph ecmpSpgUpdated =
-                        new EcmpShortestPathGraph(dstSw, srManager);
-                updatedEcmpSpgMap.put(dstSw, ecmpSpgUpdated);
+                updatedEcmpSpgMap.putAll(ecmpSpgBuilder.build(ImmutableSet.of(dstSw)));
                 if (srManager.mastershipService.isLocalMaster(dstSw)) {
                     handleRouting = true;
                 }
@@ -374,17 +380,11 @@ public class DefaultRoutingHandler {
             }
 
             // Take snapshots of the topology
-            updatedEcmpSpgMap = new HashMap<>();
+            updatedEcmpSpgMap = computeEcmpSpgs();
             Set<EdgePair> edgePairs = new HashSet<>();
             for (Device sw : srManager.deviceService.getDevices()) {
-                EcmpShortestPathGraph ecmpSpgUpdated =
-                        new EcmpShortestPathGraph(sw.id(), srManager);
-                updatedEcmpSpgMap.put(sw.id(), ecmpSpgUpdated);
                 DeviceId pairDev = getPairDev(sw.id());
                 if (pairDev != null) {
-                    // pairDev may not be available yet, but we still need to add
-                    ecmpSpgUpdated = new EcmpShortestPathGraph(pairDev, srManager);
-                    updatedEcmpSpgMap.put(pairDev, ecmpSpgUpdated);
                     edgePairs.add(new EdgePair(sw.id(), pairDev));
                 }
             }
@@ -1010,12 +1010,32 @@ public class DefaultRoutingHandler {
      * @param deviceId the device for which graphs need to be purged
      */
     protected void purgeEcmpGraph(DeviceId deviceId) {
+        ecmpSpgBuilder.purge(deviceId);
         currentEcmpSpgMap.remove(deviceId);
         if (updatedEcmpSpgMap != null) {
             updatedEcmpSpgMap.remove(deviceId);
         }
     }
 
+    /**
+     * Computes the ECMP graphs rooted at every device and at the pair device
+     * of every device, from a single snapshot of the topology.
+     *
+     * @return map of root device to ECMP graph
+     */
+    private HashMap<DeviceId, EcmpShortestPathGraph> computeEcmpSpgs() {
+        Set<DeviceId> roots = new HashSet<>();
+        for (Device sw : srManager.deviceService.getDevices()) {
+            roots.add(sw.id());
+            DeviceId pairDev = getPairDev(sw.id());
+            if (pairDev != null) {
+                // pairDev may not be available yet, but we still need to add
+                roots.add(pairDev);
+            }
+        }
+        return new HashMap<>(ecmpSpgBuilder.build(roots));
+    }
+
     //////////////////////////////////////
     //  Routing helper methods and classes
     //////////////////////////////////////
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.segmentrouting;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the ECMP shortest-path graphs of many root devices in parallel.
+ * <p>
+ * All graphs of a round are computed on a fork-join pool from one immutable
+ * snapshot of the usable links of the network, so that every graph reflects
+ * the same topology. Graphs computed in the previous round are kept, and
+ * when the only difference between two snapshots is the removal of links,
+ * only the graphs which include one of the removed links are recomputed: a
+ * link which is not on any of the shortest paths towards a root cannot
+ * change the graph of that root by going away. Any other change discards
+ * the previous graphs.
+ * </p>
+ */
+class EcmpGraphBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(EcmpGraphBuilder.class);
+
+    // number of graphs below which a task stops forking
+    private static final int SEQUENTIAL_THRESHOLD = 2;
+
+    private final SegmentRoutingManager srManager;
+    private final ForkJoinPool pool;
+
+    private ImmutableSet<Link> snapshotLinks = ImmutableSet.of();
+    private final Map<DeviceId, EcmpShortestPathGraph> graphs = Maps.newHashMap();
+
+    /**
+     * Creates a graph builder.
+     *
+     * @param srManager SegmentRoutingManager object
+     * @param pool fork-join pool used to compute the graphs
+     */
+    EcmpGraphBuilder(SegmentRoutingManager srManager, ForkJoinPool pool) {
+        this.srManager = srManager;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the ECMP graphs rooted at the given devices, computed from a
+     * fresh snapshot of the links of the network.
+     *
+     * @param roots root devices
+     * @return map of root device to ECMP graph
+     */
+    Map<DeviceId, EcmpShortestPathGraph> build(Collection<DeviceId> roots) {
+        return build(roots, snapshot());
+    }
+
+    /**
+     * Returns the ECMP graphs rooted at the given devices, computed from the
+     * given snapshot of the usable egress links of each device.
+     *
+     * @param roots root devices
+     * @param links snapshot of the usable egress links, keyed by source device
+     * @return map of root device to ECMP graph
+     */
+    synchronized Map<DeviceId, EcmpShortestPathGraph> build(Collection<DeviceId> roots,
+                                                            ImmutableSetMultimap<DeviceId, Link> links) {
+        ImmutableSet<Link> previous = snapshotLinks;
+        ImmutableSet<Link> current = ImmutableSet.copyOf(links.values());
+        if (!previous.containsAll(current)) {
+            graphs.clear();
+        } else if (previous.size() != current.size()) {
+            Set<Link> removed = Sets.difference(previous, current);
+            graphs.values().removeIf(graph -> graph.includesAny(removed));
+        }
+        snapshotLinks = current;
+
+        List<DeviceId> stale = ImmutableList.copyOf(Sets.filter(ImmutableSet.copyOf(roots),
+                                                                root -> !graphs.containsKey(root)));
+        log.debug("Computing {} of {} ECMP graphs", stale.size(), roots.size());
+        if (!stale.isEmpty()) {
+            graphs.putAll(pool.invoke(new GraphTask(stale, links)));
+        }
+
+        Map<DeviceId, EcmpShortestPathGraph> result = Maps.newHashMap();
+        roots.forEach(root -> result.put(root, graphs.get(root)));
+        return result;
+    }
+
+    /**
+     * Forgets the graph rooted at the given device.
+     *
+     * @param deviceId root device
+     */
+    synchronized void purge(DeviceId deviceId) {
+        graphs.remove(deviceId);
+    }
+
+    /**
+     * Returns the number of graphs retained from the last round.
+     *
+     * @return number of graphs
+     */
+    synchronized int size() {
+        return graphs.size();
+    }
+
+    private ImmutableSetMultimap<DeviceId, Link> snapshot() {
+        ImmutableSetMultimap.Builder<DeviceId, Link> links = ImmutableSetMultimap.builder();
+        for (Link link : srManager.linkService.getLinks()) {
+            if (!srManager.avoidLink(link)) {
+                links.put(link.src().deviceId(), link);
+            }
+        }
+        return links.build();
+    }
+
+    /**
+     * Computes the graphs of a range of roots, splitting the range in halves
+     * until it is small enough to be computed sequentially.
+     */
+    private final class GraphTask extends RecursiveTask<Map<DeviceId, EcmpShortestPathGraph>> {
+
+        private final List<DeviceId> roots;
+        private final ImmutableSetMultimap<DeviceId, Link> links;
+
+        private GraphTask(List<DeviceId> roots, ImmutableSetMultimap<DeviceId, Link> links) {
+            this.roots = roots;
+            this.links = links;
+        }
+
+        @Override
+        protected Map<DeviceId, EcmpShortestPathGraph> compute() {
+            if (roots.size() <= SEQUENTIAL_THRESHOLD) {
+                Map<DeviceId, EcmpShortestPathGraph> computed = Maps.newHashMap();
+                roots.forEach(root -> computed.put(root, new EcmpShortestPathGraph(root, srManager, links::get)));
+                return computed;
+            }
+            int mid = roots.size() / 2;
+            GraphTask left = new GraphTask(roots.subList(0, mid), links);
+            left.fork();
+            Map<DeviceId, EcmpShortestPathGraph> computed =
+                    new GraphTask(roots.subList(mid, roots.size()), links).compute();
+            computed.putAll(left.join());
+            return computed;
+        }
+    }
+}
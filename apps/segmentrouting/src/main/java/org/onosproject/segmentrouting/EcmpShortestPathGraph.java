@@ -28,9 +28,12 @@ import org.slf4j.LoggerFactory;
 import com.google.common.collect.Sets;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This class creates breadth-first-search (BFS) tree for a given root device
@@ -46,6 +49,7 @@ public class EcmpShortestPathGraph {
     HashMap<Integer, ArrayList<DeviceId>> distanceDeviceMap = new HashMap<>();
     DeviceId rootDevice;
     private SegmentRoutingManager srManager;
+    private final Function<DeviceId, ? extends Iterable<Link>> egressLinks;
     private static final Logger log = LoggerFactory.getLogger(EcmpShortestPathGraph.class);
 
     /**
@@ -55,8 +59,24 @@ public class EcmpShortestPathGraph {
      * @param srManager SegmentRoutingManager object
      */
     public EcmpShortestPathGraph(DeviceId rootDevice, SegmentRoutingManager srManager) {
+        this(rootDevice, srManager, sw -> srManager.linkService.getDeviceEgressLinks(sw).stream()
+                .filter(link -> !srManager.avoidLink(link))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Constructor computing the BFS tree over the given egress links of each
+     * device, typically taken from a snapshot of the topology.
+     *
+     * @param rootDevice root of the BFS tree
+     * @param srManager SegmentRoutingManager object
+     * @param egressLinks function returning the usable egress links of a device
+     */
+    EcmpShortestPathGraph(DeviceId rootDevice, SegmentRoutingManager srManager,
+                          Function<DeviceId, ? extends Iterable<Link>> egressLinks) {
         this.rootDevice = rootDevice;
         this.srManager = srManager;
+        this.egressLinks = egressLinks;
         calcECMPShortestPathGraph();
     }
 
@@ -73,10 +93,7 @@ public class EcmpShortestPathGraph {
             Set<DeviceId> prevSw = Sets.newHashSet();
             currDistance = distanceQueue.poll();
 
-            for (Link link : srManager.linkService.getDeviceEgressLinks(sw)) {
-                if (srManager.avoidLink(link)) {
-                    continue;
-                }
+            for (Link link : egressLinks.apply(sw)) {
                 DeviceId reachedDevice = link.dst().deviceId();
                 if (prevSw.contains(reachedDevice)) {
                     // Ignore LAG links between the same set of Devices
@@ -141,6 +158,21 @@ public class EcmpShortestPathGraph {
         }
     }
 
+    /**
+     * Returns whether any of the given links is used by the ECMP paths of
+     * this graph.
+     *
+     * @param links links to look for
+     * @return true if the graph includes any of the links
+     */
+    public boolean includesAny(Collection<Link> links) {
+        return upstreamLinks.values().stream()
+                .flatMap(ArrayList::stream)
+                .anyMatch(upstreamLink -> links.stream()
+                        .anyMatch(link -> link.src().equals(upstreamLink.src()) &&
+                                link.dst().equals(upstreamLink.dst())));
+    }
+
     /**
      * Return root Device for the graph.
      *
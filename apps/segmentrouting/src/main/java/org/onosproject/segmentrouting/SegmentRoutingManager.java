@@ -442,6 +442,9 @@ public class SegmentRoutingManager implements SegmentRoutingService {
         linkListener = null;
         deviceListener = null;
         groupHandlerMap.clear();
+        if (defaultRoutingHandler != null) {
+            defaultRoutingHandler.shutdown();
+        }
 
         dsNextObjStore.destroy();
         vlanNextObjStore.destroy();
@@ -1392,6 +1395,9 @@ public class SegmentRoutingManager implements SegmentRoutingService {
             icmpHandler = new IcmpHandler(srManager);
             ipHandler = new IpHandler(srManager);
             routingRulePopulator = new RoutingRulePopulator(srManager);
+            if (defaultRoutingHandler != null) {
+                defaultRoutingHandler.shutdown();
+            }
             defaultRoutingHandler = new DefaultRoutingHandler(srManager);
 
             tunnelHandler = new TunnelHandler(linkService, deviceConfiguration,
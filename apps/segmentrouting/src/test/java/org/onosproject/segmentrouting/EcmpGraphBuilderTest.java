@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.segmentrouting;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DefaultLink;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.provider.ProviderId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit tests for the parallel ECMP graph builder.
+ */
+public class EcmpGraphBuilderTest {
+
+    private static final ProviderId PID = new ProviderId("of", "foo");
+    private static final DeviceId D1 = DeviceId.deviceId("of:1");
+    private static final DeviceId D2 = DeviceId.deviceId("of:2");
+    private static final DeviceId D3 = DeviceId.deviceId("of:3");
+    private static final DeviceId D4 = DeviceId.deviceId("of:4");
+    private static final List<DeviceId> ROOTS = ImmutableList.of(D1, D2, D3, D4);
+
+    // chain of four devices: D1 - D2 - D3 - D4
+    private static final List<Link> CHAIN = ImmutableList.of(
+            link(D1, D2), link(D2, D1), link(D2, D3), link(D3, D2), link(D3, D4), link(D4, D3));
+
+    private EcmpGraphBuilder builder;
+
+    private static Link link(DeviceId src, DeviceId dst) {
+        return DefaultLink.builder()
+                .providerId(PID)
+                .src(new ConnectPoint(src, PortNumber.portNumber(dst.toString().hashCode() & 0xff)))
+                .dst(new ConnectPoint(dst, PortNumber.portNumber(src.toString().hashCode() & 0xff)))
+                .type(Link.Type.DIRECT)
+                .build();
+    }
+
+    private static ImmutableSetMultimap<DeviceId, Link> snapshot(List<Link> links) {
+        ImmutableSetMultimap.Builder<DeviceId, Link> snapshot = ImmutableSetMultimap.builder();
+        links.forEach(link -> snapshot.put(link.src().deviceId(), link));
+        return snapshot.build();
+    }
+
+    private static List<Link> without(List<Link> links, Link removed) {
+        return ImmutableList.copyOf(links.stream().filter(link -> !link.equals(removed)).iterator());
+    }
+
+    @Before
+    public void setUp() {
+        builder = new EcmpGraphBuilder(null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Tests that a graph is computed for every root.
+     */
+    @Test
+    public void testBuild() {
+        Map<DeviceId, EcmpShortestPathGraph> graphs = builder.build(ROOTS, snapshot(CHAIN));
+        assertThat(graphs.size(), is(ROOTS.size()));
+        ROOTS.forEach(root -> assertThat(graphs.get(root).getRootDevice(), is(root)));
+        assertThat(graphs.get(D1).getECMPPaths(D4), hasSize(1));
+        assertThat(graphs.get(D1).getECMPPaths(D4).get(0).links(), hasSize(3));
+        assertThat(builder.size(), is(ROOTS.size()));
+    }
+
+    /**
+     * Tests that an unchanged topology reuses all previous graphs.
+     */
+    @Test
+    public void testUnchanged() {
+        Map<DeviceId, EcmpShortestPathGraph> before = builder.build(ROOTS, snapshot(CHAIN));
+        Map<DeviceId, EcmpShortestPathGraph> after = builder.build(ROOTS, snapshot(CHAIN));
+        ROOTS.forEach(root -> assertThat(after.get(root), is(sameInstance(before.get(root)))));
+    }
+
+    /**
+     * Tests that removing a link only recomputes the graphs including it.
+     */
+    @Test
+    public void testLinkRemoved() {
+        Map<DeviceId, EcmpShortestPathGraph> before = builder.build(ROOTS, snapshot(CHAIN));
+        Map<DeviceId, EcmpShortestPathGraph> after =
+                builder.build(ROOTS, snapshot(without(CHAIN, link(D3, D4))));
+
+        // only the graph rooted at D4 does not use the D3 to D4 direction
+        assertThat(after.get(D1), is(not(sameInstance(before.get(D1)))));
+        assertThat(after.get(D2), is(not(sameInstance(before.get(D2)))));
+        assertThat(after.get(D3), is(not(sameInstance(before.get(D3)))));
+        assertThat(after.get(D4), is(sameInstance(before.get(D4))));
+        assertThat(after.get(D1).getECMPPaths(D4), is(nullValue()));
+    }
+
+    /**
+     * Tests that adding a link recomputes every graph.
+     */
+    @Test
+    public void testLinkAdded() {
+        List<Link> partial = without(CHAIN, link(D3, D4));
+        Map<DeviceId, EcmpShortestPathGraph> before = builder.build(ROOTS, snapshot(partial));
+        Map<DeviceId, EcmpShortestPathGraph> after = builder.build(ROOTS, snapshot(CHAIN));
+        ROOTS.forEach(root -> assertThat(after.get(root), is(not(sameInstance(before.get(root))))));
+        assertThat(after.get(D1).getECMPPaths(D4), hasSize(1));
+    }
+
+    /**
+     * Tests that a purged graph is recomputed.
+     */
+    @Test
+    public void testPurge() {
+        Map<DeviceId, EcmpShortestPathGraph> before = builder.build(ROOTS, snapshot(CHAIN));
+        builder.purge(D2);
+        assertThat(builder.size(), is(ROOTS.size() - 1));
+        Map<DeviceId, EcmpShortestPathGraph> after = builder.build(ROOTS, snapshot(CHAIN));
+        assertThat(after.get(D1), is(sameInstance(before.get(D1))));
+        assertThat(after.get(D2), is(not(sameInstance(before.get(D2)))));
+    }
+}
@@ -35,4 +35,19 @@ public interface EventDeliveryService extends EventDispatcher, EventSinkRegistry
      */
     long getDispatchTimeLimit();
 
+    /**
+     * Sets the number of dispatch loops events are sharded onto by subject.
+     * Zero uses the dedicated topology, programming and default loops.
+     *
+     * @param count number of dispatch loops
+     */
+    void setDispatchWorkers(int count);
+
+    /**
+     * Returns the number of dispatch loops events are sharded onto by subject.
+     *
+     * @return number of dispatch loops; 0 if events are not sharded
+     */
+    int getDispatchWorkers();
+
 }
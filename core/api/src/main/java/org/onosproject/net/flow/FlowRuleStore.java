@@ -17,6 +17,8 @@ package org.onosproject.net.flow;
 
 import java.util.List;
 
+import com.google.common.collect.Iterables;
+
 import org.onosproject.net.DeviceId;
 import org.onosproject.store.Store;
 
@@ -32,6 +34,16 @@ public interface FlowRuleStore extends Store<FlowRuleBatchEvent, FlowRuleStoreDe
      */
     int getFlowRuleCount();
 
+    /**
+     * Returns the number of flow rules of the specified device in the store.
+     *
+     * @param deviceId the device ID
+     * @return number of flow rules of the device
+     */
+    default int getFlowRuleCount(DeviceId deviceId) {
+        return Iterables.size(getFlowEntries(deviceId));
+    }
+
     /**
      * Returns the stored flow.
      *
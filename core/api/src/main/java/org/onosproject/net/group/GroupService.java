@@ -19,6 +19,8 @@ import org.onosproject.core.ApplicationId;
 import org.onosproject.event.ListenerService;
 import org.onosproject.net.DeviceId;
 
+import java.util.Collection;
+
 /**
  * Service for create/update/delete "group" in the devices.
  * Flow entries can point to a "group" defined in the devices that enables
@@ -55,6 +57,19 @@ public interface GroupService
      */
     void addGroup(GroupDescription groupDesc);
 
+    /**
+     * Creates groups as specified by the provided group descriptions. The
+     * groups are handled as for {@link #addGroup(GroupDescription)}, except
+     * that the requests are processed as a batch: the groups to be created
+     * in the same device are stored together and handed to the device
+     * provider in a single batch of group operations.
+     *
+     * @param groupDescs group creation parameters
+     */
+    default void addGroups(Collection<GroupDescription> groupDescs) {
+        groupDescs.forEach(this::addGroup);
+    }
+
     /**
      * Returns a group object associated to an application cookie.
      *
@@ -149,6 +164,20 @@ public interface GroupService
      */
     void removeGroup(DeviceId deviceId, GroupKey appCookie, ApplicationId appId);
 
+    /**
+     * Deletes the groups associated to the application cookies in the
+     * specified device. The groups are handled as for
+     * {@link #removeGroup(DeviceId, GroupKey, ApplicationId)}, except that
+     * the requests are processed as a batch.
+     *
+     * @param deviceId device identifier
+     * @param appCookies application cookies to be used for lookup
+     * @param appId Application Id
+     */
+    default void removeGroups(DeviceId deviceId, Collection<GroupKey> appCookies, ApplicationId appId) {
+        appCookies.forEach(appCookie -> removeGroup(deviceId, appCookie, appId));
+    }
+
     /**
      * Retrieves all groups created by an application in the specified device
      * as seen by current controller instance.
@@ -83,6 +83,16 @@ public interface GroupStore extends Store<GroupEvent, GroupStoreDelegate> {
      */
     void storeGroupDescription(GroupDescription groupDesc);
 
+    /**
+     * Stores new group entries using the information from group descriptions.
+     * The group entries of the same device are stored as a batch.
+     *
+     * @param groupDescs group descriptions to be used to store group entries
+     */
+    default void storeGroupDescriptions(Collection<GroupDescription> groupDescs) {
+        groupDescs.forEach(this::storeGroupDescription);
+    }
+
     /**
      * Updates the existing group entry with the information
      * from group description.
@@ -108,6 +118,17 @@ public interface GroupStore extends Store<GroupEvent, GroupStoreDelegate> {
     void deleteGroupDescription(DeviceId deviceId,
                                 GroupKey appCookie);
 
+    /**
+     * Triggers deleting the existing group entries of a device as a batch.
+     *
+     * @param deviceId the device ID
+     * @param appCookies the group keys
+     */
+    default void deleteGroupDescriptions(DeviceId deviceId,
+                                         Collection<GroupKey> appCookies) {
+        appCookies.forEach(appCookie -> deleteGroupDescription(deviceId, appCookie));
+    }
+
     /**
      * Stores a new group entry, or updates an existing entry.
      *
@@ -17,8 +17,21 @@ package org.onosproject.net.group;
 
 import org.onosproject.store.StoreDelegate;
 
+import java.util.List;
+
 /**
  * Group store delegate abstraction.
  */
 public interface GroupStoreDelegate extends StoreDelegate<GroupEvent> {
+
+    /**
+     * Notifies the delegate via the specified batch of events. Group
+     * operations requested by the events of the same device may be
+     * performed together.
+     *
+     * @param events store generated events
+     */
+    default void notify(List<GroupEvent> events) {
+        events.forEach(event -> notify(event));
+    }
 }
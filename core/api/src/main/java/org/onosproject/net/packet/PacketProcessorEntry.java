@@ -15,6 +15,11 @@
  */
 package org.onosproject.net.packet;
 
+import com.google.common.collect.ImmutableList;
+import org.onosproject.net.flow.TrafficSelector;
+
+import java.util.List;
+
 /**
  * Packet processor entry tracking the processor, its priority and
  * time consumption.
@@ -55,4 +60,24 @@ public interface PacketProcessorEntry {
      * @return average time in nanos
      */
     long averageNanos();
+
+    /**
+     * Returns the selectors describing the packets the processor is
+     * interested in; empty if the processor is offered all packets.
+     *
+     * @return list of selectors
+     */
+    default List<TrafficSelector> selectors() {
+        return ImmutableList.of();
+    }
+
+    /**
+     * Returns the number of packets that were not offered to the processor
+     * because they could not match any of its selectors.
+     *
+     * @return number of skipped packets
+     */
+    default long skipped() {
+        return 0;
+    }
 }
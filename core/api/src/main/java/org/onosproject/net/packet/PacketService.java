@@ -19,6 +19,7 @@ import org.onosproject.core.ApplicationId;
 import org.onosproject.net.DeviceId;
 import org.onosproject.net.flow.TrafficSelector;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,7 +43,28 @@ public interface PacketService {
      */
     void addProcessor(PacketProcessor processor, int priority);
 
-    // TODO allow processors to register for particular types of packets
+    /**
+     * Adds the specified processor to the list of packet processors,
+     * declaring the kinds of packets it is interested in.
+     * Packets which cannot match any of the given selectors need not be
+     * offered to the processor; an empty list of selectors means the
+     * processor is offered all packets.
+     * <p>
+     * Only the ethernet type, IP protocol and transport port criteria of
+     * the selectors are used for pre-filtering; the processor must still
+     * inspect the packets it is offered.
+     * </p>
+     *
+     * @param processor processor to be added
+     * @param priority  priority in the reverse natural order
+     * @param selectors selectors describing the packets of interest
+     * @throws java.lang.IllegalArgumentException if a processor with the
+     *                                            given priority already exists
+     */
+    default void addProcessor(PacketProcessor processor, int priority,
+                              List<TrafficSelector> selectors) {
+        addProcessor(processor, priority);
+    }
 
     /**
      * Removes the specified processor from the processing pipeline.
@@ -123,4 +145,14 @@ public interface PacketService {
      */
     void emit(OutboundPacket packet);
 
+    /**
+     * Emits the specified outbound packets onto the network. Packets sent
+     * through the same device are handed to its provider in a single call.
+     *
+     * @param packets outbound packets
+     */
+    default void emit(Collection<OutboundPacket> packets) {
+        packets.forEach(this::emit);
+    }
+
 }
@@ -17,6 +17,7 @@ package org.onosproject.net.packet;
 
 import org.onosproject.store.Store;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +34,17 @@ public interface PacketStore extends Store<PacketEvent, PacketStoreDelegate> {
      */
     void emit(OutboundPacket packet);
 
+    /**
+     * Decides which instances should emit the packets and forwards the
+     * packets to those instances, batching the packets sent through the
+     * same device.
+     *
+     * @param packets the packets to emit
+     */
+    default void emit(Collection<OutboundPacket> packets) {
+        packets.forEach(this::emit);
+    }
+
     /**
      * Requests intercept of packets that match the given selector.
      *
@@ -17,6 +17,8 @@ package org.onosproject.net.packet;
 
 import org.onosproject.store.StoreDelegate;
 
+import java.util.Collection;
+
 /**
  * Packet store delegate abstraction.
  */
@@ -37,4 +39,14 @@ public interface PacketStoreDelegate extends StoreDelegate<PacketEvent> {
      * @param request packet request
      */
     void cancelPackets(PacketRequest request);
+
+    /**
+     * Requests that the packets, all sent through the same device, be
+     * emitted out local ports.
+     *
+     * @param packets packets to emit
+     */
+    default void emit(Collection<OutboundPacket> packets) {
+        packets.forEach(packet -> notify(new PacketEvent(PacketEvent.Type.EMIT, packet)));
+    }
 }
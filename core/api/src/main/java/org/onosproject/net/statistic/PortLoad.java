@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.statistic;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.GroupId;
+import org.onosproject.net.flow.FlowEntry;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Immutable byte counts aggregated over the flows forwarding traffic to a
+ * port, for the current and the previous statistics snapshots.
+ * <p>
+ * Counts are kept for the port as a whole and per application and group,
+ * so that loads are looked up rather than computed by scanning the flow
+ * entries on every query. When a new snapshot arrives, the counts of the
+ * current snapshot become the previous ones, so only the new snapshot is
+ * aggregated.
+ * </p>
+ */
+public final class PortLoad {
+
+    /**
+     * Load of a port for which no statistics are available.
+     */
+    public static final PortLoad EMPTY = new PortLoad(0, 0, 0, 0, ImmutableMap.of());
+
+    private static final int CURRENT = 0;
+    private static final int PREVIOUS = 1;
+    private static final int PRESENCE = 2;
+    private static final long IN_CURRENT = 1;
+    private static final long IN_PREVIOUS = 2;
+
+    private final long current;
+    private final long previous;
+    private final int currentFlows;
+    private final int previousFlows;
+    // {current bytes, previous bytes, presence} keyed by application and group
+    private final Map<Long, long[]> byAppGroup;
+
+    private PortLoad(long current, long previous, int currentFlows, int previousFlows,
+                     Map<Long, long[]> byAppGroup) {
+        this.current = current;
+        this.previous = previous;
+        this.currentFlows = currentFlows;
+        this.previousFlows = previousFlows;
+        this.byAppGroup = byAppGroup;
+    }
+
+    /**
+     * Aggregates the specified current and previous statistics snapshots.
+     *
+     * @param current  flow entries of the current snapshot
+     * @param previous flow entries of the previous snapshot
+     * @return port load
+     */
+    public static PortLoad of(Set<FlowEntry> current, Set<FlowEntry> previous) {
+        return EMPTY.roll(checkNotNull(previous)).roll(checkNotNull(current));
+    }
+
+    /**
+     * Returns the port load after a new statistics snapshot has been
+     * published, the current snapshot of this load becoming the previous one.
+     *
+     * @param snapshot flow entries of the new snapshot
+     * @return port load
+     */
+    public PortLoad roll(Set<FlowEntry> snapshot) {
+        Map<Long, long[]> rolled = Maps.newHashMap();
+        byAppGroup.forEach((key, counts) -> {
+            if ((counts[PRESENCE] & IN_CURRENT) != 0) {
+                rolled.put(key, new long[]{0, counts[CURRENT], IN_PREVIOUS});
+            }
+        });
+
+        long bytes = 0;
+        for (FlowEntry entry : snapshot) {
+            bytes += entry.bytes();
+            if (entry.groupId() == null) {
+                continue;
+            }
+            long[] counts = rolled.computeIfAbsent(key(entry.appId(), entry.groupId()),
+                                                   k -> new long[]{0, 0, 0});
+            counts[CURRENT] += entry.bytes();
+            counts[PRESENCE] |= IN_CURRENT;
+        }
+        return new PortLoad(bytes, current, snapshot.size(), currentFlows, ImmutableMap.copyOf(rolled));
+    }
+
+    /**
+     * Returns the port load after a flow has been removed from the current
+     * and the previous statistics snapshots, without aggregating the
+     * remaining flows again.
+     *
+     * @param currentEntry  entry of the flow in the current snapshot; null if absent
+     * @param previousEntry entry of the flow in the previous snapshot; null if absent
+     * @return port load
+     */
+    public PortLoad without(FlowEntry currentEntry, FlowEntry previousEntry) {
+        if (currentEntry == null && previousEntry == null) {
+            return this;
+        }
+        Map<Long, long[]> remaining = Maps.newHashMap(byAppGroup);
+        subtract(remaining, currentEntry, CURRENT);
+        subtract(remaining, previousEntry, PREVIOUS);
+        return new PortLoad(currentEntry == null ? current : current - currentEntry.bytes(),
+                            previousEntry == null ? previous : previous - previousEntry.bytes(),
+                            currentEntry == null ? currentFlows : currentFlows - 1,
+                            previousEntry == null ? previousFlows : previousFlows - 1,
+                            ImmutableMap.copyOf(remaining));
+    }
+
+    private static void subtract(Map<Long, long[]> byAppGroup, FlowEntry entry, int index) {
+        if (entry == null || entry.groupId() == null) {
+            return;
+        }
+        long[] counts = byAppGroup.get(key(entry.appId(), entry.groupId()));
+        if (counts != null) {
+            counts = counts.clone();
+            counts[index] -= entry.bytes();
+            byAppGroup.put(key(entry.appId(), entry.groupId()), counts);
+        }
+    }
+
+    /**
+     * Returns whether both the current and the previous snapshots hold flows.
+     *
+     * @return true if a load can be computed
+     */
+    public boolean isValid() {
+        return currentFlows > 0 && previousFlows > 0;
+    }
+
+    /**
+     * Returns the load of the port.
+     *
+     * @return load; invalid if statistics are not available
+     */
+    public Load load() {
+        return isValid() ? new DefaultLoad(current, previous) : new DefaultLoad();
+    }
+
+    /**
+     * Returns the load of the flows of the specified application and group.
+     *
+     * @param appId   application identifier
+     * @param groupId group identifier; if absent, no flows match
+     * @return load; invalid if statistics are not available for the port
+     */
+    public Load load(ApplicationId appId, Optional<GroupId> groupId) {
+        if (!isValid()) {
+            return new DefaultLoad();
+        }
+        long[] counts = groupId.isPresent() ? byAppGroup.get(key(appId.id(), groupId.get())) : null;
+        return counts == null ? new DefaultLoad(0, 0) : new DefaultLoad(counts[CURRENT], counts[PREVIOUS]);
+    }
+
+    private static long key(short appId, GroupId groupId) {
+        return ((appId & 0xffffL) << 32) | (groupId.id() & 0xffffffffL);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("current", current)
+                .add("previous", previous)
+                .add("currentFlows", currentFlows)
+                .add("previousFlows", previousFlows)
+                .toString();
+    }
+}
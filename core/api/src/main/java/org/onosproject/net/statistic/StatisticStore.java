@@ -19,6 +19,7 @@ import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.flow.FlowEntry;
 import org.onosproject.net.flow.FlowRule;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -62,4 +63,18 @@ public interface StatisticStore {
      * @return set of current values
      */
     Set<FlowEntry> getPreviousStatistic(ConnectPoint connectPoint);
+
+    /**
+     * Fetches the byte counts aggregated over the current and previous
+     * observed stats values.
+     *
+     * @param connectPoint the port to fetch information for
+     * @return aggregated load of the port
+     */
+    default PortLoad getLoad(ConnectPoint connectPoint) {
+        Set<FlowEntry> current = getCurrentStatistic(connectPoint);
+        Set<FlowEntry> previous = getPreviousStatistic(connectPoint);
+        return PortLoad.of(current == null ? Collections.emptySet() : current,
+                           previous == null ? Collections.emptySet() : previous);
+    }
 }
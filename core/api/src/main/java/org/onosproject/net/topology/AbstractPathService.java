@@ -60,7 +60,7 @@ public abstract class AbstractPathService
     private static final PortNumber P0 = PortNumber.portNumber(0);
 
     protected static final LinkWeigher DEFAULT_WEIGHER =
-            adapt(new HopCountLinkWeight());
+            HopCountLinkWeigher.DEFAULT_HOP_COUNT_WEIGHER;
 
     protected TopologyService topologyService;
 
@@ -20,6 +20,8 @@ import org.onlab.graph.DefaultEdgeWeigher;
 import org.onlab.graph.ScalarWeight;
 import org.onlab.graph.Weight;
 
+import java.util.Objects;
+
 /**
  * Wrapper which transforms double-based link weigher to {@link Weight}-based
  * link weigher.
@@ -39,6 +41,27 @@ public final class AdapterLinkWeigher
         return new ScalarWeight(doubleWeigher.weight(edge));
     }
 
+    @Override
+    public boolean isCacheable() {
+        return doubleWeigher.isCacheable();
+    }
+
+    @Override
+    public int hashCode() {
+        return doubleWeigher.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof AdapterLinkWeigher) {
+            return Objects.equals(doubleWeigher, ((AdapterLinkWeigher) obj).doubleWeigher);
+        }
+        return false;
+    }
+
     /**
      * Transforms double-based link weigher to {@link Weight}-based weigher.
      *
@@ -21,6 +21,8 @@ import static org.onosproject.net.Link.Type.INDIRECT;
 import org.onlab.graph.ScalarWeight;
 import org.onlab.graph.Weight;
 
+import java.util.Objects;
+
 /**
  * Link weight for measuring link cost as hop count with indirect links
  * being as expensive as traversing the entire graph to assume the worst.
@@ -70,4 +72,26 @@ public class HopCountLinkWeigher implements LinkWeigher {
         return ScalarWeight.NON_VIABLE_WEIGHT;
     }
 
+    @Override
+    public boolean isCacheable() {
+        // subclasses may weigh links differently and have to opt in themselves
+        return getClass() == HopCountLinkWeigher.class;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indirectLinkCost);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof HopCountLinkWeigher) {
+            HopCountLinkWeigher that = (HopCountLinkWeigher) obj;
+            return Objects.equals(indirectLinkCost, that.indirectLinkCost);
+        }
+        return false;
+    }
 }
@@ -49,5 +49,27 @@ public class HopCountLinkWeight implements LinkWeight {
                 ACTIVE ? (edge.link().type() ==
                 INDIRECT ? indirectLinkCost : 1) : -1;
     }
+
+    @Override
+    public boolean isCacheable() {
+        // subclasses may weigh links differently and have to opt in themselves
+        return getClass() == HopCountLinkWeight.class;
+    }
+
+    @Override
+    public int hashCode() {
+        return indirectLinkCost;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof HopCountLinkWeight) {
+            return indirectLinkCost == ((HopCountLinkWeight) obj).indirectLinkCost;
+        }
+        return false;
+    }
 }
 
@@ -23,4 +23,16 @@ import org.onlab.graph.EdgeWeigher;
  * graph edge. Returns {@link org.onlab.graph.Weight} instances.
  */
 public interface LinkWeigher extends EdgeWeigher<TopologyVertex, TopologyEdge> {
+
+    /**
+     * Returns whether the paths computed with this weigher may be reused for
+     * later queries made with an equal weigher. Weighers which opt in must
+     * define value equality and must weigh links by the topology alone, not
+     * by other state such as the availability of resources.
+     *
+     * @return true if paths computed with this weigher may be cached
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
@@ -30,4 +30,15 @@ public interface LinkWeight {
      * @return edge weight
      */
     double weight(TopologyEdge edge);
+
+    /**
+     * Returns whether the paths computed with this weight may be reused for
+     * later queries made with an equal weight.
+     *
+     * @return true if paths computed with this weight may be cached
+     * @see LinkWeigher#isCacheable()
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
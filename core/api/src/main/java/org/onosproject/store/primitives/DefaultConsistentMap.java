@@ -18,6 +18,7 @@ package org.onosproject.store.primitives;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -32,6 +33,8 @@ import java.util.function.Predicate;
 
 import org.onlab.util.Tools;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncIterator;
+import org.onosproject.store.service.CloseableIterator;
 import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.ConsistentMapException;
 import org.onosproject.store.service.ConsistentMapException.ConcurrentModification;
@@ -90,6 +93,11 @@ public class DefaultConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<K
         return complete(asyncMap.getOrDefault(key, defaultValue));
     }
 
+    @Override
+    public Map<K, Versioned<V>> getAll(Set<K> keys) {
+        return complete(asyncMap.getAll(keys));
+    }
+
     @Override
     public Versioned<V> computeIfAbsent(K key,
             Function<? super K, ? extends V> mappingFunction) {
@@ -133,6 +141,16 @@ public class DefaultConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<K
         return complete(asyncMap.remove(key));
     }
 
+    @Override
+    public void putAll(Map<K, V> entries) {
+        complete(asyncMap.putAll(entries));
+    }
+
+    @Override
+    public void removeAll(Set<K> keys) {
+        complete(asyncMap.removeAll(keys));
+    }
+
     @Override
     public void clear() {
         complete(asyncMap.clear());
@@ -153,6 +171,42 @@ public class DefaultConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<K
         return complete(asyncMap.entrySet());
     }
 
+    @Override
+    public CloseableIterator<Entry<K, Versioned<V>>> iterator() {
+        AsyncIterator<Entry<K, Versioned<V>>> iterator = complete(asyncMap.iterator());
+        return new CloseableIterator<Entry<K, Versioned<V>>>() {
+            private boolean closed;
+
+            @Override
+            public boolean hasNext() {
+                if (closed) {
+                    return false;
+                }
+                boolean hasNext = complete(iterator.hasNext());
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Entry<K, Versioned<V>> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return complete(iterator.next());
+            }
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    complete(iterator.close());
+                }
+            }
+        };
+    }
+
     @Override
     public Versioned<V> putIfAbsent(K key, V value) {
         return complete(asyncMap.putIfAbsent(key, value));
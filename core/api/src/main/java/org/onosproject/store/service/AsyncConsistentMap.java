@@ -17,6 +17,8 @@
 package org.onosproject.store.service;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
@@ -56,6 +58,11 @@ import org.onosproject.store.primitives.MapUpdate;
  */
 public interface AsyncConsistentMap<K, V> extends DistributedPrimitive, Transactional<MapUpdate<K, V>> {
 
+    /**
+     * Default number of entries fetched at a time by {@link #iterator()}.
+     */
+    int DEFAULT_ITERATOR_PAGE_SIZE = 1000;
+
     @Override
     default DistributedPrimitive.Type primitiveType() {
         return DistributedPrimitive.Type.CONSISTENT_MAP;
@@ -119,6 +126,33 @@ public interface AsyncConsistentMap<K, V> extends DistributedPrimitive, Transact
      */
     CompletableFuture<Versioned<V>> getOrDefault(K key, V defaultValue);
 
+    /**
+     * Returns the values (and versions) to which the specified keys are mapped.
+     * <p>
+     * Implementations may look up all the keys held by the same partition
+     * with a single request.
+     * </p>
+     *
+     * @param keys the keys whose associated values (and versions) are to be returned
+     * @return a future map of the keys to their values (and versions); keys
+     * for which this map contains no mapping are left out
+     */
+    default CompletableFuture<Map<K, Versioned<V>>> getAll(Set<K> keys) {
+        Map<K, CompletableFuture<Versioned<V>>> futures = new HashMap<>();
+        keys.forEach(key -> futures.put(key, get(key)));
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[futures.size()]))
+                .thenApply(v -> {
+                    Map<K, Versioned<V>> values = new HashMap<>();
+                    futures.forEach((key, future) -> {
+                        Versioned<V> value = future.join();
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    });
+                    return values;
+                });
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null),
      * attempts to compute its value using the given mapping function and enters it into
@@ -212,6 +246,45 @@ public interface AsyncConsistentMap<K, V> extends DistributedPrimitive, Transact
      */
     CompletableFuture<Versioned<V>> remove(K key);
 
+    /**
+     * Associates the specified values with their keys in this map (optional operation).
+     * <p>
+     * Implementations may apply all the entries held by the same partition
+     * with a single update. The update is not atomic across partitions. If
+     * some of the keys are locked by a transaction, the other entries are
+     * still applied and the returned future is completed exceptionally with
+     * a {@link java.util.ConcurrentModificationException}.
+     * </p>
+     *
+     * @param entries the entries to be stored in this map
+     * @return future that will be completed when the entries have been stored
+     */
+    default CompletableFuture<Void> putAll(Map<K, V> entries) {
+        return CompletableFuture.allOf(entries.entrySet().stream()
+                                               .map(entry -> put(entry.getKey(), entry.getValue()))
+                                               .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Removes the mappings for the specified keys from this map if they are
+     * present (optional operation).
+     * <p>
+     * Implementations may remove all the keys held by the same partition
+     * with a single update. The update is not atomic across partitions. If
+     * some of the keys are locked by a transaction, the other keys are
+     * still removed and the returned future is completed exceptionally with
+     * a {@link java.util.ConcurrentModificationException}.
+     * </p>
+     *
+     * @param keys the keys whose mappings are to be removed from this map
+     * @return future that will be completed when the keys have been removed
+     */
+    default CompletableFuture<Void> removeAll(Set<K> keys) {
+        return CompletableFuture.allOf(keys.stream()
+                                               .map(this::remove)
+                                               .toArray(CompletableFuture[]::new));
+    }
+
     /**
      * Removes all of the mappings from this map (optional operation).
      * The map will be empty after this call returns.
@@ -252,6 +325,34 @@ public interface AsyncConsistentMap<K, V> extends DistributedPrimitive, Transact
      */
     CompletableFuture<Set<Entry<K, Versioned<V>>>> entrySet();
 
+    /**
+     * Returns an iterator over the entries contained in this map.
+     * <p>
+     * Unlike {@link #entrySet()}, the entries are fetched lazily a page at a
+     * time, so that large maps can be traversed with bounded memory. The
+     * iteration is weakly consistent: entries are returned as of the time
+     * each page is fetched, keys removed in the meantime are skipped, and
+     * keys added in the meantime may or may not be returned.
+     * </p>
+     *
+     * @return future that will be completed with an iterator over the entries
+     */
+    default CompletableFuture<AsyncIterator<Entry<K, Versioned<V>>>> iterator() {
+        return iterator(DEFAULT_ITERATOR_PAGE_SIZE);
+    }
+
+    /**
+     * Returns an iterator over the entries contained in this map, fetching
+     * the specified number of entries at a time.
+     *
+     * @param pageSize maximum number of entries fetched at a time
+     * @return future that will be completed with an iterator over the entries
+     * @see #iterator()
+     */
+    default CompletableFuture<AsyncIterator<Entry<K, Versioned<V>>>> iterator(int pageSize) {
+        return entrySet().thenApply(entries -> AsyncIterator.of(entries.iterator()));
+    }
+
     /**
      * If the specified key is not already associated with a value associates
      * it with the given value and returns null, else behaves as a get
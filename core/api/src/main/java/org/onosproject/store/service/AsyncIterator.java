@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.service;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import org.onlab.util.Tools;
+
+/**
+ * Asynchronous iterator over the elements of a distributed primitive.
+ * <p>
+ * Implementations may fetch the elements from the primitive lazily, one page
+ * at a time, so that arbitrarily large primitives can be traversed with
+ * bounded memory. The iteration is weakly consistent: elements removed from
+ * the primitive after the iterator was created may or may not be returned.
+ * </p>
+ *
+ * @param <T> element type
+ */
+public interface AsyncIterator<T> {
+
+    /**
+     * Returns whether the iteration has more elements.
+     *
+     * @return future that will be completed with {@code true} if the iteration has more elements
+     */
+    CompletableFuture<Boolean> hasNext();
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return future that will be completed with the next element, or completed
+     * exceptionally with a {@link NoSuchElementException} if the iteration
+     * has no more elements
+     */
+    CompletableFuture<T> next();
+
+    /**
+     * Releases the resources held by the iterator before the iteration is
+     * complete. Iterators release their resources on their own once all the
+     * elements have been returned.
+     *
+     * @return future that will be completed when the iterator is closed
+     */
+    default CompletableFuture<Void> close() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Returns an asynchronous iterator over the elements of the specified iterator.
+     *
+     * @param iterator iterator
+     * @param <T>      element type
+     * @return asynchronous iterator
+     */
+    static <T> AsyncIterator<T> of(Iterator<T> iterator) {
+        return new AsyncIterator<T>() {
+            @Override
+            public CompletableFuture<Boolean> hasNext() {
+                return CompletableFuture.completedFuture(iterator.hasNext());
+            }
+
+            @Override
+            public CompletableFuture<T> next() {
+                try {
+                    return CompletableFuture.completedFuture(iterator.next());
+                } catch (NoSuchElementException e) {
+                    return Tools.exceptionalFuture(e);
+                }
+            }
+        };
+    }
+}
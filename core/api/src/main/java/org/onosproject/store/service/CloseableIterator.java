@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.service;
+
+import java.util.Iterator;
+
+/**
+ * Iterator which holds resources that must be released once the caller is
+ * done with it.
+ * <p>
+ * Iterators release their resources on their own once all the elements have
+ * been returned; callers that stop iterating early must close the iterator,
+ * preferably through a try-with-resources statement.
+ * </p>
+ *
+ * @param <T> element type
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Releases the resources held by the iterator. Closing an iterator more
+     * than once has no effect.
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns a closeable iterator over the elements of the specified
+     * iterator, which holds no resources.
+     *
+     * @param iterator iterator
+     * @param <T>      element type
+     * @return closeable iterator
+     */
+    static <T> CloseableIterator<T> of(Iterator<T> iterator) {
+        return new CloseableIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -17,6 +17,7 @@
 package org.onosproject.store.service;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -90,6 +91,24 @@ public interface ConsistentMap<K, V> extends DistributedPrimitive {
      */
     Versioned<V> getOrDefault(K key, V defaultValue);
 
+    /**
+     * Returns the values (and versions) to which the specified keys are mapped.
+     *
+     * @param keys the keys whose associated values (and versions) are to be returned
+     * @return map of the keys to their values (and versions); keys for which
+     * this map contains no mapping are left out
+     */
+    default Map<K, Versioned<V>> getAll(Set<K> keys) {
+        Map<K, Versioned<V>> values = new HashMap<>();
+        keys.forEach(key -> {
+            Versioned<V> value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null),
      * attempts to compute its value using the given mapping function and enters it into
@@ -180,6 +199,35 @@ public interface ConsistentMap<K, V> extends DistributedPrimitive {
      */
     Versioned<V> remove(K key);
 
+    /**
+     * Associates the specified values with their keys in this map (optional operation).
+     * <p>
+     * The update is not atomic across partitions.
+     * </p>
+     *
+     * @param entries the entries to be stored in this map
+     * @throws java.util.ConcurrentModificationException if some of the keys
+     * are locked by a transaction; the other entries are still stored
+     */
+    default void putAll(Map<K, V> entries) {
+        entries.forEach(this::put);
+    }
+
+    /**
+     * Removes the mappings for the specified keys from this map if they are
+     * present (optional operation).
+     * <p>
+     * The update is not atomic across partitions.
+     * </p>
+     *
+     * @param keys the keys whose mappings are to be removed from this map
+     * @throws java.util.ConcurrentModificationException if some of the keys
+     * are locked by a transaction; the other keys are still removed
+     */
+    default void removeAll(Set<K> keys) {
+        keys.forEach(this::remove);
+    }
+
     /**
      * Removes all of the mappings from this map (optional operation).
      * The map will be empty after this call returns.
@@ -219,6 +267,26 @@ public interface ConsistentMap<K, V> extends DistributedPrimitive {
      */
     Set<Entry<K, Versioned<V>>> entrySet();
 
+    /**
+     * Returns an iterator over the entries contained in this map.
+     * <p>
+     * Unlike {@link #entrySet()}, the entries are fetched lazily a page at a
+     * time, so that large maps can be traversed with bounded memory. The
+     * iteration is weakly consistent: entries are returned as of the time
+     * each page is fetched, keys removed in the meantime are skipped, and
+     * keys added in the meantime may or may not be returned.
+     * </p>
+     * <p>
+     * Callers that may stop early should close the iterator, so that
+     * implementations holding resources for it can release them.
+     * </p>
+     *
+     * @return iterator over the entries
+     */
+    default CloseableIterator<Entry<K, Versioned<V>>> iterator() {
+        return CloseableIterator.of(entrySet().iterator());
+    }
+
     /**
      * If the specified key is not already associated with a value
      * associates it with the given value and returns null, else returns the current value.
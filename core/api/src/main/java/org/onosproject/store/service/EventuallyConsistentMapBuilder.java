@@ -180,6 +180,24 @@ public interface EventuallyConsistentMapBuilder<K, V> {
      */
     EventuallyConsistentMapBuilder<K, V> withFasterConvergence();
 
+    /**
+     * Configure anti-entropy to compare a hash tree of the map contents with
+     * the peer, rather than advertising a digest of every entry. Only the
+     * entries hashing to buckets which differ between the two maps are
+     * exchanged, which keeps anti-entropy traffic low for large maps that
+     * are mostly in sync.
+     * <p>
+     * The default behavior is to advertise a digest of every entry.
+     * Builders which do not support hash tree anti-entropy ignore this
+     * setting.
+     * </p>
+     *
+     * @return this EventuallyConsistentMapBuilder
+     */
+    default EventuallyConsistentMapBuilder<K, V> withTreeAntiEntropy() {
+        return this;
+    }
+
     /**
      * Configure the map to persist data to disk.
      * <p>
@@ -31,6 +31,15 @@ public class EventDeliveryServiceAdapter implements EventDeliveryService {
         return 0;
     }
 
+    @Override
+    public void setDispatchWorkers(int count) {
+    }
+
+    @Override
+    public int getDispatchWorkers() {
+        return 0;
+    }
+
     @Override
     public void post(Event event) {
 
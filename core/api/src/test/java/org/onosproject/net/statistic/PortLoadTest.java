@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.statistic;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.DefaultApplicationId;
+import org.onosproject.core.GroupId;
+import org.onosproject.net.flow.DefaultFlowEntry;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.net.intent.IntentTestsMocks;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.onosproject.net.NetTestTools.did;
+
+/**
+ * Unit tests for the aggregated port load.
+ */
+public class PortLoadTest {
+
+    private static final ApplicationId APP1 = new DefaultApplicationId(1, "app1");
+    private static final ApplicationId APP2 = new DefaultApplicationId(2, "app2");
+    private static final Optional<GroupId> GROUP = Optional.of(new GroupId(0));
+
+    private static FlowEntry entry(ApplicationId appId, int priority, long bytes) {
+        return new DefaultFlowEntry(DefaultFlowRule.builder()
+                                            .forDevice(did("1"))
+                                            .withSelector(new IntentTestsMocks.MockSelector())
+                                            .withTreatment(new IntentTestsMocks.MockTreatment())
+                                            .withPriority(priority)
+                                            .makePermanent()
+                                            .fromApp(appId)
+                                            .build(),
+                                    FlowEntry.FlowEntryState.ADDED, 0, 0, bytes);
+    }
+
+    @Before
+    public void reset() {
+        DefaultLoad.setPollInterval(10);
+    }
+
+    /**
+     * Tests that no load is available until both snapshots hold flows.
+     */
+    @Test
+    public void testInvalid() {
+        assertThat(PortLoad.EMPTY.isValid(), is(false));
+        assertThat(PortLoad.EMPTY.load().isValid(), is(false));
+        PortLoad load = PortLoad.EMPTY.roll(ImmutableSet.of(entry(APP1, 10, 100)));
+        assertThat(load.isValid(), is(false));
+        assertThat(load.load(APP1, GROUP).isValid(), is(false));
+    }
+
+    /**
+     * Tests the load of the port as a whole.
+     */
+    @Test
+    public void testPortLoad() {
+        PortLoad load = PortLoad.of(ImmutableSet.of(entry(APP1, 10, 300), entry(APP2, 20, 200)),
+                                    ImmutableSet.of(entry(APP1, 10, 100), entry(APP2, 20, 100)));
+        assertThat(load.isValid(), is(true));
+        assertThat(load.load().latest(), is(500L));
+        assertThat(load.load().rate(), is(30L));
+    }
+
+    /**
+     * Tests the load of the flows of an application and group.
+     */
+    @Test
+    public void testAppGroupLoad() {
+        PortLoad load = PortLoad.of(ImmutableSet.of(entry(APP1, 10, 300), entry(APP2, 20, 200)),
+                                    ImmutableSet.of(entry(APP1, 10, 100), entry(APP2, 20, 100)));
+        assertThat(load.load(APP1, GROUP).latest(), is(300L));
+        assertThat(load.load(APP1, GROUP).rate(), is(20L));
+        assertThat(load.load(APP2, GROUP).latest(), is(200L));
+        assertThat(load.load(APP1, Optional.of(new GroupId(5))).latest(), is(0L));
+        assertThat(load.load(APP1, Optional.empty()).latest(), is(0L));
+    }
+
+    /**
+     * Tests that rolling makes the current counts the previous ones.
+     */
+    @Test
+    public void testRoll() {
+        PortLoad load = PortLoad.EMPTY
+                .roll(ImmutableSet.of(entry(APP1, 10, 100), entry(APP2, 20, 100)))
+                .roll(ImmutableSet.of(entry(APP1, 10, 300)))
+                .roll(ImmutableSet.of(entry(APP1, 10, 600)));
+        assertThat(load.load().latest(), is(600L));
+        assertThat(load.load().rate(), is(30L));
+        assertThat(load.load(APP2, GROUP).latest(), is(0L));
+        assertThat(load.load(APP1, GROUP).rate(), is(30L));
+    }
+
+    /**
+     * Tests that removing a flow subtracts its bytes from both snapshots.
+     */
+    @Test
+    public void testWithout() {
+        FlowEntry current = entry(APP1, 10, 300);
+        FlowEntry previous = entry(APP1, 10, 100);
+        PortLoad load = PortLoad.of(ImmutableSet.of(current, entry(APP2, 20, 200)),
+                                    ImmutableSet.of(previous, entry(APP2, 20, 100)));
+        PortLoad removed = load.without(current, previous);
+        assertThat(removed.isValid(), is(true));
+        assertThat(removed.load().latest(), is(200L));
+        assertThat(removed.load().rate(), is(10L));
+        assertThat(removed.load(APP1, GROUP).latest(), is(0L));
+        assertThat(removed.load(APP2, GROUP).latest(), is(200L));
+        assertThat(load.load(APP1, GROUP).latest(), is(300L));
+
+        assertThat(removed.without(entry(APP2, 20, 200), null).isValid(), is(false));
+        assertThat(load.without(null, null), is(load));
+    }
+}
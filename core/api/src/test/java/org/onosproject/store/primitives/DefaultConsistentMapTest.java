@@ -18,6 +18,7 @@ package org.onosproject.store.primitives;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +31,8 @@ import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.onosproject.store.service.AsyncConsistentMapAdapter;
+import org.onosproject.store.service.AsyncIterator;
+import org.onosproject.store.service.CloseableIterator;
 import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.DistributedPrimitive;
 import org.onosproject.store.service.MapEvent;
@@ -57,6 +60,7 @@ public class DefaultConsistentMapTest {
         private final List<MapEventListener<K, V>> listeners;
         Collection<Consumer<Status>> statusChangeListeners = new ArrayList<>();
         private final Map<K, V> baseMap;
+        int closedIterators;
 
         Versioned<V> makeVersioned(V v) {
             return new Versioned<>(v, DEFAULT_VERSION, DEFAULT_CREATION_TIME);
@@ -142,6 +146,27 @@ public class DefaultConsistentMapTest {
             return CompletableFuture.completedFuture(valuesAsVersionedMap.entrySet());
         }
 
+        @Override
+        public CompletableFuture<AsyncIterator<Map.Entry<K, Versioned<V>>>> iterator(int pageSize) {
+            return super.iterator(pageSize).thenApply(iterator -> new AsyncIterator<Map.Entry<K, Versioned<V>>>() {
+                @Override
+                public CompletableFuture<Boolean> hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public CompletableFuture<Map.Entry<K, Versioned<V>>> next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public CompletableFuture<Void> close() {
+                    closedIterators++;
+                    return iterator.close();
+                }
+            });
+        }
+
         @Override
         public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value) {
             return CompletableFuture.completedFuture(makeVersioned(baseMap.putIfAbsent(key, value)));
@@ -341,4 +366,36 @@ public class DefaultConsistentMapTest {
         assertThat(newMap.statusChangeListeners(), not(hasItem(consumer)));
     }
 
+    /**
+     * Tests that the blocking iterator releases the underlying iterator once
+     * it is exhausted or closed early, and only once.
+     */
+    @Test
+    public void testIteratorClose() {
+        Map<String, String> baseMap = new HashMap<>();
+        baseMap.put(KEY1, VALUE1);
+        baseMap.put(KEY2, VALUE2);
+        AsyncConsistentMapMock<String, String> asyncMap =
+                new AsyncConsistentMapMock<>(baseMap);
+        ConsistentMap<String, String> newMap =
+                new DefaultConsistentMap<>(asyncMap, 11);
+
+        CloseableIterator<Map.Entry<String, Versioned<String>>> iterator = newMap.iterator();
+        Set<String> keys = new HashSet<>();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next().getKey());
+        }
+        assertThat(keys, is(baseMap.keySet()));
+        assertThat(asyncMap.closedIterators, is(1));
+        assertThat(iterator.hasNext(), is(false));
+        iterator.close();
+        assertThat(asyncMap.closedIterators, is(1));
+
+        try (CloseableIterator<Map.Entry<String, Versioned<String>>> early = newMap.iterator()) {
+            assertThat(early.hasNext(), is(true));
+            early.next();
+        }
+        assertThat(asyncMap.closedIterators, is(2));
+    }
+
 }
@@ -18,15 +18,16 @@ package org.onosproject.common;
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ImmutableSetMultimap.Builder;
 import org.onlab.graph.DefaultEdgeWeigher;
-import org.onlab.graph.DijkstraGraphSearch;
 import org.onlab.graph.DisjointPathPair;
 import org.onlab.graph.GraphPathSearch;
 import org.onlab.graph.GraphPathSearch.Result;
+import org.onlab.graph.IndexedDijkstraGraphSearch;
 import org.onlab.graph.KShortestPathsSearch;
 import org.onlab.graph.LazyKShortestPathsSearch;
 import org.onlab.graph.ScalarWeight;
@@ -59,7 +60,9 @@ import org.onosproject.net.topology.TopologyVertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -83,8 +86,8 @@ public class DefaultTopology extends AbstractModel implements Topology {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultTopology.class);
 
-    private static final DijkstraGraphSearch<TopologyVertex, TopologyEdge> DIJKSTRA =
-            new DijkstraGraphSearch<>();
+    private static final IndexedDijkstraGraphSearch<TopologyVertex, TopologyEdge> DIJKSTRA =
+            new IndexedDijkstraGraphSearch<>();
     private static final TarjanGraphSearch<TopologyVertex, TopologyEdge> TARJAN =
             new TarjanGraphSearch<>();
     private static final SuurballeGraphSearch<TopologyVertex, TopologyEdge> SUURBALLE =
@@ -105,12 +108,13 @@ public class DefaultTopology extends AbstractModel implements Topology {
 
     private final LinkWeigher hopCountWeigher;
 
-    private final Supplier<SccResult<TopologyVertex, TopologyEdge>> clusterResults;
+    private final Supplier<ClusterData> clusterResults;
     private final Supplier<ImmutableMap<ClusterId, TopologyCluster>> clusters;
     private final Supplier<ImmutableSet<ConnectPoint>> infrastructurePoints;
     private final Supplier<ImmutableSetMultimap<ClusterId, ConnectPoint>> broadcastSets;
     private final Function<ConnectPoint, Boolean> broadcastFunction;
     private final Supplier<ClusterIndexes> clusterIndexes;
+    private final Map<ClusterId, Set<ConnectPoint>> reusedBroadcastSets;
 
     /**
      * Sets the default link-weight to be used when computing paths. If null is
@@ -146,6 +150,29 @@ public class DefaultTopology extends AbstractModel implements Topology {
      */
     public DefaultTopology(ProviderId providerId, GraphDescription description,
                            Function<ConnectPoint, Boolean> broadcastFunction) {
+        this(providerId, description, broadcastFunction, null);
+    }
+
+    /**
+     * Creates a topology descriptor attributed to the specified provider,
+     * deriving it incrementally from the previous topology where possible.
+     * <p>
+     * Clusters untouched by the link and device changes between the two
+     * topologies are carried over, as are the broadcast trees of clusters
+     * whose shortest paths cannot have been affected by the changes; only
+     * the affected clusters are searched again. Whenever the changes might
+     * merge clusters or remove devices, the clusters are searched afresh
+     * over the whole graph.
+     * </p>
+     *
+     * @param providerId        identity of the provider
+     * @param description       data describing the new topology
+     * @param broadcastFunction broadcast point function
+     * @param previous          previous topology; null to compute from scratch
+     */
+    public DefaultTopology(ProviderId providerId, GraphDescription description,
+                           Function<ConnectPoint, Boolean> broadcastFunction,
+                           DefaultTopology previous) {
         super(providerId);
         this.broadcastFunction = broadcastFunction;
         this.time = description.timestamp();
@@ -155,7 +182,15 @@ public class DefaultTopology extends AbstractModel implements Topology {
         this.graph = new DefaultTopologyGraph(description.vertexes(),
                 description.edges());
 
-        this.clusterResults = Suppliers.memoize(this::searchForClusters);
+        Set<Integer> stale = new HashSet<>();
+        ClusterData derived = previous != null ? deriveClusters(previous, stale) : null;
+        if (derived != null) {
+            this.clusterResults = Suppliers.ofInstance(derived);
+            this.reusedBroadcastSets = reusableBroadcastSets(previous, stale);
+        } else {
+            this.clusterResults = Suppliers.memoize(this::searchForClusters);
+            this.reusedBroadcastSets = ImmutableMap.of();
+        }
         this.clusters = Suppliers.memoize(this::buildTopologyClusters);
 
         this.clusterIndexes = Suppliers.memoize(this::buildIndexes);
@@ -363,7 +398,7 @@ public class DefaultTopology extends AbstractModel implements Topology {
      * destination devices, the set of returned paths will be no more than,
      * maxPaths in size.  The first {@code maxPaths} paths will be returned
      * maintaining any ordering guarantees provided by the underlying
-     * (default or if no default is specified {@link DijkstraGraphSearch})
+     * (default or if no default is specified {@link IndexedDijkstraGraphSearch})
      * search. If returning all paths of a given length would exceed
      * {@code maxPaths} a subset of paths of that length will be returned,
      * which paths will be returned depends on the currently specified
@@ -630,15 +665,130 @@ public class DefaultTopology extends AbstractModel implements Topology {
 
     // Searches for SCC clusters in the network topology graph using Tarjan
     // algorithm.
-    private SccResult<TopologyVertex, TopologyEdge> searchForClusters() {
-        return TARJAN.search(graph, new NoIndirectLinksWeigher());
+    private ClusterData searchForClusters() {
+        return new ClusterData(TARJAN.search(graph, new NoIndirectLinksWeigher()));
+    }
+
+    // Derives the clusters from those of the previous topology, searching
+    // again only the clusters affected by the changed edges. Indexes of the
+    // clusters whose broadcast trees may have changed are added to the given
+    // set. Returns null if the clusters must be searched over the whole graph.
+    private ClusterData deriveClusters(DefaultTopology previous, Set<Integer> stale) {
+        Set<TopologyVertex> vertexes = graph.getVertexes();
+        if (!vertexes.containsAll(previous.graph.getVertexes())) {
+            // Removing a device may split clusters in unknown ways.
+            return null;
+        }
+
+        ClusterData old = previous.clusterResults.get();
+        Map<TopologyVertex, Integer> oldClusters = new HashMap<>();
+        for (int i = 0; i < old.clusterCount(); i++) {
+            for (TopologyVertex vertex : old.clusterVertexes().get(i)) {
+                oldClusters.put(vertex, i);
+            }
+        }
+
+        Map<TopologyEdge, TopologyEdge> oldEdges = new HashMap<>();
+        previous.graph.getEdges().forEach(edge -> oldEdges.put(edge, edge));
+
+        Set<Integer> dirty = new HashSet<>();
+        boolean indirectChanged = vertexes.size() != oldClusters.size();
+        for (TopologyEdge edge : graph.getEdges()) {
+            TopologyEdge oldEdge = oldEdges.remove(edge);
+            if (oldEdge != null && isViable(oldEdge) == isViable(edge) &&
+                    oldEdge.link().type() == edge.link().type()) {
+                continue;
+            }
+            Integer src = oldClusters.get(edge.src());
+            Integer dst = oldClusters.get(edge.dst());
+            if (isViable(edge) && (src == null || !src.equals(dst))) {
+                // A new viable edge may merge clusters.
+                return null;
+            }
+            indirectChanged |= edge.link().type() == INDIRECT ||
+                    (oldEdge != null && oldEdge.link().type() == INDIRECT);
+            markChanged(src, dst, dirty, stale);
+        }
+
+        // Whatever is left over has been removed.
+        for (TopologyEdge edge : oldEdges.keySet()) {
+            indirectChanged |= edge.link().type() == INDIRECT;
+            markChanged(oldClusters.get(edge.src()), oldClusters.get(edge.dst()),
+                        dirty, stale);
+        }
+
+        List<Set<TopologyVertex>> clusterVertexes = new ArrayList<>(old.clusterVertexes());
+        for (int i : dirty) {
+            // Search the subgraph of the affected cluster; the first resulting
+            // cluster keeps the index and any others are appended.
+            Set<TopologyVertex> members = clusterVertexes.get(i);
+            Set<TopologyEdge> memberEdges = members.stream()
+                    .flatMap(vertex -> graph.getEdgesFrom(vertex).stream())
+                    .filter(edge -> members.contains(edge.dst()))
+                    .collect(Collectors.toSet());
+            List<Set<TopologyVertex>> split =
+                    TARJAN.search(new DefaultTopologyGraph(members, memberEdges),
+                                  new NoIndirectLinksWeigher()).clusterVertexes();
+            clusterVertexes.set(i, split.get(0));
+            clusterVertexes.addAll(split.subList(1, split.size()));
+        }
+
+        // New devices without any viable links form clusters of their own.
+        vertexes.stream()
+                .filter(vertex -> !oldClusters.containsKey(vertex))
+                .forEach(vertex -> clusterVertexes.add(ImmutableSet.of(vertex)));
+
+        if (indirectChanged) {
+            // Broadcast trees may detour through indirect links, whose cost
+            // also depends on the number of devices.
+            for (int i = 0; i < old.clusterCount(); i++) {
+                stale.add(i);
+            }
+        }
+        stale.addAll(dirty);
+        return new ClusterData(clusterVertexes, graph);
+    }
+
+    // Marks the clusters at the ends of a changed edge as having stale
+    // broadcast trees and, if the edge lies within a cluster, as dirty.
+    private static void markChanged(Integer src, Integer dst,
+                                    Set<Integer> dirty, Set<Integer> stale) {
+        if (src != null) {
+            stale.add(src);
+        }
+        if (dst != null) {
+            stale.add(dst);
+        }
+        if (src != null && src.equals(dst)) {
+            dirty.add(src);
+        }
+    }
+
+    // Collects the broadcast sets of the previous topology which still hold
+    // for the clusters derived from it.
+    private Map<ClusterId, Set<ConnectPoint>> reusableBroadcastSets(DefaultTopology previous,
+                                                                    Set<Integer> stale) {
+        ImmutableMap.Builder<ClusterId, Set<ConnectPoint>> builder = ImmutableMap.builder();
+        ImmutableSetMultimap<ClusterId, ConnectPoint> previousSets = previous.broadcastSets.get();
+        for (int i = 0, n = previous.clusterCount(); i < n; i++) {
+            if (!stale.contains(i)) {
+                ClusterId cid = ClusterId.clusterId(i);
+                builder.put(cid, previousSets.get(cid));
+            }
+        }
+        return builder.build();
+    }
+
+    // Indicates whether the edge may join devices into a cluster.
+    private static boolean isViable(TopologyEdge edge) {
+        return edge.link().state() != INACTIVE && edge.link().type() != INDIRECT;
     }
 
     // Builds the topology clusters and returns the id-cluster bindings.
     private ImmutableMap<ClusterId, TopologyCluster> buildTopologyClusters() {
         ImmutableMap.Builder<ClusterId, TopologyCluster> clusterBuilder =
                 ImmutableMap.builder();
-        SccResult<TopologyVertex, TopologyEdge> results = clusterResults.get();
+        ClusterData results = clusterResults.get();
 
         // Extract both vertexes and edges from the results; the lists form
         // pairs along the same index.
@@ -677,7 +827,12 @@ public class DefaultTopology extends AbstractModel implements Topology {
     private ImmutableSetMultimap<ClusterId, ConnectPoint> buildBroadcastSets() {
         Builder<ClusterId, ConnectPoint> builder = ImmutableSetMultimap.builder();
         for (TopologyCluster cluster : clusters.get().values()) {
-            addClusterBroadcastSet(cluster, builder);
+            Set<ConnectPoint> reused = reusedBroadcastSets.get(cluster.id());
+            if (reused != null) {
+                builder.putAll(cluster.id(), reused);
+            } else {
+                addClusterBroadcastSet(cluster, builder);
+            }
         }
         return builder.build();
     }
@@ -781,6 +936,51 @@ public class DefaultTopology extends AbstractModel implements Topology {
         }
     }
 
+    // Vertexes and edges of the clusters; the lists form pairs along the
+    // same index.
+    private static final class ClusterData {
+        private final List<Set<TopologyVertex>> clusterVertexes;
+        private final List<Set<TopologyEdge>> clusterEdges;
+
+        private ClusterData(SccResult<TopologyVertex, TopologyEdge> result) {
+            this.clusterVertexes = result.clusterVertexes();
+            this.clusterEdges = result.clusterEdges();
+        }
+
+        // Pairs the given cluster vertexes with the graph edges that lie
+        // within each cluster.
+        private ClusterData(List<Set<TopologyVertex>> clusterVertexes, TopologyGraph graph) {
+            Map<TopologyVertex, Integer> index = new HashMap<>();
+            List<Set<TopologyEdge>> edges = new ArrayList<>(clusterVertexes.size());
+            for (int i = 0; i < clusterVertexes.size(); i++) {
+                for (TopologyVertex vertex : clusterVertexes.get(i)) {
+                    index.put(vertex, i);
+                }
+                edges.add(new HashSet<>());
+            }
+            for (TopologyEdge edge : graph.getEdges()) {
+                Integer src = index.get(edge.src());
+                if (src != null && src.equals(index.get(edge.dst()))) {
+                    edges.get(src).add(edge);
+                }
+            }
+            this.clusterVertexes = ImmutableList.copyOf(clusterVertexes);
+            this.clusterEdges = edges;
+        }
+
+        private List<Set<TopologyVertex>> clusterVertexes() {
+            return clusterVertexes;
+        }
+
+        private List<Set<TopologyEdge>> clusterEdges() {
+            return clusterEdges;
+        }
+
+        private int clusterCount() {
+            return clusterVertexes.size();
+        }
+    }
+
     static final class ClusterIndexes {
         final ImmutableMap<DeviceId, TopologyCluster> clustersByDevice;
         final ImmutableSetMultimap<TopologyCluster, DeviceId> devicesByCluster;
@@ -15,7 +15,10 @@
  */
 package org.onosproject.common;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import org.onlab.graph.AdjacencyListsGraph;
+import org.onlab.graph.CompactGraph;
 import org.onosproject.net.topology.TopologyEdge;
 import org.onosproject.net.topology.TopologyGraph;
 import org.onosproject.net.topology.TopologyVertex;
@@ -24,11 +27,15 @@ import java.util.Set;
 
 /**
  * Default implementation of an immutable topology graph based on a generic
- * implementation of adjacency lists graph.
+ * implementation of adjacency lists graph. The compact form of the graph is
+ * computed once, on first use.
  */
 public class DefaultTopologyGraph
         extends AdjacencyListsGraph<TopologyVertex, TopologyEdge>
-        implements TopologyGraph {
+        implements TopologyGraph, CompactGraph.Provider<TopologyVertex, TopologyEdge> {
+
+    private final Supplier<CompactGraph<TopologyVertex, TopologyEdge>> compactGraph =
+            Suppliers.memoize(() -> CompactGraph.of(this));
 
     /**
      * Creates a topology graph comprising of the specified vertexes and edges.
@@ -40,4 +47,9 @@ public class DefaultTopologyGraph
         super(vertexes, edges);
     }
 
+    @Override
+    public CompactGraph<TopologyVertex, TopologyEdge> compactGraph() {
+        return compactGraph.get();
+    }
+
 }
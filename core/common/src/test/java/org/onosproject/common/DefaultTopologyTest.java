@@ -148,6 +148,72 @@ public class DefaultTopologyTest {
         assertFalse("cluster should not contain D5", devs.contains(D5));
     }
 
+    @Test
+    public void incrementalLinkRemoval() {
+        // Removing one direction of a redundant link keeps the cluster intact.
+        assertIncremental(of(device("1"), device("2"), device("3"),
+                             device("4"), device("5")),
+                          of(link("1", 1, "2", 1), link("2", 1, "1", 1),
+                             link("3", 2, "2", 2), link("2", 2, "3", 2),
+                             link("1", 3, "4", 3),
+                             link("3", 4, "4", 4), link("4", 4, "3", 4)));
+    }
+
+    @Test
+    public void incrementalClusterSplit() {
+        // Cutting 2-3 and 1-4 splits the cluster in two.
+        assertIncremental(of(device("1"), device("2"), device("3"),
+                             device("4"), device("5")),
+                          of(link("1", 1, "2", 1), link("2", 1, "1", 1),
+                             link("3", 4, "4", 4), link("4", 4, "3", 4)));
+    }
+
+    @Test
+    public void incrementalDeviceAdded() {
+        // A new device with a one-way link forms a cluster of its own.
+        assertIncremental(of(device("1"), device("2"), device("3"),
+                             device("4"), device("5"), device("6")),
+                          of(link("1", 1, "2", 1), link("2", 1, "1", 1),
+                             link("3", 2, "2", 2), link("2", 2, "3", 2),
+                             link("1", 3, "4", 3), link("4", 3, "1", 3),
+                             link("3", 4, "4", 4), link("4", 4, "3", 4),
+                             link("6", 1, "5", 1)));
+    }
+
+    @Test
+    public void incrementalClusterMerge() {
+        // Joining device 5 both ways merges it into the large cluster.
+        assertIncremental(of(device("1"), device("2"), device("3"),
+                             device("4"), device("5")),
+                          of(link("1", 1, "2", 1), link("2", 1, "1", 1),
+                             link("3", 2, "2", 2), link("2", 2, "3", 2),
+                             link("1", 3, "4", 3), link("4", 3, "1", 3),
+                             link("3", 4, "4", 4), link("4", 4, "3", 4),
+                             link("4", 5, "5", 5), link("5", 5, "4", 5)));
+    }
+
+    // Checks that deriving a topology from the one set up matches building
+    // the same topology from scratch.
+    private void assertIncremental(Set<Device> devices, Set<Link> links) {
+        GraphDescription description =
+                new DefaultGraphDescription(System.nanoTime(), System.currentTimeMillis(),
+                                            devices, links);
+        DefaultTopology full = new DefaultTopology(PID, description);
+        DefaultTopology derived = new DefaultTopology(PID, description, null, dt);
+
+        assertEquals("incorrect cluster count", full.clusterCount(), derived.clusterCount());
+        for (TopologyCluster cluster : full.getClusters()) {
+            TopologyCluster other = derived.getCluster(cluster.root().deviceId());
+            assertEquals("incorrect root node", cluster.root(), other.root());
+            assertEquals("incorrect cluster devices",
+                         full.getClusterDevices(cluster), derived.getClusterDevices(other));
+            assertEquals("incorrect cluster links",
+                         full.getClusterLinks(cluster), derived.getClusterLinks(other));
+            assertEquals("incorrect broadcast set",
+                         full.broadcastPoints(cluster.id()), derived.broadcastPoints(other.id()));
+        }
+    }
+
     // Short-hand for creating a link.
     public static Link link(String src, int sp, String dst, int dp) {
         return DefaultLink.builder().providerId(PID)
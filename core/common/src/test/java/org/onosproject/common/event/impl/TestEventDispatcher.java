@@ -45,4 +45,13 @@ public class TestEventDispatcher extends DefaultEventSinkRegistry
     public long getDispatchTimeLimit() {
         return 0;
     }
+
+    @Override
+    public void setDispatchWorkers(int count) {
+    }
+
+    @Override
+    public int getDispatchWorkers() {
+        return 0;
+    }
 }
@@ -236,10 +236,45 @@ public class SimpleGroupStore
         storeGroupDescriptionInternal(groupDesc);
     }
 
+    /**
+     * Stores new group entries using the information from group descriptions.
+     *
+     * @param groupDescs group descriptions to be used to create group entries
+     */
+    @Override
+    public void storeGroupDescriptions(Collection<GroupDescription> groupDescs) {
+        List<GroupEvent> events = new ArrayList<>();
+        for (GroupDescription groupDesc : groupDescs) {
+            if (getGroup(groupDesc.deviceId(), groupDesc.appCookie()) != null) {
+                continue;
+            }
+            if (deviceAuditStatus.get(groupDesc.deviceId()) == null) {
+                StoredGroupEntry group = new DefaultGroup(dummyGroupId, groupDesc);
+                group.setState(GroupState.WAITING_AUDIT_COMPLETE);
+                getPendingGroupKeyTable(groupDesc.deviceId()).put(groupDesc.appCookie(), group);
+                continue;
+            }
+            GroupEvent event = createGroupEntry(groupDesc);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        notifyDelegate(events);
+    }
+
     private void storeGroupDescriptionInternal(GroupDescription groupDesc) {
+        GroupEvent event = createGroupEntry(groupDesc);
+        if (event != null) {
+            notifyDelegate(event);
+        }
+    }
+
+    // Creates the group entry and returns its add request event, or null
+    // if a group with the same key already exists
+    private GroupEvent createGroupEntry(GroupDescription groupDesc) {
         // Check if a group is existing with the same key
         if (getGroup(groupDesc.deviceId(), groupDesc.appCookie()) != null) {
-            return;
+            return null;
         }
 
         GroupId id = null;
@@ -258,8 +293,7 @@ public class SimpleGroupStore
         ConcurrentMap<GroupId, StoredGroupEntry> idTable =
                 getGroupIdTable(groupDesc.deviceId());
         idTable.put(id, group);
-        notifyDelegate(new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED,
-                                      group));
+        return new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED, group);
     }
 
     /**
@@ -396,6 +430,30 @@ public class SimpleGroupStore
         notifyDelegate(new GroupEvent(Type.GROUP_REMOVE_REQUESTED, existing));
     }
 
+    /**
+     * Triggers deleting the existing group entries of a device as a batch.
+     *
+     * @param deviceId the device ID
+     * @param appCookies the group keys
+     */
+    @Override
+    public void deleteGroupDescriptions(DeviceId deviceId,
+                                        Collection<GroupKey> appCookies) {
+        ConcurrentMap<GroupKey, StoredGroupEntry> keyTable = getGroupKeyTable(deviceId);
+        List<GroupEvent> events = new ArrayList<>();
+        for (GroupKey appCookie : appCookies) {
+            StoredGroupEntry existing = keyTable.get(appCookie);
+            if (existing == null) {
+                continue;
+            }
+            synchronized (existing) {
+                existing.setState(GroupState.PENDING_DELETE);
+            }
+            events.add(new GroupEvent(Type.GROUP_REMOVE_REQUESTED, existing));
+        }
+        notifyDelegate(events);
+    }
+
     /**
      * Stores a new group entry, or updates an existing entry.
      *
@@ -733,4 +791,11 @@ public class SimpleGroupStore
                   group, group.deviceId());
         addOrUpdateGroupEntry(group);
     }
+
+    @Override
+    protected void notifyDelegate(List<GroupEvent> events) {
+        if (delegate != null && !events.isEmpty()) {
+            delegate.notify(events);
+        }
+    }
 }
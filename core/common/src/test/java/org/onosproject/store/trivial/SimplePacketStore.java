@@ -30,6 +30,7 @@ import org.onosproject.net.packet.PacketStore;
 import org.onosproject.net.packet.PacketStoreDelegate;
 import org.onosproject.store.AbstractStore;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,13 @@ public class SimplePacketStore
         notifyDelegate(new PacketEvent(Type.EMIT, packet));
     }
 
+    @Override
+    public void emit(Collection<OutboundPacket> packets) {
+        if (delegate != null) {
+            delegate.emit(packets);
+        }
+    }
+
     @Override
     public void requestPackets(PacketRequest request) {
         requests.compute(request.selector(), (s, existingRequests) -> {
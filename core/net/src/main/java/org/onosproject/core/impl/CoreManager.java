@@ -89,6 +89,12 @@ public class CoreManager implements CoreService {
             label = "Maximum number of millis an event sink has to process an event")
     private int maxEventTimeLimit = DEFAULT_EVENT_TIME;
 
+    private static final int DEFAULT_DISPATCH_WORKERS = 0;
+    @Property(name = "dispatchWorkers", intValue = DEFAULT_DISPATCH_WORKERS,
+            label = "Number of event dispatch loops events are sharded onto by subject; " +
+                    "0 uses the dedicated topology, programming and default loops")
+    private int dispatchWorkers = DEFAULT_DISPATCH_WORKERS;
+
     private static final boolean DEFAULT_PERFORMANCE_CHECK = false;
     @Property(name = "sharedThreadPerformanceCheck", boolValue = DEFAULT_PERFORMANCE_CHECK,
             label = "Enable queue performance check on shared pool")
@@ -174,13 +180,22 @@ public class CoreManager implements CoreService {
             log.warn("maxEventTimeLimit must be greater than or equal to 0");
         }
 
+        Integer workers = Tools.getIntegerProperty(properties, "dispatchWorkers");
+        if (workers != null && workers >= 0) {
+            dispatchWorkers = workers;
+            eventDeliveryService.setDispatchWorkers(dispatchWorkers);
+        } else if (workers != null) {
+            log.warn("dispatchWorkers must be greater than or equal to 0");
+        }
+
         Boolean performanceCheck = Tools.isPropertyEnabled(properties, "sharedThreadPerformanceCheck");
         if (performanceCheck != null) {
             calculatePoolPerformance = performanceCheck;
             SharedExecutors.setMetricsService(calculatePoolPerformance ? metricsService : null);
         }
 
-        log.info("Settings: sharedThreadPoolSize={}, maxEventTimeLimit={}, calculatePoolPerformance={}",
-                 sharedThreadPoolSize, maxEventTimeLimit, calculatePoolPerformance);
+        log.info("Settings: sharedThreadPoolSize={}, maxEventTimeLimit={}, dispatchWorkers={}, " +
+                         "calculatePoolPerformance={}",
+                 sharedThreadPoolSize, maxEventTimeLimit, dispatchWorkers, calculatePoolPerformance);
     }
 }
@@ -15,6 +15,8 @@
  */
 package org.onosproject.event.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimerTask;
@@ -27,24 +29,40 @@ import java.util.concurrent.TimeUnit;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
+import org.apache.felix.scr.annotations.Reference;
+import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.SharedExecutors;
 import org.onosproject.event.AbstractEvent;
 import org.onosproject.event.DefaultEventSinkRegistry;
 import org.onosproject.event.Event;
 import org.onosproject.event.EventDeliveryService;
 import org.onosproject.event.EventSink;
+import org.onosproject.net.Device;
+import org.onosproject.net.Host;
+import org.onosproject.net.Link;
+import org.onosproject.net.LinkKey;
 import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.flow.FlowRule;
 import org.onosproject.net.flow.FlowRuleEvent;
 import org.onosproject.net.host.HostEvent;
+import org.onosproject.net.intent.Intent;
 import org.onosproject.net.intent.IntentEvent;
 import org.onosproject.net.link.LinkEvent;
+import org.onosproject.net.topology.Topology;
 import org.onosproject.net.topology.TopologyEvent;
 import org.slf4j.Logger;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
@@ -63,6 +81,18 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
 
     private final Logger log = getLogger(getClass());
 
+    private static final String METRICS_COMPONENT = "EventDispatcher";
+    private static final String METRICS_QUEUE_FEATURE = "queue";
+    private static final String METRICS_EVENT_LATENCY_FEATURE = "eventLatency";
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
+    private MetricsComponent metricsComponent;
+    private MetricsFeature queueFeature;
+    private MetricsFeature eventLatencyFeature;
+    // time taken by sinks to process an event, by event class
+    private final Map<Class, Histogram> eventLatencies = Maps.newConcurrentMap();
 
     private DispatchLoop topologyDispatcher = new DispatchLoop("topology");
     private DispatchLoop programmingDispatcher = new DispatchLoop("programming");
@@ -84,6 +114,9 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
                 .add(defaultDispatcher)
                 .build();
 
+    // Dispatch loops used when sharding events by subject; empty otherwise
+    private volatile List<DispatchLoop> workers = ImmutableList.of();
+
     // Default number of millis a sink can take to process an event.
     private static final long DEFAULT_EXECUTE_MS = 5_000; // ms
     private static final long WATCHDOG_MS = 250; // ms
@@ -95,6 +128,10 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
     private long maxProcessMillis = DEFAULT_EXECUTE_MS;
 
     private DispatchLoop getDispatcher(Event event) {
+        List<DispatchLoop> shards = workers;
+        if (!shards.isEmpty()) {
+            return shards.get(Math.floorMod(orderingKey(event).hashCode(), shards.size()));
+        }
         DispatchLoop dispatcher = dispatcherMap.get(event.getClass());
         if (dispatcher == null) {
             dispatcher = defaultDispatcher;
@@ -102,6 +139,32 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
         return dispatcher;
     }
 
+    /**
+     * Returns the key events must be ordered by when sharded across
+     * dispatch loops. Events related to the same device, host, link or
+     * intent share a key; all topology events share a single key.
+     *
+     * @param event event to be dispatched
+     * @return ordering key
+     */
+    private Object orderingKey(Event event) {
+        Object subject = event.subject();
+        if (subject instanceof Device) {
+            return ((Device) subject).id();
+        } else if (subject instanceof FlowRule) {
+            return ((FlowRule) subject).deviceId();
+        } else if (subject instanceof Intent) {
+            return ((Intent) subject).key();
+        } else if (subject instanceof Host) {
+            return ((Host) subject).id();
+        } else if (subject instanceof Link) {
+            return LinkKey.linkKey((Link) subject);
+        } else if (subject == null || subject instanceof Topology) {
+            return event.getClass();
+        }
+        return subject;
+    }
+
     @Override
     public void post(Event event) {
 
@@ -112,6 +175,10 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
 
     @Activate
     public void activate() {
+        metricsComponent = metricsService.registerComponent(METRICS_COMPONENT);
+        queueFeature = metricsComponent.registerFeature(METRICS_QUEUE_FEATURE);
+        eventLatencyFeature = metricsComponent.registerFeature(METRICS_EVENT_LATENCY_FEATURE);
+        dispatchers.forEach(DispatchLoop::registerMetrics);
 
         if (maxProcessMillis != 0) {
             dispatchers.forEach(DispatchLoop::startWatchdog);
@@ -123,10 +190,65 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
     @Deactivate
     public void deactivate() {
         dispatchers.forEach(DispatchLoop::stop);
+        List<DispatchLoop> oldWorkers = workers;
+        workers = ImmutableList.of();
+        stopWorkers(oldWorkers);
 
         log.info("Stopped");
     }
 
+    /**
+     * Replaces the set of dispatch loops events are sharded onto.
+     * Events already queued on the previous loops are processed before those
+     * loops terminate; events routed to them afterwards are handed over to the
+     * new loops. Ordering across the switch-over is therefore best effort.
+     *
+     * @param count number of dispatch loops; 0 disables sharding
+     */
+    @Override
+    public synchronized void setDispatchWorkers(int count) {
+        checkPermission(EVENT_WRITE);
+        checkArgument(count >= 0, "Number of dispatch workers must not be negative");
+        List<DispatchLoop> oldWorkers = workers;
+        if (count == oldWorkers.size()) {
+            return;
+        }
+        ImmutableList.Builder<DispatchLoop> builder = ImmutableList.builder();
+        for (int i = 0; i < count; i++) {
+            DispatchLoop worker = new DispatchLoop("worker-" + i);
+            if (maxProcessMillis != 0) {
+                worker.startWatchdog();
+            }
+            builder.add(worker);
+        }
+        // New loops are published before the old ones are drained, so that
+        // events handed over by the old loops cannot route back to them
+        oldWorkers.forEach(DispatchLoop::unregisterMetrics);
+        workers = builder.build();
+        workers.forEach(DispatchLoop::registerMetrics);
+        oldWorkers.forEach(DispatchLoop::drain);
+    }
+
+    @Override
+    public int getDispatchWorkers() {
+        checkPermission(EVENT_READ);
+        return workers.size();
+    }
+
+    private void stopWorkers(List<DispatchLoop> loops) {
+        loops.forEach(loop -> {
+            loop.drain();
+            loop.unregisterMetrics();
+        });
+    }
+
+    private void recordLatency(Class eventClass, long nanos) {
+        eventLatencies.computeIfAbsent(eventClass,
+                                       c -> metricsService.createHistogram(metricsComponent, eventLatencyFeature,
+                                                                           c.getName()))
+                .update(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
     @Override
     public void setDispatchTimeLimit(long millis) {
         checkPermission(EVENT_WRITE);
@@ -137,8 +259,10 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
 
         if (millis == 0 && oldMillis != 0) {
             dispatchers.forEach(DispatchLoop::stopWatchdog);
+            workers.forEach(DispatchLoop::stopWatchdog);
         } else if (millis != 0 && oldMillis == 0) {
             dispatchers.forEach(DispatchLoop::startWatchdog);
+            workers.forEach(DispatchLoop::startWatchdog);
         }
     }
 
@@ -152,6 +276,9 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
     private class DispatchLoop implements Runnable {
         private final String name;
         private volatile boolean stopped;
+        private volatile boolean draining;
+        // Set once a drained loop has terminated
+        private volatile boolean retired;
         private volatile EventSink lastSink;
         // Means to detect long-running sinks
         private final Stopwatch stopwatch = Stopwatch.createUnstarted();
@@ -170,7 +297,22 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
         }
 
         public boolean add(Event event) {
-            return eventsQueue.add(event);
+            if (!eventsQueue.add(event)) {
+                return false;
+            }
+            // A post may still route to a loop that has been retired;
+            // either the loop or the poster then hands the event over
+            if (retired) {
+                handOver();
+            }
+            return true;
+        }
+
+        // Hands the events left in the queue over to the current dispatch loops.
+        private void handOver() {
+            List<Event> events = new ArrayList<>();
+            eventsQueue.drainTo(events);
+            events.stream().filter(event -> event != KILL_PILL).forEach(CoreEventDispatcher.this::post);
         }
 
         @Override
@@ -182,6 +324,10 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
                     // Fetch the next event and if it is the kill-pill, bail
                     Event event = eventsQueue.take();
                     if (event == KILL_PILL) {
+                        if (draining) {
+                            retired = true;
+                            handOver();
+                        }
                         break;
                     }
                     process(event);
@@ -202,7 +348,9 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
                 lastSink = sink;
                 stopwatch.start();
                 sink.process(event);
+                long nanos = stopwatch.elapsed(TimeUnit.NANOSECONDS);
                 stopwatch.reset();
+                recordLatency(event.getClass(), nanos);
             } else {
                 log.warn("No sink registered for event class {}",
                          event.getClass().getName());
@@ -215,11 +363,30 @@ public class CoreEventDispatcher extends DefaultEventSinkRegistry
             add(KILL_PILL);
         }
 
+        // Terminates the loop once the events already queued have been processed;
+        // events queued after that are handed over to the current dispatch loops.
+        void drain() {
+            draining = true;
+            stopWatchdog();
+            add(KILL_PILL);
+            executor.shutdown();
+        }
+
         void restart() {
             dispatchFuture.cancel(true);
             dispatchFuture = executor.submit(this);
         }
 
+        // Exposes the depth of the events queue through the metrics service.
+        private void registerMetrics() {
+            metricsService.registerMetric(metricsComponent, queueFeature, name,
+                                          (Gauge<Integer>) eventsQueue::size);
+        }
+
+        private void unregisterMetrics() {
+            metricsService.removeMetric(metricsComponent, queueFeature, name);
+        }
+
         // Monitors event sinks to make sure none take too long to execute.
         private class Watchdog extends TimerTask {
             @Override
@@ -77,6 +77,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -134,6 +135,13 @@ public class FlowRuleManager
 
     private final Map<Long, FlowOperationsProcessor> pendingFlowOperations = new ConcurrentHashMap<>();
 
+    // generations of the statistics reports used for flow-missing detection
+    private final AtomicLong reportGenerations = new AtomicLong();
+
+    // generation of the last statistics report covering each stored rule,
+    // by device; rules are keyed by equality since flow ids may collide
+    private final Map<DeviceId, Map<FlowEntry, Long>> reportedFlows = Maps.newConcurrentMap();
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected FlowRuleStore store;
 
@@ -448,10 +456,14 @@ public class FlowRuleManager
         }
 
         private void flowAdded(FlowEntry flowEntry) {
+            flowAdded(flowEntry, store.getFlowEntry(flowEntry));
+        }
+
+        private void flowAdded(FlowEntry flowEntry, FlowEntry storedEntry) {
             checkNotNull(flowEntry, FLOW_RULE_NULL);
             checkValidity();
 
-            if (checkRuleLiveness(flowEntry, store.getFlowEntry(flowEntry))) {
+            if (checkRuleLiveness(flowEntry, storedEntry)) {
                 FlowRuleEvent event = store.addOrUpdateFlowRule(flowEntry);
                 if (event == null) {
                     log.debug("No flow store event generated.");
@@ -518,16 +530,26 @@ public class FlowRuleManager
 
         private void pushFlowMetricsInternal(DeviceId deviceId, Iterable<FlowEntry> flowEntries,
                                              boolean useMissingFlow) {
-            Map<FlowEntry, FlowEntry> storedRules = Maps.newHashMap();
-            store.getFlowEntries(deviceId).forEach(f -> storedRules.put(f, f));
-
+            // Each reported rule is looked up in the store rather than
+            // matched against a copy of the whole device table; the store
+            // only needs to be enumerated when some stored rules were not
+            // reported by the device. Stored rules are marked with the
+            // generation of the report, so that duplicate reports cannot hide
+            // a missing rule.
+            long generation = useMissingFlow ? reportGenerations.incrementAndGet() : 0;
+            Map<FlowEntry, Long> reported = useMissingFlow ?
+                    reportedFlows.computeIfAbsent(deviceId, k -> Maps.newConcurrentMap()) : null;
+            int reconciled = 0;
             for (FlowEntry rule : flowEntries) {
                 try {
-                    FlowEntry storedRule = storedRules.remove(rule);
+                    FlowEntry storedRule = store.getFlowEntry(rule);
                     if (storedRule != null) {
+                        if (useMissingFlow && markReported(reported, storedRule, generation)) {
+                            reconciled++;
+                        }
                         if (storedRule.exactMatch(rule)) {
                             // we both have the rule, let's update some info then.
-                            flowAdded(rule);
+                            flowAdded(rule, storedRule);
                         } else {
                             // the two rules are not an exact match - remove the
                             // switch's rule and install our rule
@@ -546,9 +568,19 @@ public class FlowRuleManager
                 }
             }
 
+            if (!useMissingFlow) {
+                return;
+            }
+            // rules last reported by an earlier report are either missing
+            // from the device or gone from the store
+            reported.values().removeIf(g -> g < generation);
+
             // DO NOT reinstall
-            if (useMissingFlow) {
-                for (FlowEntry rule : storedRules.keySet()) {
+            if (reconciled < store.getFlowRuleCount(deviceId)) {
+                for (FlowEntry rule : store.getFlowEntries(deviceId)) {
+                    if (reported.containsKey(rule)) {
+                        continue;
+                    }
                     try {
                         // there are rules in the store that aren't on the switch
                         log.debug("Adding the rule that is present in store but not on switch : {}", rule);
@@ -560,6 +592,19 @@ public class FlowRuleManager
             }
         }
 
+        // Marks a stored rule as covered by the specified report; returns
+        // false if it was already covered by that report or a later one
+        private boolean markReported(Map<FlowEntry, Long> reported, FlowEntry storedRule, long generation) {
+            Long previous = reported.putIfAbsent(storedRule, generation);
+            while (previous != null && previous < generation) {
+                if (reported.replace(storedRule, previous, generation)) {
+                    return true;
+                }
+                previous = reported.putIfAbsent(storedRule, generation);
+            }
+            return previous == null;
+        }
+
         @Override
         public void batchOperationCompleted(long batchId, CompletedBatchOperation operation) {
             store.batchOperationComplete(FlowRuleBatchEvent.completed(
@@ -729,6 +774,7 @@ public class FlowRuleManager
                 case DEVICE_AVAILABILITY_CHANGED:
                     DeviceId deviceId = event.subject().id();
                     if (!deviceService.isAvailable(deviceId)) {
+                        reportedFlows.remove(deviceId);
                         if (purgeOnDisconnection) {
                             store.purgeFlowRule(deviceId);
                         }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flowobjective.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flowobjective.FilteringObjective;
+import org.onosproject.net.flowobjective.ForwardingObjective;
+import org.onosproject.net.flowobjective.Objective;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Ordered queue of the flow objectives destined to a single device.
+ * <p>
+ * Objectives are handed to the installer in the order in which they were
+ * offered, by at most one worker at a time, so that the objectives of a
+ * device are serialized without holding up the objectives of other devices.
+ * A worker hands over at most a batch of objectives before yielding the
+ * executor to the queues of other devices.
+ * </p>
+ * <p>
+ * When the installer reports that the device is not ready for an objective,
+ * the objective stays at the head of the queue and the queue is parked until
+ * the retry executor resumes it, so that later objectives cannot overtake it
+ * and no worker is held up while waiting.
+ * </p>
+ * <p>
+ * While an objective is waiting in the queue, a later forwarding or
+ * filtering objective for the same flow supersedes it; e.g. an ADD followed
+ * by a REMOVE of the same objective results in only the REMOVE being
+ * installed. The context of a superseded objective is notified of success,
+ * as its effect would have been overridden anyway. Next objectives are
+ * never coalesced.
+ * </p>
+ */
+final class DeviceObjectiveQueue {
+
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final DeviceId deviceId;
+    private final Executor executor;
+    private final Executor retryExecutor;
+    private final Installer installer;
+    private final int batchSize;
+
+    private final Deque<QueuedObjective> queue = new ArrayDeque<>();
+    private final Map<List<Object>, QueuedObjective> coalescable = Maps.newHashMap();
+    private boolean draining;
+
+    /**
+     * Creates a new objective queue.
+     *
+     * @param deviceId      device the objectives are destined to
+     * @param executor      executor running the workers of the queue
+     * @param retryExecutor executor resuming a parked queue once the retry
+     *                      interval has elapsed
+     * @param installer     installer the objectives are handed to
+     * @param batchSize     maximum number of objectives handed over by a worker
+     */
+    DeviceObjectiveQueue(DeviceId deviceId, Executor executor, Executor retryExecutor,
+                         Installer installer, int batchSize) {
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        this.deviceId = checkNotNull(deviceId);
+        this.executor = checkNotNull(executor);
+        this.retryExecutor = checkNotNull(retryExecutor);
+        this.installer = checkNotNull(installer);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the device the objectives of this queue are destined to.
+     *
+     * @return device identifier
+     */
+    DeviceId deviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Returns the number of objectives waiting in the queue.
+     *
+     * @return number of queued objectives
+     */
+    synchronized int size() {
+        return (int) queue.stream().filter(q -> !q.cancelled).count();
+    }
+
+    /**
+     * Appends the specified objective to the queue, superseding any queued
+     * objective for the same flow.
+     *
+     * @param objective flow objective
+     */
+    void offer(Objective objective) {
+        List<Object> key = coalescingKey(objective);
+        QueuedObjective queued = new QueuedObjective(objective, key);
+        QueuedObjective superseded = null;
+        boolean startWorker;
+        synchronized (this) {
+            if (key != null) {
+                superseded = coalescable.put(key, queued);
+                if (superseded != null) {
+                    superseded.cancelled = true;
+                }
+            }
+            queue.addLast(queued);
+            startWorker = !draining;
+            draining = true;
+        }
+        if (superseded != null) {
+            Objective old = superseded.objective;
+            old.context().ifPresent(c -> c.onSuccess(old));
+        }
+        if (startWorker) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Discards the objectives waiting in the queue.
+     *
+     * @return discarded objectives, in queue order
+     */
+    synchronized List<Objective> clear() {
+        List<Objective> discarded = Lists.newArrayList();
+        queue.forEach(q -> {
+            if (!q.cancelled) {
+                discarded.add(q.objective);
+            }
+        });
+        queue.clear();
+        coalescable.clear();
+        return ImmutableList.copyOf(discarded);
+    }
+
+    private void drain() {
+        for (int i = 0; i < batchSize; i++) {
+            QueuedObjective next = poll();
+            if (next == null) {
+                return;
+            }
+            next.attempts++;
+            if (!installer.install(next.objective, next.attempts)) {
+                park(next);
+                return;
+            }
+        }
+        // yield to the other device queues before handing over more objectives
+        synchronized (this) {
+            if (queue.isEmpty()) {
+                draining = false;
+                return;
+            }
+        }
+        executor.execute(this::drain);
+    }
+
+    // keeps the objective at the head of the queue and resumes the queue later
+    private void park(QueuedObjective head) {
+        synchronized (this) {
+            queue.addFirst(head);
+            if (head.key != null) {
+                coalescable.putIfAbsent(head.key, head);
+            }
+        }
+        retryExecutor.execute(() -> executor.execute(this::drain));
+    }
+
+    private synchronized QueuedObjective poll() {
+        QueuedObjective next = queue.pollFirst();
+        while (next != null && next.cancelled) {
+            next = queue.pollFirst();
+        }
+        if (next == null) {
+            draining = false;
+        } else if (next.key != null) {
+            coalescable.remove(next.key, next);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the key identifying the flow affected by the specified
+     * objective, or null if the objective must not be coalesced.
+     *
+     * @param objective flow objective
+     * @return coalescing key or null
+     */
+    static List<Object> coalescingKey(Objective objective) {
+        if (objective.op() != Objective.Operation.ADD &&
+                objective.op() != Objective.Operation.REMOVE) {
+            return null;
+        }
+        if (objective instanceof ForwardingObjective) {
+            ForwardingObjective fwd = (ForwardingObjective) objective;
+            return ImmutableList.of(ForwardingObjective.class, fwd.appId(),
+                                    fwd.selector(), fwd.priority(), fwd.flag());
+        } else if (objective instanceof FilteringObjective) {
+            FilteringObjective filter = (FilteringObjective) objective;
+            return ImmutableList.of(FilteringObjective.class, filter.appId(),
+                                    filter.type(), keyOf(filter), filter.priority(),
+                                    ImmutableList.copyOf(filter.conditions()));
+        }
+        return null;
+    }
+
+    private static Object keyOf(FilteringObjective filter) {
+        // the key criterion is optional; ImmutableList does not accept nulls
+        return filter.key() == null ? FilteringObjective.class : filter.key();
+    }
+
+    /**
+     * Hands the objectives of the queue over to the device.
+     */
+    @FunctionalInterface
+    interface Installer {
+        /**
+         * Hands the specified objective over to the device.
+         *
+         * @param objective flow objective
+         * @param attempt   number of the attempt, starting at 1
+         * @return false if the device is not ready yet and the objective is
+         * to be retried, true otherwise
+         */
+        boolean install(Objective objective, int attempt);
+    }
+
+    private static final class QueuedObjective {
+        private final Objective objective;
+        private final List<Object> key;
+        private boolean cancelled;
+        private int attempts;
+
+        private QueuedObjective(Objective objective, List<Object> key) {
+            this.objective = objective;
+            this.key = key;
+        }
+    }
+}
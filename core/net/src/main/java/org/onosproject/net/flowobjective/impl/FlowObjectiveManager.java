@@ -28,6 +28,7 @@ import org.apache.felix.scr.annotations.Service;
 import org.onlab.osgi.DefaultServiceDirectory;
 import org.onlab.osgi.ServiceDirectory;
 import org.onlab.util.ItemNotFoundException;
+import org.onlab.util.SharedScheduledExecutors;
 import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cluster.ClusterService;
@@ -63,8 +64,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.onlab.util.Tools.groupedThreads;
@@ -127,10 +129,16 @@ public class FlowObjectiveManager implements FlowObjectiveService {
 
     protected ServiceDirectory serviceDirectory = new DefaultServiceDirectory();
 
+    // ordered per-device queues of the objectives to be passed down to the
+    // device pipeliners
+    private final Map<DeviceId, DeviceObjectiveQueue> objectiveQueues =
+            Maps.newConcurrentMap();
+
     // local stores for queuing fwd and next objectives that are waiting for an
     // associated next objective execution to complete. The signal for completed
     // execution comes from a pipeline driver, in this or another controller
-    // instance, via the DistributedFlowObjectiveStore.
+    // instance, via the DistributedFlowObjectiveStore. Updates are atomic per
+    // next objective id.
     private final Map<Integer, Set<PendingFlowObjective>> pendingForwards =
             Maps.newConcurrentMap();
     private final Map<Integer, Set<PendingFlowObjective>> pendingNexts =
@@ -158,6 +166,8 @@ public class FlowObjectiveManager implements FlowObjectiveService {
         flowObjectiveStore.unsetDelegate(delegate);
         deviceService.removeListener(deviceListener);
         executorService.shutdown();
+        objectiveQueues.values().forEach(DeviceObjectiveQueue::clear);
+        objectiveQueues.clear();
         pipeliners.clear();
         driverHandlers.clear();
         nextToDevice.clear();
@@ -183,61 +193,49 @@ public class FlowObjectiveManager implements FlowObjectiveService {
     }
 
     /**
-     * Task that passes the flow objective down to the driver. The task will
-     * make a few attempts to find the appropriate driver, then eventually give
-     * up and report an error if no suitable driver could be found.
+     * Passes the flow objective down to the driver. The device queue retries
+     * the objective a few times to find the appropriate driver, then the
+     * installer eventually gives up and reports an error if no suitable
+     * driver could be found.
+     *
+     * @param deviceId  device identifier
+     * @param objective flow objective
+     * @param attempt   number of the attempt, starting at 1
+     * @return false if the objective is to be retried later, true otherwise
      */
-    private class ObjectiveInstaller implements Runnable {
-        private final DeviceId deviceId;
-        private final Objective objective;
-
-        private final int numAttempts;
-
-        public ObjectiveInstaller(DeviceId deviceId, Objective objective) {
-            this(deviceId, objective, 1);
-        }
-
-        public ObjectiveInstaller(DeviceId deviceId, Objective objective, int attemps) {
-            this.deviceId = checkNotNull(deviceId);
-            this.objective = checkNotNull(objective);
-            this.numAttempts = checkNotNull(attemps);
-        }
-
-        @Override
-        public void run() {
-            try {
-                Pipeliner pipeliner = getDevicePipeliner(deviceId);
-
-                if (pipeliner != null) {
-                    if (objective instanceof NextObjective) {
-                        nextToDevice.put(objective.id(), deviceId);
-                        pipeliner.next((NextObjective) objective);
-                    } else if (objective instanceof ForwardingObjective) {
-                        pipeliner.forward((ForwardingObjective) objective);
-                    } else {
-                        pipeliner.filter((FilteringObjective) objective);
-                    }
-                    //Attempts to check if pipeliner is null for retry attempts
-                } else if (numAttempts < INSTALL_RETRY_ATTEMPTS) {
-                    Thread.sleep(INSTALL_RETRY_INTERVAL);
-                    executorService.execute(new ObjectiveInstaller(deviceId, objective, numAttempts + 1));
+    private boolean install(DeviceId deviceId, Objective objective, int attempt) {
+        try {
+            Pipeliner pipeliner = getDevicePipeliner(deviceId);
+
+            if (pipeliner != null) {
+                if (objective instanceof NextObjective) {
+                    nextToDevice.put(objective.id(), deviceId);
+                    pipeliner.next((NextObjective) objective);
+                } else if (objective instanceof ForwardingObjective) {
+                    pipeliner.forward((ForwardingObjective) objective);
                 } else {
-                    // Otherwise we've tried a few times and failed, report an
-                    // error back to the user.
-                    objective.context().ifPresent(
-                            c -> c.onError(objective, ObjectiveError.NOPIPELINER));
+                    pipeliner.filter((FilteringObjective) objective);
                 }
-                //Exception thrown
-            } catch (Exception e) {
-                log.warn("Exception while installing flow objective", e);
+            } else if (attempt < INSTALL_RETRY_ATTEMPTS) {
+                // the device queue holds off until the retry interval elapses
+                return false;
+            } else {
+                // Otherwise we've tried a few times and failed, report an
+                // error back to the user.
+                objective.context().ifPresent(
+                        c -> c.onError(objective, ObjectiveError.NOPIPELINER));
             }
+            //Exception thrown
+        } catch (Exception e) {
+            log.warn("Exception while installing flow objective", e);
         }
+        return true;
     }
 
     @Override
     public void filter(DeviceId deviceId, FilteringObjective filteringObjective) {
         checkPermission(FLOWRULE_WRITE);
-        executorService.execute(new ObjectiveInstaller(deviceId, filteringObjective));
+        enqueue(deviceId, filteringObjective);
     }
 
     @Override
@@ -248,7 +246,7 @@ public class FlowObjectiveManager implements FlowObjectiveService {
                 flowObjectiveStore.getNextGroup(forwardingObjective.nextId()) != null ||
                 !queueFwdObjective(deviceId, forwardingObjective)) {
             // fast path
-            executorService.execute(new ObjectiveInstaller(deviceId, forwardingObjective));
+            enqueue(deviceId, forwardingObjective);
         }
     }
 
@@ -259,10 +257,32 @@ public class FlowObjectiveManager implements FlowObjectiveService {
                 flowObjectiveStore.getNextGroup(nextObjective.id()) != null ||
                 !queueNextObjective(deviceId, nextObjective)) {
             // either group exists or we are trying to create it - let it through
-            executorService.execute(new ObjectiveInstaller(deviceId, nextObjective));
+            enqueue(deviceId, nextObjective);
         }
     }
 
+    /**
+     * Appends the specified objective to the ordered queue of the device.
+     *
+     * @param deviceId  device identifier
+     * @param objective flow objective
+     */
+    private void enqueue(DeviceId deviceId, Objective objective) {
+        objectiveQueues.computeIfAbsent(deviceId, this::createObjectiveQueue)
+                .offer(objective);
+    }
+
+    private DeviceObjectiveQueue createObjectiveQueue(DeviceId deviceId) {
+        // Always run the queue workers on the current executor, which is
+        // replaced when the number of threads is reconfigured
+        return new DeviceObjectiveQueue(deviceId,
+                                        task -> executorService.execute(task),
+                                        task -> SharedScheduledExecutors.newTimeout(task, INSTALL_RETRY_INTERVAL,
+                                                                                    TimeUnit.MILLISECONDS),
+                                        (objective, attempt) -> install(deviceId, objective, attempt),
+                                        DeviceObjectiveQueue.DEFAULT_BATCH_SIZE);
+    }
+
     @Override
     public int allocateNextId() {
         checkPermission(FLOWRULE_WRITE);
@@ -273,23 +293,7 @@ public class FlowObjectiveManager implements FlowObjectiveService {
     public void initPolicy(String policy) {}
 
     private boolean queueFwdObjective(DeviceId deviceId, ForwardingObjective fwd) {
-        boolean queued = false;
-        synchronized (pendingForwards) {
-            // double check the flow objective store, because this block could run
-            // after a notification arrives
-            if (flowObjectiveStore.getNextGroup(fwd.nextId()) == null) {
-                pendingForwards.compute(fwd.nextId(), (id, pending) -> {
-                    PendingFlowObjective pendfo = new PendingFlowObjective(deviceId, fwd);
-                    if (pending == null) {
-                        return Sets.newHashSet(pendfo);
-                    } else {
-                        pending.add(pendfo);
-                        return pending;
-                    }
-                });
-                queued = true;
-            }
-        }
+        boolean queued = queuePending(pendingForwards, fwd.nextId(), deviceId, fwd);
         if (queued) {
             log.info("Queued forwarding objective {} for nextId {} meant for device {}",
                       fwd.id(), fwd.nextId(), deviceId);
@@ -301,23 +305,7 @@ public class FlowObjectiveManager implements FlowObjectiveService {
 
         // we need to hold off on other operations till we get notified that the
         // initial group creation has succeeded
-        boolean queued = false;
-        synchronized (pendingNexts) {
-            // double check the flow objective store, because this block could run
-            // after a notification arrives
-            if (flowObjectiveStore.getNextGroup(next.id()) == null) {
-                pendingNexts.compute(next.id(), (id, pending) -> {
-                    PendingFlowObjective pendfo = new PendingFlowObjective(deviceId, next);
-                    if (pending == null) {
-                        return Sets.newHashSet(pendfo);
-                    } else {
-                        pending.add(pendfo);
-                        return pending;
-                    }
-                });
-                queued = true;
-            }
-        }
+        boolean queued = queuePending(pendingNexts, next.id(), deviceId, next);
         if (queued) {
             log.info("Queued next objective {} with operation {} meant for device {}",
                       next.id(), next.op(), deviceId);
@@ -325,6 +313,40 @@ public class FlowObjectiveManager implements FlowObjectiveService {
         return queued;
     }
 
+    /**
+     * Holds off the objective until the next objective it depends upon has
+     * been executed.
+     *
+     * @param pending   pending objectives by next objective id
+     * @param nextId    id of the next objective depended upon
+     * @param deviceId  device identifier
+     * @param objective objective to hold off
+     * @return false if the next objective has been executed in the meantime
+     * and the objective is to be passed down right away, true otherwise
+     */
+    private boolean queuePending(Map<Integer, Set<PendingFlowObjective>> pending,
+                                 int nextId, DeviceId deviceId, Objective objective) {
+        PendingFlowObjective pendfo = new PendingFlowObjective(deviceId, objective);
+        pending.compute(nextId, (id, objectives) -> {
+            Set<PendingFlowObjective> updated = objectives == null ? Sets.newHashSet() : objectives;
+            updated.add(pendfo);
+            return updated;
+        });
+
+        // double check the flow objective store, outside of the map update,
+        // because a notification may have arrived before the objective was
+        // added; take the objective back unless the notification released it
+        if (flowObjectiveStore.getNextGroup(nextId) == null) {
+            return true;
+        }
+        AtomicBoolean withdrawn = new AtomicBoolean(false);
+        pending.computeIfPresent(nextId, (id, objectives) -> {
+            withdrawn.set(objectives.remove(pendfo));
+            return objectives.isEmpty() ? null : objectives;
+        });
+        return !withdrawn.get();
+    }
+
     /**
      * Retrieves (if it exists) the device pipeline behaviour from the cache.
      * Otherwise it warms the caches and triggers the init method of the Pipeline.
@@ -429,6 +451,11 @@ public class FlowObjectiveManager implements FlowObjectiveService {
                     // replace driver/pipeliner assigned to the device.
                     driverHandlers.remove(event.subject().id());
                     pipeliners.remove(event.subject().id());
+                    DeviceObjectiveQueue queue = objectiveQueues.remove(event.subject().id());
+                    if (queue != null) {
+                        queue.clear().forEach(obj -> obj.context().ifPresent(
+                                c -> c.onError(obj, ObjectiveError.DEVICEMISSING)));
+                    }
                     break;
                 case DEVICE_SUSPENDED:
                     break;
@@ -489,34 +516,27 @@ public class FlowObjectiveManager implements FlowObjectiveService {
                 log.debug("Received notification of obj event {}", event);
                 Set<PendingFlowObjective> pending;
 
-                // first send all pending flows
-                synchronized (pendingForwards) {
-                    // needs to be synchronized for queueObjective lookup
-                    pending = pendingForwards.remove(event.subject());
-                }
+                // first send all pending flows; the removal is atomic with
+                // respect to the queueObjective lookup for the same next id
+                pending = pendingForwards.remove(event.subject());
                 if (pending == null) {
                     log.debug("No forwarding objectives pending for this "
                             + "obj event {}", event);
                 } else {
                     log.debug("Processing {} pending forwarding objectives for nextId {}",
                               pending.size(), event.subject());
-                    pending.forEach(p -> getDevicePipeliner(p.deviceId())
-                                    .forward((ForwardingObjective) p.flowObjective()));
+                    pending.forEach(p -> enqueue(p.deviceId(), p.flowObjective()));
                 }
 
                 // now check for pending next-objectives
-                synchronized (pendingNexts) {
-                    // needs to be synchronized for queueObjective lookup
-                    pending = pendingNexts.remove(event.subject());
-                }
+                pending = pendingNexts.remove(event.subject());
                 if (pending == null) {
                     log.debug("No next objectives pending for this "
                             + "obj event {}", event);
                 } else {
                     log.debug("Processing {} pending next objectives for nextId {}",
                               pending.size(), event.subject());
-                    pending.forEach(p -> getDevicePipeliner(p.deviceId())
-                                    .next((NextObjective) p.flowObjective()));
+                    pending.forEach(p -> enqueue(p.deviceId(), p.flowObjective()));
                 }
             }
         }
@@ -50,9 +50,13 @@ import org.onosproject.net.provider.AbstractProviderService;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Dictionary;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.onosproject.security.AppGuard.checkPermission;
 import static org.onosproject.security.AppPermission.Type.GROUP_READ;
@@ -153,6 +157,12 @@ public class GroupManager
         store.storeGroupDescription(groupDesc);
     }
 
+    @Override
+    public void addGroups(Collection<GroupDescription> groupDescs) {
+        checkPermission(GROUP_WRITE);
+        store.storeGroupDescriptions(groupDescs);
+    }
+
     /**
      * Return a group object associated to an application cookie.
      * <p>
@@ -282,6 +292,14 @@ public class GroupManager
         store.deleteGroupDescription(deviceId, appCookie);
     }
 
+    @Override
+    public void removeGroups(DeviceId deviceId,
+                             Collection<GroupKey> appCookies,
+                             ApplicationId appId) {
+        checkPermission(GROUP_WRITE);
+        store.deleteGroupDescriptions(deviceId, appCookies);
+    }
+
     /**
      * Retrieve all groups created by an application in the specified device
      * as seen by current controller instance.
@@ -311,46 +329,64 @@ public class GroupManager
     private class InternalGroupStoreDelegate implements GroupStoreDelegate {
         @Override
         public void notify(GroupEvent event) {
+            GroupOperation groupOp = groupOperation(event);
+            if (groupOp != null) {
+                DeviceId deviceId = event.subject().deviceId();
+                getProvider(deviceId).performGroupOperation(
+                        deviceId, new GroupOperations(Collections.singletonList(groupOp)));
+            } else {
+                postGroupEvent(event);
+            }
+        }
+
+        @Override
+        public void notify(List<GroupEvent> events) {
+            // Requested operations are performed in one batch per device
+            Map<DeviceId, List<GroupOperation>> groupOps = new LinkedHashMap<>();
+            for (GroupEvent event : events) {
+                GroupOperation groupOp = groupOperation(event);
+                if (groupOp != null) {
+                    groupOps.computeIfAbsent(event.subject().deviceId(), k -> new ArrayList<>())
+                            .add(groupOp);
+                } else {
+                    postGroupEvent(event);
+                }
+            }
+            groupOps.forEach((deviceId, ops) ->
+                    getProvider(deviceId).performGroupOperation(deviceId, new GroupOperations(ops)));
+        }
+
+        // Returns the operation requested by the event, or null if it requests none
+        private GroupOperation groupOperation(GroupEvent event) {
             final Group group = event.subject();
-            GroupProvider groupProvider =
-                    getProvider(group.deviceId());
-            GroupOperations groupOps = null;
             switch (event.type()) {
                 case GROUP_ADD_REQUESTED:
                     log.debug("GROUP_ADD_REQUESTED for Group {} on device {}",
                               group.id(), group.deviceId());
-                    GroupOperation groupAddOp = GroupOperation.
-                            createAddGroupOperation(group.id(),
-                                                    group.type(),
-                                                    group.buckets());
-                    groupOps = new GroupOperations(
-                            Collections.singletonList(groupAddOp));
-                    groupProvider.performGroupOperation(group.deviceId(), groupOps);
-                    break;
+                    return GroupOperation.createAddGroupOperation(group.id(),
+                                                                  group.type(),
+                                                                  group.buckets());
 
                 case GROUP_UPDATE_REQUESTED:
                     log.debug("GROUP_UPDATE_REQUESTED for Group {} on device {}",
                               group.id(), group.deviceId());
-                    GroupOperation groupModifyOp = GroupOperation.
-                            createModifyGroupOperation(group.id(),
-                                                       group.type(),
-                                                       group.buckets());
-                    groupOps = new GroupOperations(
-                            Collections.singletonList(groupModifyOp));
-                    groupProvider.performGroupOperation(group.deviceId(), groupOps);
-                    break;
+                    return GroupOperation.createModifyGroupOperation(group.id(),
+                                                                     group.type(),
+                                                                     group.buckets());
 
                 case GROUP_REMOVE_REQUESTED:
                     log.debug("GROUP_REMOVE_REQUESTED for Group {} on device {}",
                               group.id(), group.deviceId());
-                    GroupOperation groupDeleteOp = GroupOperation.
-                            createDeleteGroupOperation(group.id(),
-                                                       group.type());
-                    groupOps = new GroupOperations(
-                            Collections.singletonList(groupDeleteOp));
-                    groupProvider.performGroupOperation(group.deviceId(), groupOps);
-                    break;
+                    return GroupOperation.createDeleteGroupOperation(group.id(),
+                                                                     group.type());
 
+                default:
+                    return null;
+            }
+        }
+
+        private void postGroupEvent(GroupEvent event) {
+            switch (event.type()) {
                 case GROUP_ADDED:
                 case GROUP_UPDATED:
                 case GROUP_REMOVED:
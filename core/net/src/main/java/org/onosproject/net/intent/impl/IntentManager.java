@@ -15,6 +15,7 @@
  */
 package org.onosproject.net.intent.impl;
 
+import com.google.common.collect.Maps;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
@@ -70,6 +71,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -116,6 +118,13 @@ public class IntentManager
             label = "Number of worker threads")
     private int numThreads = DEFAULT_NUM_THREADS;
 
+    private static final int DEFAULT_MAX_BATCHES_IN_FLIGHT = 1;
+    @Property(name = "maxBatchesInFlight",
+            intValue = DEFAULT_MAX_BATCHES_IN_FLIGHT,
+            label = "Maximum number of intent batches processed concurrently; " +
+                    "batches are processed one at a time when set to 1")
+    private int maxBatchesInFlight = DEFAULT_MAX_BATCHES_IN_FLIGHT;
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected CoreService coreService;
 
@@ -161,6 +170,10 @@ public class IntentManager
 
     private final IntentAccumulator accumulator = new IntentAccumulator(batchDelegate);
 
+    // Completion of the latest in-flight batch containing each intent key
+    private final Map<Key, CompletableFuture<Void>> inFlightKeys = Maps.newConcurrentMap();
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
     @Activate
     public void activate() {
         configService.registerProperties(getClass());
@@ -229,6 +242,13 @@ public class IntentManager
             }
             logConfig("Reconfigured number of worker threads");
         }
+
+        s = Tools.get(context.getProperties(), "maxBatchesInFlight");
+        int newMaxBatchesInFlight = isNullOrEmpty(s) ? maxBatchesInFlight : Integer.parseInt(s.trim());
+        if (newMaxBatchesInFlight >= 1 && newMaxBatchesInFlight != maxBatchesInFlight) {
+            maxBatchesInFlight = newMaxBatchesInFlight;
+            log.info("Reconfigured maximum number of batches in flight to {}", maxBatchesInFlight);
+        }
     }
 
     private void logConfig(String prefix) {
@@ -507,6 +527,11 @@ public class IntentManager
             log.debug("Execute {} operation(s).", operations.size());
             log.trace("Execute operations: {}", operations);
 
+            if (maxBatchesInFlight > 1) {
+                executePipelined(operations);
+                return;
+            }
+
             // batchExecutor is single-threaded, so only one batch is in flight at a time
             CompletableFuture.runAsync(() -> {
                 // process intent until the phase reaches one of the final phases
@@ -515,29 +540,8 @@ public class IntentManager
                             log.debug("Start processing of {} {}@{}", data.request(), data.key(), data.version());
                             return data;
                         })
-                        .map(x -> CompletableFuture.completedFuture(x)
-                                .thenApply(IntentManager.this::createInitialPhase)
-                                .thenApplyAsync(IntentProcessPhase::process, workerExecutor)
-                                .thenApply(FinalIntentProcessPhase::data)
-                                .exceptionally(e -> {
-                                    // When the future fails, we update the Intent to simulate the failure of
-                                    // the installation/withdrawal phase and we save in the current map. In
-                                    // the next round the CleanUp Thread will pick this Intent again.
-                                    log.warn("Future failed", e);
-                                    log.warn("Intent {} - state {} - request {}",
-                                             x.key(), x.state(), x.request());
-                                    switch (x.state()) {
-                                        case INSTALL_REQ:
-                                        case INSTALLING:
-                                        case WITHDRAW_REQ:
-                                        case WITHDRAWING:
-                                            // TODO should we swtich based on current
-                                            IntentData current = store.getIntentData(x.key());
-                                            return IntentData.nextState(current, FAILED);
-                                        default:
-                                            return null;
-                                    }
-                                }))
+                        .map(x -> process(CompletableFuture.completedFuture(x)
+                                                  .thenApply(IntentManager.this::createInitialPhase), x))
                         .collect(Collectors.toList());
 
                 // write multiple data to store in order
@@ -556,6 +560,70 @@ public class IntentManager
             }).thenRun(accumulator::ready);
 
         }
+
+        // Processes the batch without waiting for the batches already in
+        // flight, except for the intents whose keys they also contain; those
+        // start only once the earlier batch has been written to the store.
+        private void executePipelined(Collection<IntentData> operations) {
+            int inFlight = batchesInFlight.incrementAndGet();
+            CompletableFuture<Void> batchDone = new CompletableFuture<>();
+            List<CompletableFuture<IntentData>> futures = operations.stream()
+                    .map(x -> {
+                        log.debug("Start processing of {} {}@{}", x.request(), x.key(), x.version());
+                        CompletableFuture<Void> previous = inFlightKeys.put(x.key(), batchDone);
+                        CompletableFuture<Void> start = previous == null ?
+                                CompletableFuture.completedFuture(null) : previous;
+                        return process(start.thenApplyAsync(v -> createInitialPhase(x), workerExecutor), x);
+                    })
+                    .collect(Collectors.toList());
+
+            // batchExecutor is single-threaded, so the store writes of
+            // subsequent batches are still serialized
+            Tools.allOf(futures).thenAcceptAsync(results -> {
+                store.batchWrite(results.stream()
+                                         .filter(Objects::nonNull)
+                                         .collect(Collectors.toList()));
+            }, batchExecutor).whenComplete((r, e) -> {
+                if (e != null) {
+                    log.error("Error submitting batches:", e);
+                }
+                operations.forEach(x -> inFlightKeys.remove(x.key(), batchDone));
+                batchDone.complete(null);
+                batchesInFlight.decrementAndGet();
+                accumulator.ready();
+            });
+
+            if (inFlight < maxBatchesInFlight) {
+                accumulator.ready();
+            }
+        }
+
+        // Processes the intent until the phase reaches one of the final phases.
+        private CompletableFuture<IntentData> process(CompletableFuture<IntentProcessPhase> initial,
+                                                      IntentData x) {
+            return initial
+                    .thenApplyAsync(IntentProcessPhase::process, workerExecutor)
+                    .thenApply(FinalIntentProcessPhase::data)
+                    .exceptionally(e -> {
+                        // When the future fails, we update the Intent to simulate the failure of
+                        // the installation/withdrawal phase and we save in the current map. In
+                        // the next round the CleanUp Thread will pick this Intent again.
+                        log.warn("Future failed", e);
+                        log.warn("Intent {} - state {} - request {}",
+                                 x.key(), x.state(), x.request());
+                        switch (x.state()) {
+                            case INSTALL_REQ:
+                            case INSTALLING:
+                            case WITHDRAW_REQ:
+                            case WITHDRAWING:
+                                // TODO should we swtich based on current
+                                IntentData current = store.getIntentData(x.key());
+                                return IntentData.nextState(current, FAILED);
+                            default:
+                                return null;
+                        }
+                    });
+        }
     }
 
     private IntentProcessPhase createInitialPhase(IntentData data) {
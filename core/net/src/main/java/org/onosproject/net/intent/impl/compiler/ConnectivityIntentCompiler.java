@@ -17,6 +17,7 @@ package org.onosproject.net.intent.impl.compiler;
 
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Reference;
@@ -35,9 +36,13 @@ import org.onosproject.net.intent.ConnectivityIntent;
 import org.onosproject.net.intent.Constraint;
 import org.onosproject.net.intent.IntentCompiler;
 import org.onosproject.net.intent.IntentExtensionService;
+import org.onosproject.net.intent.constraint.AnnotationConstraint;
 import org.onosproject.net.intent.constraint.BandwidthConstraint;
 import org.onosproject.net.intent.constraint.HashedPathSelectionConstraint;
+import org.onosproject.net.intent.constraint.LatencyConstraint;
+import org.onosproject.net.intent.constraint.LinkTypeConstraint;
 import org.onosproject.net.intent.constraint.MarkerConstraint;
+import org.onosproject.net.intent.constraint.ObstacleConstraint;
 import org.onosproject.net.intent.constraint.PathViabilityConstraint;
 import org.onosproject.net.intent.impl.PathNotFoundException;
 import org.onosproject.net.provider.ProviderId;
@@ -339,13 +344,23 @@ public abstract class ConnectivityIntentCompiler<T extends ConnectivityIntent>
                         .collect(Collectors.toList());
     }
 
+    // Constraints which weigh links by the topology alone and never consult
+    // the resource context; subclasses are not trusted to do the same
+    private static final Set<Class<? extends Constraint>> TOPOLOGY_CONSTRAINTS =
+            ImmutableSet.of(AnnotationConstraint.class, LatencyConstraint.class,
+                            LinkTypeConstraint.class, ObstacleConstraint.class);
+
     /**
      * Edge-weight capable of evaluating link cost using a set of constraints.
+     * Weighers of the same compiler with equal constraints are equal. They are
+     * cacheable only if each of their constraints weighs links by the topology
+     * alone, since the others may consult the availability of resources.
      */
     protected class ConstraintBasedLinkWeigher extends DefaultEdgeWeigher<TopologyVertex, TopologyEdge>
             implements LinkWeigher {
 
         private final List<Constraint> constraints;
+        private final boolean cacheable;
 
         /**
          * Creates a new edge-weight function capable of evaluating links
@@ -359,6 +374,37 @@ public abstract class ConnectivityIntentCompiler<T extends ConnectivityIntent>
             } else {
                 this.constraints = ImmutableList.copyOf(constraints);
             }
+            this.cacheable = this.constraints.stream()
+                    .filter(c -> !(c instanceof MarkerConstraint))
+                    .filter(c -> !(c instanceof PathViabilityConstraint))
+                    .allMatch(c -> TOPOLOGY_CONSTRAINTS.contains(c.getClass()));
+        }
+
+        private ConnectivityIntentCompiler<?> compiler() {
+            return ConnectivityIntentCompiler.this;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public int hashCode() {
+            return constraints.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConnectivityIntentCompiler.ConstraintBasedLinkWeigher)) {
+                return false;
+            }
+            ConnectivityIntentCompiler<?>.ConstraintBasedLinkWeigher that =
+                    (ConnectivityIntentCompiler<?>.ConstraintBasedLinkWeigher) obj;
+            return compiler() == that.compiler() && constraints.equals(that.constraints);
         }
 
         @Override
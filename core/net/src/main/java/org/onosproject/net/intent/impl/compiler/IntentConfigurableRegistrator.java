@@ -28,9 +28,13 @@ import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
 import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.net.LinkKey;
 import org.onosproject.net.intent.Intent;
 import org.onosproject.net.intent.IntentCompiler;
 import org.onosproject.net.intent.IntentExtensionService;
+import org.onosproject.net.link.LinkEvent;
+import org.onosproject.net.link.LinkListener;
+import org.onosproject.net.link.LinkService;
 import org.onosproject.net.resource.impl.LabelAllocator;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -57,6 +61,9 @@ public class IntentConfigurableRegistrator {
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService cfgService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected LinkService linkService;
+
     private static final boolean DEFAULT_FLOW_OBJECTIVES = false;
     @Property(name = "useFlowObjectives",
             boolValue = DEFAULT_FLOW_OBJECTIVES,
@@ -104,14 +111,18 @@ public class IntentConfigurableRegistrator {
     // FIXME: temporary code for switching old compiler to new compiler
     private final Map<Class<Intent>, Set<IntentCompiler<Intent>>> flowObjectiveBased = Maps.newConcurrentMap();
 
+    private final LinkListener linkListener = new InternalLinkListener();
+
     @Activate
     public void activate() {
         cfgService.registerProperties(getClass());
+        linkService.addListener(linkListener);
         log.info("Started");
     }
 
     @Deactivate
     public void deactivate() {
+        linkService.removeListener(linkListener);
         cfgService.unregisterProperties(getClass(), false);
         log.info("Stopped");
     }
@@ -292,6 +303,15 @@ public class IntentConfigurableRegistrator {
         LinkCollectionCompiler.labelAllocator.setOptLabelSelection(optLabelSelection);
     }
 
+    private void purgeLabels(LinkKey link) {
+        if (LinkCollectionCompiler.labelAllocator != null) {
+            LinkCollectionCompiler.labelAllocator.purge(link);
+        }
+        if (PathCompiler.labelAllocator != null) {
+            PathCompiler.labelAllocator.purge(link);
+        }
+    }
+
     private void changeFlowOptimization() {
         LinkCollectionCompiler.optimizeInstructions = optimizeInstructions;
     }
@@ -300,4 +320,13 @@ public class IntentConfigurableRegistrator {
         LinkCollectionCompiler.copyTtl = useCopyTtl;
     }
 
+    // Drops the labels leased on removed links
+    private class InternalLinkListener implements LinkListener {
+        @Override
+        public void event(LinkEvent event) {
+            if (event.type() == LinkEvent.Type.LINK_REMOVED) {
+                purgeLabels(LinkKey.linkKey(event.subject()));
+            }
+        }
+    }
 }
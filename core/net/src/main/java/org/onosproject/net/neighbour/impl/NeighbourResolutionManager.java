@@ -17,6 +17,7 @@
 package org.onosproject.net.neighbour.impl;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
@@ -126,7 +127,10 @@ public class NeighbourResolutionManager implements NeighbourResolutionService {
 
         actions = new DefaultNeighbourMessageActions(packetService, edgeService);
 
-        packetService.addProcessor(processor, PacketProcessor.director(1));
+        packetService.addProcessor(processor, PacketProcessor.director(1),
+                                   ImmutableList.of(buildArpSelector(),
+                                                    buildNeighborSolicitationSelector(),
+                                                    buildNeighborAdvertisementSelector()));
     }
 
     @Deactivate
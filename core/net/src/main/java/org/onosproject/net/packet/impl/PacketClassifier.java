@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.packet.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.IPv4;
+import org.onlab.packet.IPv6;
+import org.onlab.packet.IPacket;
+import org.onlab.packet.TCP;
+import org.onlab.packet.UDP;
+import org.onlab.packet.ipv6.IExtensionHeader;
+import org.onosproject.net.flow.TrafficSelector;
+import org.onosproject.net.flow.criteria.Criterion;
+import org.onosproject.net.flow.criteria.EthTypeCriterion;
+import org.onosproject.net.flow.criteria.IPProtocolCriterion;
+import org.onosproject.net.flow.criteria.TcpPortCriterion;
+import org.onosproject.net.flow.criteria.UdpPortCriterion;
+import org.onosproject.net.packet.PacketProcessorEntry;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable classification index over an ordered list of packet processors.
+ * <p>
+ * The selectors registered with each processor are compiled into lookup
+ * tables keyed on ethernet type, IP protocol and transport port, so that
+ * the set of processors which may be interested in a packet is computed
+ * with a handful of map lookups instead of offering the packet to every
+ * processor. Criteria other than these are ignored, which means the
+ * classification may over-approximate but never excludes a processor
+ * whose selectors could match the packet.
+ * </p>
+ *
+ * @param <E> type of processor entry
+ */
+final class PacketClassifier<E extends PacketProcessorEntry> {
+
+    private static final int NONE = -1;
+    private static final int SRC = 0;
+    private static final int DST = 1;
+
+    // IPv6 next header values of the extension headers
+    private static final Set<Integer> EXTENSION_HEADERS = ImmutableSet.of(
+            (int) IPv6.PROTOCOL_HOPOPT, (int) IPv6.PROTOCOL_ROUTING, (int) IPv6.PROTOCOL_FRAG,
+            (int) IPv6.PROTOCOL_AH, (int) IPv6.PROTOCOL_DSTOPT);
+
+    private final List<E> entries;
+    private final BitSet unfiltered = new BitSet();
+    private final Map<Integer, BitSet> byEthType = Maps.newHashMap();
+    private final Map<Long, BitSet> byIpProto = Maps.newHashMap();
+    private final Map<Long, BitSet> byPort = Maps.newHashMap();
+
+    private PacketClassifier(List<E> entries) {
+        this.entries = ImmutableList.copyOf(entries);
+        for (int i = 0; i < this.entries.size(); i++) {
+            List<TrafficSelector> selectors = this.entries.get(i).selectors();
+            if (selectors.isEmpty()) {
+                unfiltered.set(i);
+            }
+            for (TrafficSelector selector : selectors) {
+                index(i, selector);
+            }
+        }
+    }
+
+    /**
+     * Compiles a classification index for the specified processor entries.
+     *
+     * @param entries processor entries in processing order
+     * @param <E>     type of processor entry
+     * @return classification index
+     */
+    static <E extends PacketProcessorEntry> PacketClassifier<E> compile(List<E> entries) {
+        return new PacketClassifier<>(entries);
+    }
+
+    /**
+     * Returns the processor entries covered by this index, in processing order.
+     *
+     * @return processor entries
+     */
+    List<E> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the positions, within {@link #entries()}, of the processors
+     * which may be interested in the specified packet.
+     *
+     * @param eth parsed packet; null if the packet could not be parsed
+     * @return set of processor positions
+     */
+    BitSet classify(Ethernet eth) {
+        BitSet matching = new BitSet(entries.size());
+        if (eth == null) {
+            matching.set(0, entries.size());
+            return matching;
+        }
+        matching.or(unfiltered);
+
+        int ethType = eth.getEtherType() & 0xffff;
+        or(matching, byEthType.get(ethType));
+
+        int ipProto = NONE;
+        IPacket l4 = null;
+        IPacket payload = eth.getPayload();
+        if (payload instanceof IPv4) {
+            ipProto = ((IPv4) payload).getProtocol() & 0xff;
+            l4 = payload.getPayload();
+        } else if (payload instanceof IPv6) {
+            ipProto = ((IPv6) payload).getNextHeader() & 0xff;
+            l4 = payload.getPayload();
+            // Follow the extension header chain to the upper-layer protocol,
+            // also offering the packet to the processors of each header
+            while (l4 instanceof IExtensionHeader) {
+                or(matching, byIpProto.get(protoKey(ethType, ipProto)));
+                ipProto = ((IExtensionHeader) l4).getNextHeader() & 0xff;
+                l4 = l4.getPayload();
+            }
+            if (EXTENSION_HEADERS.contains(ipProto)) {
+                // The chain could not be followed; any processor may match
+                matching.set(0, entries.size());
+                return matching;
+            }
+        }
+        if (ipProto == NONE) {
+            return matching;
+        }
+        or(matching, byIpProto.get(protoKey(ethType, ipProto)));
+
+        if (l4 instanceof TCP) {
+            TCP tcp = (TCP) l4;
+            or(matching, byPort.get(portKey(ethType, ipProto, SRC, tcp.getSourcePort())));
+            or(matching, byPort.get(portKey(ethType, ipProto, DST, tcp.getDestinationPort())));
+        } else if (l4 instanceof UDP) {
+            UDP udp = (UDP) l4;
+            or(matching, byPort.get(portKey(ethType, ipProto, SRC, udp.getSourcePort())));
+            or(matching, byPort.get(portKey(ethType, ipProto, DST, udp.getDestinationPort())));
+        }
+        return matching;
+    }
+
+    private void index(int position, TrafficSelector selector) {
+        int ethType = NONE;
+        int ipProto = NONE;
+        int srcPort = NONE;
+        int dstPort = NONE;
+        for (Criterion criterion : selector.criteria()) {
+            switch (criterion.type()) {
+                case ETH_TYPE:
+                    ethType = ((EthTypeCriterion) criterion).ethType().toShort() & 0xffff;
+                    break;
+                case IP_PROTO:
+                    ipProto = ((IPProtocolCriterion) criterion).protocol();
+                    break;
+                case TCP_SRC:
+                    srcPort = ((TcpPortCriterion) criterion).tcpPort().toInt();
+                    break;
+                case TCP_DST:
+                    dstPort = ((TcpPortCriterion) criterion).tcpPort().toInt();
+                    break;
+                case UDP_SRC:
+                    srcPort = ((UdpPortCriterion) criterion).udpPort().toInt();
+                    break;
+                case UDP_DST:
+                    dstPort = ((UdpPortCriterion) criterion).udpPort().toInt();
+                    break;
+                default:
+                    // not used for classification
+                    break;
+            }
+        }
+
+        if (ethType == NONE) {
+            unfiltered.set(position);
+        } else if (ipProto == NONE) {
+            byEthType.computeIfAbsent(ethType, k -> new BitSet()).set(position);
+        } else if (dstPort != NONE) {
+            byPort.computeIfAbsent(portKey(ethType, ipProto, DST, dstPort), k -> new BitSet()).set(position);
+        } else if (srcPort != NONE) {
+            byPort.computeIfAbsent(portKey(ethType, ipProto, SRC, srcPort), k -> new BitSet()).set(position);
+        } else {
+            byIpProto.computeIfAbsent(protoKey(ethType, ipProto), k -> new BitSet()).set(position);
+        }
+    }
+
+    private static void or(BitSet matching, BitSet bits) {
+        if (bits != null) {
+            matching.or(bits);
+        }
+    }
+
+    private static long protoKey(int ethType, int ipProto) {
+        return ((long) ethType << 8) | ipProto;
+    }
+
+    private static long portKey(int ethType, int ipProto, int direction, int port) {
+        return (protoKey(ethType, ipProto) << 17) | ((long) direction << 16) | port;
+    }
+}
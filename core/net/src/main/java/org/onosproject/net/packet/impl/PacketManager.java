@@ -60,11 +60,14 @@ import org.onosproject.net.provider.AbstractProviderRegistry;
 import org.onosproject.net.provider.AbstractProviderService;
 import org.slf4j.Logger;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onlab.util.Tools.groupedThreads;
@@ -113,6 +116,9 @@ public class PacketManager
 
     private final List<ProcessorEntry> processors = Lists.newCopyOnWriteArrayList();
 
+    private volatile PacketClassifier<ProcessorEntry> classifier =
+            PacketClassifier.compile(ImmutableList.of());
+
     private final  PacketDriverProvider defaultProvider = new PacketDriverProvider();
 
     private ApplicationId appId;
@@ -146,9 +152,16 @@ public class PacketManager
 
     @Override
     public void addProcessor(PacketProcessor processor, int priority) {
+        addProcessor(processor, priority, ImmutableList.of());
+    }
+
+    @Override
+    public synchronized void addProcessor(PacketProcessor processor, int priority,
+                                          List<TrafficSelector> selectors) {
         checkPermission(PACKET_EVENT);
         checkNotNull(processor, ERROR_NULL_PROCESSOR);
-        ProcessorEntry entry = new ProcessorEntry(processor, priority);
+        checkNotNull(selectors, ERROR_NULL_SELECTOR);
+        ProcessorEntry entry = new ProcessorEntry(processor, priority, selectors);
 
         // Insert the new processor according to its priority.
         int i = 0;
@@ -158,10 +171,11 @@ public class PacketManager
             }
         }
         processors.add(i, entry);
+        classifier = PacketClassifier.compile(processors);
     }
 
     @Override
-    public void removeProcessor(PacketProcessor processor) {
+    public synchronized void removeProcessor(PacketProcessor processor) {
         checkPermission(PACKET_EVENT);
         checkNotNull(processor, ERROR_NULL_PROCESSOR);
 
@@ -172,6 +186,7 @@ public class PacketManager
                 break;
             }
         }
+        classifier = PacketClassifier.compile(processors);
     }
 
     @Override
@@ -353,6 +368,13 @@ public class PacketManager
         store.emit(packet);
     }
 
+    @Override
+    public void emit(Collection<OutboundPacket> packets) {
+        checkPermission(PACKET_WRITE);
+        checkNotNull(packets, "Packets cannot be null");
+        store.emit(packets);
+    }
+
     private void localEmit(OutboundPacket packet) {
         Device device = deviceService.getDevice(packet.sendThrough());
         if (device == null) {
@@ -364,6 +386,21 @@ public class PacketManager
         }
     }
 
+    private void localEmit(Collection<OutboundPacket> packets) {
+        packets.stream()
+                .collect(Collectors.groupingBy(OutboundPacket::sendThrough))
+                .forEach((deviceId, devicePackets) -> {
+                    Device device = deviceService.getDevice(deviceId);
+                    if (device == null) {
+                        return;
+                    }
+                    PacketProvider packetProvider = getProvider(device.providerId());
+                    if (packetProvider != null) {
+                        packetProvider.emit(devicePackets);
+                    }
+                });
+    }
+
     @Override
     protected PacketProviderService createProviderService(PacketProvider provider) {
         return new InternalPacketProviderService(provider);
@@ -382,8 +419,15 @@ public class PacketManager
 
         @Override
         public void processPacket(PacketContext context) {
-            // TODO filter packets sent to processors based on registrations
-            for (ProcessorEntry entry : processors) {
+            PacketClassifier<ProcessorEntry> index = classifier;
+            List<ProcessorEntry> entries = index.entries();
+            BitSet matching = index.classify(context.inPacket().parsed());
+            for (int i = 0; i < entries.size(); i++) {
+                ProcessorEntry entry = entries.get(i);
+                if (!matching.get(i)) {
+                    entry.addSkipped();
+                    continue;
+                }
                 try {
                     long start = System.nanoTime();
                     entry.processor().process(context);
@@ -406,6 +450,11 @@ public class PacketManager
             localEmit(event.subject());
         }
 
+        @Override
+        public void emit(Collection<OutboundPacket> packets) {
+            localEmit(packets);
+        }
+
         @Override
         public void requestPackets(PacketRequest request) {
             DeviceId deviceid = request.deviceId().orElse(null);
@@ -469,12 +518,16 @@ public class PacketManager
     private class ProcessorEntry implements PacketProcessorEntry {
         private final PacketProcessor processor;
         private final int priority;
+        private final List<TrafficSelector> selectors;
         private long invocations = 0;
         private long nanos = 0;
+        private long skipped = 0;
 
-        public ProcessorEntry(PacketProcessor processor, int priority) {
+        public ProcessorEntry(PacketProcessor processor, int priority,
+                              List<TrafficSelector> selectors) {
             this.processor = processor;
             this.priority = priority;
+            this.selectors = ImmutableList.copyOf(selectors);
         }
 
         @Override
@@ -502,9 +555,23 @@ public class PacketManager
             return invocations > 0 ? nanos / invocations : 0;
         }
 
+        @Override
+        public List<TrafficSelector> selectors() {
+            return selectors;
+        }
+
+        @Override
+        public long skipped() {
+            return skipped;
+        }
+
         void addNanos(long nanos) {
             this.nanos += nanos;
             this.invocations++;
         }
+
+        void addSkipped() {
+            this.skipped++;
+        }
     }
 }
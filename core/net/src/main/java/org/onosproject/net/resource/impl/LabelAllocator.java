@@ -44,12 +44,19 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Helper class which interacts with the ResourceService and provides
  * a unified API to allocate MPLS labels and VLAN Ids.
+ * <p>
+ * Labels are selected among ranges leased from the available labels into
+ * local {@link LabelPool label pools}, so that the available labels are not
+ * enumerated for every allocation. The available labels are looked up again
+ * only when the leased ranges cannot satisfy a request.
+ * </p>
  */
 public final class LabelAllocator {
 
@@ -94,6 +101,7 @@ public final class LabelAllocator {
     private ResourceService resourceService;
     private LabelSelection labelSelection;
     private OptimizationBehavior optLabelSelection;
+    private final Map<EncapsulationType, LabelPool> labelPools = Maps.newConcurrentMap();
 
     /**
      * Creates a new label allocator. Random is the default selection behavior.
@@ -107,6 +115,16 @@ public final class LabelAllocator {
         this.optLabelSelection = OptimizationBehavior.NONE;
     }
 
+    /**
+     * Discards the labels leased on the specified link, typically once the
+     * link has been removed.
+     *
+     * @param link the link
+     */
+    public void purge(LinkKey link) {
+        labelPools.values().forEach(pool -> pool.invalidate(link));
+    }
+
     /**
      * Checks if a given string is a valid Selection Behavior.
      *
@@ -145,6 +163,8 @@ public final class LabelAllocator {
     public void setLabelSelection(String type) {
         if (isInSelEnum(type)) {
             this.labelSelection = this.getLabelSelection(type);
+            // Ranges are leased according to the selection behavior
+            this.labelPools.clear();
         }
     }
 
@@ -209,6 +229,20 @@ public final class LabelAllocator {
         return selection;
     }
 
+    // Returns the label pool for the given encapsulation type. First fit leases the
+    // lowest labels, otherwise ranges are leased from a random label
+    private LabelPool getLabelPool(EncapsulationType type) {
+        return labelPools.computeIfAbsent(type, t -> new LabelPool(
+                LabelPool.DEFAULT_RANGE_SIZE,
+                labelSelection instanceof FirstFitSelection ? 0 :
+                        RandomUtils.nextInt(t == EncapsulationType.MPLS ? MplsLabel.MAX_MPLS : VlanId.MAX_VLAN)));
+    }
+
+    // Given a link and a encapsulation type, returns the candidates leased in the label pool
+    private Set<Identifier<?>> getPooledCandidates(LinkKey link, EncapsulationType type) {
+        return getLabelPool(type).candidates(link, () -> getCandidates(link, type));
+    }
+
     // Given a link and a encapsulation type, returns a set of candidates
     private Set<Identifier<?>> getCandidates(LinkKey link, EncapsulationType type) {
         // Available ids on src port
@@ -220,7 +254,8 @@ public final class LabelAllocator {
     }
 
     // Implements NONE behavior
-    private Map<LinkKey, Identifier<?>> noOptimizeBehavior(Set<LinkKey> links, EncapsulationType type) {
+    private Map<LinkKey, Identifier<?>> noOptimizeBehavior(Set<LinkKey> links,
+                                                           Function<LinkKey, Set<Identifier<?>>> candidatesOf) {
         // Init step
         Map<LinkKey, Identifier<?>> ids = Maps.newHashMap();
         Set<Identifier<?>> candidates;
@@ -228,7 +263,7 @@ public final class LabelAllocator {
         // Iterates for each link selecting a label in the candidate set
         for (LinkKey link : links) {
             // Get candidates set for the current link
-            candidates = getCandidates(link, type);
+            candidates = candidatesOf.apply(link);
             // Select a label for the current link
             selected = labelSelection.select(candidates);
             // If candidates is empty, selected is null
@@ -243,7 +278,8 @@ public final class LabelAllocator {
     }
 
     // Implements NO_SWAP behavior
-    private Map<LinkKey, Identifier<?>> noSwapBehavior(Set<LinkKey> links, EncapsulationType type) {
+    private Map<LinkKey, Identifier<?>> noSwapBehavior(Set<LinkKey> links,
+                                                       Function<LinkKey, Set<Identifier<?>>> candidatesOf) {
         // Init steps
         Map<LinkKey, Identifier<?>> ids = Maps.newHashMap();
         Identifier<?> selected;
@@ -252,7 +288,7 @@ public final class LabelAllocator {
         // Iterates for each link building the candidate set
         for (LinkKey link : links) {
             // Get candidates set for the current link
-            linkCandidates = getCandidates(link, type);
+            linkCandidates = candidatesOf.apply(link);
             // Warm up
             if (candidates == null) {
                 candidates = linkCandidates;
@@ -274,7 +310,8 @@ public final class LabelAllocator {
     }
 
     // Implements MIN_SWAP behavior
-    private Map<LinkKey, Identifier<?>> minSwapBehavior(Set<LinkKey> links, EncapsulationType type) {
+    private Map<LinkKey, Identifier<?>> minSwapBehavior(Set<LinkKey> links,
+                                                        Function<LinkKey, Set<Identifier<?>>> candidatesOf) {
         // Init step
         Map<LinkKey, Identifier<?>> ids = Maps.newHashMap();
         Set<Identifier<?>> candidates;
@@ -282,7 +319,7 @@ public final class LabelAllocator {
         // Iterates for each link selecting a label in the candidate set
         for (LinkKey link : links) {
             // Get candidates set for the current link
-            candidates = getCandidates(link, type);
+            candidates = candidatesOf.apply(link);
             // If we are in the first link or selected is not available
             if (selected == null || !candidates.contains(selected)) {
                 // Select a label for the current link
@@ -303,26 +340,27 @@ public final class LabelAllocator {
      * Looks for available Ids.
      *
      * @param links the links where to look for Ids
-     * @param  type the encapsulation type
+     * @param candidatesOf the function returning the candidate Ids of a link
      * @return the mappings between key and id
      */
-    private Map<LinkKey, Identifier<?>> findAvailableIDs(Set<LinkKey> links, EncapsulationType type) {
+    private Map<LinkKey, Identifier<?>> findAvailableIDs(Set<LinkKey> links,
+                                                         Function<LinkKey, Set<Identifier<?>>> candidatesOf) {
         // Init step
         Map<LinkKey, Identifier<?>> ids;
         // Performs label selection according to the defined optimization behavior
         switch (optLabelSelection) {
             // No swapping of the labels
             case NO_SWAP:
-                ids = noSwapBehavior(links, type);
+                ids = noSwapBehavior(links, candidatesOf);
                 break;
             // Swapping is minimized
             case MIN_SWAP:
-                ids = minSwapBehavior(links, type);
+                ids = minSwapBehavior(links, candidatesOf);
                 break;
             // No optimizations are in place
             case NONE:
             default:
-                ids = noOptimizeBehavior(links, type);
+                ids = noOptimizeBehavior(links, candidatesOf);
         }
         // Done exit
         return ids;
@@ -377,12 +415,31 @@ public final class LabelAllocator {
                 .map(LinkKey::linkKey)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        Map<LinkKey, Identifier<?>> availableIds = findAvailableIDs(linkRequest, type);
-        if (availableIds.isEmpty()) {
-            return Collections.emptyMap();
+        LabelPool labelPool = getLabelPool(type);
+        Map<LinkKey, Identifier<?>> availableIds = findAvailableIDs(linkRequest,
+                                                                    link -> getPooledCandidates(link, type));
+        if (availableIds.isEmpty() || !allocate(availableIds, resourceConsumer)) {
+            // The leased ranges are exhausted or stale, look up the available labels
+            linkRequest.forEach(labelPool::invalidate);
+            availableIds = findAvailableIDs(linkRequest, link -> getCandidates(link, type));
+            if (availableIds.isEmpty() || !allocate(availableIds, resourceConsumer)) {
+                return Collections.emptyMap();
+            }
         }
 
-        Set<Resource> resources = availableIds.entrySet().stream()
+        availableIds.forEach(labelPool::consume);
+        return ImmutableMap.copyOf(availableIds);
+    }
+
+    /**
+     * Allocates the selected labels on both ends of their links.
+     *
+     * @param ids the labels selected for the links
+     * @param resourceConsumer the resource consumer
+     * @return true if the labels have been allocated, false otherwise
+     */
+    private boolean allocate(Map<LinkKey, Identifier<?>> ids, ResourceConsumer resourceConsumer) {
+        Set<Resource> resources = ids.entrySet().stream()
                 .flatMap(x -> Stream.of(
                         Resources.discrete(
                                 x.getKey().src().deviceId(),
@@ -399,12 +456,7 @@ public final class LabelAllocator {
 
         List<ResourceAllocation> allocations = resourceService.allocate(resourceConsumer,
                                                                         ImmutableList.copyOf(resources));
-
-        if (allocations.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        return ImmutableMap.copyOf(availableIds);
+        return !allocations.isEmpty();
     }
 
     /**
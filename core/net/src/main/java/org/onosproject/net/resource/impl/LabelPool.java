@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.resource.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.onlab.util.Identifier;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.LinkKey;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Local pool of candidate labels of a single encapsulation type.
+ * <p>
+ * For each link, the pool leases a contiguous range of the labels available
+ * on both ends of the link, starting from a base label which is specific to
+ * this pool. Labels are then picked from the leased range without querying
+ * the resource service again; the range is renewed only once it has been
+ * exhausted. Since every pool starts leasing from its own base label,
+ * allocators on different instances tend to pick disjoint labels, whereas
+ * the ranges leased on the links of a path by the same pool overlap.
+ * </p>
+ * <p>
+ * Leases are not reservations: labels are still allocated through the
+ * resource service, which remains the authority on their availability.
+ * </p>
+ */
+final class LabelPool {
+
+    /**
+     * Default number of labels leased per link.
+     */
+    static final int DEFAULT_RANGE_SIZE = 64;
+
+    private static final Comparator<Identifier<?>> BY_VALUE = Comparator.comparingLong(LabelPool::value);
+
+    private final int rangeSize;
+    private final long base;
+    private final Map<LinkKey, Set<Identifier<?>>> leases = Maps.newHashMap();
+    private final Map<ConnectPoint, Set<LinkKey>> linksByPort = Maps.newHashMap();
+
+    /**
+     * Creates a new label pool.
+     *
+     * @param rangeSize number of labels leased per link
+     * @param base      value of the label from which ranges are leased
+     */
+    LabelPool(int rangeSize, long base) {
+        this.rangeSize = rangeSize;
+        this.base = base;
+    }
+
+    /**
+     * Returns the labels leased for the specified link, leasing a new range
+     * of the available labels if the current one has been exhausted.
+     *
+     * @param link      link
+     * @param available supplier of the labels available on the link
+     * @return the leased labels
+     */
+    synchronized Set<Identifier<?>> candidates(LinkKey link, Supplier<Set<Identifier<?>>> available) {
+        Set<Identifier<?>> lease = leases.get(link);
+        if (lease == null || lease.isEmpty()) {
+            lease = lease(available.get());
+            leases.put(link, lease);
+            linksByPort.computeIfAbsent(link.src(), k -> Sets.newHashSet()).add(link);
+            linksByPort.computeIfAbsent(link.dst(), k -> Sets.newHashSet()).add(link);
+        }
+        return ImmutableSet.copyOf(lease);
+    }
+
+    /**
+     * Removes a label allocated on the specified link from the ranges leased
+     * on that link and on every other link sharing one of its ports.
+     *
+     * @param link  link
+     * @param label allocated label
+     */
+    synchronized void consume(LinkKey link, Identifier<?> label) {
+        consume(link.src(), label);
+        consume(link.dst(), label);
+    }
+
+    private void consume(ConnectPoint port, Identifier<?> label) {
+        linksByPort.getOrDefault(port, ImmutableSet.of())
+                .forEach(link -> leases.get(link).remove(label));
+    }
+
+    /**
+     * Discards the range leased on the specified link.
+     *
+     * @param link link
+     */
+    synchronized void invalidate(LinkKey link) {
+        if (leases.remove(link) != null) {
+            removeLink(link.src(), link);
+            removeLink(link.dst(), link);
+        }
+    }
+
+    private void removeLink(ConnectPoint port, LinkKey link) {
+        Set<LinkKey> links = linksByPort.get(port);
+        if (links != null && links.remove(link) && links.isEmpty()) {
+            linksByPort.remove(port);
+        }
+    }
+
+    // Leases the range of labels following the base label, wrapping around
+    private Set<Identifier<?>> lease(Set<Identifier<?>> available) {
+        List<Identifier<?>> sorted = available.stream()
+                .sorted(BY_VALUE)
+                .collect(Collectors.toList());
+        int start = 0;
+        while (start < sorted.size() && value(sorted.get(start)) < base) {
+            start++;
+        }
+
+        int size = Math.min(rangeSize, sorted.size());
+        Set<Identifier<?>> lease = new LinkedHashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            lease.add(sorted.get((start + i) % sorted.size()));
+        }
+        return lease;
+    }
+
+    private static long value(Identifier<?> label) {
+        Object id = label.id();
+        return id instanceof Number ? ((Number) id).longValue() : id.hashCode();
+    }
+}
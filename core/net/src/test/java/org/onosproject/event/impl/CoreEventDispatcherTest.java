@@ -18,11 +18,15 @@ package org.onosproject.event.impl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.event.AbstractEvent;
 import org.onosproject.event.EventSink;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -40,6 +44,7 @@ public class CoreEventDispatcherTest {
 
     @Before
     public void setUp() {
+        dispatcher.metricsService = new MetricsManager();
         dispatcher.activate();
         dispatcher.addSink(Prickle.class, prickleSink);
         dispatcher.addSink(Goo.class, gooSink);
@@ -88,6 +93,56 @@ public class CoreEventDispatcherTest {
         assertTrue(takesTooLong.interrupted);
     }
 
+    @Test
+    public void postShardedPreservesSubjectOrder() throws Exception {
+        dispatcher.setDispatchWorkers(4);
+        assertEquals("incorrect worker count", 4, dispatcher.getDispatchWorkers());
+
+        NumberedSink numberedSink = new NumberedSink();
+        dispatcher.addSink(Numbered.class, numberedSink);
+        numberedSink.latch = new CountDownLatch(SUBJECTS * EVENTS_PER_SUBJECT);
+        for (int i = 0; i < EVENTS_PER_SUBJECT; i++) {
+            for (int k = 0; k < SUBJECTS; k++) {
+                dispatcher.post(new Numbered("subject-" + k, i));
+            }
+        }
+        assertTrue(numberedSink.latch.await(1000, TimeUnit.MILLISECONDS));
+        dispatcher.removeSink(Numbered.class);
+
+        assertEquals("incorrect subject count", SUBJECTS, numberedSink.sequences.size());
+        numberedSink.sequences.forEach((subject, sequence) -> {
+            assertEquals("incorrect event count for " + subject, EVENTS_PER_SUBJECT, sequence.size());
+            for (int i = 0; i < EVENTS_PER_SUBJECT; i++) {
+                assertEquals("out of order event for " + subject, i, (int) sequence.get(i));
+            }
+        });
+    }
+
+    @Test
+    public void postWhileResharding() throws Exception {
+        dispatcher.setDispatchWorkers(2);
+        NumberedSink numberedSink = new NumberedSink();
+        dispatcher.addSink(Numbered.class, numberedSink);
+        numberedSink.latch = new CountDownLatch(SUBJECTS * EVENTS_PER_SUBJECT);
+
+        Thread poster = new Thread(() -> {
+            for (int i = 0; i < EVENTS_PER_SUBJECT; i++) {
+                for (int k = 0; k < SUBJECTS; k++) {
+                    dispatcher.post(new Numbered("subject-" + k, i));
+                }
+            }
+        });
+        poster.start();
+        for (int count : new int[]{3, 0, 4, 1}) {
+            dispatcher.setDispatchWorkers(count);
+        }
+        poster.join();
+
+        // No event may be lost while the dispatch loops are replaced
+        assertTrue("events lost", numberedSink.latch.await(1000, TimeUnit.MILLISECONDS));
+        dispatcher.removeSink(Numbered.class);
+    }
+
     private void validate(Sink sink, String... strings) {
         int i = 0;
         assertEquals("incorrect event count", strings.length, sink.subjects.size());
@@ -141,6 +196,30 @@ public class CoreEventDispatcherTest {
         }
     }
 
+    private static final int SUBJECTS = 16;
+    private static final int EVENTS_PER_SUBJECT = 50;
+
+    private static class Numbered extends AbstractEvent<Type, String> {
+        private final int sequence;
+
+        protected Numbered(String subject, int sequence) {
+            super(Type.FOO, subject);
+            this.sequence = sequence;
+        }
+    }
+
+    private static class NumberedSink implements EventSink<Numbered> {
+        final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        CountDownLatch latch;
+
+        @Override
+        public void process(Numbered event) {
+            sequences.computeIfAbsent(event.subject(), s -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.sequence);
+            latch.countDown();
+        }
+    }
+
     private static class TooLongEvent extends AbstractEvent<Type, String> {
         protected TooLongEvent(String subject) {
             super(Type.FOO, subject);
@@ -71,6 +71,7 @@ import org.onosproject.net.provider.ProviderId;
 import org.onosproject.store.trivial.SimpleFlowRuleStore;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -110,6 +111,7 @@ public class FlowRuleManagerTest {
             new DefaultDevice(FOO_PID, FOO_DID, Type.SWITCH, "", "", "", "", null, ANNOTATIONS);
 
     private FlowRuleManager mgr;
+    private TestFlowRuleStore store;
 
     protected FlowRuleService service;
     protected FlowRuleProviderRegistry registry;
@@ -123,7 +125,8 @@ public class FlowRuleManagerTest {
     @Before
     public void setUp() {
         mgr = new FlowRuleManager();
-        mgr.store = new SimpleFlowRuleStore();
+        store = new TestFlowRuleStore();
+        mgr.store = store;
         injectEventDispatcher(mgr, new TestEventDispatcher());
         mgr.deviceService = new TestDeviceService();
         mgr.mastershipService = new TestMastershipService();
@@ -410,6 +413,62 @@ public class FlowRuleManagerTest {
 
     }
 
+    /*
+     * Tests that a rule missing from the device is reinstalled even when
+     * another rule is reported more than once.
+     */
+    @Test
+    public void flowMissingReinstalled() {
+        FlowRule f1 = flowRule(1, 1);
+        FlowRule f2 = flowRule(2, 2);
+        FlowRule f3 = flowRule(3, 3);
+        mgr.applyFlowRules(f1, f2, f3);
+
+        FlowEntry fe1 = new DefaultFlowEntry(f1);
+        FlowEntry fe2 = new DefaultFlowEntry(f2);
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(fe1, fe2, fe1));
+
+        assertEquals("missing rule should be reinstalled",
+                     Collections.singletonList(f3), provider.applied);
+    }
+
+    /*
+     * Tests that a rule reported by an earlier poll is reinstalled once a
+     * later poll no longer reports it.
+     */
+    @Test
+    public void flowMissingAfterEarlierReport() {
+        FlowRule f1 = flowRule(1, 1);
+        FlowRule f2 = flowRule(2, 2);
+        mgr.applyFlowRules(f1, f2);
+
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(new DefaultFlowEntry(f1),
+                                                                new DefaultFlowEntry(f2)));
+        assertTrue("no rule should be reinstalled", provider.applied.isEmpty());
+
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(new DefaultFlowEntry(f1)));
+        assertEquals("missing rule should be reinstalled",
+                     Collections.singletonList(f2), provider.applied);
+    }
+
+    /*
+     * Tests that reports with unchanged counters still refresh the rule
+     * through the store.
+     */
+    @Test
+    public void unchangedFlowUpdated() {
+        FlowRule f1 = flowRule(1, 1);
+        mgr.applyFlowRules(f1);
+
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(new DefaultFlowEntry(f1)));
+        int updates = store.updates;
+
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(new DefaultFlowEntry(f1)));
+        assertEquals("unchanged rule should be refreshed through the store", updates + 1, store.updates);
+
+        validateEvents(RULE_ADD_REQUESTED, RULE_ADDED, RULE_UPDATED);
+    }
+
     @Test
     public void getByAppId() {
         FlowRule f1 = flowRule(1, 1);
@@ -512,14 +571,27 @@ public class FlowRuleManagerTest {
         }
     }
 
+    private static class TestFlowRuleStore extends SimpleFlowRuleStore {
+        private int updates;
+
+        @Override
+        public FlowRuleEvent addOrUpdateFlowRule(FlowEntry rule) {
+            updates++;
+            return super.addOrUpdateFlowRule(rule);
+        }
+    }
+
     private class TestProvider extends AbstractProvider implements FlowRuleProvider {
 
         protected TestProvider(ProviderId id) {
             super(PID);
         }
 
+        private final List<FlowRule> applied = Lists.newArrayList();
+
         @Override
         public void applyFlowRule(FlowRule... flowRules) {
+            applied.addAll(Arrays.asList(flowRules));
         }
 
         @Override
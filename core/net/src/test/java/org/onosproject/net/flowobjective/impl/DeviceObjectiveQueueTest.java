@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flowobjective.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.TpPort;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.NetTestTools;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.TrafficSelector;
+import org.onosproject.net.flowobjective.DefaultForwardingObjective;
+import org.onosproject.net.flowobjective.DefaultNextObjective;
+import org.onosproject.net.flowobjective.ForwardingObjective;
+import org.onosproject.net.flowobjective.NextObjective;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.onosproject.net.NetTestTools.did;
+
+/**
+ * Unit tests for the per-device flow objective queue.
+ */
+public class DeviceObjectiveQueueTest {
+
+    private final DeviceId deviceId = did("d1");
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private final Deque<Runnable> retries = new ArrayDeque<>();
+    private final List<Objective> installed = new ArrayList<>();
+    private final List<Objective> succeeded = new ArrayList<>();
+
+    private DeviceObjectiveQueue queue;
+
+    private ForwardingObjective.Builder forward(int port) {
+        TrafficSelector selector = DefaultTrafficSelector.builder()
+                .matchTcpDst(TpPort.tpPort(port))
+                .build();
+        return DefaultForwardingObjective.builder()
+                .fromApp(NetTestTools.APP_ID)
+                .withFlag(ForwardingObjective.Flag.SPECIFIC)
+                .withSelector(selector)
+                .withTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .withPriority(10)
+                .makePermanent();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        queue = new DeviceObjectiveQueue(deviceId, tasks::add, retries::add,
+                                         (objective, attempt) -> installed.add(objective), 2);
+    }
+
+    /**
+     * Tests that objectives are installed in order and in bounded batches.
+     */
+    @Test
+    public void testOrderedBatches() {
+        ForwardingObjective fwd1 = forward(1).add();
+        ForwardingObjective fwd2 = forward(2).add();
+        ForwardingObjective fwd3 = forward(3).add();
+        queue.offer(fwd1);
+        queue.offer(fwd2);
+        queue.offer(fwd3);
+        assertThat(tasks, hasSize(1));
+        assertThat(queue.size(), is(3));
+
+        tasks.poll().run();
+        assertThat(installed, contains(fwd1, fwd2));
+        assertThat(tasks, hasSize(1));
+
+        runTasks();
+        assertThat(installed, contains(fwd1, fwd2, fwd3));
+        assertThat(queue.size(), is(0));
+
+        // an idle queue starts a new worker
+        queue.offer(fwd1);
+        assertThat(tasks, hasSize(1));
+    }
+
+    /**
+     * Tests that a queued objective is superseded by a later one for the same flow.
+     */
+    @Test
+    public void testCoalescing() {
+        ObjectiveContext context = new ObjectiveContext() {
+            @Override
+            public void onSuccess(Objective objective) {
+                succeeded.add(objective);
+            }
+        };
+        ForwardingObjective add = forward(1).add(context);
+        ForwardingObjective other = forward(2).add();
+        ForwardingObjective remove = forward(1).remove();
+        queue.offer(add);
+        queue.offer(other);
+        queue.offer(remove);
+        assertThat(queue.size(), is(2));
+        assertThat(succeeded, contains(add));
+
+        runTasks();
+        assertThat(installed, contains(other, remove));
+    }
+
+    /**
+     * Tests that next objectives are never coalesced.
+     */
+    @Test
+    public void testNextNotCoalesced() {
+        NextObjective add = DefaultNextObjective.builder()
+                .withId(1)
+                .withType(NextObjective.Type.SIMPLE)
+                .fromApp(NetTestTools.APP_ID)
+                .addTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .add();
+        NextObjective remove = DefaultNextObjective.builder()
+                .withId(1)
+                .withType(NextObjective.Type.SIMPLE)
+                .fromApp(NetTestTools.APP_ID)
+                .addTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .remove();
+        queue.offer(add);
+        queue.offer(remove);
+
+        runTasks();
+        assertThat(installed, contains(add, remove));
+    }
+
+    /**
+     * Tests that an objective the device is not ready for is retried ahead of
+     * the later objectives, without holding up a worker in the meantime.
+     */
+    @Test
+    public void testRetryKeepsOrder() {
+        List<Integer> attempts = new ArrayList<>();
+        AtomicBoolean ready = new AtomicBoolean();
+        queue = new DeviceObjectiveQueue(deviceId, tasks::add, retries::add, (objective, attempt) -> {
+            attempts.add(attempt);
+            return ready.get() && installed.add(objective);
+        }, 2);
+        ForwardingObjective fwd1 = forward(1).add();
+        ForwardingObjective fwd2 = forward(2).add();
+        queue.offer(fwd1);
+        runTasks();
+        assertThat(installed, is(empty()));
+        assertThat(retries, hasSize(1));
+
+        // a parked queue neither starts a worker nor lets objectives overtake
+        queue.offer(fwd2);
+        assertThat(tasks, is(empty()));
+        assertThat(queue.size(), is(2));
+
+        retries.poll().run();
+        runTasks();
+        assertThat(installed, is(empty()));
+        assertThat(retries, hasSize(1));
+
+        ready.set(true);
+        retries.poll().run();
+        runTasks();
+        assertThat(installed, contains(fwd1, fwd2));
+        assertThat(attempts, contains(1, 2, 3, 1));
+        assertThat(retries, is(empty()));
+        assertThat(queue.size(), is(0));
+    }
+
+    /**
+     * Tests that objectives of a parked queue are returned when it is cleared.
+     */
+    @Test
+    public void testClearParked() {
+        queue = new DeviceObjectiveQueue(deviceId, tasks::add, retries::add,
+                                         (objective, attempt) -> false, 2);
+        ForwardingObjective fwd1 = forward(1).add();
+        ForwardingObjective fwd2 = forward(2).add();
+        queue.offer(fwd1);
+        runTasks();
+        queue.offer(fwd2);
+        assertThat(queue.clear(), contains(fwd1, fwd2));
+
+        retries.poll().run();
+        runTasks();
+        queue.offer(fwd1);
+        assertThat(tasks, hasSize(1));
+    }
+
+    /**
+     * Tests discarding the queued objectives.
+     */
+    @Test
+    public void testClear() {
+        ForwardingObjective fwd1 = forward(1).add();
+        queue.offer(fwd1);
+        assertThat(queue.clear(), contains(fwd1));
+
+        runTasks();
+        assertThat(installed, is(empty()));
+    }
+}
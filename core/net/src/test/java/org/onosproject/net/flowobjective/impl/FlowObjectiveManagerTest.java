@@ -15,11 +15,14 @@
  */
 package org.onosproject.net.flowobjective.impl;
 
+import com.google.common.collect.Sets;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.onlab.junit.TestUtils;
 import org.onlab.packet.ChassisId;
+import org.onlab.packet.TpPort;
+import org.onlab.util.ItemNotFoundException;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.net.DefaultAnnotations;
 import org.onosproject.net.DefaultDevice;
@@ -53,15 +56,24 @@ import org.onosproject.net.flowobjective.FilteringObjective;
 import org.onosproject.net.flowobjective.FlowObjectiveStoreDelegate;
 import org.onosproject.net.flowobjective.ForwardingObjective;
 import org.onosproject.net.flowobjective.NextObjective;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveContext;
+import org.onosproject.net.flowobjective.ObjectiveError;
 import org.onosproject.net.flowobjective.ObjectiveEvent;
 import org.onosproject.net.intent.TestTools;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.onlab.junit.TestUtils.TestUtilsException;
 
@@ -87,6 +99,8 @@ public class FlowObjectiveManagerTest {
     List<String> filteringObjectives;
     List<String> forwardingObjectives;
     List<String> nextObjectives;
+    List<ForwardingObjective> forwarded = Collections.synchronizedList(new ArrayList<>());
+    Set<DeviceId> missingDrivers = Sets.newConcurrentHashSet();
 
     private class TestDeviceService extends DeviceServiceAdapter {
 
@@ -160,6 +174,7 @@ public class FlowObjectiveManagerTest {
         @Override
         public void forward(ForwardingObjective forwardObjective) {
             forwardingObjectives.add(deviceId.toString());
+            forwarded.add(forwardObjective);
         }
 
         @Override
@@ -171,6 +186,9 @@ public class FlowObjectiveManagerTest {
     private class TestDriverService extends DriverServiceAdapter {
         @Override
         public DriverHandler createHandler(DeviceId deviceId, String... credentials) {
+            if (missingDrivers.contains(deviceId)) {
+                throw new ItemNotFoundException("Driver not found");
+            }
             Driver driver = new TestDriver();
             return new DefaultDriverHandler(new DefaultDriverData(driver, id1));
         }
@@ -369,4 +387,71 @@ public class FlowObjectiveManagerTest {
         assertThat(filteringObjectives, hasSize(0));
         assertThat(nextObjectives, hasSize(0));
     }
+
+    private ForwardingObjective forward(int port, ObjectiveContext context) {
+        return DefaultForwardingObjective.builder()
+                .fromApp(NetTestTools.APP_ID)
+                .withFlag(ForwardingObjective.Flag.SPECIFIC)
+                .withSelector(DefaultTrafficSelector.builder().matchTcpDst(TpPort.tpPort(port)).build())
+                .withTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .makePermanent()
+                .add(context);
+    }
+
+    /**
+     * Tests that objectives waiting for the pipeliner of their device are
+     * installed in order once it is ready, without holding up the objectives
+     * of other devices.
+     *
+     * @throws TestUtilsException if lookup of a field fails
+     */
+    @Test
+    public void missingPipeliner() throws TestUtilsException {
+        manager.deactivate();
+        TestUtils.setField(manager, "numThreads", 1);
+        manager.activate();
+        missingDrivers.add(id1);
+
+        ForwardingObjective first = forward(1, null);
+        ForwardingObjective second = forward(2, null);
+        ForwardingObjective other = forward(3, null);
+        manager.forward(id1, first);
+        manager.forward(id1, second);
+        manager.forward(id2, other);
+
+        // the single worker is not held up by the device waiting for its pipeliner
+        TestTools.assertAfter(RETRY_MS, () -> assertThat(forwarded, contains(other)));
+
+        missingDrivers.remove(id1);
+        TestTools.assertAfter((int) FlowObjectiveManager.INSTALL_RETRY_INTERVAL * 3, () ->
+                assertThat(forwarded, contains(other, first, second)));
+    }
+
+    /**
+     * Tests that the objectives discarded when their device is removed are
+     * reported as failed.
+     *
+     * @throws TestUtilsException if lookup of a field fails
+     */
+    @Test
+    public void deviceRemovedEvent() throws TestUtilsException {
+        missingDrivers.add(id1);
+        List<ObjectiveError> errors = Collections.synchronizedList(new ArrayList<>());
+        ObjectiveContext context = new ObjectiveContext() {
+            @Override
+            public void onError(Objective objective, ObjectiveError error) {
+                errors.add(error);
+            }
+        };
+        manager.forward(id1, forward(1, context));
+        manager.forward(id1, forward(2, context));
+
+        Map<DeviceId, DeviceObjectiveQueue> queues = TestUtils.getField(manager, "objectiveQueues");
+        TestTools.assertAfter(RETRY_MS, () -> assertThat(queues.get(id1).size(), is(2)));
+
+        DeviceListener listener = TestUtils.getField(manager, "deviceListener");
+        listener.event(new DeviceEvent(DeviceEvent.Type.DEVICE_REMOVED, d1));
+        assertThat(errors, contains(ObjectiveError.DEVICEMISSING, ObjectiveError.DEVICEMISSING));
+        assertThat(forwarded, is(empty()));
+    }
 }
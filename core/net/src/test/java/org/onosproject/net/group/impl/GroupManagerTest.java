@@ -302,6 +302,56 @@ public class GroupManagerTest {
         testRemoveGroup(FOO_DID);
     }
 
+    /**
+     * Tests that batched group requests reach the provider as one batch
+     * of group operations per device.
+     */
+    @Test
+    public void testBatchedGroupOperations() {
+        // First group metrics complete the device audit
+        providerService.pushGroupMetrics(DID, Collections.emptyList());
+        internalProvider.batches = 0;
+
+        List<GroupDescription> groupDescs = new ArrayList<>();
+        List<GroupKey> keys = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TrafficTreatment treatment = DefaultTrafficTreatment.builder()
+                    .setOutput(PortNumber.portNumber(i))
+                    .build();
+            GroupBuckets groupBuckets = new GroupBuckets(Collections.singletonList(
+                    DefaultGroupBucket.createSelectGroupBucket(treatment)));
+            GroupKey key = new DefaultGroupKey(("groupBatch" + i).getBytes());
+            keys.add(key);
+            groupDescs.add(new DefaultGroupDescription(DID,
+                                                       Group.Type.SELECT,
+                                                       groupBuckets,
+                                                       key,
+                                                       null,
+                                                       appId));
+        }
+
+        groupService.addGroups(groupDescs);
+        assertEquals("adds should be sent as one batch", 1, internalProvider.batches);
+        List<GroupOperation> expectedGroupOps = new ArrayList<>();
+        for (GroupKey key : keys) {
+            Group group = groupService.getGroup(DID, key);
+            expectedGroupOps.add(GroupOperation.createAddGroupOperation(group.id(),
+                                                                        Group.Type.SELECT,
+                                                                        group.buckets()));
+        }
+        internalProvider.validate(DID, expectedGroupOps);
+
+        groupService.removeGroups(DID, keys, appId);
+        assertEquals("removes should be sent as one batch", 2, internalProvider.batches);
+        expectedGroupOps = new ArrayList<>();
+        for (GroupKey key : keys) {
+            Group group = groupService.getGroup(DID, key);
+            expectedGroupOps.add(GroupOperation.createDeleteGroupOperation(group.id(),
+                                                                           Group.Type.SELECT));
+        }
+        internalProvider.validate(DID, expectedGroupOps);
+    }
+
     private void programmableTestCleanUp() {
         groupOperations.clear();
         lastDeviceIdProgrammable = null;
@@ -698,6 +748,7 @@ public class GroupManagerTest {
             extends AbstractProvider implements GroupProvider {
         DeviceId lastDeviceId;
         List<GroupOperation> groupOperations = new ArrayList<>();
+        int batches;
 
         protected TestGroupProvider(ProviderId id) {
             super(id);
@@ -708,6 +759,7 @@ public class GroupManagerTest {
                                           GroupOperations groupOps) {
             lastDeviceId = deviceId;
             groupOperations.addAll(groupOps.operations());
+            batches++;
         }
 
         public void validate(DeviceId expectedDeviceId,
@@ -26,6 +26,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.onlab.osgi.ComponentContextAdapter;
 import org.onosproject.TestApplicationId;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.cfg.ComponentConfigService;
@@ -58,6 +59,8 @@ import org.onosproject.store.trivial.SimpleIntentStore;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -420,6 +423,43 @@ public class IntentManagerTest {
     }
 
 
+    /**
+     * Tests that with several batches in flight every intent is installed and
+     * the operations on the same intent are still applied in order.
+     */
+    @Test
+    public void pipelinedSubmitWithdraw() {
+        manager.modified(new ComponentContextAdapter() {
+            @Override
+            public Dictionary getProperties() {
+                Hashtable<String, String> props = new Hashtable<>();
+                props.put("maxBatchesInFlight", "4");
+                return props;
+            }
+        });
+        flowRuleService.setFuture(true);
+
+        int count = 100;
+        listener.setLatch(count, Type.INSTALLED);
+        for (int i = 0; i < count; i++) {
+            service.submit(new MockIntent(MockIntent.nextId()));
+        }
+        listener.await(Type.INSTALLED);
+
+        Intent intent = new MockIntent(MockIntent.nextId());
+        for (int i = 0; i < 50; i++) {
+            service.submit(intent);
+            service.withdraw(intent);
+        }
+
+        assertAfter(SUBMIT_TIMEOUT_MS, () -> {
+            assertEquals(count + 1L, service.getIntentCount());
+            assertEquals(WITHDRAWN, service.getIntentState(intent.key()));
+            assertEquals((long) count, flowRuleService.getFlowRuleCount());
+        });
+        verifyState();
+    }
+
     /**
      * Tests for proper behavior of installation of an intent that triggers
      * a compilation error.
@@ -27,6 +27,7 @@ import org.onosproject.TestApplicationId;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.DeviceId;
+import org.onosproject.net.EncapsulationType;
 import org.onosproject.net.FilteredConnectPoint;
 import org.onosproject.net.Host;
 import org.onosproject.net.HostId;
@@ -43,6 +44,8 @@ import org.onosproject.net.intent.IntentTestsMocks;
 import org.onosproject.net.intent.Key;
 import org.onosproject.net.intent.LinkCollectionIntent;
 import org.onosproject.net.intent.constraint.BandwidthConstraint;
+import org.onosproject.net.intent.constraint.EncapsulationConstraint;
+import org.onosproject.net.intent.constraint.LinkTypeConstraint;
 import org.onosproject.net.resource.ContinuousResource;
 import org.onosproject.net.resource.MockResourceService;
 import org.onosproject.net.resource.ResourceAllocation;
@@ -188,6 +191,30 @@ public class HostToHostIntentCompilerTest extends AbstractIntentTest {
     }
 
 
+    /**
+     * Tests that the weighers of equal constraints are equal, and that only
+     * weighers whose constraints weigh links by the topology alone are
+     * cacheable.
+     */
+    @Test
+    public void testWeigherEquality() {
+        HostToHostIntentCompiler compiler = makeCompiler(new String[]{S1, S2});
+        List<Constraint> constraints = Lists.newArrayList();
+        assertEquals(compiler.weigher(constraints), compiler.weigher(Lists.newArrayList()));
+        assertEquals(compiler.weigher(constraints).hashCode(),
+                     compiler.weigher(Lists.newArrayList()).hashCode());
+        assertThat(makeCompiler(new String[]{S1, S2}).weigher(constraints),
+                   not(equalTo(compiler.weigher(constraints))));
+
+        assertThat(compiler.weigher(constraints).isCacheable(), is(true));
+        assertThat(compiler.weigher(Collections.singletonList(
+                new LinkTypeConstraint(false, Link.Type.OPTICAL))).isCacheable(), is(true));
+        assertThat(compiler.weigher(Collections.singletonList(
+                new BandwidthConstraint(Bandwidth.bps(100)))).isCacheable(), is(false));
+        assertThat(compiler.weigher(Collections.singletonList(
+                new EncapsulationConstraint(EncapsulationType.VLAN))).isCacheable(), is(false));
+    }
+
     /**
      * Tests a pair of hosts with 8 hops between them.
      */
@@ -33,6 +33,7 @@ import org.onosproject.net.intent.Intent;
 import org.onosproject.net.intent.IntentExtensionService;
 import org.onosproject.net.intent.LinkCollectionIntent;
 import org.onosproject.net.intent.constraint.DomainConstraint;
+import org.onosproject.net.link.LinkServiceAdapter;
 import org.onosproject.net.resource.MockResourceService;
 
 import java.util.Collection;
@@ -81,6 +82,7 @@ public class LinkCollectionIntentCompilerDomainP2PTest extends AbstractLinkColle
         registrator = new IntentConfigurableRegistrator();
         registrator.extensionService = intentExtensionService;
         registrator.cfgService = new ComponentConfigAdapter();
+        registrator.linkService = new LinkServiceAdapter();
         registrator.activate();
 
         sut.registrator = registrator;
@@ -37,6 +37,7 @@ import org.onosproject.net.intent.FlowRuleIntent;
 import org.onosproject.net.intent.Intent;
 import org.onosproject.net.intent.IntentExtensionService;
 import org.onosproject.net.intent.LinkCollectionIntent;
+import org.onosproject.net.link.LinkServiceAdapter;
 import org.onosproject.net.resource.MockResourceService;
 
 import java.util.Collection;
@@ -81,6 +82,7 @@ public class LinkCollectionIntentCompilerP2PTest extends AbstractLinkCollectionT
         registrator = new IntentConfigurableRegistrator();
         registrator.extensionService = intentExtensionService;
         registrator.cfgService = new ComponentConfigAdapter();
+        registrator.linkService = new LinkServiceAdapter();
         registrator.activate();
 
         sut.registrator = registrator;
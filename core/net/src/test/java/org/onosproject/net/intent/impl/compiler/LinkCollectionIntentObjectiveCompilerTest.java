@@ -48,6 +48,7 @@ import org.onosproject.net.intent.Intent;
 import org.onosproject.net.intent.IntentExtensionService;
 import org.onosproject.net.intent.LinkCollectionIntent;
 import org.onosproject.net.intent.constraint.EncapsulationConstraint;
+import org.onosproject.net.link.LinkServiceAdapter;
 import org.onosproject.net.resource.MockResourceService;
 import org.onosproject.net.resource.ResourceService;
 
@@ -106,6 +107,7 @@ public class LinkCollectionIntentObjectiveCompilerTest extends AbstractLinkColle
         registrator = new IntentConfigurableRegistrator();
         registrator.extensionService = intentExtensionService;
         registrator.cfgService = new ComponentConfigAdapter();
+        registrator.linkService = new LinkServiceAdapter();
         registrator.activate();
 
         compiler.registrator = registrator;
@@ -17,6 +17,7 @@
 package org.onosproject.net.neighbour.impl;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -93,7 +94,7 @@ public class NeighbourResolutionManagerTest {
         packetService.requestPackets(anyObject(TrafficSelector.class),
                 anyObject(PacketPriority.class), anyObject(ApplicationId.class));
         expectLastCall().anyTimes();
-        packetService.addProcessor(anyObject(PacketProcessor.class), anyInt());
+        packetService.addProcessor(anyObject(PacketProcessor.class), anyInt(), anyObject());
         expectLastCall().andDelegateTo(new TestPacketService()).once();
         packetService.cancelPackets(anyObject(TrafficSelector.class),
                 anyObject(PacketPriority.class), anyObject(ApplicationId.class));
@@ -305,7 +306,8 @@ public class NeighbourResolutionManagerTest {
     private class TestPacketService extends PacketServiceAdapter {
 
         @Override
-        public void addProcessor(PacketProcessor processor, int priority) {
+        public void addProcessor(PacketProcessor processor, int priority,
+                                 List<TrafficSelector> selectors) {
             NeighbourResolutionManagerTest.this.packetProcessor = processor;
         }
     }
@@ -18,34 +18,62 @@ package org.onosproject.net.packet.impl;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.packet.ARP;
+import org.onlab.packet.Data;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.ICMP6;
+import org.onlab.packet.IPv4;
+import org.onlab.packet.IPv6;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.Ip6Address;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.TpPort;
+import org.onlab.packet.UDP;
+import org.onlab.packet.VlanId;
+import org.onlab.packet.ipv6.HopByHopOptions;
 import org.onosproject.cluster.ClusterServiceAdapter;
 import org.onosproject.common.event.impl.TestEventDispatcher;
 import org.onosproject.core.CoreServiceAdapter;
 import org.onosproject.core.IdGenerator;
 import org.onosproject.event.TestListener;
 import org.onosproject.net.AnnotationKeys;
+import org.onosproject.net.ConnectPoint;
 import org.onosproject.net.DefaultAnnotations;
 import org.onosproject.net.DefaultDevice;
 import org.onosproject.net.Device;
 import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
 import org.onosproject.net.device.DeviceServiceAdapter;
 import org.onosproject.net.driver.AbstractHandlerBehaviour;
 import org.onosproject.net.driver.DefaultDriver;
 import org.onosproject.net.driver.DriverRegistry;
 import org.onosproject.net.driver.impl.DriverManager;
 import org.onosproject.net.driver.impl.DriverRegistryManager;
+import org.onosproject.net.flow.DefaultTrafficSelector;
 import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.packet.DefaultInboundPacket;
 import org.onosproject.net.packet.DefaultOutboundPacket;
+import org.onosproject.net.packet.InboundPacket;
 import org.onosproject.net.packet.OutboundPacket;
+import org.onosproject.net.packet.PacketContext;
+import org.onosproject.net.packet.PacketContextAdapter;
+import org.onosproject.net.packet.PacketProcessor;
+import org.onosproject.net.packet.PacketProcessorEntry;
 import org.onosproject.net.packet.PacketProgrammable;
+import org.onosproject.net.packet.PacketProvider;
 import org.onosproject.net.packet.PacketProviderRegistry;
+import org.onosproject.net.packet.PacketProviderService;
+import org.onosproject.net.provider.AbstractProvider;
 import org.onosproject.net.provider.ProviderId;
 import org.onosproject.net.provider.TestProvider;
 import org.onosproject.store.trivial.SimplePacketStore;
 
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.assertEquals;
@@ -106,6 +134,189 @@ public class PacketManagerTest {
         assertEquals("Packet not emitted correctly", packet, emittedPacket);
     }
 
+    /**
+     * Tests that packets emitted together reach the provider as a single batch.
+     */
+    @Test
+    public void batchEmit() {
+        TestPacketProvider packetProvider = new TestPacketProvider();
+        providerRegistry.register(packetProvider);
+
+        List<OutboundPacket> packets = ImmutableList.of(
+                new DefaultOutboundPacket(FOO_DID, DefaultTrafficTreatment.emptyTreatment(), ByteBuffer.allocate(5)),
+                new DefaultOutboundPacket(FOO_DID, DefaultTrafficTreatment.emptyTreatment(), ByteBuffer.allocate(6)),
+                new DefaultOutboundPacket(FOO_DID, DefaultTrafficTreatment.emptyTreatment(), ByteBuffer.allocate(7)));
+        mgr.emit(packets);
+
+        assertEquals("Packets not emitted as a single batch", 1, packetProvider.batches.size());
+        assertEquals("Packets not emitted correctly", packets,
+                     ImmutableList.copyOf(packetProvider.batches.get(0)));
+        assertEquals("Packets emitted one by one", 0, packetProvider.emitted.size());
+    }
+
+    /**
+     * Tests that packets are only offered to processors whose selectors may match them.
+     */
+    @Test
+    public void processorPreFiltering() {
+        CountingProcessor all = new CountingProcessor();
+        CountingProcessor arp = new CountingProcessor();
+        CountingProcessor dhcp = new CountingProcessor();
+        mgr.addProcessor(all, PacketProcessor.director(1));
+        mgr.addProcessor(arp, PacketProcessor.director(2),
+                         ImmutableList.of(DefaultTrafficSelector.builder()
+                                                  .matchEthType(Ethernet.TYPE_ARP).build()));
+        mgr.addProcessor(dhcp, PacketProcessor.director(3),
+                         ImmutableList.of(DefaultTrafficSelector.builder()
+                                                  .matchEthType(Ethernet.TYPE_IPV4)
+                                                  .matchIPProtocol(IPv4.PROTOCOL_UDP)
+                                                  .matchUdpDst(TpPort.tpPort(UDP.DHCP_SERVER_PORT))
+                                                  .build()));
+
+        PacketProviderService providerService = providerRegistry.register(new TestPacketProvider());
+        providerService.processPacket(context(arpPacket()));
+        providerService.processPacket(context(udpPacket(UDP.DHCP_SERVER_PORT)));
+        providerService.processPacket(context(udpPacket(5000)));
+
+        assertEquals("incorrect packets for unfiltered processor", 3, all.count);
+        assertEquals("incorrect packets for ARP processor", 1, arp.count);
+        assertEquals("incorrect packets for DHCP processor", 1, dhcp.count);
+
+        List<PacketProcessorEntry> entries = mgr.getProcessors();
+        assertEquals("incorrect skipped count", 0, entries.get(0).skipped());
+        assertEquals("incorrect skipped count", 2, entries.get(1).skipped());
+        assertEquals("incorrect skipped count", 2, entries.get(2).skipped());
+
+        mgr.removeProcessor(arp);
+        providerService.processPacket(context(arpPacket()));
+        assertEquals("incorrect packets for unfiltered processor", 4, all.count);
+        assertEquals("incorrect packets for DHCP processor", 1, dhcp.count);
+    }
+
+    /**
+     * Tests that IPv6 packets are classified by the protocol behind their
+     * extension headers, and offered to every processor when the chain of
+     * extension headers cannot be followed.
+     */
+    @Test
+    public void processorPreFilteringIpv6ExtensionHeaders() {
+        CountingProcessor icmp6 = new CountingProcessor();
+        CountingProcessor hopByHop = new CountingProcessor();
+        CountingProcessor udp = new CountingProcessor();
+        mgr.addProcessor(icmp6, PacketProcessor.director(1),
+                         ImmutableList.of(DefaultTrafficSelector.builder()
+                                                  .matchEthType(Ethernet.TYPE_IPV6)
+                                                  .matchIPProtocol(IPv6.PROTOCOL_ICMP6).build()));
+        mgr.addProcessor(hopByHop, PacketProcessor.director(2),
+                         ImmutableList.of(DefaultTrafficSelector.builder()
+                                                  .matchEthType(Ethernet.TYPE_IPV6)
+                                                  .matchIPProtocol(IPv6.PROTOCOL_HOPOPT).build()));
+        mgr.addProcessor(udp, PacketProcessor.director(3),
+                         ImmutableList.of(DefaultTrafficSelector.builder()
+                                                  .matchEthType(Ethernet.TYPE_IPV6)
+                                                  .matchIPProtocol(IPv6.PROTOCOL_UDP).build()));
+
+        PacketProviderService providerService = providerRegistry.register(new TestPacketProvider());
+        providerService.processPacket(context(mldPacket()));
+        assertEquals("incorrect packets for ICMPv6 processor", 1, icmp6.count);
+        assertEquals("incorrect packets for hop-by-hop processor", 1, hopByHop.count);
+        assertEquals("incorrect packets for UDP processor", 0, udp.count);
+
+        // an extension header whose payload could not be parsed
+        IPv6 truncated = new IPv6();
+        truncated.setNextHeader(IPv6.PROTOCOL_ROUTING);
+        truncated.setPayload(new Data(new byte[]{1, 2, 3}));
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_IPV6);
+        eth.setPayload(truncated);
+        providerService.processPacket(new PacketContextAdapter(
+                0, new DefaultInboundPacket(new ConnectPoint(FOO_DID, PortNumber.portNumber(1)),
+                                            eth, ByteBuffer.allocate(0)), null, false));
+        assertEquals("incorrect packets for ICMPv6 processor", 2, icmp6.count);
+        assertEquals("incorrect packets for hop-by-hop processor", 2, hopByHop.count);
+        assertEquals("incorrect packets for UDP processor", 1, udp.count);
+    }
+
+    private static PacketContext context(Ethernet eth) {
+        InboundPacket inPacket = new DefaultInboundPacket(new ConnectPoint(FOO_DID, PortNumber.portNumber(1)),
+                                                          eth, ByteBuffer.wrap(eth.serialize()));
+        return new PacketContextAdapter(0, inPacket, null, false);
+    }
+
+    private static Ethernet arpPacket() {
+        return ARP.buildArpRequest(MacAddress.valueOf(1L).toBytes(),
+                                   Ip4Address.valueOf("10.0.0.1").toOctets(),
+                                   Ip4Address.valueOf("10.0.0.2").toOctets(),
+                                   VlanId.NO_VID);
+    }
+
+    // MLD report carried behind a hop-by-hop options header
+    private static Ethernet mldPacket() {
+        ICMP6 icmp6 = new ICMP6();
+        icmp6.setIcmpType(ICMP6.MCAST_REPORT);
+        HopByHopOptions hopByHop = new HopByHopOptions();
+        hopByHop.setNextHeader(IPv6.PROTOCOL_ICMP6);
+        // router alert option, padded to eight bytes
+        hopByHop.setOptions(new byte[]{5, 2, 0, 0, 1, 0});
+        hopByHop.setPayload(icmp6);
+        IPv6 ipv6 = new IPv6();
+        ipv6.setNextHeader(IPv6.PROTOCOL_HOPOPT);
+        ipv6.setSourceAddress(Ip6Address.valueOf("fe80::1").toOctets());
+        ipv6.setDestinationAddress(Ip6Address.valueOf("ff02::16").toOctets());
+        ipv6.setPayload(hopByHop);
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_IPV6);
+        eth.setSourceMACAddress(MacAddress.valueOf(1L));
+        eth.setDestinationMACAddress(MacAddress.valueOf(2L));
+        eth.setPayload(ipv6);
+        return eth;
+    }
+
+    private static Ethernet udpPacket(int dstPort) {
+        UDP udp = new UDP();
+        udp.setSourcePort(1234);
+        udp.setDestinationPort(dstPort);
+        IPv4 ipv4 = new IPv4();
+        ipv4.setProtocol(IPv4.PROTOCOL_UDP);
+        ipv4.setSourceAddress("10.0.0.1");
+        ipv4.setDestinationAddress("10.0.0.2");
+        ipv4.setPayload(udp);
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_IPV4);
+        eth.setSourceMACAddress(MacAddress.valueOf(1L));
+        eth.setDestinationMACAddress(MacAddress.valueOf(2L));
+        eth.setPayload(ipv4);
+        return eth;
+    }
+
+    private static class CountingProcessor implements PacketProcessor {
+        int count = 0;
+
+        @Override
+        public void process(PacketContext context) {
+            count++;
+        }
+    }
+
+    private static class TestPacketProvider extends AbstractProvider implements PacketProvider {
+        final List<OutboundPacket> emitted = Lists.newArrayList();
+        final List<Collection<OutboundPacket>> batches = Lists.newArrayList();
+
+        TestPacketProvider() {
+            super(FOO_PID);
+        }
+
+        @Override
+        public void emit(OutboundPacket packet) {
+            emitted.add(packet);
+        }
+
+        @Override
+        public void emit(Collection<OutboundPacket> packets) {
+            batches.add(packets);
+        }
+    }
+
     private static class TestDeviceService extends DeviceServiceAdapter {
         @Override
         public int getDeviceCount() {
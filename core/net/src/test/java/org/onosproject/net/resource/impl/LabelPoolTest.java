@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.resource.impl;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.VlanId;
+import org.onlab.util.Identifier;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.LinkKey;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.onosproject.net.NetTestTools.connectPoint;
+
+/**
+ * Unit tests for LabelPool.
+ */
+public class LabelPoolTest {
+
+    private final ConnectPoint d1p1 = connectPoint("s1", 1);
+    private final ConnectPoint d2p1 = connectPoint("s2", 1);
+    private final ConnectPoint d2p2 = connectPoint("s2", 2);
+    private final ConnectPoint d3p1 = connectPoint("s3", 1);
+
+    private final LinkKey link1 = LinkKey.linkKey(d1p1, d2p1);
+    private final LinkKey link2 = LinkKey.linkKey(d2p1, d3p1);
+    private final LinkKey link3 = LinkKey.linkKey(d2p2, d3p1);
+
+    private LabelPool pool;
+    private AtomicInteger lookups;
+
+    @Before
+    public void setUp() {
+        pool = new LabelPool(3, 8);
+        lookups = new AtomicInteger();
+    }
+
+    // Returns VLAN ids 1 to 10, counting the lookups
+    private Supplier<Set<Identifier<?>>> available() {
+        return () -> {
+            lookups.incrementAndGet();
+            return IntStream.rangeClosed(1, 10)
+                    .mapToObj(i -> VlanId.vlanId((short) i))
+                    .collect(Collectors.toSet());
+        };
+    }
+
+    /**
+     * Tests that a contiguous range is leased from the base label, wrapping around.
+     */
+    @Test
+    public void testLease() {
+        assertThat(pool.candidates(link1, available()),
+                   contains(VlanId.vlanId((short) 8), VlanId.vlanId((short) 9), VlanId.vlanId((short) 10)));
+
+        pool = new LabelPool(3, 10);
+        assertThat(pool.candidates(link1, available()),
+                   contains(VlanId.vlanId((short) 10), VlanId.vlanId((short) 1), VlanId.vlanId((short) 2)));
+    }
+
+    /**
+     * Tests that available labels are only looked up once the leased range is exhausted.
+     */
+    @Test
+    public void testRenewal() {
+        pool.candidates(link1, available()).forEach(label -> {
+            assertThat(pool.candidates(link1, available()).contains(label), is(true));
+            pool.consume(link1, label);
+        });
+        assertThat(lookups.get(), is(1));
+
+        pool.candidates(link1, available());
+        assertThat(lookups.get(), is(2));
+    }
+
+    /**
+     * Tests that consumed labels are removed from the ranges of links sharing a port.
+     */
+    @Test
+    public void testConsumeSharedPort() {
+        pool.candidates(link1, available());
+        pool.candidates(link2, available());
+        pool.candidates(link3, available());
+
+        pool.consume(link1, VlanId.vlanId((short) 8));
+        Set<Identifier<?>> rest = ImmutableSet.of(VlanId.vlanId((short) 9), VlanId.vlanId((short) 10));
+        assertThat(pool.candidates(link2, available()), containsInAnyOrder(rest.toArray()));
+        assertThat(pool.candidates(link3, available()).size(), is(3));
+    }
+
+    /**
+     * Tests that invalidated ranges are leased again.
+     */
+    @Test
+    public void testInvalidate() {
+        pool.candidates(link1, available());
+        pool.invalidate(link1);
+        pool.candidates(link1, available());
+        assertThat(lookups.get(), is(2));
+    }
+}
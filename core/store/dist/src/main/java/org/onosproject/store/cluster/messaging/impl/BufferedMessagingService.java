@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.cluster.messaging.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.netty.buffer.ByteBuf;
+import org.onosproject.store.cluster.messaging.Endpoint;
+import org.onosproject.store.cluster.messaging.MessagingService;
+
+/**
+ * Messaging service which also accepts payloads already encoded into Netty
+ * buffers, so that they are written to the connection without being copied
+ * into an intermediate array.
+ * <p>
+ * Ownership of the payload buffer passes to the service, which releases it
+ * once the message has been written or has failed.
+ */
+interface BufferedMessagingService extends MessagingService {
+
+    /**
+     * Sends a message asynchronously to the specified communication end point.
+     *
+     * @param ep end point to send the message to
+     * @param type type of message
+     * @param payload message payload
+     * @return future that is completed when the message is sent
+     */
+    CompletableFuture<Void> sendAsync(Endpoint ep, String type, ByteBuf payload);
+
+    /**
+     * Sends a message asynchronously and expects a response.
+     *
+     * @param ep end point to send the message to
+     * @param type type of message
+     * @param payload message payload
+     * @return a response future
+     */
+    CompletableFuture<byte[]> sendAndReceive(Endpoint ep, String type, ByteBuf payload);
+}
@@ -16,6 +16,10 @@
 package org.onosproject.store.cluster.messaging.impl;
 
 import com.google.common.base.Throwables;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
@@ -32,12 +36,15 @@ import org.onosproject.store.cluster.messaging.ClusterMessageHandler;
 import org.onosproject.store.cluster.messaging.Endpoint;
 import org.onosproject.store.cluster.messaging.MessageSubject;
 import org.onosproject.store.cluster.messaging.MessagingService;
+import org.onosproject.store.serializers.BufferDecoder;
+import org.onosproject.store.serializers.StreamEncoder;
 import org.onosproject.utils.MeteringAgent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Objects;
 
+import java.nio.ByteBuffer;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -128,6 +135,10 @@ public class ClusterCommunicationManager
                                                NodeId toNodeId) {
         checkPermission(CLUSTER_WRITE);
         try {
+            if (isBuffered(encoder)) {
+                Endpoint nodeEp = endpoint(toNodeId);
+                return doUnicast(subject, encode(message, subject, (StreamEncoder<M>) encoder), nodeEp);
+            }
             byte[] payload = new ClusterMessage(
                     localNodeId,
                     subject,
@@ -145,6 +156,16 @@ public class ClusterCommunicationManager
                               Function<M, byte[]> encoder,
                               Set<NodeId> nodes) {
         checkPermission(CLUSTER_WRITE);
+        if (isBuffered(encoder)) {
+            Set<Endpoint> nodeEps = nodes.stream().map(this::endpoint).collect(Collectors.toSet());
+            ByteBuf payload = encode(message, subject, (StreamEncoder<M>) encoder);
+            try {
+                nodeEps.forEach(nodeEp -> doUnicast(subject, payload.retainedDuplicate(), nodeEp));
+            } finally {
+                payload.release();
+            }
+            return;
+        }
         byte[] payload = new ClusterMessage(
                 localNodeId,
                 subject,
@@ -161,6 +182,11 @@ public class ClusterCommunicationManager
                                                       NodeId toNodeId) {
         checkPermission(CLUSTER_WRITE);
         try {
+            if (isBuffered(encoder)) {
+                Endpoint nodeEp = endpoint(toNodeId);
+                return sendAndReceive(subject, encode(message, subject, (StreamEncoder<M>) encoder), toNodeId, nodeEp)
+                        .thenApply(bytes -> timeFunction(decoder, subjectMeteringAgent, DESERIALIZING).apply(bytes));
+            }
             ClusterMessage envelope = new ClusterMessage(
                     clusterService.getLocalNode().id(),
                     subject,
@@ -173,18 +199,107 @@ public class ClusterCommunicationManager
         }
     }
 
+    private Endpoint endpoint(NodeId nodeId) {
+        ControllerNode node = clusterService.getNode(nodeId);
+        checkArgument(node != null, "Unknown nodeId: %s", nodeId);
+        return new Endpoint(node.ip(), node.tcpPort());
+    }
+
+    private <M> boolean isBuffered(Function<M, byte[]> encoder) {
+        return encoder instanceof StreamEncoder && messagingService instanceof BufferedMessagingService;
+    }
+
+    /**
+     * Encodes a message straight into a pooled buffer, wrapped in the same
+     * envelope as {@link ClusterMessage#getBytes()}.
+     *
+     * @param message message to encode
+     * @param subject message subject
+     * @param encoder message encoder
+     * @param <M> message type
+     * @return buffer holding the envelope, to be released by the receiver
+     */
+    private <M> ByteBuf encode(M message, MessageSubject subject, StreamEncoder<M> encoder) {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.ioBuffer();
+        MeteringAgent.Context context = subjectMeteringAgent.startTimer(SERIALIZING);
+        try {
+            writeString(buffer, localNodeId.toString());
+            writeString(buffer, subject.value());
+            int lengthIndex = buffer.writerIndex();
+            buffer.writeInt(0);
+            encoder.encode(message, new ByteBufOutputStream(buffer));
+            buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - Integer.BYTES);
+            context.stop(null);
+            return buffer;
+        } catch (RuntimeException e) {
+            context.stop(e);
+            buffer.release();
+            throw e;
+        }
+    }
+
+    private static void writeString(ByteBuf buffer, String value) {
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        buffer.setInt(lengthIndex, ByteBufUtil.writeUtf8(buffer, value));
+    }
+
+    /**
+     * Returns a decoder of the payload of a cluster message envelope, which
+     * reads the payload in place when the given decoder supports it.
+     *
+     * @param decoder payload decoder
+     * @param <M> message type
+     * @return envelope decoder
+     */
+    private <M> Function<byte[], M> envelopeDecoder(Function<byte[], M> decoder) {
+        if (decoder instanceof BufferDecoder) {
+            BufferDecoder<M> bufferDecoder = (BufferDecoder<M>) decoder;
+            return bytes -> bufferDecoder.decode(payloadOf(bytes));
+        }
+        return bytes -> decoder.apply(ClusterMessage.fromBytes(bytes).payload());
+    }
+
+    // Returns a view of the payload of an envelope built by ClusterMessage
+    private static ByteBuffer payloadOf(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int senderLength = buffer.getInt();
+        buffer.position(buffer.position() + senderLength);
+        int subjectLength = buffer.getInt();
+        buffer.position(buffer.position() + subjectLength);
+        int payloadLength = buffer.getInt();
+        ByteBuffer payload = buffer.slice();
+        payload.limit(payloadLength);
+        return payload;
+    }
+
+    private CompletableFuture<Void> doUnicast(MessageSubject subject, ByteBuf payload, Endpoint nodeEp) {
+        MeteringAgent.Context context = subjectMeteringAgent.startTimer(subject.toString() + ONE_WAY_SUFFIX);
+        return ((BufferedMessagingService) messagingService).sendAsync(nodeEp, subject.value(), payload)
+                .whenComplete((r, e) -> context.stop(e));
+    }
+
+    private CompletableFuture<byte[]> sendAndReceive(MessageSubject subject, ByteBuf payload,
+                                                     NodeId toNodeId, Endpoint nodeEp) {
+        MeteringAgent.Context epContext = endpointMeteringAgent.
+                startTimer(NODE_PREFIX + toNodeId.toString() + ROUND_TRIP_SUFFIX);
+        MeteringAgent.Context subjectContext = subjectMeteringAgent.
+                startTimer(subject.toString() + ROUND_TRIP_SUFFIX);
+        return ((BufferedMessagingService) messagingService).sendAndReceive(nodeEp, subject.value(), payload).
+                whenComplete((bytes, throwable) -> {
+                    subjectContext.stop(throwable);
+                    epContext.stop(throwable);
+                });
+    }
+
     private CompletableFuture<Void> doUnicast(MessageSubject subject, byte[] payload, NodeId toNodeId) {
-        ControllerNode node = clusterService.getNode(toNodeId);
-        checkArgument(node != null, "Unknown nodeId: %s", toNodeId);
-        Endpoint nodeEp = new Endpoint(node.ip(), node.tcpPort());
+        Endpoint nodeEp = endpoint(toNodeId);
         MeteringAgent.Context context = subjectMeteringAgent.startTimer(subject.toString() + ONE_WAY_SUFFIX);
         return messagingService.sendAsync(nodeEp, subject.value(), payload).whenComplete((r, e) -> context.stop(e));
     }
 
     private CompletableFuture<byte[]> sendAndReceive(MessageSubject subject, byte[] payload, NodeId toNodeId) {
-        ControllerNode node = clusterService.getNode(toNodeId);
-        checkArgument(node != null, "Unknown nodeId: %s", toNodeId);
-        Endpoint nodeEp = new Endpoint(node.ip(), node.tcpPort());
+        Endpoint nodeEp = endpoint(toNodeId);
         MeteringAgent.Context epContext = endpointMeteringAgent.
                 startTimer(NODE_PREFIX + toNodeId.toString() + ROUND_TRIP_SUFFIX);
         MeteringAgent.Context subjectContext = subjectMeteringAgent.
@@ -311,15 +426,14 @@ public class ClusterCommunicationManager
         public InternalMessageResponder(Function<byte[], M> decoder,
                                         Function<R, byte[]> encoder,
                                         Function<M, CompletableFuture<R>> handler) {
-            this.decoder = decoder;
+            this.decoder = envelopeDecoder(decoder);
             this.encoder = encoder;
             this.handler = handler;
         }
 
         @Override
         public CompletableFuture<byte[]> apply(Endpoint sender, byte[] bytes) {
-            return handler.apply(timeFunction(decoder, subjectMeteringAgent, DESERIALIZING).
-                    apply(ClusterMessage.fromBytes(bytes).payload())).
+            return handler.apply(timeFunction(decoder, subjectMeteringAgent, DESERIALIZING).apply(bytes)).
                     thenApply(m -> timeFunction(encoder, subjectMeteringAgent, SERIALIZING).apply(m));
         }
     }
@@ -329,14 +443,13 @@ public class ClusterCommunicationManager
         private final Consumer<M> consumer;
 
         public InternalMessageConsumer(Function<byte[], M> decoder, Consumer<M> consumer) {
-            this.decoder = decoder;
+            this.decoder = envelopeDecoder(decoder);
             this.consumer = consumer;
         }
 
         @Override
         public void accept(Endpoint sender, byte[] bytes) {
-            consumer.accept(timeFunction(decoder, subjectMeteringAgent, DESERIALIZING).
-                    apply(ClusterMessage.fromBytes(bytes).payload()));
+            consumer.accept(timeFunction(decoder, subjectMeteringAgent, DESERIALIZING).apply(bytes));
         }
     }
 }
@@ -17,6 +17,9 @@ package org.onosproject.store.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCounted;
 import org.onlab.util.ByteArraySizeHashPrinter;
 import org.onosproject.core.HybridLogicalTime;
 import org.onosproject.store.cluster.messaging.Endpoint;
@@ -24,9 +27,12 @@ import org.onosproject.store.cluster.messaging.Endpoint;
 /**
  * Internal request message.
  */
-public final class InternalRequest extends InternalMessage {
+public final class InternalRequest extends InternalMessage implements ReferenceCounted {
     private final Endpoint sender;
     private final String subject;
+    // payload of requests sent from an encoded buffer; the request then
+    // owns the buffer and has to be released once written
+    private final ByteBuf buffer;
 
     public InternalRequest(int preamble,
                            HybridLogicalTime time,
@@ -37,6 +43,19 @@ public final class InternalRequest extends InternalMessage {
         super(preamble, time, id, payload);
         this.sender = sender;
         this.subject = subject;
+        this.buffer = null;
+    }
+
+    public InternalRequest(int preamble,
+                           HybridLogicalTime time,
+                           long id,
+                           Endpoint sender,
+                           String subject,
+                           ByteBuf payload) {
+        super(preamble, time, id, null);
+        this.sender = sender;
+        this.subject = subject;
+        this.buffer = payload;
     }
 
     @Override
@@ -52,6 +71,62 @@ public final class InternalRequest extends InternalMessage {
         return sender;
     }
 
+    @Override
+    public byte[] payload() {
+        return buffer != null ? ByteBufUtil.getBytes(buffer) : super.payload();
+    }
+
+    /**
+     * Returns the buffer holding the payload of a request sent from an
+     * encoded buffer.
+     *
+     * @return payload buffer, or null if the payload is held in an array
+     */
+    ByteBuf buffer() {
+        return buffer;
+    }
+
+    @Override
+    public int refCnt() {
+        return buffer != null ? buffer.refCnt() : 1;
+    }
+
+    @Override
+    public InternalRequest retain() {
+        return retain(1);
+    }
+
+    @Override
+    public InternalRequest retain(int increment) {
+        if (buffer != null) {
+            buffer.retain(increment);
+        }
+        return this;
+    }
+
+    @Override
+    public InternalRequest touch() {
+        return touch(null);
+    }
+
+    @Override
+    public InternalRequest touch(Object hint) {
+        if (buffer != null) {
+            buffer.touch(hint);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return release(1);
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return buffer != null && buffer.release(decrement);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -59,7 +134,7 @@ public final class InternalRequest extends InternalMessage {
                 .add("id", id())
                 .add("subject", subject)
                 .add("sender", sender)
-                .add("payload", ByteArraySizeHashPrinter.of(payload()))
+                .add("payload", buffer != null ? buffer : ByteArraySizeHashPrinter.of(payload()))
                 .toString();
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.io.IOException;
 import com.google.common.base.Charsets;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.MessageToByteEncoder;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.IpAddress.Version;
@@ -36,6 +37,10 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    // Upper bound of the bytes written in addition to the payload and subject:
+    // sender endpoint, message header and reply status
+    private static final int MAX_HEADER_LENGTH = 1 + 16 + 4 + 1 + 4 + 8 + 8 + 8 + 4 + 2 + 1;
+
     private final Endpoint endpoint;
     private final int preamble;
     private boolean endpointWritten;
@@ -46,6 +51,42 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
         this.preamble = preamble;
     }
 
+    @Override
+    public void write(ChannelHandlerContext context, Object rawMessage, ChannelPromise promise) throws Exception {
+        if (rawMessage instanceof InternalRequest && ((InternalRequest) rawMessage).buffer() != null) {
+            writeBuffered(context, (InternalRequest) rawMessage, promise);
+        } else {
+            super.write(context, rawMessage, promise);
+        }
+    }
+
+    /**
+     * Writes a request whose payload is held in a buffer as a composite of
+     * the encoded header, the payload buffer itself and the encoded subject,
+     * so that the payload is handed to the channel without being copied.
+     */
+    private void writeBuffered(ChannelHandlerContext context, InternalRequest request, ChannelPromise promise) {
+        ByteBuf header = context.alloc().ioBuffer(MAX_HEADER_LENGTH);
+        ByteBuf trailer = null;
+        try {
+            encodeHeader(request, request.buffer().readableBytes(), header);
+            trailer = context.alloc().ioBuffer(2 + 3 * request.subject().length());
+            encodeSubject(request, trailer);
+        } catch (RuntimeException e) {
+            header.release();
+            if (trailer != null) {
+                trailer.release();
+            }
+            request.release();
+            promise.setFailure(e);
+            return;
+        }
+        ByteBuf frame = context.alloc().compositeBuffer(3)
+                .addComponents(true, header, request.buffer().retain(), trailer);
+        request.release();
+        context.write(frame, promise);
+    }
+
     @Override
     protected void encode(
             ChannelHandlerContext context,
@@ -59,6 +100,15 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
     }
 
     private void encodeMessage(InternalMessage message, ByteBuf out) {
+        byte[] payload = message.payload();
+
+        encodeHeader(message, payload.length, out);
+
+        // write payload.
+        out.writeBytes(payload);
+    }
+
+    private void encodeHeader(InternalMessage message, int payloadLength, ByteBuf out) {
         // If the endpoint hasn't been written to the channel, write it.
         if (!endpointWritten) {
             IpAddress senderIp = endpoint.host();
@@ -85,18 +135,16 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
         // write message id
         out.writeLong(message.id());
 
-        byte[] payload = message.payload();
-
         // write payload length
-        out.writeInt(payload.length);
-
-        // write payload.
-        out.writeBytes(payload);
+        out.writeInt(payloadLength);
     }
 
     private void encodeRequest(InternalRequest request, ByteBuf out) {
         encodeMessage(request, out);
+        encodeSubject(request, out);
+    }
 
+    private void encodeSubject(InternalRequest request, ByteBuf out) {
         byte[] messageTypeBytes = request.subject().getBytes(Charsets.UTF_8);
 
         // write length of message type
@@ -114,6 +162,21 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
         out.writeByte(reply.status().id());
     }
 
+    /**
+     * Allocates a pooled buffer large enough for the whole message, so that
+     * the payload is copied into it once rather than through repeated
+     * buffer expansions.
+     */
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext context, Object rawMessage, boolean preferDirect) {
+        int length = MAX_HEADER_LENGTH + ((InternalMessage) rawMessage).payload().length;
+        if (rawMessage instanceof InternalRequest) {
+            // UTF-8 encodes each char of the subject in at most three bytes
+            length += 3 * ((InternalRequest) rawMessage).subject().length();
+        }
+        return preferDirect ? context.alloc().ioBuffer(length) : context.alloc().heapBuffer(length);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext context, Throwable cause) {
         if (cause instanceof IOException) {
@@ -58,6 +58,8 @@ import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -89,7 +91,6 @@ import org.onosproject.cluster.ControllerNode;
 import org.onosproject.core.HybridLogicalClockService;
 import org.onosproject.store.cluster.messaging.Endpoint;
 import org.onosproject.store.cluster.messaging.MessagingException;
-import org.onosproject.store.cluster.messaging.MessagingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -102,7 +103,7 @@ import static org.onosproject.security.AppPermission.Type.CLUSTER_WRITE;
  */
 @Component(immediate = true)
 @Service
-public class NettyMessagingManager implements MessagingService {
+public class NettyMessagingManager implements BufferedMessagingService {
     private static final long DEFAULT_TIMEOUT_MILLIS = 500;
     private static final long HISTORY_EXPIRE_MILLIS = Duration.ofMinutes(1).toMillis();
     private static final long MIN_TIMEOUT_MILLIS = 100;
@@ -323,6 +324,48 @@ public class NettyMessagingManager implements MessagingService {
         return executeOnPooledConnection(ep, type, c -> c.sendAndReceive(message), executor);
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync(Endpoint ep, String type, ByteBuf payload) {
+        checkPermission(CLUSTER_WRITE);
+        if (ep.equals(localEndpoint)) {
+            return sendAsync(ep, type, toBytes(payload));
+        }
+        InternalRequest message = new InternalRequest(preamble,
+                clockService.timeNow(),
+                messageIdGenerator.incrementAndGet(),
+                localEndpoint,
+                type,
+                payload);
+        return executeOnPooledConnection(ep, type, message, c -> c.sendAsync(message),
+                                         MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendAndReceive(Endpoint ep, String type, ByteBuf payload) {
+        checkPermission(CLUSTER_WRITE);
+        if (ep.equals(localEndpoint)) {
+            return sendAndReceive(ep, type, toBytes(payload));
+        }
+        InternalRequest message = new InternalRequest(preamble,
+                clockService.timeNow(),
+                messageIdGenerator.incrementAndGet(),
+                localEndpoint,
+                type,
+                payload);
+        return executeOnPooledConnection(ep, type, message, c -> c.sendAndReceive(message),
+                                         MoreExecutors.directExecutor());
+    }
+
+    // Copies out and releases a payload buffer, for connections which pass
+    // the payload on as an array
+    private static byte[] toBytes(ByteBuf payload) {
+        try {
+            return ByteBufUtil.getBytes(payload);
+        } finally {
+            payload.release();
+        }
+    }
+
     private List<CompletableFuture<Channel>> getChannelPool(Endpoint endpoint) {
         return channels.computeIfAbsent(endpoint, e -> {
             List<CompletableFuture<Channel>> defaultList = new ArrayList<>(CHANNEL_POOL_SIZE);
@@ -398,6 +441,35 @@ public class NettyMessagingManager implements MessagingService {
         return future;
     }
 
+    /**
+     * Executes a callback with the buffered request on a pooled connection,
+     * releasing the request if no connection could be obtained for it.
+     *
+     * @param endpoint end point to send the request to
+     * @param type type of message
+     * @param message request owning a payload buffer
+     * @param callback callback sending the request on the connection
+     * @param executor executor completing the returned future
+     * @param <T> result type
+     * @return future completed with the callback result
+     */
+    private <T> CompletableFuture<T> executeOnPooledConnection(
+            Endpoint endpoint,
+            String type,
+            InternalRequest message,
+            Function<ClientConnection, CompletableFuture<T>> callback,
+            Executor executor) {
+        AtomicBoolean handedOff = new AtomicBoolean();
+        return executeOnPooledConnection(endpoint, type, connection -> {
+            handedOff.set(true);
+            return callback.apply(connection);
+        }, executor).whenComplete((result, error) -> {
+            if (!handedOff.get()) {
+                message.release();
+            }
+        });
+    }
+
     private <T> void executeOnPooledConnection(
             Endpoint endpoint,
             String type,
@@ -194,6 +194,7 @@ public class ECDeviceStore
                 .withName("onos-port-stats")
                 .withSerializer(SERIALIZER_BUILDER)
                 .withAntiEntropyPeriod(5, TimeUnit.SECONDS)
+                .withTreeAntiEntropy()
                 .withTimestampProvider((k, v) -> new WallClockTimestamp())
                 .withTombstonesDisabled()
                 .build();
@@ -203,6 +204,7 @@ public class ECDeviceStore
                 .withName("onos-port-stats-delta")
                 .withSerializer(SERIALIZER_BUILDER)
                 .withAntiEntropyPeriod(5, TimeUnit.SECONDS)
+                .withTreeAntiEntropy()
                 .withTimestampProvider((k, v) -> new WallClockTimestamp())
                 .withTombstonesDisabled()
                 .build();
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -40,11 +42,14 @@ import org.apache.commons.lang3.RandomUtils;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
+import org.apache.felix.scr.annotations.Modified;
+import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
 import org.onlab.packet.ChassisId;
 import org.onlab.util.KryoNamespace;
+import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cluster.ClusterService;
 import org.onosproject.cluster.ControllerNode;
 import org.onosproject.cluster.NodeId;
@@ -77,15 +82,10 @@ import org.onosproject.store.cluster.messaging.ClusterCommunicationService;
 import org.onosproject.store.cluster.messaging.MessageSubject;
 import org.onosproject.store.impl.MastershipBasedTimestamp;
 import org.onosproject.store.impl.Timestamped;
-import org.onosproject.store.serializers.KryoNamespaces;
 import org.onosproject.store.serializers.StoreSerializer;
 import org.onosproject.store.serializers.custom.DistributedStoreSerializers;
-import org.onosproject.store.service.EventuallyConsistentMap;
-import org.onosproject.store.service.EventuallyConsistentMapEvent;
-import org.onosproject.store.service.EventuallyConsistentMapListener;
-import org.onosproject.store.service.MultiValuedTimestamp;
 import org.onosproject.store.service.StorageService;
-import org.onosproject.store.service.WallClockTimestamp;
+import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
 import com.google.common.collect.FluentIterable;
@@ -98,6 +98,7 @@ import static com.google.common.base.Predicates.notNull;
 import static com.google.common.base.Verify.verify;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.onlab.util.Tools.getIntegerProperty;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onlab.util.Tools.minPriority;
 import static org.onosproject.cluster.ControllerNodeToNodeId.toNodeId;
@@ -111,9 +112,9 @@ import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects
 import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.DEVICE_REMOVED;
 import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.DEVICE_REMOVE_REQ;
 import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.DEVICE_UPDATE;
+import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.PORT_STATS_UPDATE;
 import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.PORT_STATUS_UPDATE;
 import static org.onosproject.store.device.impl.GossipDeviceStoreMessageSubjects.PORT_UPDATE;
-import static org.onosproject.store.service.EventuallyConsistentMapEvent.Type.PUT;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -132,6 +133,17 @@ public class GossipDeviceStore
     // Timeout in milliseconds to process device or ports on remote master node
     private static final int REMOTE_MASTER_TIMEOUT = 1000;
 
+    private static final int DEFAULT_PORT_STATS_THRESHOLD = 100;
+    private static final int DEFAULT_PORT_STATS_FULL_SYNC_ROUNDS = 12;
+
+    @Property(name = "portStatsThreshold", intValue = DEFAULT_PORT_STATS_THRESHOLD,
+            label = "Minimum packet counter change for a port's statistics to be replicated")
+    private int portStatsThreshold = DEFAULT_PORT_STATS_THRESHOLD;
+
+    @Property(name = "portStatsFullSyncRounds", intValue = DEFAULT_PORT_STATS_FULL_SYNC_ROUNDS,
+            label = "Number of port statistics rounds after which a device is fully replicated")
+    private int portStatsFullSyncRounds = DEFAULT_PORT_STATS_FULL_SYNC_ROUNDS;
+
     // innerMap is used to lock a Device, thus instance should never be replaced.
     // collection of Description given from various providers
     private final ConcurrentMap<DeviceId, Map<ProviderId, DeviceDescriptions>>
@@ -141,10 +153,8 @@ public class GossipDeviceStore
     private final ConcurrentMap<DeviceId, Device> devices = Maps.newConcurrentMap();
     private final ConcurrentMap<DeviceId, ConcurrentMap<PortNumber, Port>> devicePorts = Maps.newConcurrentMap();
 
-    private EventuallyConsistentMap<DeviceId, Map<PortNumber, PortStatistics>> devicePortStats;
-    private EventuallyConsistentMap<DeviceId, Map<PortNumber, PortStatistics>> devicePortDeltaStats;
-    private final EventuallyConsistentMapListener<DeviceId, Map<PortNumber, PortStatistics>>
-            portStatsListener = new InternalPortStatsListener();
+    // port statistics, replicated by the master of each device
+    private final ConcurrentMap<DeviceId, PortStatsTable> devicePortStats = Maps.newConcurrentMap();
 
     // to be updated under Device lock
     private final Map<DeviceId, Timestamp> offline = Maps.newHashMap();
@@ -171,6 +181,9 @@ public class GossipDeviceStore
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected MastershipTermService termService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected ComponentConfigService cfgService;
+
     private static final Timestamp DEFAULT_TIMESTAMP = new MastershipBasedTimestamp(0, 0);
 
     protected static final StoreSerializer SERIALIZER = StoreSerializer.using(KryoNamespace.newBuilder()
@@ -184,6 +197,7 @@ public class GossipDeviceStore
                     .register(DeviceAntiEntropyAdvertisement.class)
                     .register(DeviceFragmentId.class)
                     .register(PortFragmentId.class)
+                    .register(PortStatsUpdate.class)
                     .build("GossipDevice"));
 
     private ExecutorService executor;
@@ -195,7 +209,10 @@ public class GossipDeviceStore
     private long periodSec = 5;
 
     @Activate
-    public void activate() {
+    public void activate(ComponentContext context) {
+        cfgService.registerProperties(getClass());
+        modified(context);
+
         executor = newCachedThreadPool(groupedThreads("onos/device", "fg-%d", log));
 
         backgroundExecutor =
@@ -208,45 +225,39 @@ public class GossipDeviceStore
         addSubscriber(PORT_UPDATE, this::handlePortEvent);
         addSubscriber(PORT_STATUS_UPDATE, this::handlePortStatusEvent);
         addSubscriber(DEVICE_ADVERTISE, this::handleDeviceAdvertisement);
+        addSubscriber(PORT_STATS_UPDATE, this::handlePortStatsUpdate);
 
         // start anti-entropy thread
         backgroundExecutor.scheduleAtFixedRate(new SendAdvertisementTask(),
                                                initialDelaySec, periodSec, TimeUnit.SECONDS);
-
-        // Create a distributed map for port stats.
-        KryoNamespace.Builder deviceDataSerializer = KryoNamespace.newBuilder()
-                .register(KryoNamespaces.API)
-                .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
-                .register(MultiValuedTimestamp.class);
-
-        devicePortStats = storageService.<DeviceId, Map<PortNumber, PortStatistics>>eventuallyConsistentMapBuilder()
-                .withName("port-stats")
-                .withSerializer(deviceDataSerializer)
-                .withAntiEntropyPeriod(5, TimeUnit.SECONDS)
-                .withTimestampProvider((k, v) -> new WallClockTimestamp())
-                .withTombstonesDisabled()
-                .build();
-        devicePortDeltaStats = storageService.<DeviceId, Map<PortNumber, PortStatistics>>
-                eventuallyConsistentMapBuilder()
-                .withName("port-stats-delta")
-                .withSerializer(deviceDataSerializer)
-                .withAntiEntropyPeriod(5, TimeUnit.SECONDS)
-                .withTimestampProvider((k, v) -> new WallClockTimestamp())
-                .withTombstonesDisabled()
-                .build();
-        devicePortStats.addListener(portStatsListener);
         log.info("Started");
     }
 
+    @Modified
+    public void modified(ComponentContext context) {
+        Dictionary<?, ?> properties = context != null ? context.getProperties() : new Properties();
+
+        int newThreshold = getIntegerProperty(properties, "portStatsThreshold", portStatsThreshold);
+        int newFullSyncRounds = getIntegerProperty(properties, "portStatsFullSyncRounds",
+                                                   portStatsFullSyncRounds);
+        if (newThreshold < 0 || newFullSyncRounds < 1) {
+            log.warn("Ignoring invalid port statistics settings: threshold {}, full sync rounds {}",
+                     newThreshold, newFullSyncRounds);
+            return;
+        }
+        portStatsThreshold = newThreshold;
+        portStatsFullSyncRounds = newFullSyncRounds;
+        log.info("Settings: portStatsThreshold={}, portStatsFullSyncRounds={}",
+                 portStatsThreshold, portStatsFullSyncRounds);
+    }
+
     private <M> void addSubscriber(MessageSubject subject, Consumer<M> handler) {
         clusterCommunicator.addSubscriber(subject, SERIALIZER::decode, handler, executor);
     }
 
     @Deactivate
     public void deactivate() {
-        devicePortStats.removeListener(portStatsListener);
-        devicePortStats.destroy();
-        devicePortDeltaStats.destroy();
+        cfgService.unregisterProperties(getClass(), false);
         executor.shutdownNow();
 
         backgroundExecutor.shutdownNow();
@@ -261,6 +272,7 @@ public class GossipDeviceStore
         deviceDescs.clear();
         devices.clear();
         devicePorts.clear();
+        devicePortStats.clear();
         availableDevices.clear();
         clusterCommunicator.removeSubscriber(DEVICE_UPDATE);
         clusterCommunicator.removeSubscriber(DEVICE_OFFLINE);
@@ -269,6 +281,7 @@ public class GossipDeviceStore
         clusterCommunicator.removeSubscriber(PORT_UPDATE);
         clusterCommunicator.removeSubscriber(PORT_STATUS_UPDATE);
         clusterCommunicator.removeSubscriber(DEVICE_ADVERTISE);
+        clusterCommunicator.removeSubscriber(PORT_STATS_UPDATE);
         log.info("Stopped");
     }
 
@@ -884,32 +897,15 @@ public class GossipDeviceStore
     public DeviceEvent updatePortStatistics(ProviderId providerId, DeviceId deviceId,
                                             Collection<PortStatistics> newStatsCollection) {
 
-        Map<PortNumber, PortStatistics> prvStatsMap = devicePortStats.get(deviceId);
-        Map<PortNumber, PortStatistics> newStatsMap = Maps.newHashMap();
-        Map<PortNumber, PortStatistics> deltaStatsMap = Maps.newHashMap();
-
-        if (prvStatsMap != null) {
-            for (PortStatistics newStats : newStatsCollection) {
-                PortNumber port = PortNumber.portNumber(newStats.port());
-                PortStatistics prvStats = prvStatsMap.get(port);
-                DefaultPortStatistics.Builder builder = DefaultPortStatistics.builder();
-                PortStatistics deltaStats = builder.build();
-                if (prvStats != null) {
-                    deltaStats = calcDeltaStats(deviceId, prvStats, newStats);
-                }
-                deltaStatsMap.put(port, deltaStats);
-                newStatsMap.put(port, newStats);
-            }
-        } else {
-            for (PortStatistics newStats : newStatsCollection) {
-                PortNumber port = PortNumber.portNumber(newStats.port());
-                newStatsMap.put(port, newStats);
-            }
+        PortStatsTable table = devicePortStats.computeIfAbsent(deviceId, PortStatsTable::new);
+        MastershipTerm term = termService.getMastershipTerm(deviceId);
+        PortStatsUpdate update = table.record(newStatsCollection, term == null ? 0 : term.termNumber(),
+                                              portStatsThreshold, portStatsFullSyncRounds);
+        if (update != null) {
+            broadcastMessage(PORT_STATS_UPDATE, update);
         }
-        devicePortDeltaStats.put(deviceId, deltaStatsMap);
-        devicePortStats.put(deviceId, newStatsMap);
-        // DeviceEvent returns null because of InternalPortStatsListener usage
-        return null;
+        Device device = devices.get(deviceId);
+        return device == null ? null : new DeviceEvent(PORT_STATS_UPDATED, device);
     }
 
     /**
@@ -949,40 +945,38 @@ public class GossipDeviceStore
 
     @Override
     public List<PortStatistics> getPortStatistics(DeviceId deviceId) {
-        Map<PortNumber, PortStatistics> portStats = devicePortStats.get(deviceId);
-        if (portStats == null) {
+        PortStatsTable table = devicePortStats.get(deviceId);
+        if (table == null) {
             return Collections.emptyList();
         }
-        return ImmutableList.copyOf(portStats.values());
+        return table.statistics();
     }
 
     @Override
     public PortStatistics getStatisticsForPort(DeviceId deviceId, PortNumber portNumber) {
-        Map<PortNumber, PortStatistics> portStatsMap = devicePortStats.get(deviceId);
-        if (portStatsMap == null) {
+        PortStatsTable table = devicePortStats.get(deviceId);
+        if (table == null) {
             return null;
         }
-        PortStatistics portStats = portStatsMap.get(portNumber);
-        return portStats;
+        return table.statistics(portNumber);
     }
 
     @Override
     public List<PortStatistics> getPortDeltaStatistics(DeviceId deviceId) {
-        Map<PortNumber, PortStatistics> portStats = devicePortDeltaStats.get(deviceId);
-        if (portStats == null) {
+        PortStatsTable table = devicePortStats.get(deviceId);
+        if (table == null) {
             return Collections.emptyList();
         }
-        return ImmutableList.copyOf(portStats.values());
+        return table.deltaStatistics();
     }
 
     @Override
     public PortStatistics getDeltaStatisticsForPort(DeviceId deviceId, PortNumber portNumber) {
-        Map<PortNumber, PortStatistics> portStatsMap = devicePortDeltaStats.get(deviceId);
-        if (portStatsMap == null) {
+        PortStatsTable table = devicePortStats.get(deviceId);
+        if (table == null) {
             return null;
         }
-        PortStatistics portStats = portStatsMap.get(portNumber);
-        return portStats;
+        return table.deltaStatistics(portNumber);
     }
 
     @Override
@@ -1638,6 +1632,23 @@ public class GossipDeviceStore
         }
     }
 
+    private void handlePortStatsUpdate(PortStatsUpdate update) {
+        DeviceId deviceId = update.deviceId();
+        if (mastershipService.isLocalMaster(deviceId)) {
+            // the master polls the device itself and holds the latest statistics
+            return;
+        }
+        // updates are handled concurrently, so an older one may arrive last
+        if (!devicePortStats.computeIfAbsent(deviceId, PortStatsTable::new).apply(update)) {
+            log.debug("Dropping stale port statistics update {}", update);
+            return;
+        }
+        Device device = devices.get(deviceId);
+        if (device != null) {
+            notifyDelegate(new DeviceEvent(PORT_STATS_UPDATED, device));
+        }
+    }
+
     private void handleDeviceAdvertisement(DeviceAntiEntropyAdvertisement advertisement) {
         try {
             handleAdvertisement(advertisement);
@@ -1646,16 +1657,4 @@ public class GossipDeviceStore
         }
     }
 
-    private class InternalPortStatsListener
-            implements EventuallyConsistentMapListener<DeviceId, Map<PortNumber, PortStatistics>> {
-        @Override
-        public void event(EventuallyConsistentMapEvent<DeviceId, Map<PortNumber, PortStatistics>> event) {
-            if (event.type() == PUT) {
-                Device device = devices.get(event.key());
-                if (device != null) {
-                    notifyDelegate(new DeviceEvent(PORT_STATS_UPDATED, device));
-                }
-            }
-        }
-    }
 }
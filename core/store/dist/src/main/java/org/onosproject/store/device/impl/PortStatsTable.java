@@ -0,0 +1,382 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.device.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.device.DefaultPortStatistics;
+import org.onosproject.net.device.PortStatistics;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Port statistics of a single device, held in primitive arrays.
+ * <p>
+ * The counters of each port occupy {@link #WIDTH} consecutive slots of a
+ * {@code long[]}, in the order of the sorted port numbers, so a device with
+ * hundreds of ports costs a handful of arrays rather than one statistics
+ * object per port and per poll.
+ * </p>
+ * <p>
+ * On the master of the device, the table also remembers the counters last
+ * replicated to the peers. A port is replicated again once its packet
+ * counters have moved by at least the given threshold, or when it turns
+ * idle so that peers see its delta drop to zero; smaller changes are held
+ * back and accumulate. Every few rounds, and whenever a port disappears,
+ * the full table is replicated so that peers converge.
+ * </p>
+ * <p>
+ * Peers remember the term and sequence number of the last update applied,
+ * and drop any update which is not more recent.
+ * </p>
+ */
+final class PortStatsTable {
+
+    static final int PACKETS_RECEIVED = 0;
+    static final int PACKETS_SENT = 1;
+    static final int BYTES_RECEIVED = 2;
+    static final int BYTES_SENT = 3;
+    static final int PACKETS_RX_DROPPED = 4;
+    static final int PACKETS_TX_DROPPED = 5;
+    static final int PACKETS_RX_ERRORS = 6;
+    static final int PACKETS_TX_ERRORS = 7;
+    static final int DURATION_SEC = 8;
+    static final int DURATION_NANO = 9;
+    static final int WIDTH = 10;
+
+    private static final int[] PACKET_COUNTERS = {
+            PACKETS_RECEIVED, PACKETS_SENT, PACKETS_RX_DROPPED,
+            PACKETS_TX_DROPPED, PACKETS_RX_ERRORS, PACKETS_TX_ERRORS
+    };
+    private static final long[] NONE = new long[0];
+
+    private final DeviceId deviceId;
+
+    private long[] ports = NONE;
+    private long[] counters = NONE;
+    private long[] deltas = NONE;
+    private BitSet hasDelta = new BitSet();
+
+    // replication state, only maintained on the master
+    private long[] sent = NONE;
+    private BitSet hasSent = new BitSet();
+    private BitSet sentBusy = new BitSet();
+    private int rounds;
+    private long sequence;
+
+    // last update applied, only maintained on the peers
+    private long appliedTerm = -1;
+    private long appliedSequence = -1;
+
+    /**
+     * Creates an empty table for the specified device.
+     *
+     * @param deviceId device identifier
+     */
+    PortStatsTable(DeviceId deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    /**
+     * Records freshly polled statistics, which replace the previous ones,
+     * and returns the update to replicate to the peers.
+     *
+     * @param stats          polled port statistics
+     * @param term           current mastership term of the device
+     * @param threshold      minimum packet counter change for a port to be replicated
+     * @param fullSyncRounds number of rounds after which the full table is replicated
+     * @return update to replicate; null if nothing needs to be replicated
+     */
+    synchronized PortStatsUpdate record(Collection<PortStatistics> stats, long term,
+                                        long threshold, int fullSyncRounds) {
+        PortStatistics[] sorted = stats.toArray(new PortStatistics[stats.size()]);
+        Arrays.sort(sorted, Comparator.comparingLong(PortStatsTable::portOf));
+
+        int n = sorted.length;
+        long[] newPorts = new long[n];
+        long[] newCounters = new long[n * WIDTH];
+        long[] newDeltas = new long[n * WIDTH];
+        long[] newSent = new long[n * WIDTH];
+        BitSet newHasDelta = new BitSet(n);
+        BitSet newHasSent = new BitSet(n);
+        BitSet newSentBusy = new BitSet(n);
+
+        int retained = 0;
+        for (int i = 0; i < n; i++) {
+            newPorts[i] = portOf(sorted[i]);
+            write(sorted[i], newCounters, i);
+            int j = Arrays.binarySearch(ports, newPorts[i]);
+            if (j >= 0) {
+                retained++;
+                delta(counters, j, newCounters, i, newDeltas);
+                newHasDelta.set(i);
+                if (hasSent.get(j)) {
+                    System.arraycopy(sent, j * WIDTH, newSent, i * WIDTH, WIDTH);
+                    newHasSent.set(i);
+                    newSentBusy.set(i, sentBusy.get(j));
+                }
+            }
+        }
+
+        boolean full = ++rounds >= fullSyncRounds || retained < ports.length;
+        if (full) {
+            rounds = 0;
+        }
+
+        BitSet changed = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            boolean idle = !newHasDelta.get(i) || isIdle(newDeltas, i);
+            if (full || !newHasSent.get(i) ||
+                    distance(newCounters, newSent, i) >= threshold ||
+                    (idle && newSentBusy.get(i))) {
+                changed.set(i);
+                System.arraycopy(newCounters, i * WIDTH, newSent, i * WIDTH, WIDTH);
+                newHasSent.set(i);
+                newSentBusy.set(i, !idle);
+            }
+        }
+
+        ports = newPorts;
+        counters = newCounters;
+        deltas = newDeltas;
+        hasDelta = newHasDelta;
+        sent = newSent;
+        hasSent = newHasSent;
+        sentBusy = newSentBusy;
+
+        if (!full && changed.isEmpty()) {
+            return null;
+        }
+        return extract(changed, full, term);
+    }
+
+    /**
+     * Applies an update replicated by the master of the device, unless an
+     * update at least as recent has already been applied.
+     *
+     * @param update port statistics update
+     * @return true if the update was applied; false if it was stale
+     */
+    synchronized boolean apply(PortStatsUpdate update) {
+        if (!update.isNewerThan(appliedTerm, appliedSequence)) {
+            return false;
+        }
+        appliedTerm = update.term();
+        appliedSequence = update.sequence();
+
+        long[] updatePorts = update.ports();
+        BitSet updateHasDelta = BitSet.valueOf(update.deltaMask());
+        sent = NONE;
+        hasSent = new BitSet();
+        sentBusy = new BitSet();
+
+        if (update.isFull()) {
+            ports = updatePorts;
+            counters = update.counters();
+            deltas = update.deltas();
+            hasDelta = updateHasDelta;
+            return true;
+        }
+
+        grow(updatePorts);
+        for (int k = 0; k < updatePorts.length; k++) {
+            int j = Arrays.binarySearch(ports, updatePorts[k]);
+            System.arraycopy(update.counters(), k * WIDTH, counters, j * WIDTH, WIDTH);
+            System.arraycopy(update.deltas(), k * WIDTH, deltas, j * WIDTH, WIDTH);
+            hasDelta.set(j, updateHasDelta.get(k));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the statistics of all ports.
+     *
+     * @return list of port statistics
+     */
+    synchronized List<PortStatistics> statistics() {
+        ImmutableList.Builder<PortStatistics> builder = ImmutableList.builder();
+        for (int i = 0; i < ports.length; i++) {
+            builder.add(read(counters, i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the statistics of the specified port.
+     *
+     * @param portNumber port number
+     * @return port statistics; null if the port is not known
+     */
+    synchronized PortStatistics statistics(PortNumber portNumber) {
+        int i = Arrays.binarySearch(ports, portNumber.toLong());
+        return i < 0 ? null : read(counters, i);
+    }
+
+    /**
+     * Returns the delta statistics, between the last two polls, of all
+     * ports which have been polled at least twice.
+     *
+     * @return list of delta port statistics
+     */
+    synchronized List<PortStatistics> deltaStatistics() {
+        ImmutableList.Builder<PortStatistics> builder = ImmutableList.builder();
+        hasDelta.stream().forEach(i -> builder.add(read(deltas, i)));
+        return builder.build();
+    }
+
+    /**
+     * Returns the delta statistics of the specified port.
+     *
+     * @param portNumber port number
+     * @return delta port statistics; null if not available
+     */
+    synchronized PortStatistics deltaStatistics(PortNumber portNumber) {
+        int i = Arrays.binarySearch(ports, portNumber.toLong());
+        return i < 0 || !hasDelta.get(i) ? null : read(deltas, i);
+    }
+
+    /**
+     * Returns the number of ports held by the table.
+     *
+     * @return number of ports
+     */
+    synchronized int size() {
+        return ports.length;
+    }
+
+    private PortStatsUpdate extract(BitSet changed, boolean full, long term) {
+        int m = changed.cardinality();
+        long[] updatePorts = new long[m];
+        long[] updateCounters = new long[m * WIDTH];
+        long[] updateDeltas = new long[m * WIDTH];
+        BitSet updateHasDelta = new BitSet(m);
+        int k = 0;
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1), k++) {
+            updatePorts[k] = ports[i];
+            System.arraycopy(counters, i * WIDTH, updateCounters, k * WIDTH, WIDTH);
+            System.arraycopy(deltas, i * WIDTH, updateDeltas, k * WIDTH, WIDTH);
+            updateHasDelta.set(k, hasDelta.get(i));
+        }
+        return new PortStatsUpdate(deviceId, term, sequence++, full, updatePorts,
+                                   updateCounters, updateDeltas, updateHasDelta.toLongArray());
+    }
+
+    // Adds slots for the given sorted ports which are not yet in the table
+    private void grow(long[] newPorts) {
+        long[] missing = Arrays.stream(newPorts)
+                .filter(port -> Arrays.binarySearch(ports, port) < 0)
+                .toArray();
+        if (missing.length == 0) {
+            return;
+        }
+        long[] merged = new long[ports.length + missing.length];
+        System.arraycopy(ports, 0, merged, 0, ports.length);
+        System.arraycopy(missing, 0, merged, ports.length, missing.length);
+        Arrays.sort(merged);
+
+        long[] mergedCounters = new long[merged.length * WIDTH];
+        long[] mergedDeltas = new long[merged.length * WIDTH];
+        BitSet mergedHasDelta = new BitSet(merged.length);
+        for (int j = 0; j < ports.length; j++) {
+            int i = Arrays.binarySearch(merged, ports[j]);
+            System.arraycopy(counters, j * WIDTH, mergedCounters, i * WIDTH, WIDTH);
+            System.arraycopy(deltas, j * WIDTH, mergedDeltas, i * WIDTH, WIDTH);
+            mergedHasDelta.set(i, hasDelta.get(j));
+        }
+        ports = merged;
+        counters = mergedCounters;
+        deltas = mergedDeltas;
+        hasDelta = mergedHasDelta;
+    }
+
+    private static long portOf(PortStatistics stats) {
+        return stats.port() & 0xffffffffL;
+    }
+
+    private static void write(PortStatistics stats, long[] values, int slot) {
+        int base = slot * WIDTH;
+        values[base + PACKETS_RECEIVED] = stats.packetsReceived();
+        values[base + PACKETS_SENT] = stats.packetsSent();
+        values[base + BYTES_RECEIVED] = stats.bytesReceived();
+        values[base + BYTES_SENT] = stats.bytesSent();
+        values[base + PACKETS_RX_DROPPED] = stats.packetsRxDropped();
+        values[base + PACKETS_TX_DROPPED] = stats.packetsTxDropped();
+        values[base + PACKETS_RX_ERRORS] = stats.packetsRxErrors();
+        values[base + PACKETS_TX_ERRORS] = stats.packetsTxErrors();
+        values[base + DURATION_SEC] = stats.durationSec();
+        values[base + DURATION_NANO] = stats.durationNano();
+    }
+
+    private PortStatistics read(long[] values, int slot) {
+        int base = slot * WIDTH;
+        return DefaultPortStatistics.builder()
+                .setDeviceId(deviceId)
+                .setPort((int) ports[slot])
+                .setPacketsReceived(values[base + PACKETS_RECEIVED])
+                .setPacketsSent(values[base + PACKETS_SENT])
+                .setBytesReceived(values[base + BYTES_RECEIVED])
+                .setBytesSent(values[base + BYTES_SENT])
+                .setPacketsRxDropped(values[base + PACKETS_RX_DROPPED])
+                .setPacketsTxDropped(values[base + PACKETS_TX_DROPPED])
+                .setPacketsRxErrors(values[base + PACKETS_RX_ERRORS])
+                .setPacketsTxErrors(values[base + PACKETS_TX_ERRORS])
+                .setDurationSec(values[base + DURATION_SEC])
+                .setDurationNano(values[base + DURATION_NANO])
+                .build();
+    }
+
+    // Same arithmetic as GossipDeviceStore.calcDeltaStats
+    private static void delta(long[] prv, int prvSlot, long[] cur, int curSlot, long[] out) {
+        int p = prvSlot * WIDTH;
+        int c = curSlot * WIDTH;
+        for (int k = 0; k < DURATION_SEC; k++) {
+            out[c + k] = cur[c + k] - prv[p + k];
+        }
+        long sec = cur[c + DURATION_SEC] - prv[p + DURATION_SEC];
+        long nano = cur[c + DURATION_NANO] - prv[p + DURATION_NANO];
+        if (nano < 0) {
+            nano += TimeUnit.SECONDS.toNanos(1);
+            sec -= 1L;
+        }
+        out[c + DURATION_SEC] = sec;
+        out[c + DURATION_NANO] = nano;
+    }
+
+    private static boolean isIdle(long[] values, int slot) {
+        int base = slot * WIDTH;
+        for (int k : PACKET_COUNTERS) {
+            if (values[base + k] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long distance(long[] values, long[] reference, int slot) {
+        int base = slot * WIDTH;
+        long distance = 0;
+        for (int k : PACKET_COUNTERS) {
+            distance += Math.abs(values[base + k] - reference[base + k]);
+        }
+        return distance;
+    }
+}
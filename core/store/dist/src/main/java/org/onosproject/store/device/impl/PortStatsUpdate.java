@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.device.impl;
+
+import org.onosproject.net.DeviceId;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Compact port statistics update sent by the master of a device to its peers.
+ * <p>
+ * Counters are laid out in primitive arrays, {@link PortStatsTable#WIDTH}
+ * values per port, in the order of the port numbers. A full update carries
+ * every port of the device and replaces the statistics held by the peer; any
+ * other update only carries the ports which changed.
+ * </p>
+ * <p>
+ * Updates are ordered by the mastership term of the sender and by a sequence
+ * number it assigns within that term, so that peers can drop updates which
+ * arrive late.
+ * </p>
+ */
+final class PortStatsUpdate {
+
+    private final DeviceId deviceId;
+    private final long term;
+    private final long sequence;
+    private final boolean full;
+    private final long[] ports;
+    private final long[] counters;
+    private final long[] deltas;
+    private final long[] deltaMask;
+
+    // for serialization
+    private PortStatsUpdate() {
+        this(null, 0, 0, false, null, null, null, null);
+    }
+
+    /**
+     * Creates a port statistics update.
+     *
+     * @param deviceId  device identifier
+     * @param term      mastership term of the sender
+     * @param sequence  sequence number of the update within the term
+     * @param full      true if the update carries every port of the device
+     * @param ports     port numbers
+     * @param counters  counters of each port
+     * @param deltas    delta counters of each port
+     * @param deltaMask bit set, as returned by {@code BitSet.toLongArray()},
+     *                  of the ports which have delta counters
+     */
+    PortStatsUpdate(DeviceId deviceId, long term, long sequence, boolean full,
+                    long[] ports, long[] counters, long[] deltas, long[] deltaMask) {
+        this.deviceId = deviceId;
+        this.term = term;
+        this.sequence = sequence;
+        this.full = full;
+        this.ports = ports;
+        this.counters = counters;
+        this.deltas = deltas;
+        this.deltaMask = deltaMask;
+    }
+
+    DeviceId deviceId() {
+        return deviceId;
+    }
+
+    long term() {
+        return term;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns whether this update was sent after the specified one.
+     *
+     * @param term     mastership term of the other update
+     * @param sequence sequence number of the other update
+     * @return true if this update is more recent
+     */
+    boolean isNewerThan(long term, long sequence) {
+        return this.term > term || (this.term == term && this.sequence > sequence);
+    }
+
+    boolean isFull() {
+        return full;
+    }
+
+    long[] ports() {
+        return ports;
+    }
+
+    long[] counters() {
+        return counters;
+    }
+
+    long[] deltas() {
+        return deltas;
+    }
+
+    long[] deltaMask() {
+        return deltaMask;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(getClass())
+                .add("deviceId", deviceId)
+                .add("term", term)
+                .add("sequence", sequence)
+                .add("full", full)
+                .add("ports", ports.length)
+                .toString();
+    }
+}
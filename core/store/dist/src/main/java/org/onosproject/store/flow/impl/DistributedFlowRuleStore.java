@@ -22,11 +22,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -77,6 +79,7 @@ import org.onosproject.store.flow.ReplicaInfoEventListener;
 import org.onosproject.store.flow.ReplicaInfoService;
 import org.onosproject.store.impl.MastershipBasedTimestamp;
 import org.onosproject.store.serializers.KryoNamespaces;
+import org.onosproject.store.serializers.StoreSerializer;
 import org.onosproject.store.service.EventuallyConsistentMap;
 import org.onosproject.store.service.EventuallyConsistentMapEvent;
 import org.onosproject.store.service.EventuallyConsistentMapListener;
@@ -88,6 +91,7 @@ import org.slf4j.Logger;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
@@ -99,6 +103,7 @@ import static org.onosproject.net.flow.FlowRuleEvent.Type.RULE_REMOVED;
 import static org.onosproject.store.flow.ReplicaInfoEvent.Type.MASTER_CHANGED;
 import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.APPLY_BATCH_FLOWS;
 import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.FLOW_TABLE_BACKUP;
+import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.FLOW_TABLE_BACKUP_DELTA;
 import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.GET_DEVICE_FLOW_ENTRIES;
 import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.GET_FLOW_ENTRY;
 import static org.onosproject.store.flow.impl.FlowStoreMessageSubjects.REMOTE_APPLY_COMPLETED;
@@ -119,6 +124,7 @@ public class DistributedFlowRuleStore
     private static final int MESSAGE_HANDLER_THREAD_POOL_SIZE = 8;
     private static final int DEFAULT_MAX_BACKUP_COUNT = 2;
     private static final boolean DEFAULT_PERSISTENCE_ENABLED = false;
+    private static final boolean DEFAULT_BACKUP_DELTA_ENABLED = false;
     private static final int DEFAULT_BACKUP_PERIOD_MILLIS = 2000;
     private static final long FLOW_RULE_STORE_TIMEOUT_MILLIS = 5000;
     // number of devices whose flow entries will be backed up in one communication round
@@ -139,6 +145,11 @@ public class DistributedFlowRuleStore
             label = "Max number of backup copies for each device")
     private volatile int backupCount = DEFAULT_MAX_BACKUP_COUNT;
 
+    @Property(name = "backupDeltaEnabled", boolValue = DEFAULT_BACKUP_DELTA_ENABLED,
+            label = "Indicates whether only the flow entries changed since the last " +
+                    "acknowledged backup should be sent to backup nodes")
+    private volatile boolean backupDeltaEnabled = DEFAULT_BACKUP_DELTA_ENABLED;
+
     private InternalFlowTable flowTable = new InternalFlowTable();
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
@@ -180,7 +191,12 @@ public class DistributedFlowRuleStore
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected StorageService storageService;
 
-    protected final Serializer serializer = Serializer.using(KryoNamespaces.API);
+    protected final StoreSerializer serializer = StoreSerializer.using(KryoNamespaces.API);
+
+    protected final StoreSerializer backupSerializer = StoreSerializer.using(KryoNamespace.newBuilder()
+            .register(KryoNamespaces.API)
+            .register(FlowTableBackupDelta.class)
+            .build());
 
     protected final KryoNamespace.Builder serializerBuilder = KryoNamespace.newBuilder()
             .register(KryoNamespaces.API)
@@ -216,6 +232,7 @@ public class DistributedFlowRuleStore
                 .withName("onos-flow-table-stats")
                 .withSerializer(serializerBuilder)
                 .withAntiEntropyPeriod(5, TimeUnit.SECONDS)
+                .withTreeAntiEntropy()
                 .withTimestampProvider((k, v) -> new WallClockTimestamp())
                 .withTombstonesDisabled()
                 .build();
@@ -250,6 +267,7 @@ public class DistributedFlowRuleStore
         int newPoolSize;
         int newBackupPeriod;
         int newBackupCount;
+        boolean newBackupDeltaEnabled;
         try {
             String s = get(properties, "msgHandlerPoolSize");
             newPoolSize = isNullOrEmpty(s) ? msgHandlerPoolSize : Integer.parseInt(s.trim());
@@ -259,10 +277,14 @@ public class DistributedFlowRuleStore
 
             s = get(properties, "backupCount");
             newBackupCount = isNullOrEmpty(s) ? backupCount : Integer.parseInt(s.trim());
+
+            s = get(properties, "backupDeltaEnabled");
+            newBackupDeltaEnabled = isNullOrEmpty(s) ? backupDeltaEnabled : Boolean.parseBoolean(s.trim());
         } catch (NumberFormatException | ClassCastException e) {
             newPoolSize = MESSAGE_HANDLER_THREAD_POOL_SIZE;
             newBackupPeriod = DEFAULT_BACKUP_PERIOD_MILLIS;
             newBackupCount = DEFAULT_MAX_BACKUP_COUNT;
+            newBackupDeltaEnabled = DEFAULT_BACKUP_DELTA_ENABLED;
         }
 
         boolean restartBackupTask = false;
@@ -295,6 +317,11 @@ public class DistributedFlowRuleStore
         if (backupCount != newBackupCount) {
             backupCount = newBackupCount;
         }
+        if (backupDeltaEnabled != newBackupDeltaEnabled) {
+            backupDeltaEnabled = newBackupDeltaEnabled;
+            // sequence numbers acknowledged so far are only meaningful in delta mode
+            flowTable.resetBackupSequences();
+        }
         logConfig("Reconfigured");
     }
 
@@ -302,15 +329,18 @@ public class DistributedFlowRuleStore
 
         clusterCommunicator.addSubscriber(APPLY_BATCH_FLOWS, new OnStoreBatch(), executor);
         clusterCommunicator.<FlowRuleBatchEvent>addSubscriber(
-                REMOTE_APPLY_COMPLETED, serializer::decode, this::notifyDelegate, executor);
+                REMOTE_APPLY_COMPLETED, serializer.decoder(), this::notifyDelegate, executor);
         clusterCommunicator.addSubscriber(
-                GET_FLOW_ENTRY, serializer::decode, flowTable::getFlowEntry, serializer::encode, executor);
+                GET_FLOW_ENTRY, serializer.decoder(), flowTable::getFlowEntry, serializer::encode, executor);
         clusterCommunicator.addSubscriber(
-                GET_DEVICE_FLOW_ENTRIES, serializer::decode, flowTable::getFlowEntries, serializer::encode, executor);
+                GET_DEVICE_FLOW_ENTRIES, serializer.decoder(), flowTable::getFlowEntries, serializer::encode, executor);
         clusterCommunicator.addSubscriber(
-                REMOVE_FLOW_ENTRY, serializer::decode, this::removeFlowRuleInternal, serializer::encode, executor);
+                REMOVE_FLOW_ENTRY, serializer.decoder(), this::removeFlowRuleInternal, serializer::encode, executor);
         clusterCommunicator.addSubscriber(
-                FLOW_TABLE_BACKUP, serializer::decode, flowTable::onBackupReceipt, serializer::encode, executor);
+                FLOW_TABLE_BACKUP, serializer.decoder(), flowTable::onBackupReceipt, serializer::encode, executor);
+        clusterCommunicator.addSubscriber(
+                FLOW_TABLE_BACKUP_DELTA, backupSerializer.decoder(), flowTable::onBackupDeltaReceipt,
+                backupSerializer::encode, executor);
     }
 
     private void unregisterMessageHandlers() {
@@ -320,11 +350,12 @@ public class DistributedFlowRuleStore
         clusterCommunicator.removeSubscriber(APPLY_BATCH_FLOWS);
         clusterCommunicator.removeSubscriber(REMOTE_APPLY_COMPLETED);
         clusterCommunicator.removeSubscriber(FLOW_TABLE_BACKUP);
+        clusterCommunicator.removeSubscriber(FLOW_TABLE_BACKUP_DELTA);
     }
 
     private void logConfig(String prefix) {
-        log.info("{} with msgHandlerPoolSize = {}; backupPeriod = {}, backupCount = {}",
-                 prefix, msgHandlerPoolSize, backupPeriod, backupCount);
+        log.info("{} with msgHandlerPoolSize = {}; backupPeriod = {}, backupCount = {}, backupDeltaEnabled = {}",
+                 prefix, msgHandlerPoolSize, backupPeriod, backupCount, backupDeltaEnabled);
     }
 
     // This is not a efficient operation on a distributed sharded
@@ -333,10 +364,18 @@ public class DistributedFlowRuleStore
     @Override
     public int getFlowRuleCount() {
         return Streams.stream(deviceService.getDevices()).parallel()
-                        .mapToInt(device -> Iterables.size(getFlowEntries(device.id())))
+                        .mapToInt(device -> getFlowRuleCount(device.id()))
                         .sum();
     }
 
+    @Override
+    public int getFlowRuleCount(DeviceId deviceId) {
+        if (mastershipService.isLocalMaster(deviceId)) {
+            return flowTable.getFlowRuleCount(deviceId);
+        }
+        return Iterables.size(getFlowEntries(deviceId));
+    }
+
     @Override
     public FlowEntry getFlowEntry(FlowRule rule) {
         NodeId master = mastershipService.getMasterFor(rule.deviceId());
@@ -355,7 +394,7 @@ public class DistributedFlowRuleStore
 
         return Tools.futureGetOrElse(clusterCommunicator.sendAndReceive(rule,
                                     FlowStoreMessageSubjects.GET_FLOW_ENTRY,
-                                    serializer::encode,
+                                    serializer.encoder(),
                                     serializer::decode,
                                     master),
                                FLOW_RULE_STORE_TIMEOUT_MILLIS,
@@ -381,7 +420,7 @@ public class DistributedFlowRuleStore
 
         return Tools.futureGetOrElse(clusterCommunicator.sendAndReceive(deviceId,
                                     FlowStoreMessageSubjects.GET_DEVICE_FLOW_ENTRIES,
-                                    serializer::encode,
+                                    serializer.encoder(),
                                     serializer::decode,
                                     master),
                                FLOW_RULE_STORE_TIMEOUT_MILLIS,
@@ -429,7 +468,7 @@ public class DistributedFlowRuleStore
 
         clusterCommunicator.unicast(operation,
                                     APPLY_BATCH_FLOWS,
-                                    serializer::encode,
+                                    serializer.encoder(),
                                     master)
                            .whenComplete((result, error) -> {
                                if (error != null) {
@@ -482,6 +521,7 @@ public class DistributedFlowRuleStore
                             if (entry != null) {
                                 //FIXME modification of "stored" flow entry outside of flow table
                                 entry.setState(FlowEntryState.PENDING_REMOVE);
+                                flowTable.recordUpdate(entry);
                                 log.debug("Setting state of rule to pending remove: {}", entry);
                                 return op;
                             }
@@ -514,6 +554,7 @@ public class DistributedFlowRuleStore
             if (stored != null &&
                     stored.state() != FlowEntryState.PENDING_ADD) {
                 stored.setState(FlowEntryState.PENDING_ADD);
+                flowTable.recordUpdate(stored);
                 return new FlowRuleEvent(Type.RULE_UPDATED, rule);
             }
         }
@@ -544,6 +585,7 @@ public class DistributedFlowRuleStore
             stored.setLastSeen();
             if (stored.state() == FlowEntryState.PENDING_ADD) {
                 stored.setState(FlowEntryState.ADDED);
+                flowTable.recordUpdate(stored);
                 return new FlowRuleEvent(Type.RULE_ADDED, rule);
             }
             return new FlowRuleEvent(Type.RULE_UPDATED, rule);
@@ -577,7 +619,7 @@ public class DistributedFlowRuleStore
         return Futures.getUnchecked(clusterCommunicator.sendAndReceive(
                                rule,
                                REMOVE_FLOW_ENTRY,
-                               serializer::encode,
+                               serializer.encoder(),
                                serializer::decode,
                                master));
     }
@@ -608,7 +650,7 @@ public class DistributedFlowRuleStore
             notifyDelegate(event);
         } else {
             // TODO check unicast return value
-            clusterCommunicator.unicast(event, REMOTE_APPLY_COMPLETED, serializer::encode, nodeId);
+            clusterCommunicator.unicast(event, REMOTE_APPLY_COMPLETED, serializer.encoder(), nodeId);
             //error log: log.warn("Failed to respond to peer for batch operation result");
         }
     }
@@ -676,6 +718,17 @@ public class DistributedFlowRuleStore
         private final Map<BackupOperation, Long> lastBackupTimes = Maps.newConcurrentMap();
         private final Map<DeviceId, Long> lastUpdateTimes = Maps.newConcurrentMap();
 
+        // delta backup state on the master: per device change log and
+        // the sequence number last acknowledged by each backup node
+        private final Map<DeviceId, FlowTableChangeLog> changeLogs = Maps.newConcurrentMap();
+        private final Map<BackupOperation, Long> lastBackupSequences = Maps.newConcurrentMap();
+        // backup nodes each device was last backed up to
+        private final Map<DeviceId, List<NodeId>> lastBackupNodes = Maps.newConcurrentMap();
+
+        // delta backup state on the backup nodes: sender and sequence number
+        // of the backup copy held for each device
+        private final Map<DeviceId, BackupSequence> backupSequences = Maps.newConcurrentMap();
+
         @Override
         public void event(ReplicaInfoEvent event) {
             eventHandler.execute(() -> handleEvent(event));
@@ -688,6 +741,9 @@ public class DistributedFlowRuleStore
             }
             if (event.type() == MASTER_CHANGED) {
                 lastUpdateTimes.put(deviceId, System.currentTimeMillis());
+                if (backupDeltaEnabled) {
+                    getChangeLog(deviceId).touch();
+                }
             }
             backupSenderExecutor.schedule(this::backup, 0, TimeUnit.SECONDS);
         }
@@ -711,7 +767,7 @@ public class DistributedFlowRuleStore
                                  Set<DeviceId>>
                     sendAndReceive(deviceFlowEntries,
                                    FLOW_TABLE_BACKUP,
-                                   serializer::encode,
+                                   serializer.encoder(),
                                    serializer::decode,
                                    nodeId)
                     .whenComplete((backedupDevices, error) -> {
@@ -807,6 +863,12 @@ public class DistributedFlowRuleStore
             return getFlowEntriesInternal(deviceId);
         }
 
+        public int getFlowRuleCount(DeviceId deviceId) {
+            return getFlowTable(deviceId).values().stream()
+                        .mapToInt(Map::size)
+                        .sum();
+        }
+
         public void add(FlowEntry rule) {
             getFlowEntriesInternal(rule.deviceId(), rule.id())
                     .compute((StoredFlowEntry) rule, (k, stored) -> {
@@ -815,6 +877,7 @@ public class DistributedFlowRuleStore
                         return (StoredFlowEntry) rule;
                     });
             lastUpdateTimes.put(rule.deviceId(), System.currentTimeMillis());
+            recordUpdate((StoredFlowEntry) rule);
         }
 
         public FlowEntry remove(DeviceId deviceId, FlowEntry rule) {
@@ -839,6 +902,9 @@ public class DistributedFlowRuleStore
 
             if (removedRule.get() != null) {
                 lastUpdateTimes.put(deviceId, System.currentTimeMillis());
+                if (backupDeltaEnabled) {
+                    getChangeLog(deviceId).recordRemoval((StoredFlowEntry) removedRule.get());
+                }
                 return removedRule.get();
             } else {
                 return null;
@@ -847,10 +913,42 @@ public class DistributedFlowRuleStore
 
         public void purgeFlowRule(DeviceId deviceId) {
             flowEntries.remove(deviceId);
+            FlowTableChangeLog changeLog = changeLogs.get(deviceId);
+            if (changeLog != null) {
+                changeLog.reset();
+            }
+            lastBackupNodes.remove(deviceId);
+            backupSequences.remove(deviceId);
         }
 
         public void purgeFlowRules() {
             flowEntries.clear();
+            changeLogs.values().forEach(FlowTableChangeLog::reset);
+            lastBackupNodes.clear();
+            backupSequences.clear();
+        }
+
+        /**
+         * Records an in-place update of a stored flow entry, such as a state
+         * transition, so that it is included in the next delta backup.
+         *
+         * @param entry updated flow entry
+         */
+        public void recordUpdate(StoredFlowEntry entry) {
+            if (backupDeltaEnabled) {
+                getChangeLog(entry.deviceId()).recordUpdate(entry);
+            }
+        }
+
+        private FlowTableChangeLog getChangeLog(DeviceId deviceId) {
+            return changeLogs.computeIfAbsent(deviceId, FlowTableChangeLog::new);
+        }
+
+        private void resetBackupSequences() {
+            changeLogs.clear();
+            lastBackupSequences.clear();
+            lastBackupNodes.clear();
+            backupSequences.clear();
         }
 
         private List<NodeId> getBackupNodes(DeviceId deviceId) {
@@ -861,6 +959,10 @@ public class DistributedFlowRuleStore
         }
 
         private void backup() {
+            if (backupDeltaEnabled) {
+                backupDeltas();
+                return;
+            }
             try {
                 // compute a mapping from node to the set of devices whose flow entries it should backup
                 Map<NodeId, Set<DeviceId>> devicesToBackupByNode = Maps.newHashMap();
@@ -893,6 +995,7 @@ public class DistributedFlowRuleStore
                                 getFlowTable(deviceId);
                         backupFlowTable.clear();
                         backupFlowTable.putAll(deviceFlowTable);
+                        backupSequences.remove(deviceId);
                         backedupDevices.add(deviceId);
                     }
                 });
@@ -901,6 +1004,158 @@ public class DistributedFlowRuleStore
             }
             return backedupDevices;
         }
+
+        private void backupDeltas() {
+            try {
+                // walk every device rather than the change logs, so that devices
+                // without changes since the last reset are still backed up
+                flowEntries.keySet().forEach(deviceId -> {
+                    if (!mastershipService.isLocalMaster(deviceId)) {
+                        return;
+                    }
+                    FlowTableChangeLog changeLog = getChangeLog(deviceId);
+                    List<NodeId> backupNodes = getBackupNodes(deviceId);
+                    List<NodeId> previousNodes = lastBackupNodes.put(deviceId, backupNodes);
+                    if (previousNodes != null && !previousNodes.equals(backupNodes)) {
+                        // nodes that stopped being backups may drop their copy;
+                        // sync them in full should they become backups again
+                        previousNodes.stream()
+                                .filter(nodeId -> !backupNodes.contains(nodeId))
+                                .forEach(nodeId -> lastBackupSequences.remove(new BackupOperation(nodeId, deviceId)));
+                    }
+                    if (backupNodes.isEmpty()) {
+                        // nobody to back up to; do not let the log grow
+                        changeLog.trim(changeLog.sequence());
+                        return;
+                    }
+                    long sequence = changeLog.sequence();
+                    backupNodes.forEach(backupNode -> {
+                        long acked = lastBackupSequences.getOrDefault(new BackupOperation(backupNode, deviceId), -1L);
+                        if (acked < sequence) {
+                            backupFlowTableDelta(backupNode, deviceId, changeLog, acked);
+                        }
+                    });
+                });
+            } catch (Exception e) {
+                log.error("Backup failed.", e);
+            }
+        }
+
+        private void backupFlowTableDelta(NodeId nodeId, DeviceId deviceId,
+                                          FlowTableChangeLog changeLog, long acked) {
+            FlowTableBackupDelta delta = changeLog.deltaSince(local, acked);
+            if (delta == null) {
+                backupFullFlowTable(nodeId, deviceId, changeLog);
+                return;
+            }
+            log.debug("Sending flow table delta {} to {} for backup.", delta, nodeId);
+            sendBackupDelta(nodeId, delta).whenComplete((applied, error) -> {
+                if (error == null && !applied) {
+                    // the backup node holds a different version of the table;
+                    // fall back to a full table sync
+                    log.debug("Flow table sequence of {} diverged on {}; sending full table",
+                              deviceId, nodeId);
+                    backupSenderExecutor.execute(() -> backupFullFlowTable(nodeId, deviceId, changeLog));
+                }
+            });
+        }
+
+        private void backupFullFlowTable(NodeId nodeId, DeviceId deviceId, FlowTableChangeLog changeLog) {
+            // read the sequence number first; changes racing with the copy are
+            // re-sent with the next delta, which is idempotent on the backup node
+            long sequence = changeLog.sequence();
+            List<StoredFlowEntry> entries = Lists.newArrayList();
+            getFlowTable(deviceId).values().forEach(m -> entries.addAll(m.values()));
+            FlowTableBackupDelta full = FlowTableBackupDelta.full(local, deviceId, sequence, entries);
+            log.debug("Sending full flow table {} to {} for backup.", full, nodeId);
+            sendBackupDelta(nodeId, full);
+        }
+
+        private CompletableFuture<Boolean> sendBackupDelta(NodeId nodeId, FlowTableBackupDelta delta) {
+            BackupOperation operation = new BackupOperation(nodeId, delta.deviceId());
+            return clusterCommunicator.<FlowTableBackupDelta, Boolean>sendAndReceive(
+                    delta,
+                    FLOW_TABLE_BACKUP_DELTA,
+                    backupSerializer.encoder(),
+                    backupSerializer::decode,
+                    nodeId)
+                    .whenComplete((applied, error) -> {
+                        if (error != null) {
+                            log.warn("Failed to backup device: {}. Reason: {}, Node: {}",
+                                     delta.deviceId(), error.getMessage(), nodeId);
+                            lastBackupSequences.remove(operation);
+                        } else if (applied) {
+                            lastBackupSequences.merge(operation, delta.sequence(), Math::max);
+                            trimChangeLog(delta.deviceId());
+                        } else {
+                            lastBackupSequences.remove(operation);
+                        }
+                    });
+        }
+
+        private void trimChangeLog(DeviceId deviceId) {
+            FlowTableChangeLog changeLog = changeLogs.get(deviceId);
+            if (changeLog == null) {
+                return;
+            }
+            // only backup nodes that have been synced at least once hold back trimming;
+            // any other node will receive a full table sync anyway
+            getBackupNodes(deviceId).stream()
+                    .map(nodeId -> lastBackupSequences.get(new BackupOperation(nodeId, deviceId)))
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .min()
+                    .ifPresent(changeLog::trim);
+        }
+
+        private boolean onBackupDeltaReceipt(FlowTableBackupDelta delta) {
+            DeviceId deviceId = delta.deviceId();
+            log.debug("Received flow table delta {} to backup", delta);
+            // Only process those devices are that not managed by the local node.
+            if (Objects.equals(local, mastershipService.getMasterFor(deviceId))) {
+                return false;
+            }
+            NodeId sender = delta.sender();
+            AtomicBoolean applied = new AtomicBoolean();
+            try {
+                backupSequences.compute(deviceId, (id, current) -> {
+                    Map<FlowId, Map<StoredFlowEntry, StoredFlowEntry>> backupFlowTable = getFlowTable(deviceId);
+                    if (delta.isFull()) {
+                        backupFlowTable.clear();
+                    } else if (current == null || !Objects.equals(current.sender, sender)) {
+                        // no baseline from this master; it will follow up with a full sync
+                        return current;
+                    } else if (current.sequence >= delta.sequence()) {
+                        // duplicate of a delta that has already been applied
+                        applied.set(true);
+                        return current;
+                    } else if (current.sequence < delta.baseSequence()) {
+                        // changes are missing between the two; the master will follow up
+                        // with a full sync
+                        return current;
+                    }
+                    // deltas carry the latest state of every entry changed since their
+                    // base, so one based on an earlier sequence can still be applied
+                    delta.removed().forEach(entry -> getFlowEntriesInternal(deviceId, entry.id()).remove(entry));
+                    delta.updated().forEach(entry -> getFlowEntriesInternal(deviceId, entry.id()).put(entry, entry));
+                    applied.set(true);
+                    return new BackupSequence(sender, delta.sequence());
+                });
+            } catch (Exception e) {
+                log.warn("Failure processing backup request", e);
+            }
+            return applied.get();
+        }
+    }
+
+    private static final class BackupSequence {
+        private final NodeId sender;
+        private final long sequence;
+
+        private BackupSequence(NodeId sender, long sequence) {
+            this.sender = sender;
+            this.sequence = sequence;
+        }
     }
 
     @Override
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.flow.impl;
+
+import java.util.List;
+
+import org.onosproject.cluster.NodeId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.StoredFlowEntry;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Incremental (or full) flow table backup sent by the master of a device
+ * to its backup nodes.
+ * <p>
+ * A delta carries the flow entries updated or removed between
+ * {@code baseSequence} and {@code sequence}; a full sync carries the whole
+ * table as of {@code sequence} and replaces whatever the backup node holds.
+ */
+public final class FlowTableBackupDelta {
+
+    private final NodeId sender;
+    private final DeviceId deviceId;
+    private final boolean full;
+    private final long baseSequence;
+    private final long sequence;
+    private final List<StoredFlowEntry> updated;
+    private final List<StoredFlowEntry> removed;
+
+    private FlowTableBackupDelta(NodeId sender,
+                                 DeviceId deviceId,
+                                 boolean full,
+                                 long baseSequence,
+                                 long sequence,
+                                 List<StoredFlowEntry> updated,
+                                 List<StoredFlowEntry> removed) {
+        this.sender = sender;
+        this.deviceId = deviceId;
+        this.full = full;
+        this.baseSequence = baseSequence;
+        this.sequence = sequence;
+        this.updated = updated;
+        this.removed = removed;
+    }
+
+    /**
+     * Creates a delta backup.
+     *
+     * @param sender       node sending the backup
+     * @param deviceId     device identifier
+     * @param baseSequence sequence number the delta applies on top of
+     * @param sequence     sequence number of the table once the delta is applied
+     * @param updated      flow entries added or updated since the base sequence
+     * @param removed      flow entries removed since the base sequence
+     * @return delta backup
+     */
+    public static FlowTableBackupDelta delta(NodeId sender,
+                                             DeviceId deviceId,
+                                             long baseSequence,
+                                             long sequence,
+                                             List<StoredFlowEntry> updated,
+                                             List<StoredFlowEntry> removed) {
+        return new FlowTableBackupDelta(sender, deviceId, false, baseSequence, sequence, updated, removed);
+    }
+
+    /**
+     * Creates a full table backup.
+     *
+     * @param sender   node sending the backup
+     * @param deviceId device identifier
+     * @param sequence sequence number of the table
+     * @param entries  all flow entries of the table
+     * @return full table backup
+     */
+    public static FlowTableBackupDelta full(NodeId sender,
+                                            DeviceId deviceId,
+                                            long sequence,
+                                            List<StoredFlowEntry> entries) {
+        return new FlowTableBackupDelta(sender, deviceId, true, -1, sequence, entries, ImmutableList.of());
+    }
+
+    /**
+     * Returns the node that sent the backup.
+     *
+     * @return node identifier
+     */
+    public NodeId sender() {
+        return sender;
+    }
+
+    /**
+     * Returns the device identifier.
+     *
+     * @return device identifier
+     */
+    public DeviceId deviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Returns whether this is a full table sync rather than a delta.
+     *
+     * @return true for a full table sync
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Returns the sequence number the delta applies on top of.
+     *
+     * @return base sequence number; -1 for a full table sync
+     */
+    public long baseSequence() {
+        return baseSequence;
+    }
+
+    /**
+     * Returns the sequence number of the table once this backup is applied.
+     *
+     * @return sequence number
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the flow entries added or updated.
+     *
+     * @return updated flow entries
+     */
+    public List<StoredFlowEntry> updated() {
+        return updated;
+    }
+
+    /**
+     * Returns the flow entries removed; empty for a full table sync.
+     *
+     * @return removed flow entries
+     */
+    public List<StoredFlowEntry> removed() {
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass())
+                .add("sender", sender)
+                .add("deviceId", deviceId)
+                .add("full", full)
+                .add("baseSequence", baseSequence)
+                .add("sequence", sequence)
+                .add("updated", updated.size())
+                .add("removed", removed.size())
+                .toString();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.flow.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.onosproject.cluster.NodeId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.StoredFlowEntry;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Sequenced log of the changes made to the flow table of a single device,
+ * used to compute incremental backups.
+ * <p>
+ * Changes to the same flow entry are coalesced so that the log never holds
+ * more than one record per flow entry. Records acknowledged by every backup
+ * node are trimmed; a backup node whose last acknowledged sequence number
+ * precedes the trimmed base can no longer be served a delta and must be
+ * sent the full table instead.
+ * <p>
+ * Removal records outlive the flow entries they describe, so they are
+ * bounded separately: once more removals are retained than allowed, for
+ * instance because the backup nodes are unreachable, the log is cleared and
+ * every backup node is sent the full table.
+ */
+final class FlowTableChangeLog {
+
+    static final int DEFAULT_MAX_REMOVALS = 10_000;
+
+    private final DeviceId deviceId;
+    private final int maxRemovals;
+    private final Map<StoredFlowEntry, Change> changes = Maps.newHashMap();
+    private int removals;
+    private long sequence;
+    private long baseSequence;
+
+    /**
+     * Creates an empty change log for the specified device.
+     *
+     * @param deviceId device identifier
+     */
+    FlowTableChangeLog(DeviceId deviceId) {
+        this(deviceId, DEFAULT_MAX_REMOVALS);
+    }
+
+    /**
+     * Creates an empty change log for the specified device, retaining at
+     * most the given number of removal records.
+     *
+     * @param deviceId    device identifier
+     * @param maxRemovals maximum number of removal records retained
+     */
+    FlowTableChangeLog(DeviceId deviceId, int maxRemovals) {
+        this.deviceId = deviceId;
+        this.maxRemovals = maxRemovals;
+    }
+
+    /**
+     * Returns the sequence number of the latest change.
+     *
+     * @return sequence number
+     */
+    synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the lowest sequence number a delta can be computed from.
+     *
+     * @return base sequence number
+     */
+    synchronized long baseSequence() {
+        return baseSequence;
+    }
+
+    /**
+     * Returns the number of change records currently retained.
+     *
+     * @return number of change records
+     */
+    synchronized int size() {
+        return changes.size();
+    }
+
+    /**
+     * Records the addition or update of a flow entry.
+     *
+     * @param entry flow entry
+     * @return sequence number of the change
+     */
+    synchronized long recordUpdate(StoredFlowEntry entry) {
+        return record(entry, false);
+    }
+
+    /**
+     * Records the removal of a flow entry.
+     *
+     * @param entry flow entry
+     * @return sequence number of the change
+     */
+    synchronized long recordRemoval(StoredFlowEntry entry) {
+        return record(entry, true);
+    }
+
+    private long record(StoredFlowEntry entry, boolean removed) {
+        Change previous = changes.put(entry, new Change(++sequence, entry, removed));
+        if (previous != null && previous.removed) {
+            removals--;
+        }
+        if (removed && ++removals > maxRemovals) {
+            // the backup nodes are not keeping up; fall back to full syncs
+            changes.clear();
+            removals = 0;
+            baseSequence = sequence;
+        }
+        return sequence;
+    }
+
+    /**
+     * Advances the sequence number without recording a change, so that
+     * backup nodes which have not yet been synced are picked up.
+     *
+     * @return new sequence number
+     */
+    synchronized long touch() {
+        return ++sequence;
+    }
+
+    /**
+     * Returns whether a delta can be computed from the specified sequence number.
+     *
+     * @param acked sequence number last acknowledged by a backup node
+     * @return true if a delta can be served
+     */
+    synchronized boolean canDeltaFrom(long acked) {
+        return acked >= baseSequence && acked <= sequence;
+    }
+
+    /**
+     * Returns the delta between the specified sequence number and the latest change.
+     *
+     * @param sender node sending the backup
+     * @param acked  sequence number last acknowledged by a backup node
+     * @return delta backup, or null if the changes have already been trimmed
+     */
+    synchronized FlowTableBackupDelta deltaSince(NodeId sender, long acked) {
+        if (!canDeltaFrom(acked)) {
+            return null;
+        }
+        List<StoredFlowEntry> updated = Lists.newArrayList();
+        List<StoredFlowEntry> removed = Lists.newArrayList();
+        changes.values().forEach(change -> {
+            if (change.sequence > acked) {
+                (change.removed ? removed : updated).add(change.entry);
+            }
+        });
+        return FlowTableBackupDelta.delta(sender, deviceId, acked, sequence, updated, removed);
+    }
+
+    /**
+     * Discards the changes acknowledged up to and including the specified
+     * sequence number.
+     *
+     * @param acked lowest sequence number acknowledged by all backup nodes
+     */
+    synchronized void trim(long acked) {
+        if (acked <= baseSequence) {
+            return;
+        }
+        baseSequence = Math.min(acked, sequence);
+        changes.values().removeIf(change -> change.sequence <= baseSequence);
+        removals = (int) changes.values().stream().filter(change -> change.removed).count();
+    }
+
+    /**
+     * Discards all retained changes; subsequent backups will be full syncs.
+     */
+    synchronized void reset() {
+        changes.clear();
+        removals = 0;
+        baseSequence = ++sequence;
+    }
+
+    private static final class Change {
+        private final long sequence;
+        private final StoredFlowEntry entry;
+        private final boolean removed;
+
+        private Change(long sequence, StoredFlowEntry entry, boolean removed) {
+            this.sequence = sequence;
+            this.entry = entry;
+            this.removed = removed;
+        }
+    }
+}
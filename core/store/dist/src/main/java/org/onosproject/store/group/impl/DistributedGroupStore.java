@@ -74,6 +74,8 @@ import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -203,6 +205,11 @@ public class DistributedGroupStore
                                           clusterMsgSerializer::deserialize,
                                           this::process,
                                           messageHandlingExecutor);
+        clusterCommunicator.<List<GroupStoreMessage>>addSubscriber(
+                GroupStoreMessageSubjects.REMOTE_GROUP_OP_BATCH_REQUEST,
+                clusterMsgSerializer::deserialize,
+                this::processBatch,
+                messageHandlingExecutor);
 
         log.debug("Creating Consistent map onos-group-store-keymap");
 
@@ -245,6 +252,7 @@ public class DistributedGroupStore
         groupStoreEntriesByKey.removeListener(mapListener);
         cfgService.unregisterProperties(getClass(), false);
         clusterCommunicator.removeSubscriber(GroupStoreMessageSubjects.REMOTE_GROUP_OP_REQUEST);
+        clusterCommunicator.removeSubscriber(GroupStoreMessageSubjects.REMOTE_GROUP_OP_BATCH_REQUEST);
         log.info("Stopped");
     }
 
@@ -481,6 +489,145 @@ public class DistributedGroupStore
         storeGroupDescriptionInternal(groupDesc);
     }
 
+    /**
+     * Stores new group entries using the information from group descriptions.
+     * The entries of each device are stored with bulk updates of the group
+     * store, and the resulting group operations are requested as a batch.
+     *
+     * @param groupDescs group descriptions to be used to create group entries
+     */
+    @Override
+    public void storeGroupDescriptions(Collection<GroupDescription> groupDescs) {
+        Map<DeviceId, List<GroupDescription>> groupDescsByDevice = groupDescs.stream()
+                .collect(Collectors.groupingBy(GroupDescription::deviceId,
+                                               LinkedHashMap::new,
+                                               Collectors.toList()));
+        groupDescsByDevice.forEach((deviceId, descs) -> {
+            if (mastershipService.getLocalRole(deviceId) == MastershipRole.MASTER) {
+                log.debug("Store groups for device {} are getting handled locally", deviceId);
+                storeGroupDescriptionsInternal(deviceId, descs);
+                return;
+            }
+
+            NodeId master = mastershipService.getMasterFor(deviceId);
+            if (master == null) {
+                log.debug("No Master for device {}...Queuing {} Group ADD requests",
+                          deviceId, descs.size());
+                Map<GroupStoreKeyMapKey, GroupDescription> requested = newGroupDescriptions(deviceId, descs);
+                Map<GroupStoreKeyMapKey, StoredGroupEntry> pending = new LinkedHashMap<>();
+                requested.forEach((key, desc) -> {
+                    Integer groupIdVal = desc.givenGroupId();
+                    GroupId groupId = (groupIdVal != null) ? new GroupId(groupIdVal) : dummyGroupId;
+                    StoredGroupEntry group = new DefaultGroup(groupId, desc);
+                    group.setState(GroupState.WAITING_AUDIT_COMPLETE);
+                    pending.put(key, group);
+                });
+                auditPendingReqQueue.putAll(pending);
+                return;
+            }
+
+            List<GroupStoreMessage> groupOps = descs.stream()
+                    .map(desc -> GroupStoreMessage.createGroupAddRequestMsg(deviceId, desc))
+                    .collect(Collectors.toList());
+            sendBatchToMaster(deviceId, master, groupOps);
+        });
+    }
+
+    private void sendBatchToMaster(DeviceId deviceId, NodeId master, List<GroupStoreMessage> groupOps) {
+        clusterCommunicator.unicast(groupOps,
+                                    GroupStoreMessageSubjects.REMOTE_GROUP_OP_BATCH_REQUEST,
+                                    clusterMsgSerializer::serialize,
+                                    master)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to send batch of {} group operations for device {} to master {}",
+                                 groupOps.size(), deviceId, master, error);
+                        //TODO: Send Group operation failure event
+                    } else {
+                        log.debug("Sent batch of {} group operations for device {} to remote MASTER {}",
+                                  groupOps.size(), deviceId, master);
+                    }
+                });
+    }
+
+    /**
+     * Returns the group descriptions for which no group exists yet with the
+     * same key, looking all the keys up at once.
+     *
+     * @param deviceId   the device ID
+     * @param groupDescs group descriptions
+     * @return group descriptions by key
+     */
+    private Map<GroupStoreKeyMapKey, GroupDescription> newGroupDescriptions(DeviceId deviceId,
+                                                                            List<GroupDescription> groupDescs) {
+        Map<GroupStoreKeyMapKey, GroupDescription> requested = new LinkedHashMap<>();
+        groupDescs.forEach(desc -> requested.putIfAbsent(new GroupStoreKeyMapKey(deviceId, desc.appCookie()), desc));
+        Set<GroupStoreKeyMapKey> existing = groupStoreEntriesByKey.getAll(requested.keySet()).keySet();
+        if (!existing.isEmpty()) {
+            log.info("{} groups already exist with the same key in dev:{}", existing.size(), deviceId);
+            requested.keySet().removeAll(existing);
+        }
+        return requested;
+    }
+
+    private void storeGroupDescriptionsInternal(DeviceId deviceId, List<GroupDescription> groupDescs) {
+        Map<GroupStoreKeyMapKey, GroupDescription> requested = newGroupDescriptions(deviceId, groupDescs);
+        Map<GroupStoreKeyMapKey, StoredGroupEntry> entries = new LinkedHashMap<>();
+
+        if (deviceAuditStatus.get(deviceId) == null) {
+            // Device group audit has not completed yet
+            // Add the group descriptions to pending group key table
+            log.debug("storeGroupDescriptionsInternal: Device {} AUDIT pending...Queuing {} Group ADD requests",
+                      deviceId, requested.size());
+            requested.forEach((key, desc) -> {
+                StoredGroupEntry group = new DefaultGroup(dummyGroupId, desc);
+                group.setState(GroupState.WAITING_AUDIT_COMPLETE);
+                entries.put(key, group);
+            });
+            auditPendingReqQueue.putAll(entries);
+            return;
+        }
+
+        ConcurrentMap<GroupId, Group> extraneousMap = extraneousGroupEntriesById.get(deviceId);
+        boolean matchExtraneous = extraneousMap != null && !extraneousMap.isEmpty();
+        List<GroupEvent> events = new ArrayList<>();
+        requested.forEach((key, desc) -> {
+            if (matchExtraneous) {
+                // Extraneous groups are matched and reused one group at a time
+                storeGroupDescriptionInternal(desc);
+                return;
+            }
+
+            GroupId id;
+            if (desc.givenGroupId() == null) {
+                id = new GroupId(getFreeGroupIdValue(deviceId));
+            } else {
+                id = new GroupId(desc.givenGroupId());
+                Group existing = getGroup(deviceId, id);
+                if (existing != null) {
+                    log.warn("Group already exists with the same id: 0x{} in dev:{} "
+                                     + "but with different key: {} (request gkey: {})",
+                             Integer.toHexString(desc.givenGroupId()),
+                             deviceId,
+                             existing.appCookie(),
+                             desc.appCookie());
+                    return;
+                }
+            }
+            StoredGroupEntry group = new DefaultGroup(id, desc);
+            entries.put(key, group);
+            // Ensure it is inserted into group id based table right away to
+            // avoid any chances of duplication in group id generation
+            getGroupIdTable(deviceId).put(id, group);
+            events.add(new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED, group));
+        });
+
+        log.debug("storeGroupDescriptionsInternal: Processing {} Group ADD requests in device {}",
+                  events.size(), deviceId);
+        groupStoreEntriesByKey.putAll(entries);
+        notifyDelegate(events);
+    }
+
     private void addToPendingAudit(GroupDescription groupDesc) {
         Integer groupIdVal = groupDesc.givenGroupId();
         GroupId groupId = (groupIdVal != null) ? new GroupId(groupIdVal) : dummyGroupId;
@@ -875,6 +1022,65 @@ public class DistributedGroupStore
         deleteGroupDescriptionInternal(deviceId, appCookie);
     }
 
+    /**
+     * Triggers deleting the existing group entries of a device as a batch.
+     *
+     * @param deviceId   the device ID
+     * @param appCookies the group keys
+     */
+    @Override
+    public void deleteGroupDescriptions(DeviceId deviceId,
+                                        Collection<GroupKey> appCookies) {
+        // Check if groups to be deleted by a remote instance
+        if (mastershipService.getLocalRole(deviceId) != MastershipRole.MASTER) {
+            log.debug("deleteGroupDescriptions: Device {} local role is not MASTER",
+                      deviceId);
+            NodeId master = mastershipService.getMasterFor(deviceId);
+            if (master == null) {
+                log.error("No Master for device {}..."
+                                  + "Can not perform delete group operations",
+                          deviceId);
+                //TODO: Send Group operation failure event
+                return;
+            }
+            List<GroupStoreMessage> groupOps = appCookies.stream()
+                    .map(appCookie -> GroupStoreMessage.createGroupDeleteRequestMsg(deviceId, appCookie))
+                    .collect(Collectors.toList());
+            sendBatchToMaster(deviceId, master, groupOps);
+            return;
+        }
+        log.debug("deleteGroupDescriptions in device {} is getting handled locally",
+                  deviceId);
+        deleteGroupDescriptionsInternal(deviceId, appCookies);
+    }
+
+    private void deleteGroupDescriptionsInternal(DeviceId deviceId,
+                                                 Collection<GroupKey> appCookies) {
+        Set<GroupStoreKeyMapKey> keys = appCookies.stream()
+                .map(appCookie -> new GroupStoreKeyMapKey(deviceId, appCookie))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<GroupStoreKeyMapKey, Versioned<StoredGroupEntry>> existing = groupStoreEntriesByKey.getAll(keys);
+
+        Map<GroupStoreKeyMapKey, StoredGroupEntry> entries = new LinkedHashMap<>();
+        List<GroupEvent> events = new ArrayList<>();
+        for (GroupStoreKeyMapKey key : keys) {
+            StoredGroupEntry group = Versioned.valueOrNull(existing.get(key));
+            if (group == null) {
+                continue;
+            }
+            synchronized (group) {
+                group.setState(GroupState.PENDING_DELETE);
+            }
+            entries.put(key, group);
+            events.add(new GroupEvent(Type.GROUP_REMOVE_REQUESTED, group));
+        }
+
+        log.debug("deleteGroupDescriptionsInternal: in device {} issuing {} GROUP_REMOVE_REQUESTED",
+                  deviceId, events.size());
+        groupStoreEntriesByKey.putAll(entries);
+        notifyDelegate(events);
+    }
+
     private void deleteGroupDescriptionInternal(DeviceId deviceId,
                                                 GroupKey appCookie) {
         // Check if a group is existing with the provided key
@@ -1035,18 +1241,19 @@ public class DistributedGroupStore
                 log.debug("processing pending group add requests for device {} and number of pending requests {}",
                           deviceId,
                           pendingGroupRequests.size());
-                for (Group group : pendingGroupRequests) {
-                    GroupDescription tmp = new DefaultGroupDescription(
-                            group.deviceId(),
-                            group.type(),
-                            group.buckets(),
-                            group.appCookie(),
-                            group.givenGroupId(),
-                            group.appId());
-                    storeGroupDescriptionInternal(tmp);
-                    getPendingGroupKeyTable().
-                            remove(new GroupStoreKeyMapKey(deviceId, group.appCookie()));
-                }
+                List<GroupDescription> pendingGroupDescs = pendingGroupRequests.stream()
+                        .map(group -> new DefaultGroupDescription(
+                                group.deviceId(),
+                                group.type(),
+                                group.buckets(),
+                                group.appCookie(),
+                                group.givenGroupId(),
+                                group.appId()))
+                        .collect(Collectors.toList());
+                storeGroupDescriptionsInternal(deviceId, pendingGroupDescs);
+                auditPendingReqQueue.removeAll(pendingGroupRequests.stream()
+                        .map(group -> new GroupStoreKeyMapKey(deviceId, group.appCookie()))
+                        .collect(Collectors.toSet()));
             } else {
                 Boolean audited = deviceAuditStatus.get(deviceId);
                 if (audited != null && audited) {
@@ -1246,6 +1453,50 @@ public class DistributedGroupStore
         }
     }
 
+    private void processBatch(List<GroupStoreMessage> groupOps) {
+        if (groupOps.isEmpty()) {
+            return;
+        }
+        DeviceId deviceId = groupOps.get(0).deviceId();
+        log.debug("Received batch of {} remote group operations for device {}",
+                  groupOps.size(),
+                  deviceId);
+        if (!mastershipService.isLocalMaster(deviceId)) {
+            log.warn("This node is not MASTER for device {}", deviceId);
+            return;
+        }
+        List<GroupDescription> adds = groupOps.stream()
+                .filter(groupOp -> groupOp.type() == GroupStoreMessage.Type.ADD)
+                .map(GroupStoreMessage::groupDesc)
+                .collect(Collectors.toList());
+        if (!adds.isEmpty()) {
+            storeGroupDescriptionsInternal(deviceId, adds);
+        }
+        List<GroupKey> deletes = groupOps.stream()
+                .filter(groupOp -> groupOp.type() == GroupStoreMessage.Type.DELETE)
+                .map(GroupStoreMessage::appCookie)
+                .collect(Collectors.toList());
+        if (!deletes.isEmpty()) {
+            deleteGroupDescriptionsInternal(deviceId, deletes);
+        }
+        groupOps.stream()
+                .filter(groupOp -> groupOp.type() == GroupStoreMessage.Type.UPDATE)
+                .forEach(this::process);
+    }
+
+    /**
+     * Notifies the delegate with the specified batch of events, so that
+     * the requested group operations can be performed together.
+     *
+     * @param events list of events to delegate
+     */
+    @Override
+    protected void notifyDelegate(List<GroupEvent> events) {
+        if (delegate != null && !events.isEmpty()) {
+            delegate.notify(events);
+        }
+    }
+
     /**
      * Flattened map key to be used to store group entries.
      */
@@ -1376,6 +1627,8 @@ public class DistributedGroupStore
 
         garbageCollect(deviceId, southboundGroupEntries, storedGroupEntries);
 
+        List<GroupEvent> requests = new ArrayList<>();
+
         for (Iterator<Group> it2 = southboundGroupEntries.iterator(); it2.hasNext();) {
             Group group = it2.next();
             if (storedGroupEntries.remove(group)) {
@@ -1406,16 +1659,21 @@ public class DistributedGroupStore
                 if (allowExtraneousGroups) {
                     extraneousGroup(group);
                 } else {
-                    notifyDelegate(new GroupEvent(Type.GROUP_REMOVE_REQUESTED, group));
+                    requests.add(new GroupEvent(Type.GROUP_REMOVE_REQUESTED, group));
                 }
             }
         }
+        Map<GroupStoreKeyMapKey, StoredGroupEntry> retries = new LinkedHashMap<>();
         for (Group group : storedGroupEntries) {
             // there are groups in the store that aren't in the switch
             log.debug("Group AUDIT: group {} missing in data plane for device {}",
                       group.id(), deviceId);
-            groupMissing(group);
+            groupMissing(group, retries, requests);
         }
+        // Re-PUT map entries to trigger map update events
+        groupStoreEntriesByKey.putAll(retries);
+        // Operations requested by the audit are performed as a batch
+        notifyDelegate(requests);
         for (Group group : extraneousStoredEntries) {
             // there are groups in the extraneous store that
             // aren't in the switch
@@ -1464,7 +1722,9 @@ public class DistributedGroupStore
         return (group.referenceCount() == 0 && group.age() >= gcThresh);
     }
 
-    private void groupMissing(Group group) {
+    private void groupMissing(Group group,
+                              Map<GroupStoreKeyMapKey, StoredGroupEntry> retries,
+                              List<GroupEvent> requests) {
         switch (group.state()) {
             case PENDING_DELETE:
                 log.debug("Group {} delete confirmation from device {}",
@@ -1484,12 +1744,10 @@ public class DistributedGroupStore
                           existing.deviceId(),
                           existing.state());
                 existing.setState(Group.GroupState.PENDING_ADD_RETRY);
-                //Re-PUT map entries to trigger map update events
-                getGroupStoreKeyMap().
-                        put(new GroupStoreKeyMapKey(existing.deviceId(),
+                retries.put(new GroupStoreKeyMapKey(existing.deviceId(),
                                                     existing.appCookie()), existing);
-                notifyDelegate(new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED,
-                                              group));
+                requests.add(new GroupEvent(GroupEvent.Type.GROUP_ADD_REQUESTED,
+                                            group));
                 break;
             default:
                 log.debug("Group {} has not been installed.", group);
@@ -25,4 +25,7 @@ public final class GroupStoreMessageSubjects {
 
     public static final  MessageSubject REMOTE_GROUP_OP_REQUEST
         = new MessageSubject("peer-forward-group-op-req");
+
+    public static final  MessageSubject REMOTE_GROUP_OP_BATCH_REQUEST
+        = new MessageSubject("peer-forward-group-op-batch-req");
 }
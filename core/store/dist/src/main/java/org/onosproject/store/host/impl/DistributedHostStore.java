@@ -55,19 +55,15 @@ import org.onosproject.store.service.DistributedPrimitive.Status;
 import org.onosproject.store.service.Versioned;
 import org.slf4j.Logger;
 
-import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -94,7 +90,17 @@ public class DistributedHostStore
 
     private ConsistentMap<HostId, DefaultHost> hostsConsistentMap;
     private Map<HostId, DefaultHost> hosts;
-    private Map<IpAddress, Set<Host>> hostsByIp;
+
+    // Locally maintained secondary indexes, kept in sync by the location tracker
+    private final HostIndex<IpAddress> hostsByIp = new HostIndex<>(Host::ipAddresses);
+    private final HostIndex<MacAddress> hostsByMac = new HostIndex<>(host -> ImmutableSet.of(host.mac()));
+    private final HostIndex<VlanId> hostsByVlan = new HostIndex<>(host -> ImmutableSet.of(host.vlan()));
+    private final HostIndex<ConnectPoint> hostsByLocation = new HostIndex<>(host -> host.locations().stream()
+            .map(DistributedHostStore::connectPoint)
+            .collect(Collectors.toSet()));
+    private final HostIndex<DeviceId> hostsByDevice = new HostIndex<>(host -> host.locations().stream()
+            .map(HostLocation::deviceId)
+            .collect(Collectors.toSet()));
     private MapEventListener<HostId, DefaultHost> hostLocationTracker =
             new HostLocationTracker();
 
@@ -160,11 +166,11 @@ public class DistributedHostStore
         executor = newSingleThreadScheduledExecutor(groupedThreads("onos/hosts", "store", log));
         statusChangeListener = status -> {
             if (status == Status.ACTIVE) {
-                executor.execute(this::loadHostsByIp);
+                executor.execute(this::loadIndexes);
             }
         };
         hostsConsistentMap.addStatusChangeListener(statusChangeListener);
-        loadHostsByIp();
+        loadIndexes();
         log.info("Started");
     }
 
@@ -177,18 +183,19 @@ public class DistributedHostStore
         log.info("Stopped");
     }
 
-    private void loadHostsByIp() {
-        hostsByIp = new ConcurrentHashMap<IpAddress, Set<Host>>();
-        hostsConsistentMap.asJavaMap().values().forEach(host -> {
-            host.ipAddresses().forEach(ip -> {
-                Set<Host> existingHosts = hostsByIp.get(ip);
-                if (existingHosts == null) {
-                    hostsByIp.put(ip, addHosts(host));
-                } else {
-                    existingHosts.add(host);
-                }
-            });
-        });
+    private void loadIndexes() {
+        Set<HostIndex<?>> indexes = indexes();
+        indexes.forEach(HostIndex::clear);
+        hostsConsistentMap.asJavaMap().values().forEach(host -> indexes.forEach(index -> index.add(host)));
+    }
+
+    private Set<HostIndex<?>> indexes() {
+        return ImmutableSet.of(hostsByIp, hostsByMac, hostsByVlan, hostsByLocation, hostsByDevice);
+    }
+
+    private static ConnectPoint connectPoint(ConnectPoint location) {
+        // index plain connect points so that lookups ignore location timestamps
+        return new ConnectPoint(location.elementId(), location.port());
     }
 
     private boolean shouldUpdate(DefaultHost existingHost,
@@ -291,7 +298,6 @@ public class DistributedHostStore
                 if (addresses != null && addresses.contains(ipAddress)) {
                     addresses = new HashSet<>(existingHost.ipAddresses());
                     addresses.remove(ipAddress);
-                    removeIpFromHostsByIp(existingHost, ipAddress);
                     return new DefaultHost(existingHost.providerId(),
                             hostId,
                             existingHost.mac(),
@@ -349,37 +355,27 @@ public class DistributedHostStore
 
     @Override
     public Set<Host> getHosts(VlanId vlanId) {
-        return filter(hosts.values(), host -> Objects.equals(host.vlan(), vlanId));
+        return hostsByVlan.get(vlanId);
     }
 
     @Override
     public Set<Host> getHosts(MacAddress mac) {
-        return filter(hosts.values(), host -> Objects.equals(host.mac(), mac));
+        return hostsByMac.get(mac);
     }
 
     @Override
     public Set<Host> getHosts(IpAddress ip) {
-        Set<Host> hosts = hostsByIp.get(ip);
-        return hosts != null ? ImmutableSet.copyOf(hosts) : ImmutableSet.of();
+        return hostsByIp.get(ip);
     }
 
     @Override
     public Set<Host> getConnectedHosts(ConnectPoint connectPoint) {
-        Set<Host> filtered = hosts.entrySet().stream()
-                .filter(entry -> entry.getValue().locations().contains(connectPoint))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toSet());
-        return ImmutableSet.copyOf(filtered);
+        return hostsByLocation.get(connectPoint(connectPoint));
     }
 
     @Override
     public Set<Host> getConnectedHosts(DeviceId deviceId) {
-        Set<Host> filtered = hosts.entrySet().stream()
-                .filter(entry -> entry.getValue().locations().stream()
-                        .map(HostLocation::deviceId).anyMatch(dpid -> dpid.equals(deviceId)))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toSet());
-        return ImmutableSet.copyOf(filtered);
+        return hostsByDevice.get(deviceId);
     }
 
     @Override
@@ -408,74 +404,18 @@ public class DistributedHostStore
         });
     }
 
-    private Set<Host> filter(Collection<DefaultHost> collection, Predicate<DefaultHost> predicate) {
-        return collection.stream().filter(predicate).collect(Collectors.toSet());
-    }
-
-    private Set<Host> addHosts(Host host) {
-        Set<Host> hosts = Sets.newConcurrentHashSet();
-        hosts.add(host);
-        return hosts;
-    }
-
-    private Set<Host> updateHosts(Set<Host> existingHosts, Host host) {
-        Iterator<Host> iterator = existingHosts.iterator();
-        while (iterator.hasNext()) {
-            Host existingHost = iterator.next();
-            if (existingHost.id().equals(host.id())) {
-                iterator.remove();
-            }
-        }
-        existingHosts.add(host);
-        return existingHosts;
-    }
-
-    private Set<Host> removeHosts(Set<Host> existingHosts, Host host) {
-        if (existingHosts != null) {
-            Iterator<Host> iterator = existingHosts.iterator();
-            while (iterator.hasNext()) {
-                Host existingHost = iterator.next();
-                if (existingHost.id().equals(host.id())) {
-                    iterator.remove();
-                }
-            }
-        }
-
-        if (existingHosts.isEmpty()) {
-            return null;
-        }
-        return existingHosts;
-    }
-
-    private void updateHostsByIp(DefaultHost host) {
-        host.ipAddresses().forEach(ip -> {
-            hostsByIp.compute(ip, (k, v) -> v == null ? addHosts(host)
-                    : updateHosts(v, host));
-        });
-    }
-
-    private void removeHostsByIp(DefaultHost host) {
-        host.ipAddresses().forEach(ip -> {
-            hostsByIp.computeIfPresent(ip, (k, v) -> removeHosts(v, host));
-        });
-    }
-
-    private void removeIpFromHostsByIp(DefaultHost host, IpAddress ip) {
-        hostsByIp.computeIfPresent(ip, (k, v) -> removeHosts(v, host));
-    }
-
     private class HostLocationTracker implements MapEventListener<HostId, DefaultHost> {
         @Override
         public void event(MapEvent<HostId, DefaultHost> event) {
             DefaultHost host = checkNotNull(event.value().value());
             switch (event.type()) {
                 case INSERT:
-                    updateHostsByIp(host);
+                    indexes().forEach(index -> index.add(host));
                     notifyDelegate(new HostEvent(HOST_ADDED, host));
                     break;
                 case UPDATE:
-                    updateHostsByIp(host);
                     DefaultHost prevHost = checkNotNull(event.oldValue().value());
+                    indexes().forEach(index -> index.update(prevHost, host));
                     if (!Objects.equals(prevHost.locations(), host.locations())) {
                         notifyDelegate(new HostEvent(HOST_MOVED, host, prevHost));
                     } else if (!Objects.equals(prevHost, host)) {
@@ -483,7 +423,7 @@ public class DistributedHostStore
                     }
                     break;
                 case REMOVE:
-                    removeHostsByIp(host);
+                    indexes().forEach(index -> index.remove(host));
                     notifyDelegate(new HostEvent(HOST_REMOVED, host));
                     break;
                 default:
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.host.impl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.onosproject.net.Host;
+import org.onosproject.net.HostId;
+
+/**
+ * Locally maintained secondary index of hosts by an attribute, such as MAC
+ * address or location, allowing lookups proportional to the size of the
+ * result rather than to the number of hosts.
+ *
+ * @param <K> type of the indexed attribute
+ */
+final class HostIndex<K> {
+
+    private final Function<Host, Collection<K>> keys;
+    private final Map<K, Map<HostId, Host>> index = Maps.newConcurrentMap();
+
+    /**
+     * Creates a new index.
+     *
+     * @param keys function returning the attribute values of a host
+     */
+    HostIndex(Function<Host, Collection<K>> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the hosts with the specified attribute value.
+     *
+     * @param key attribute value
+     * @return set of hosts
+     */
+    Set<Host> get(K key) {
+        Map<HostId, Host> hosts = index.get(key);
+        return hosts != null ? ImmutableSet.copyOf(hosts.values()) : ImmutableSet.of();
+    }
+
+    /**
+     * Adds a host to the index.
+     *
+     * @param host host
+     */
+    void add(Host host) {
+        keys.apply(host).forEach(key -> index.compute(key, (k, hosts) -> {
+            Map<HostId, Host> indexed = hosts != null ? hosts : Maps.newConcurrentMap();
+            indexed.put(host.id(), host);
+            return indexed;
+        }));
+    }
+
+    /**
+     * Replaces a host in the index, dropping the attribute values it no
+     * longer has.
+     *
+     * @param previous previous version of the host; may be null
+     * @param host     current version of the host
+     */
+    void update(Host previous, Host host) {
+        if (previous != null) {
+            Collection<K> current = keys.apply(host);
+            keys.apply(previous).stream()
+                    .filter(key -> !current.contains(key))
+                    .forEach(key -> remove(key, previous));
+        }
+        add(host);
+    }
+
+    /**
+     * Removes a host from the index.
+     *
+     * @param host host
+     */
+    void remove(Host host) {
+        keys.apply(host).forEach(key -> remove(key, host));
+    }
+
+    /**
+     * Removes all hosts from the index.
+     */
+    void clear() {
+        index.clear();
+    }
+
+    private void remove(K key, Host host) {
+        index.computeIfPresent(key, (k, hosts) -> {
+            hosts.remove(host.id());
+            return hosts.isEmpty() ? null : hosts;
+        });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.link.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.LinkKey;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Adjacency indexes over link keys, by source and destination device and
+ * by source and destination connect point.
+ * <p>
+ * Callers are expected to serialize the updates of any given link key.
+ * </p>
+ */
+final class LinkAdjacencyIndex {
+
+    private final Map<DeviceId, Set<LinkKey>> egressByDevice = Maps.newConcurrentMap();
+    private final Map<DeviceId, Set<LinkKey>> ingressByDevice = Maps.newConcurrentMap();
+    private final Map<ConnectPoint, Set<LinkKey>> egressByPoint = Maps.newConcurrentMap();
+    private final Map<ConnectPoint, Set<LinkKey>> ingressByPoint = Maps.newConcurrentMap();
+
+    /**
+     * Adds a link key to the indexes.
+     *
+     * @param key link key
+     */
+    void add(LinkKey key) {
+        add(egressByDevice, key.src().deviceId(), key);
+        add(ingressByDevice, key.dst().deviceId(), key);
+        add(egressByPoint, key.src(), key);
+        add(ingressByPoint, key.dst(), key);
+    }
+
+    /**
+     * Removes a link key from the indexes.
+     *
+     * @param key link key
+     */
+    void remove(LinkKey key) {
+        remove(egressByDevice, key.src().deviceId(), key);
+        remove(ingressByDevice, key.dst().deviceId(), key);
+        remove(egressByPoint, key.src(), key);
+        remove(ingressByPoint, key.dst(), key);
+    }
+
+    /**
+     * Removes all link keys from the indexes.
+     */
+    void clear() {
+        egressByDevice.clear();
+        ingressByDevice.clear();
+        egressByPoint.clear();
+        ingressByPoint.clear();
+    }
+
+    /**
+     * Returns the keys of the links originating at the specified device.
+     *
+     * @param deviceId device identifier
+     * @return live view of the link keys
+     */
+    Set<LinkKey> egress(DeviceId deviceId) {
+        return get(egressByDevice, deviceId);
+    }
+
+    /**
+     * Returns the keys of the links terminating at the specified device.
+     *
+     * @param deviceId device identifier
+     * @return live view of the link keys
+     */
+    Set<LinkKey> ingress(DeviceId deviceId) {
+        return get(ingressByDevice, deviceId);
+    }
+
+    /**
+     * Returns the keys of the links originating at the specified connect point.
+     *
+     * @param src connect point
+     * @return live view of the link keys
+     */
+    Set<LinkKey> egress(ConnectPoint src) {
+        return get(egressByPoint, src);
+    }
+
+    /**
+     * Returns the keys of the links terminating at the specified connect point.
+     *
+     * @param dst connect point
+     * @return live view of the link keys
+     */
+    Set<LinkKey> ingress(ConnectPoint dst) {
+        return get(ingressByPoint, dst);
+    }
+
+    private static <K> Set<LinkKey> get(Map<K, Set<LinkKey>> index, K indexKey) {
+        Set<LinkKey> keys = index.get(indexKey);
+        return keys != null ? keys : ImmutableSet.of();
+    }
+
+    private static <K> void add(Map<K, Set<LinkKey>> index, K indexKey, LinkKey key) {
+        index.compute(indexKey, (k, keys) -> {
+            Set<LinkKey> indexed = keys != null ? keys : Sets.newConcurrentHashSet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    private static <K> void remove(Map<K, Set<LinkKey>> index, K indexKey, LinkKey key) {
+        index.computeIfPresent(indexKey, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
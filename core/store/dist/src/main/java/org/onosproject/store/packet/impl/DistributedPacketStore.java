@@ -50,6 +50,8 @@ import org.onosproject.store.service.StorageService;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Dictionary;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +60,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -99,6 +102,8 @@ public class DistributedPacketStore
 
     private static final MessageSubject PACKET_OUT_SUBJECT =
             new MessageSubject("packet-out");
+    private static final MessageSubject PACKET_OUT_BATCH_SUBJECT =
+            new MessageSubject("packet-out-batch");
 
     private static final StoreSerializer SERIALIZER = StoreSerializer.using(KryoNamespaces.API);
 
@@ -125,6 +130,10 @@ public class DistributedPacketStore
                 SERIALIZER::decode,
                 packet -> notifyDelegate(new PacketEvent(Type.EMIT, packet)),
                 messageHandlingExecutor);
+        communicationService.<List<OutboundPacket>>addSubscriber(PACKET_OUT_BATCH_SUBJECT,
+                SERIALIZER::decode,
+                this::delegateEmit,
+                messageHandlingExecutor);
 
         tracker = new PacketRequestTracker();
 
@@ -135,6 +144,7 @@ public class DistributedPacketStore
     public void deactivate() {
         cfgService.unregisterProperties(getClass(), false);
         communicationService.removeSubscriber(PACKET_OUT_SUBJECT);
+        communicationService.removeSubscriber(PACKET_OUT_BATCH_SUBJECT);
         messageHandlingExecutor.shutdown();
         tracker = null;
         log.info("Stopped");
@@ -189,6 +199,39 @@ public class DistributedPacketStore
                             });
     }
 
+    @Override
+    public void emit(Collection<OutboundPacket> packets) {
+        NodeId myId = clusterService.getLocalNode().id();
+        packets.stream()
+                .collect(Collectors.groupingBy(OutboundPacket::sendThrough))
+                .forEach((deviceId, devicePackets) -> {
+                    NodeId master = mastershipService.getMasterFor(deviceId);
+                    if (master == null) {
+                        return;
+                    }
+
+                    if (myId.equals(master)) {
+                        delegateEmit(devicePackets);
+                        return;
+                    }
+
+                    communicationService.unicast(new ArrayList<>(devicePackets), PACKET_OUT_BATCH_SUBJECT,
+                                                 SERIALIZER::encode, master)
+                            .whenComplete((r, error) -> {
+                                if (error != null) {
+                                    log.warn("Failed to send packet-outs to {}", master, error);
+                                }
+                            });
+                });
+    }
+
+    private void delegateEmit(List<OutboundPacket> packets) {
+        PacketStoreDelegate delegate = this.delegate;
+        if (delegate != null) {
+            delegate.emit(packets);
+        }
+    }
+
     @Override
     public void requestPackets(PacketRequest request) {
         tracker.add(request);
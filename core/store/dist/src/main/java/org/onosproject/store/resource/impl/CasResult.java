@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+/**
+ * Outcome of a compare-and-set update applied to a consistent resource substore
+ * outside of a transaction.
+ */
+enum CasResult {
+    /**
+     * The update was applied.
+     */
+    APPLIED,
+
+    /**
+     * The update cannot be applied in the current state of the store.
+     */
+    REJECTED,
+
+    /**
+     * The update lost a race with a concurrent update and may be retried.
+     */
+    CONFLICT
+}
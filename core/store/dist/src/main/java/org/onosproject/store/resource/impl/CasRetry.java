@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.onosproject.store.service.ConsistentMapException;
+
+/**
+ * Applies compare-and-set updates to the consistent resource substores,
+ * retrying the updates that conflict with concurrent ones.
+ */
+final class CasRetry {
+
+    /**
+     * Maximum number of attempts at applying an update.
+     */
+    static final int MAX_ATTEMPTS = 8;
+
+    // bounds of the randomized delay before a retry, doubled after every attempt
+    private static final int INITIAL_DELAY_MILLIS = 2;
+    private static final int MAX_DELAY_MILLIS = 64;
+
+    private CasRetry() {
+    }
+
+    /**
+     * Applies an update, retrying it after a randomized exponential backoff
+     * while it conflicts with concurrent updates. An update of a key locked
+     * by an in-flight transaction is a conflict as well.
+     *
+     * @param update     the update to apply
+     * @param onConflict called on every conflict
+     * @return outcome of the last attempt, CONFLICT if all the attempts conflicted
+     */
+    static CasResult apply(Supplier<CasResult> update, Runnable onConflict) {
+        int maxDelay = INITIAL_DELAY_MILLIS;
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            CasResult result;
+            try {
+                result = update.get();
+            } catch (ConcurrentModificationException | ConsistentMapException.ConcurrentModification e) {
+                result = CasResult.CONFLICT;
+            }
+            if (result != CasResult.CONFLICT) {
+                return result;
+            }
+
+            onConflict.run();
+            if (attempt == MAX_ATTEMPTS) {
+                return CasResult.CONFLICT;
+            }
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(maxDelay) + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CasResult.CONFLICT;
+            }
+            maxDelay = Math.min(maxDelay * 2, MAX_DELAY_MILLIS);
+        }
+    }
+}
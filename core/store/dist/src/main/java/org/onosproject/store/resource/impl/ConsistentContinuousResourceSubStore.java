@@ -27,9 +27,12 @@ import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.StorageService;
 import org.onosproject.store.service.TransactionContext;
 import org.onosproject.store.service.Versioned;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +45,8 @@ import static org.onosproject.store.resource.impl.ConsistentResourceStore.SERIAL
  */
 class ConsistentContinuousResourceSubStore implements ConsistentResourceSubStore
         <ContinuousResourceId, ContinuousResource, TransactionalContinuousResourceSubStore> {
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
     private ConsistentMap<ContinuousResourceId, ContinuousResourceAllocation> consumers;
     private ConsistentMap<DiscreteResourceId, Set<ContinuousResource>> childMap;
 
@@ -154,4 +159,64 @@ class ConsistentContinuousResourceSubStore implements ConsistentResourceSubStore
                 // continuous resource allocations only
                 .map(x -> (ContinuousResource) x.resource());
     }
+
+    // computational complexity: O(n) where n is the number of the existing allocations for the resource
+    @Override
+    public CasResult allocate(ResourceConsumerId consumerId, ContinuousResource request) {
+        // if the resource is not registered, then abort
+        Optional<ContinuousResource> lookedUp = lookup(request.id());
+        if (!lookedUp.isPresent()) {
+            return CasResult.REJECTED;
+        }
+
+        ContinuousResource original = lookedUp.get();
+        Versioned<ContinuousResourceAllocation> allocation = consumers.get(request.id());
+        ContinuousResourceAllocation oldValue = allocation == null ?
+                ContinuousResourceAllocation.empty(original) : allocation.value();
+        if (!oldValue.hasEnoughResource(request)) {
+            return CasResult.REJECTED;
+        }
+
+        ContinuousResourceAllocation newValue = oldValue.allocate(new ResourceAllocation(request, consumerId));
+        boolean applied = allocation == null ?
+                consumers.putIfAbsent(original.id(), newValue) == null :
+                consumers.replace(original.id(), allocation.version(), newValue);
+        if (!applied) {
+            return CasResult.CONFLICT;
+        }
+
+        // undo the allocation if the resource was unregistered concurrently
+        if (!lookup(request.id()).isPresent()) {
+            if (CasRetry.apply(() -> release(consumerId, request), () -> { }) == CasResult.CONFLICT) {
+                log.warn("Failed to undo allocation of unregistered resource {} to {}", request, consumerId);
+            }
+            return CasResult.REJECTED;
+        }
+        return CasResult.APPLIED;
+    }
+
+    // computational complexity: O(n) where n is the number of the existing allocations for the resource
+    @Override
+    public CasResult release(ResourceConsumerId consumerId, ContinuousResource resource) {
+        Versioned<ContinuousResourceAllocation> allocation = consumers.get(resource.id());
+        if (allocation == null) {
+            return CasResult.REJECTED;
+        }
+
+        ContinuousResourceAllocation newValue = allocation.value().release(resource, consumerId);
+        return consumers.replace(resource.id(), allocation.version(), newValue) ?
+                CasResult.APPLIED : CasResult.CONFLICT;
+    }
+
+    // iterate over the values in the set: O(n) operation
+    private Optional<ContinuousResource> lookup(ContinuousResourceId id) {
+        Versioned<Set<ContinuousResource>> children = childMap.get(id.parent().get());
+        if (children == null) {
+            return Optional.empty();
+        }
+
+        return children.value().stream()
+                .filter(x -> x.id().equals(id))
+                .findFirst();
+    }
 }
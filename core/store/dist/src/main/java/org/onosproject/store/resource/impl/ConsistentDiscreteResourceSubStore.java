@@ -27,6 +27,8 @@ import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.StorageService;
 import org.onosproject.store.service.TransactionContext;
 import org.onosproject.store.service.Versioned;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,8 @@ import static org.onosproject.store.resource.impl.ConsistentResourceStore.SERIAL
  */
 class ConsistentDiscreteResourceSubStore implements ConsistentResourceSubStore
         <DiscreteResourceId, DiscreteResource, TransactionalDiscreteResourceSubStore> {
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
     private ConsistentMap<DiscreteResourceId, ResourceConsumerId> consumers;
     private ConsistentMap<DiscreteResourceId, DiscreteResources> childMap;
 
@@ -118,4 +122,42 @@ class ConsistentDiscreteResourceSubStore implements ConsistentResourceSubStore
                 .map(Map.Entry::getKey)
                 .map(x -> Resources.discrete(x).resource());
     }
+
+    // computational complexity: O(1)
+    @Override
+    public CasResult allocate(ResourceConsumerId consumerId, DiscreteResource resource) {
+        // if the resource is not registered, then abort
+        if (!isRegistered(resource.id())) {
+            return CasResult.REJECTED;
+        }
+
+        if (consumers.putIfAbsent(resource.id(), consumerId) != null) {
+            return CasResult.REJECTED;
+        }
+
+        // undo the allocation if the resource was unregistered concurrently
+        if (!isRegistered(resource.id())) {
+            if (CasRetry.apply(() -> release(consumerId, resource), () -> { }) == CasResult.CONFLICT) {
+                log.warn("Failed to undo allocation of unregistered resource {} to {}", resource, consumerId);
+            }
+            return CasResult.REJECTED;
+        }
+        return CasResult.APPLIED;
+    }
+
+    // computational complexity: O(1)
+    @Override
+    public CasResult release(ResourceConsumerId consumerId, DiscreteResource resource) {
+        // if this release fails, the resource is allocated to another consumer
+        return consumers.remove(resource.id(), consumerId) ? CasResult.APPLIED : CasResult.REJECTED;
+    }
+
+    private boolean isRegistered(DiscreteResourceId id) {
+        if (!id.parent().isPresent()) {
+            return true;
+        }
+
+        Versioned<DiscreteResources> children = childMap.get(id.parent().get());
+        return children != null && children.value().lookup(id).isPresent();
+    }
 }
@@ -26,9 +26,13 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.Timer.Context;
 import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableSet;
 import org.apache.felix.scr.annotations.Activate;
@@ -36,8 +40,12 @@ import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.KryoNamespace;
 import org.onlab.util.Tools;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.net.resource.ContinuousResource;
 import org.onosproject.net.resource.ContinuousResourceId;
 import org.onosproject.net.resource.DiscreteResource;
@@ -56,6 +64,7 @@ import org.onosproject.store.serializers.KryoNamespaces;
 import org.onosproject.store.service.CommitStatus;
 import org.onosproject.store.service.DistributedPrimitive;
 import org.onosproject.store.service.Serializer;
+import org.onosproject.store.service.StorageException;
 import org.onosproject.store.service.StorageService;
 import org.onosproject.store.service.TransactionContext;
 import org.slf4j.Logger;
@@ -63,17 +72,24 @@ import org.slf4j.LoggerFactory;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.onlab.metrics.MetricsUtil.startTimer;
+import static org.onlab.metrics.MetricsUtil.stopTimer;
 import static org.onosproject.net.resource.ResourceEvent.Type.RESOURCE_ADDED;
 import static org.onosproject.net.resource.ResourceEvent.Type.RESOURCE_REMOVED;
 
 /**
  * Implementation of ResourceStore using TransactionalMap.
+ * <p>
+ * Allocations and releases of a single resource are applied by compare-and-set
+ * on the consistent maps; requests spanning several resources are committed
+ * in a transaction.
+ * </p>
  */
 @Component(immediate = true)
 @Service
 @Beta
 public class ConsistentResourceStore extends AbstractStore<ResourceEvent, ResourceStoreDelegate>
-        implements ResourceStore {
+        implements ResourceStore, MetricsHelper {
     private static final Logger log = LoggerFactory.getLogger(ConsistentResourceStore.class);
 
     static final Serializer SERIALIZER = Serializer.using(KryoNamespace.newBuilder()
@@ -89,20 +105,55 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
             .register(MplsLabelCodec.class)
             .build());
 
+    private static final String METRICS_COMPONENT = "ResourceStore";
+    private static final String ALLOCATE_FEATURE = "allocate";
+    private static final String RELEASE_FEATURE = "release";
+    private static final String CONFLICT_FEATURE = "conflicts";
+    private static final String FAST_PATH = "fastPath";
+    private static final String TRANSACTION = "transaction";
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected StorageService service;
 
     private ConsistentDiscreteResourceSubStore discreteStore;
     private ConsistentContinuousResourceSubStore continuousStore;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
+    private Timer fastAllocateTimer;
+    private Timer txAllocateTimer;
+    private Timer fastReleaseTimer;
+    private Timer txReleaseTimer;
+    private Counter fastConflictCounter;
+    private Counter txConflictCounter;
+
     @Activate
     public void activate() {
         discreteStore = new ConsistentDiscreteResourceSubStore(service);
         continuousStore = new ConsistentContinuousResourceSubStore(service);
 
+        fastAllocateTimer = createTimer(METRICS_COMPONENT, ALLOCATE_FEATURE, FAST_PATH);
+        txAllocateTimer = createTimer(METRICS_COMPONENT, ALLOCATE_FEATURE, TRANSACTION);
+        fastReleaseTimer = createTimer(METRICS_COMPONENT, RELEASE_FEATURE, FAST_PATH);
+        txReleaseTimer = createTimer(METRICS_COMPONENT, RELEASE_FEATURE, TRANSACTION);
+        fastConflictCounter = createCounter(FAST_PATH);
+        txConflictCounter = createCounter(TRANSACTION);
+
         log.info("Started");
     }
 
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
+    }
+
+    private Counter createCounter(String name) {
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(CONFLICT_FEATURE);
+        return metricsService.createCounter(component, feature, name);
+    }
+
     // Computational complexity: O(1) if the resource is discrete type.
     // O(n) if the resource is continuous type where n is the number of the existing allocations for the resource
     @Override
@@ -229,6 +280,39 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
         checkNotNull(resources);
         checkNotNull(consumer);
 
+        // a single resource is stored under a single key, hence in a single partition,
+        // and is allocated by compare-and-set without paying for a two-phase commit
+        if (resources.size() == 1) {
+            Resource resource = resources.get(0);
+            CasResult result;
+            Context timer = startTimer(fastAllocateTimer);
+            try {
+                result = applyFastPath(() -> {
+                    if (resource instanceof DiscreteResource) {
+                        return discreteStore.allocate(consumer.consumerId(), (DiscreteResource) resource);
+                    } else if (resource instanceof ContinuousResource) {
+                        return continuousStore.allocate(consumer.consumerId(), (ContinuousResource) resource);
+                    }
+                    return CasResult.APPLIED;
+                });
+            } finally {
+                stopTimer(timer);
+            }
+            if (result != CasResult.CONFLICT) {
+                return result == CasResult.APPLIED;
+            }
+            // under sustained contention, let a transaction serialize with the competing updates
+        }
+
+        Context timer = startTimer(txAllocateTimer);
+        try {
+            return allocateTransactionally(resources, consumer);
+        } finally {
+            stopTimer(timer);
+        }
+    }
+
+    private boolean allocateTransactionally(List<? extends Resource> resources, ResourceConsumer consumer) {
         while (true) {
             TransactionContext tx = service.transactionContextBuilder().build();
             tx.begin();
@@ -251,6 +335,7 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
                 if (commitTransaction(tx) == CommitStatus.SUCCESS) {
                     return true;
                 }
+                txConflictCounter.inc();
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 log.warn("Failed to allocate {}: {}", resources, e);
                 return false;
@@ -262,6 +347,38 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
     public boolean release(List<ResourceAllocation> allocations) {
         checkNotNull(allocations);
 
+        // see allocate()
+        if (allocations.size() == 1) {
+            Resource resource = allocations.get(0).resource();
+            ResourceConsumerId consumerId = allocations.get(0).consumerId();
+            CasResult result;
+            Context timer = startTimer(fastReleaseTimer);
+            try {
+                result = applyFastPath(() -> {
+                    if (resource instanceof DiscreteResource) {
+                        return discreteStore.release(consumerId, (DiscreteResource) resource);
+                    } else if (resource instanceof ContinuousResource) {
+                        return continuousStore.release(consumerId, (ContinuousResource) resource);
+                    }
+                    return CasResult.APPLIED;
+                });
+            } finally {
+                stopTimer(timer);
+            }
+            if (result != CasResult.CONFLICT) {
+                return result == CasResult.APPLIED;
+            }
+        }
+
+        Context timer = startTimer(txReleaseTimer);
+        try {
+            return releaseTransactionally(allocations);
+        } finally {
+            stopTimer(timer);
+        }
+    }
+
+    private boolean releaseTransactionally(List<ResourceAllocation> allocations) {
         while (true) {
             TransactionContext tx = service.transactionContextBuilder().build();
             tx.begin();
@@ -287,6 +404,7 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
                 if (commitTransaction(tx) == CommitStatus.SUCCESS) {
                     return true;
                 }
+                txConflictCounter.inc();
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 log.warn("Failed to release {}: {}", allocations, e);
                 return false;
@@ -358,6 +476,22 @@ public class ConsistentResourceStore extends AbstractStore<ResourceEvent, Resour
         return Stream.concat(discrete, continuous).collect(Collectors.toList());
     }
 
+    /**
+     * Applies a compare-and-set update, retrying it a bounded number of times
+     * while it conflicts with concurrent updates.
+     *
+     * @param update the update to apply
+     * @return outcome of the update, CONFLICT if it kept conflicting
+     */
+    private CasResult applyFastPath(Supplier<CasResult> update) {
+        try {
+            return CasRetry.apply(update, fastConflictCounter::inc);
+        } catch (StorageException e) {
+            log.warn("Failed to update resource allocation", e);
+            return CasResult.REJECTED;
+        }
+    }
+
     /**
      * Commits a transaction.
      *
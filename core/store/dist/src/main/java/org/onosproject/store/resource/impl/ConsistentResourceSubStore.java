@@ -90,4 +90,24 @@ interface ConsistentResourceSubStore
      */
     Stream<U> getResources(ResourceConsumerId consumerId);
 
+    /**
+     * Allocates the given resource to the consumer with a single compare-and-set
+     * operation, outside of any transaction.
+     *
+     * @param consumerId the consumer ID to which the resource is allocated
+     * @param resource the resource to allocate
+     * @return outcome of the allocation
+     */
+    CasResult allocate(ResourceConsumerId consumerId, U resource);
+
+    /**
+     * Releases the given resource from the consumer with a single compare-and-set
+     * operation, outside of any transaction.
+     *
+     * @param consumerId the consumer ID from which the resource is released
+     * @param resource the resource to release
+     * @return outcome of the release
+     */
+    CasResult release(ResourceConsumerId consumerId, U resource);
+
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
  */
 package org.onosproject.store.statistic.impl;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 import org.apache.felix.scr.annotations.Activate;
@@ -25,6 +27,7 @@ import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.util.KryoNamespace;
 import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cluster.ClusterService;
@@ -37,6 +40,7 @@ import org.onosproject.net.flow.FlowEntry;
 import org.onosproject.net.flow.FlowRule;
 import org.onosproject.net.flow.instructions.Instruction;
 import org.onosproject.net.flow.instructions.Instructions;
+import org.onosproject.net.statistic.PortLoad;
 import org.onosproject.net.statistic.StatisticStore;
 import org.onosproject.store.cluster.messaging.ClusterCommunicationService;
 import org.onosproject.store.cluster.messaging.MessageSubject;
@@ -47,6 +51,7 @@ import org.slf4j.Logger;
 
 import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
@@ -91,17 +96,27 @@ public class DistributedStatisticStore implements StatisticStore {
 
     public static final MessageSubject GET_CURRENT = new MessageSubject("peer-return-current");
     public static final MessageSubject GET_PREVIOUS = new MessageSubject("peer-return-previous");
+    public static final MessageSubject GET_LOAD = new MessageSubject("peer-return-load");
 
     private Map<ConnectPoint, InternalStatisticRepresentation> representations =
             new ConcurrentHashMap<>();
 
-    private Map<ConnectPoint, Set<FlowEntry>> previous =
+    // snapshots map each flow entry to itself, so that removed entries can be looked up
+    private Map<ConnectPoint, Map<FlowEntry, FlowEntry>> previous =
             new ConcurrentHashMap<>();
 
-    private Map<ConnectPoint, Set<FlowEntry>> current =
+    private Map<ConnectPoint, Map<FlowEntry, FlowEntry>> current =
             new ConcurrentHashMap<>();
 
-    protected static final StoreSerializer SERIALIZER = StoreSerializer.using(KryoNamespaces.API);
+    // byte counts aggregated over current and previous, updated as stats are published
+    private Map<ConnectPoint, PortLoad> loads =
+            new ConcurrentHashMap<>();
+
+    protected static final StoreSerializer SERIALIZER = StoreSerializer.using(KryoNamespace.newBuilder()
+            .register(KryoNamespaces.API)
+            .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
+            .register(PortLoad.class)
+            .build("DistributedStatisticStore"));
 
     private ExecutorService messageHandlingExecutor;
 
@@ -134,6 +149,12 @@ public class DistributedStatisticStore implements StatisticStore {
                 SERIALIZER::encode,
                 messageHandlingExecutor);
 
+        clusterCommunicator.<ConnectPoint, PortLoad>addSubscriber(GET_LOAD,
+                SERIALIZER::decode,
+                this::getLoadInternal,
+                SERIALIZER::encode,
+                messageHandlingExecutor);
+
         log.info("Started");
     }
 
@@ -142,6 +163,7 @@ public class DistributedStatisticStore implements StatisticStore {
         cfgService.unregisterProperties(getClass(), false);
         clusterCommunicator.removeSubscriber(GET_PREVIOUS);
         clusterCommunicator.removeSubscriber(GET_CURRENT);
+        clusterCommunicator.removeSubscriber(GET_LOAD);
         messageHandlingExecutor.shutdown();
         log.info("Stopped");
     }
@@ -196,15 +218,13 @@ public class DistributedStatisticStore implements StatisticStore {
         if (rep != null && rep.remove(rule)) {
             updatePublishedStats(cp, Collections.emptySet());
         }
-        Set<FlowEntry> values = current.get(cp);
-        if (values != null) {
-            values.remove(rule);
-        }
+        Map<FlowEntry, FlowEntry> values = current.get(cp);
+        FlowEntry currentEntry = values == null ? null : values.remove(rule);
         values = previous.get(cp);
-        if (values != null) {
-            values.remove(rule);
+        FlowEntry previousEntry = values == null ? null : values.remove(rule);
+        if (currentEntry != null || previousEntry != null) {
+            loads.computeIfPresent(cp, (k, load) -> load.without(currentEntry, previousEntry));
         }
-
     }
 
     @Override
@@ -221,13 +241,15 @@ public class DistributedStatisticStore implements StatisticStore {
 
     private synchronized void updatePublishedStats(ConnectPoint cp,
                                                    Set<FlowEntry> flowEntries) {
-        Set<FlowEntry> curr = current.get(cp);
+        Map<FlowEntry, FlowEntry> curr = current.get(cp);
         if (curr == null) {
-            curr = new HashSet<>();
+            curr = new HashMap<>();
         }
+        Map<FlowEntry, FlowEntry> snapshot = Maps.newHashMapWithExpectedSize(flowEntries.size());
+        flowEntries.forEach(entry -> snapshot.put(entry, entry));
         previous.put(cp, curr);
-        current.put(cp, flowEntries);
-
+        current.put(cp, snapshot);
+        loads.put(cp, loads.getOrDefault(cp, PortLoad.EMPTY).roll(flowEntries));
     }
 
     @Override
@@ -255,7 +277,7 @@ public class DistributedStatisticStore implements StatisticStore {
     }
 
     private synchronized Set<FlowEntry> getCurrentStatisticInternal(ConnectPoint connectPoint) {
-        return current.get(connectPoint);
+        return snapshotOf(current.get(connectPoint));
     }
 
     @Override
@@ -282,7 +304,38 @@ public class DistributedStatisticStore implements StatisticStore {
     }
 
     private synchronized Set<FlowEntry> getPreviousStatisticInternal(ConnectPoint connectPoint) {
-        return previous.get(connectPoint);
+        return snapshotOf(previous.get(connectPoint));
+    }
+
+    private Set<FlowEntry> snapshotOf(Map<FlowEntry, FlowEntry> values) {
+        return values == null ? null : ImmutableSet.copyOf(values.keySet());
+    }
+
+    @Override
+    public PortLoad getLoad(ConnectPoint connectPoint) {
+        final DeviceId deviceId = connectPoint.deviceId();
+        NodeId master = mastershipService.getMasterFor(deviceId);
+        if (master == null) {
+            log.warn("No master for {}", deviceId);
+            return PortLoad.EMPTY;
+        }
+        if (master.equals(clusterService.getLocalNode().id())) {
+            return getLoadInternal(connectPoint);
+        } else {
+            return Tools.futureGetOrElse(clusterCommunicator.sendAndReceive(
+                                        connectPoint,
+                                        GET_LOAD,
+                                        SERIALIZER::encode,
+                                        SERIALIZER::decode,
+                                        master),
+                                   STATISTIC_STORE_TIMEOUT_MILLIS,
+                                   TimeUnit.MILLISECONDS,
+                                   PortLoad.EMPTY);
+        }
+    }
+
+    private PortLoad getLoadInternal(ConnectPoint connectPoint) {
+        return loads.getOrDefault(connectPoint, PortLoad.EMPTY);
     }
 
     private InternalStatisticRepresentation getOrCreateRepresentation(ConnectPoint cp) {
@@ -24,9 +24,13 @@ import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
 import org.onlab.graph.GraphPathSearch;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.KryoNamespace;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.common.DefaultTopology;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.event.Event;
 import org.onosproject.mastership.MastershipService;
 import org.onosproject.net.ConnectPoint;
@@ -62,6 +66,8 @@ import org.onosproject.store.service.StorageService;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
+import com.codahale.metrics.Gauge;
+
 import java.util.Collections;
 import java.util.Dictionary;
 import java.util.List;
@@ -73,6 +79,7 @@ import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static org.onlab.util.Tools.get;
+import static org.onlab.util.Tools.getIntegerProperty;
 import static org.onlab.util.Tools.isNullOrEmpty;
 import static org.onosproject.net.topology.AdapterLinkWeigher.adapt;
 import static org.onosproject.net.topology.TopologyEvent.Type.TOPOLOGY_CHANGED;
@@ -89,11 +96,18 @@ import static org.slf4j.LoggerFactory.getLogger;
 @Service
 public class DistributedTopologyStore
         extends AbstractStore<TopologyEvent, TopologyStoreDelegate>
-        implements TopologyStore, PathAdminService {
+        implements TopologyStore, PathAdminService, MetricsHelper {
 
     private final Logger log = getLogger(getClass());
 
-    private static final String FORMAT = "Settings: linkWeightFunction={}";
+    private static final String FORMAT = "Settings: linkWeightFunction={}, pathCacheBudget={}";
+
+    private static final String METRICS_COMPONENT = "TopologyStore";
+    private static final String PATH_CACHE_FEATURE = "pathCache";
+    private static final String HITS = "hits";
+    private static final String MISSES = "misses";
+    private static final String EVICTIONS = "evictions";
+    private static final String SIZE = "size";
 
     private volatile DefaultTopology current =
             new DefaultTopology(ProviderId.NONE,
@@ -116,6 +130,9 @@ public class DistributedTopologyStore
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected DeviceService deviceService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private static final String HOP_COUNT = "hopCount";
     private static final String LINK_METRIC = "linkMetric";
     private static final String GEO_DISTANCE = "geoDistance";
@@ -125,6 +142,13 @@ public class DistributedTopologyStore
             label = "Default link-weight function: hopCount, linkMetric, geoDistance")
     private String linkWeightFunction = DEFAULT_LINK_WEIGHT_FUNCTION;
 
+    private static final int DEFAULT_PATH_CACHE_BUDGET = 1_000_000;
+    @Property(name = "pathCacheBudget", intValue = DEFAULT_PATH_CACHE_BUDGET,
+            label = "Maximum number of path links retained by the path cache; 0 disables the cache")
+    private int pathCacheBudget = DEFAULT_PATH_CACHE_BUDGET;
+
+    private volatile PathCache pathCache = new PathCache(current, DEFAULT_PATH_CACHE_BUDGET);
+
     // Cluster root to broadcast points bindings to allow convergence to
     // a shared broadcast tree; node that is the master of the cluster root
     // is the primary.
@@ -146,17 +170,46 @@ public class DistributedTopologyStore
                 .withTimestampProvider((k, v) -> clockService.getTimestamp())
                 .build();
         broadcastPoints.addListener(listener);
+        registerPathCacheMetrics();
         log.info("Started");
     }
 
     @Deactivate
     protected void deactivate() {
         configService.unregisterProperties(getClass(), false);
+        unregisterPathCacheMetrics();
         broadcastPoints.removeListener(listener);
         broadcastPoints.destroy();
         log.info("Stopped");
     }
 
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
+    }
+
+    private void registerPathCacheMetrics() {
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(PATH_CACHE_FEATURE);
+        metricsService.registerMetric(component, feature, HITS,
+                                      (Gauge<Long>) () -> pathCache.stats().hitCount());
+        metricsService.registerMetric(component, feature, MISSES,
+                                      (Gauge<Long>) () -> pathCache.stats().missCount());
+        metricsService.registerMetric(component, feature, EVICTIONS,
+                                      (Gauge<Long>) () -> pathCache.stats().evictionCount());
+        metricsService.registerMetric(component, feature, SIZE,
+                                      (Gauge<Long>) () -> pathCache.size());
+    }
+
+    private void unregisterPathCacheMetrics() {
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(PATH_CACHE_FEATURE);
+        metricsService.removeMetric(component, feature, HITS);
+        metricsService.removeMetric(component, feature, MISSES);
+        metricsService.removeMetric(component, feature, EVICTIONS);
+        metricsService.removeMetric(component, feature, SIZE);
+    }
+
     @Modified
     protected void modified(ComponentContext context) {
         Dictionary<?, ?> properties = context.getProperties();
@@ -171,7 +224,15 @@ public class DistributedTopologyStore
                             new GeoDistanceLinkWeight(deviceService) : null;
             setDefaultLinkWeight(weight);
         }
-        log.info(FORMAT, linkWeightFunction);
+
+        int budget = getIntegerProperty(properties, "pathCacheBudget", pathCacheBudget);
+        if (budget != pathCacheBudget) {
+            pathCacheBudget = budget;
+            synchronized (this) {
+                pathCache = new PathCache(current, pathCacheBudget);
+            }
+        }
+        log.info(FORMAT, linkWeightFunction, pathCacheBudget);
     }
 
     @Override
@@ -212,7 +273,8 @@ public class DistributedTopologyStore
 
     @Override
     public Set<Path> getPaths(Topology topology, DeviceId src, DeviceId dst) {
-        return defaultTopology(topology).getPaths(src, dst);
+        return pathCache.getPaths(topology, src, dst, null,
+                                  () -> defaultTopology(topology).getPaths(src, dst));
     }
 
     @Override
@@ -224,7 +286,8 @@ public class DistributedTopologyStore
     @Override
     public Set<Path> getPaths(Topology topology, DeviceId src,
                               DeviceId dst, LinkWeigher weigher) {
-        return defaultTopology(topology).getPaths(src, dst, weigher);
+        return pathCache.getPaths(topology, src, dst, weigher,
+                                  () -> defaultTopology(topology).getPaths(src, dst, weigher));
     }
 
     @Override
@@ -309,9 +372,10 @@ public class DistributedTopologyStore
     public TopologyEvent updateTopology(ProviderId providerId,
                                         GraphDescription graphDescription,
                                         List<Event> reasons) {
-        // Have the default topology construct self from the description data.
+        // Have the default topology construct self from the description data,
+        // reusing whatever it can from the current topology.
         DefaultTopology newTopology =
-                new DefaultTopology(providerId, graphDescription, this::isBroadcastPoint);
+                new DefaultTopology(providerId, graphDescription, this::isBroadcastPoint, current);
         updateBroadcastPoints(newTopology);
 
         // Promote the new topology to current and return a ready-to-send event.
@@ -322,6 +386,7 @@ public class DistributedTopologyStore
                 return null;
             }
             current = newTopology;
+            pathCache.topologyChanged(current, reasons);
             return new TopologyEvent(TOPOLOGY_CHANGED, current, reasons);
         }
     }
@@ -354,16 +419,19 @@ public class DistributedTopologyStore
     @Override
     public void setDefaultLinkWeight(LinkWeight linkWeight) {
         DefaultTopology.setDefaultLinkWeigher(adapt(linkWeight));
+        pathCache.invalidateAll();
     }
 
     @Override
     public void setDefaultLinkWeigher(LinkWeigher linkWeigher) {
         DefaultTopology.setDefaultLinkWeigher(linkWeigher);
+        pathCache.invalidateAll();
     }
 
     @Override
     public void setDefaultGraphPathSearch(GraphPathSearch<TopologyVertex, TopologyEdge> graphPathSearch) {
         DefaultTopology.setDefaultGraphPathSearch(graphPathSearch);
+        pathCache.invalidateAll();
     }
 
     private class InternalBroadcastPointListener
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.topology.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Sets;
+import org.onosproject.event.Event;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.net.Path;
+import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.link.LinkEvent;
+import org.onosproject.net.topology.LinkWeigher;
+import org.onosproject.net.topology.Topology;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the paths computed over the current topology.
+ * <p>
+ * The size of the cache is bounded by a budget expressed as the number of
+ * path links it may retain. When the topology changes, cached paths which
+ * are only affected by removals are invalidated selectively: the removal of
+ * a link, port or device cannot shorten any path, so only the entries whose
+ * paths traverse the removed elements are discarded. Any other change may
+ * yield new or shorter paths and therefore invalidates the entire cache.
+ * </p>
+ * <p>
+ * Only the paths computed with the default link weigher, or with weighers
+ * which declare themselves {@link LinkWeigher#isCacheable() cacheable}, are
+ * cached. Other weighers are typically created anew for each query, or
+ * weigh links by state other than the topology, so their paths would never
+ * be found again or would go stale.
+ * </p>
+ */
+final class PathCache {
+
+    private final Cache<PathKey, Set<Path>> cache;
+    private volatile Topology topology;
+
+    /**
+     * Creates a path cache for the specified topology.
+     *
+     * @param topology current topology
+     * @param budget   maximum number of path links to retain
+     */
+    PathCache(Topology topology, long budget) {
+        this.topology = topology;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(budget)
+                .weigher((PathKey key, Set<Path> paths) -> weight(paths))
+                .recordStats()
+                .build();
+    }
+
+    // Returns whether the paths computed with the given weigher may be cached.
+    private static boolean isCacheable(LinkWeigher weigher) {
+        return weigher == null || weigher.isCacheable();
+    }
+
+    // Weighs paths by the number of their links; empty results still count.
+    private static int weight(Set<Path> paths) {
+        int weight = 1;
+        for (Path path : paths) {
+            weight += path.links().size();
+        }
+        return weight;
+    }
+
+    /**
+     * Returns the paths between the specified devices, using the search to
+     * compute them if they are not cached. Paths over topologies other than
+     * the current one, or computed with weighers which are not cacheable, are
+     * never cached.
+     *
+     * @param topology topology to search
+     * @param src      source device
+     * @param dst      destination device
+     * @param weigher  link weigher; null for the default link weigher
+     * @param search   path search
+     * @return set of paths
+     */
+    Set<Path> getPaths(Topology topology, DeviceId src, DeviceId dst,
+                       LinkWeigher weigher, Supplier<Set<Path>> search) {
+        if (topology != this.topology || !isCacheable(weigher)) {
+            return search.get();
+        }
+        PathKey key = new PathKey(src, dst, weigher);
+        Set<Path> paths = cache.getIfPresent(key);
+        if (paths == null) {
+            paths = search.get();
+            synchronized (this) {
+                // Do not file paths of a topology superseded in the meantime
+                if (topology == this.topology) {
+                    cache.put(key, paths);
+                }
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Promotes the specified topology to current, invalidating the cached
+     * paths affected by the given topology change reasons.
+     *
+     * @param topology new current topology
+     * @param reasons  reasons for the topology change; null if not known
+     */
+    synchronized void topologyChanged(Topology topology, List<Event> reasons) {
+        this.topology = topology;
+        if (reasons == null || reasons.isEmpty()) {
+            cache.invalidateAll();
+            return;
+        }
+
+        Set<ConnectPoint> removedPoints = Sets.newHashSet();
+        Set<DeviceId> removedDevices = Sets.newHashSet();
+        for (Event reason : reasons) {
+            if (reason instanceof LinkEvent && reason.type() == LinkEvent.Type.LINK_REMOVED) {
+                Link link = ((LinkEvent) reason).subject();
+                removedPoints.add(link.src());
+                removedPoints.add(link.dst());
+            } else if (reason instanceof DeviceEvent && reason.type() == DeviceEvent.Type.DEVICE_REMOVED) {
+                removedDevices.add(((DeviceEvent) reason).subject().id());
+            } else if (reason instanceof DeviceEvent && reason.type() == DeviceEvent.Type.PORT_REMOVED &&
+                    ((DeviceEvent) reason).port() != null) {
+                DeviceEvent event = (DeviceEvent) reason;
+                removedPoints.add(new ConnectPoint(event.subject().id(), event.port().number()));
+            } else {
+                cache.invalidateAll();
+                return;
+            }
+        }
+
+        cache.asMap().values().removeIf(paths -> paths.stream()
+                .flatMap(path -> path.links().stream())
+                .anyMatch(link -> removedPoints.contains(link.src()) ||
+                        removedPoints.contains(link.dst()) ||
+                        removedDevices.contains(link.src().deviceId()) ||
+                        removedDevices.contains(link.dst().deviceId())));
+    }
+
+    /**
+     * Invalidates all cached paths.
+     */
+    synchronized void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached path sets.
+     *
+     * @return number of cache entries
+     */
+    long size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the cache.
+     *
+     * @return cache statistics
+     */
+    CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -16,15 +16,19 @@
 package org.onosproject.store.topology.impl;
 
 import org.onosproject.net.DeviceId;
+import org.onosproject.net.topology.LinkWeigher;
 
 import java.util.Objects;
 
 /**
  * Key for filing pre-computed paths between source and destination devices.
+ * Paths computed using a specific link weigher are filed separately for each
+ * distinct weigher, as told by the weigher equality.
  */
 class PathKey {
     private final DeviceId src;
     private final DeviceId dst;
+    private final LinkWeigher weigher;
 
     /**
      * Creates a path key from the given source/dest pair.
@@ -32,13 +36,24 @@ class PathKey {
      * @param dst destination device
      */
     PathKey(DeviceId src, DeviceId dst) {
+        this(src, dst, null);
+    }
+
+    /**
+     * Creates a path key from the given source/dest pair and link weigher.
+     * @param src     source device
+     * @param dst     destination device
+     * @param weigher link weigher; null for the default link weigher
+     */
+    PathKey(DeviceId src, DeviceId dst, LinkWeigher weigher) {
         this.src = src;
         this.dst = dst;
+        this.weigher = weigher;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(src, dst);
+        return Objects.hash(src, dst, weigher);
     }
 
     @Override
@@ -48,7 +63,8 @@ class PathKey {
         }
         if (obj instanceof PathKey) {
             final PathKey other = (PathKey) obj;
-            return Objects.equals(this.src, other.src) && Objects.equals(this.dst, other.dst);
+            return Objects.equals(this.src, other.src) && Objects.equals(this.dst, other.dst) &&
+                    Objects.equals(this.weigher, other.weigher);
         }
         return false;
     }
@@ -18,6 +18,8 @@ package org.onosproject.store.cluster.messaging.impl;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -41,10 +43,12 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
 import static org.junit.Assert.assertEquals;
@@ -136,6 +140,75 @@ public class NettyMessagingManagerTest {
         Uninterruptibles.awaitUninterruptibly(latch2);
     }
 
+    @Test
+    public void testSendBufferAsync() {
+        String subject = nextSubject();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<byte[]> request = new AtomicReference<>();
+        BiConsumer<Endpoint, byte[]> handler = (ep, data) -> {
+            request.set(data);
+            latch.countDown();
+        };
+        netty2.registerHandler(subject, handler, MoreExecutors.directExecutor());
+
+        ByteBuf payload = Unpooled.copiedBuffer("hello world".getBytes());
+        netty1.sendAsync(ep2, subject, payload).join();
+        assertEquals("payload not released once written", 0, payload.refCnt());
+        assertTrue(Uninterruptibles.awaitUninterruptibly(latch, 5, TimeUnit.SECONDS));
+        assertTrue(Arrays.equals("hello world".getBytes(), request.get()));
+    }
+
+    @Test
+    public void testSendBufferAsyncFailure() {
+        ByteBuf payload = Unpooled.copiedBuffer("hello world".getBytes());
+        try {
+            netty1.sendAsync(invalidEndPoint, nextSubject(), payload).join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ConnectException);
+        }
+        assertEquals("payload not released after failure", 0, payload.refCnt());
+    }
+
+    @Test
+    public void testSendBufferToLocalEndpoint() {
+        String subject = nextSubject();
+        AtomicReference<byte[]> request = new AtomicReference<>();
+        BiConsumer<Endpoint, byte[]> handler = (ep, data) -> request.set(data);
+        netty1.registerHandler(subject, handler, MoreExecutors.directExecutor());
+
+        ByteBuf payload = Unpooled.copiedBuffer("hello world".getBytes());
+        netty1.sendAsync(ep1, subject, payload).join();
+        assertEquals("payload not released after local delivery", 0, payload.refCnt());
+        assertTrue(Arrays.equals("hello world".getBytes(), request.get()));
+    }
+
+    @Test
+    public void testBroadcastBuffer() {
+        String subject = nextSubject();
+        CountDownLatch latch = new CountDownLatch(2);
+        BiConsumer<Endpoint, byte[]> handler = (ep, data) -> latch.countDown();
+        netty1.registerHandler(subject, handler, MoreExecutors.directExecutor());
+        netty2.registerHandler(subject, handler, MoreExecutors.directExecutor());
+
+        // Shares one payload across several sends, as cluster multicasts do
+        ByteBuf payload = Unpooled.copiedBuffer("hello world".getBytes());
+        CompletableFuture<Void> toLocal = netty1.sendAsync(ep1, subject, payload.retainedDuplicate());
+        CompletableFuture<Void> toPeer = netty1.sendAsync(ep2, subject, payload.retainedDuplicate());
+        CompletableFuture<Void> toInvalid = netty1.sendAsync(invalidEndPoint, subject, payload.retainedDuplicate());
+        payload.release();
+
+        CompletableFuture.allOf(toLocal, toPeer).join();
+        try {
+            toInvalid.join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ConnectException);
+        }
+        assertEquals("payload not released after broadcast", 0, payload.refCnt());
+        assertTrue(Uninterruptibles.awaitUninterruptibly(latch, 5, TimeUnit.SECONDS));
+    }
+
     @Test
     @Ignore // FIXME disabled on 9/29/16 due to random failures
     public void testSendAndReceive() {
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.device.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.device.DefaultPortStatistics;
+import org.onosproject.net.device.PortStatistics;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit tests for the primitive port statistics table.
+ */
+public class PortStatsTableTest {
+
+    private static final DeviceId DID = DeviceId.deviceId("of:foo");
+    private static final long THRESHOLD = 10;
+    private static final int FULL_SYNC_ROUNDS = 100;
+    private static final long TERM = 1;
+
+    private PortStatsTable master;
+    private PortStatsTable peer;
+
+    private static PortStatistics stats(int port, long packets, long durationSec) {
+        return DefaultPortStatistics.builder()
+                .setDeviceId(DID)
+                .setPort(port)
+                .setPacketsReceived(packets)
+                .setPacketsSent(packets)
+                .setBytesReceived(packets * 100)
+                .setBytesSent(packets * 100)
+                .setDurationSec(durationSec)
+                .build();
+    }
+
+    private PortStatsUpdate record(PortStatistics... stats) {
+        PortStatsUpdate update = master.record(ImmutableList.copyOf(stats), TERM, THRESHOLD, FULL_SYNC_ROUNDS);
+        if (update != null) {
+            peer.apply(update);
+        }
+        return update;
+    }
+
+    @Before
+    public void setUp() {
+        master = new PortStatsTable(DID);
+        peer = new PortStatsTable(DID);
+    }
+
+    /**
+     * Tests that the first poll is fully replicated, without deltas.
+     */
+    @Test
+    public void testFirstPoll() {
+        PortStatsUpdate update = record(stats(2, 10, 1), stats(1, 20, 1));
+        assertThat(update.ports().length, is(2));
+        assertThat(master.size(), is(2));
+        assertThat(peer.size(), is(2));
+        assertThat(peer.statistics(PortNumber.portNumber(1)).packetsReceived(), is(20L));
+        assertThat(peer.statistics().get(0).port(), is(1));
+        assertThat(master.deltaStatistics(), hasSize(0));
+        assertThat(master.deltaStatistics(PortNumber.portNumber(1)), is(nullValue()));
+    }
+
+    /**
+     * Tests that delta statistics are computed between successive polls.
+     */
+    @Test
+    public void testDelta() {
+        record(stats(1, 20, 1));
+        record(stats(1, 50, 3));
+        PortStatistics delta = master.deltaStatistics(PortNumber.portNumber(1));
+        assertThat(delta, is(notNullValue()));
+        assertThat(delta.packetsReceived(), is(30L));
+        assertThat(delta.bytesSent(), is(3000L));
+        assertThat(delta.durationSec(), is(2L));
+        assertThat(peer.deltaStatistics(PortNumber.portNumber(1)).packetsReceived(), is(30L));
+    }
+
+    /**
+     * Tests that only ports which changed by at least the threshold are replicated.
+     */
+    @Test
+    public void testOnlyChangedPorts() {
+        record(stats(1, 0, 1), stats(2, 0, 1), stats(3, 0, 1));
+        PortStatsUpdate update = record(stats(1, 100, 2), stats(2, 0, 2), stats(3, 2, 2));
+        assertThat(update.isFull(), is(false));
+        assertThat(update.ports().length, is(1));
+        assertThat(update.ports()[0], is(1L));
+
+        // sub-threshold changes accumulate until they are replicated
+        assertThat(peer.statistics(PortNumber.portNumber(3)).packetsReceived(), is(0L));
+        record(stats(1, 100, 3), stats(2, 0, 3), stats(3, 4, 3));
+        assertThat(peer.statistics(PortNumber.portNumber(3)).packetsReceived(), is(0L));
+        record(stats(1, 100, 4), stats(2, 0, 4), stats(3, 6, 4));
+        assertThat(peer.statistics(PortNumber.portNumber(3)).packetsReceived(), is(6L));
+        assertThat(master.statistics(PortNumber.portNumber(3)).packetsReceived(), is(6L));
+    }
+
+    /**
+     * Tests that a port turning idle is replicated so that peers see a zero delta.
+     */
+    @Test
+    public void testIdle() {
+        record(stats(1, 0, 1));
+        record(stats(1, 100, 2));
+        assertThat(peer.deltaStatistics(PortNumber.portNumber(1)).packetsReceived(), is(100L));
+        PortStatsUpdate update = record(stats(1, 100, 3));
+        assertThat(update, is(notNullValue()));
+        assertThat(peer.deltaStatistics(PortNumber.portNumber(1)).packetsReceived(), is(0L));
+        assertThat(record(stats(1, 100, 4)), is(nullValue()));
+    }
+
+    /**
+     * Tests that a removed port forces a full update, which peers apply as a replacement.
+     */
+    @Test
+    public void testPortRemoved() {
+        record(stats(1, 0, 1), stats(2, 0, 1));
+        PortStatsUpdate update = record(stats(2, 0, 2));
+        assertThat(update.isFull(), is(true));
+        assertThat(peer.size(), is(1));
+        assertThat(peer.statistics(PortNumber.portNumber(1)), is(nullValue()));
+    }
+
+    /**
+     * Tests that a port added later is merged into the peer table.
+     */
+    @Test
+    public void testPortAdded() {
+        record(stats(1, 0, 1), stats(5, 0, 1));
+        record(stats(1, 0, 2), stats(3, 7, 2), stats(5, 0, 2));
+        List<PortStatistics> stats = peer.statistics();
+        assertThat(stats, hasSize(3));
+        assertThat(stats.get(1).port(), is(3));
+        assertThat(stats.get(1).packetsReceived(), is(7L));
+        assertThat(master.deltaStatistics(), hasSize(2));
+    }
+
+    /**
+     * Tests that updates survive serialization.
+     */
+    @Test
+    public void testSerialization() {
+        record(stats(1, 0, 1));
+        PortStatsUpdate update = master.record(ImmutableList.of(stats(1, 50, 2)), TERM, THRESHOLD, FULL_SYNC_ROUNDS);
+        PortStatsUpdate copy = GossipDeviceStore.SERIALIZER.decode(GossipDeviceStore.SERIALIZER.encode(update));
+        peer.apply(copy);
+        assertThat(copy.deviceId(), is(DID));
+        assertThat(peer.statistics(PortNumber.portNumber(1)).packetsReceived(), is(50L));
+        assertThat(peer.deltaStatistics(PortNumber.portNumber(1)).packetsReceived(), is(50L));
+    }
+
+    /**
+     * Tests that the full table is replicated periodically.
+     */
+    @Test
+    public void testFullSync() {
+        PortStatsTable table = new PortStatsTable(DID);
+        table.record(ImmutableList.of(stats(1, 0, 1)), TERM, THRESHOLD, 3);
+        assertThat(table.record(ImmutableList.of(stats(1, 0, 2)), TERM, THRESHOLD, 3), is(nullValue()));
+        PortStatsUpdate update = table.record(ImmutableList.of(stats(1, 0, 3)), TERM, THRESHOLD, 3);
+        assertThat(update.isFull(), is(true));
+        assertThat(update.ports().length, is(1));
+    }
+
+    /**
+     * Tests that updates arriving after a more recent one are dropped.
+     */
+    @Test
+    public void testStaleUpdate() {
+        master.record(ImmutableList.of(stats(1, 0, 1)), TERM, THRESHOLD, FULL_SYNC_ROUNDS);
+        PortStatsUpdate older = master.record(ImmutableList.of(stats(1, 50, 2)), TERM, THRESHOLD, FULL_SYNC_ROUNDS);
+        PortStatsUpdate newer = master.record(ImmutableList.of(stats(1, 100, 3)), TERM, THRESHOLD, FULL_SYNC_ROUNDS);
+        assertThat(peer.apply(newer), is(true));
+        assertThat(peer.apply(older), is(false));
+        assertThat(peer.statistics(PortNumber.portNumber(1)).packetsReceived(), is(100L));
+
+        // a new master restarts its sequence in a later term
+        PortStatsTable newMaster = new PortStatsTable(DID);
+        PortStatsUpdate update = newMaster.record(ImmutableList.of(stats(1, 150, 4)), TERM + 1,
+                                                  THRESHOLD, FULL_SYNC_ROUNDS);
+        assertThat(peer.apply(update), is(true));
+        assertThat(peer.statistics(PortNumber.portNumber(1)).packetsReceived(), is(150L));
+    }
+}
@@ -163,6 +163,7 @@ public class DistributedFlowRuleStoreTest {
     @Test
     public void testEmptyStore() {
         assertThat(flowStoreImpl.getFlowRuleCount(), is(0));
+        assertThat(flowStoreImpl.getFlowRuleCount(deviceId), is(0));
         assertThat(flowStoreImpl.getFlowEntries(deviceId), is(emptyIterable()));
     }
 
@@ -207,6 +208,7 @@ public class DistributedFlowRuleStoreTest {
             sum++;
         }
         assertThat(sum, is(1));
+        assertThat(flowStoreImpl.getFlowRuleCount(deviceId), is(1));
 
         FlowEntry flowEntry2 = flowStoreImpl.getFlowEntry(flowRule);
         assertEquals("ADDED", flowEntry2.state().toString());
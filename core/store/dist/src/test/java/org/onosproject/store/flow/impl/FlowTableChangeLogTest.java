@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.flow.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.cluster.NodeId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.DefaultFlowEntry;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.StoredFlowEntry;
+import org.onosproject.net.intent.IntentTestsMocks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.onosproject.net.NetTestTools.APP_ID;
+import static org.onosproject.net.NetTestTools.did;
+
+/**
+ * Unit tests for the flow table change log used by delta backups.
+ */
+public class FlowTableChangeLogTest {
+
+    private static final NodeId NODE = new NodeId("1");
+    private final DeviceId deviceId = did("device1");
+
+    private FlowTableChangeLog changeLog;
+    private StoredFlowEntry entry1;
+    private StoredFlowEntry entry2;
+
+    private StoredFlowEntry entry(int priority) {
+        return new DefaultFlowEntry(DefaultFlowRule.builder()
+                                            .forDevice(deviceId)
+                                            .withSelector(new IntentTestsMocks.MockSelector())
+                                            .withTreatment(new IntentTestsMocks.MockTreatment())
+                                            .withPriority(priority)
+                                            .makePermanent()
+                                            .fromApp(APP_ID)
+                                            .build());
+    }
+
+    @Before
+    public void setUp() {
+        changeLog = new FlowTableChangeLog(deviceId);
+        entry1 = entry(10);
+        entry2 = entry(20);
+    }
+
+    /**
+     * Tests that a node which has never been synced cannot be served a delta.
+     */
+    @Test
+    public void testNoDeltaWithoutBaseline() {
+        changeLog.recordUpdate(entry1);
+        assertThat(changeLog.deltaSince(NODE, -1), is(nullValue()));
+    }
+
+    /**
+     * Tests that a delta only carries the changes after the acknowledged sequence.
+     */
+    @Test
+    public void testDeltaSince() {
+        long first = changeLog.recordUpdate(entry1);
+        changeLog.recordUpdate(entry2);
+
+        FlowTableBackupDelta delta = changeLog.deltaSince(NODE, first);
+        assertThat(delta, is(notNullValue()));
+        assertThat(delta.isFull(), is(false));
+        assertThat(delta.baseSequence(), is(first));
+        assertThat(delta.sequence(), is(changeLog.sequence()));
+        assertThat(delta.updated(), contains(entry2));
+        assertThat(delta.removed(), is(empty()));
+    }
+
+    /**
+     * Tests that successive changes to the same entry are coalesced.
+     */
+    @Test
+    public void testCoalescing() {
+        changeLog.recordUpdate(entry1);
+        changeLog.recordRemoval(entry1);
+        assertThat(changeLog.size(), is(1));
+
+        FlowTableBackupDelta delta = changeLog.deltaSince(NODE, 0);
+        assertThat(delta.updated(), is(empty()));
+        assertThat(delta.removed(), contains(entry1));
+    }
+
+    /**
+     * Tests that trimming discards acknowledged changes and invalidates older baselines.
+     */
+    @Test
+    public void testTrim() {
+        long first = changeLog.recordUpdate(entry1);
+        changeLog.recordUpdate(entry2);
+        changeLog.trim(first);
+
+        assertThat(changeLog.size(), is(1));
+        assertThat(changeLog.deltaSince(NODE, 0), is(nullValue()));
+        assertThat(changeLog.deltaSince(NODE, first).updated(), contains(entry2));
+    }
+
+    /**
+     * Tests that resetting the log forces a full sync for every node.
+     */
+    @Test
+    public void testReset() {
+        long first = changeLog.recordUpdate(entry1);
+        changeLog.reset();
+
+        assertThat(changeLog.size(), is(0));
+        assertThat(changeLog.canDeltaFrom(first), is(false));
+        assertThat(changeLog.canDeltaFrom(changeLog.sequence()), is(true));
+    }
+
+    /**
+     * Tests that the log is cleared once it retains more removals than allowed.
+     */
+    @Test
+    public void testRemovalCap() {
+        changeLog = new FlowTableChangeLog(deviceId, 1);
+        long first = changeLog.recordRemoval(entry1);
+        assertThat(changeLog.size(), is(1));
+        assertThat(changeLog.canDeltaFrom(0), is(true));
+
+        // replacing a removal with an update releases its slot
+        changeLog.recordUpdate(entry1);
+        changeLog.recordRemoval(entry2);
+        assertThat(changeLog.size(), is(2));
+
+        changeLog.recordRemoval(entry1);
+        assertThat(changeLog.size(), is(0));
+        assertThat(changeLog.canDeltaFrom(first), is(false));
+        assertThat(changeLog.canDeltaFrom(changeLog.sequence()), is(true));
+    }
+}
@@ -308,6 +308,39 @@ public class DistributedGroupStoreTest {
 
     }
 
+    /**
+     * Tests adding and removing groups as a batch.
+     */
+    @Test
+    public void testStoreDeleteGroupDescriptions() {
+        List<List<GroupEvent>> batchesSeen = new ArrayList<>();
+        groupStore.setDelegate(new TestDelegate() {
+            @Override
+            public void notify(List<GroupEvent> events) {
+                batchesSeen.add(events);
+            }
+        });
+        groupStore.deviceInitialAuditCompleted(deviceId2, true);
+
+        groupStore.storeGroupDescriptions(ImmutableList.of(groupDescription2, groupDescription3));
+        assertThat(groupStore.getGroupCount(deviceId2), is(2));
+        assertThat(batchesSeen, hasSize(1));
+        assertThat(batchesSeen.get(0), hasSize(2));
+        assertThat(batchesSeen.get(0).get(0).type(), is(GroupEvent.Type.GROUP_ADD_REQUESTED));
+
+        // Groups which already exist are not added again
+        groupStore.storeGroupDescriptions(ImmutableList.of(groupDescription2));
+        assertThat(groupStore.getGroupCount(deviceId2), is(2));
+
+        batchesSeen.clear();
+        groupStore.deleteGroupDescriptions(deviceId2, ImmutableList.of(groupKey2, groupKey3));
+        assertThat(batchesSeen, hasSize(1));
+        assertThat(batchesSeen.get(0), hasSize(2));
+        assertThat(batchesSeen.get(0).get(0).type(), is(GroupEvent.Type.GROUP_REMOVE_REQUESTED));
+        assertThat(groupStore.getGroup(deviceId2, groupId2).state(), is(Group.GroupState.PENDING_DELETE));
+        assertThat(groupStore.getGroup(deviceId2, groupId3).state(), is(Group.GroupState.PENDING_DELETE));
+    }
+
     class TestDelegate implements GroupStoreDelegate {
         private List<GroupEvent> eventsSeen = new LinkedList<>();
         @Override
@@ -20,9 +20,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
 import org.onosproject.net.Host;
 import org.onosproject.net.HostId;
 import org.onosproject.net.HostLocation;
+import org.onosproject.net.PortNumber;
 import org.onosproject.net.host.DefaultHostDescription;
 import org.onosproject.net.host.HostDescription;
 import org.onosproject.net.provider.ProviderId;
@@ -125,6 +129,42 @@ public class DistributedHostStoreTest {
         assertTrue(hosts.size() == 0);
     }
 
+    /**
+     * Tests that the secondary indexes follow host moves and removals.
+     */
+    @Test
+    public void testSecondaryIndexes() {
+        DeviceId device1 = DeviceId.deviceId("of:1");
+        DeviceId device2 = DeviceId.deviceId("of:2");
+        HostLocation location1 = new HostLocation(device1, PortNumber.portNumber(1), 0);
+        HostLocation location2 = new HostLocation(device2, PortNumber.portNumber(2), 0);
+
+        ecXHostStore.createOrUpdateHost(PID, HOSTID, new DefaultHostDescription(
+                HOSTID.mac(), HOSTID.vlanId(), location1, Sets.newHashSet(IP1)), false);
+        ecXHostStore.createOrUpdateHost(PID, HOSTID1, new DefaultHostDescription(
+                HOSTID1.mac(), HOSTID1.vlanId(), location1, Sets.newHashSet(IP2)), false);
+
+        assertEquals(1, ecXHostStore.getHosts(HOSTID.mac()).size());
+        assertEquals(2, ecXHostStore.getHosts(VlanId.NONE).size());
+        assertEquals(2, ecXHostStore.getConnectedHosts(new ConnectPoint(device1, PortNumber.portNumber(1))).size());
+        assertEquals(2, ecXHostStore.getConnectedHosts(device1).size());
+
+        // Move the first host to another device
+        ecXHostStore.createOrUpdateHost(PID, HOSTID, new DefaultHostDescription(
+                HOSTID.mac(), HOSTID.vlanId(), location2, Sets.newHashSet(IP1)), false);
+
+        assertEquals(1, ecXHostStore.getConnectedHosts(location1).size());
+        assertEquals(1, ecXHostStore.getConnectedHosts(device1).size());
+        assertEquals(location2, ecXHostStore.getConnectedHosts(device2).iterator().next().location());
+
+        ecXHostStore.removeHost(HOSTID1);
+
+        assertTrue(ecXHostStore.getConnectedHosts(device1).isEmpty());
+        assertTrue(ecXHostStore.getHosts(HOSTID1.mac()).isEmpty());
+        assertTrue(ecXHostStore.getHosts(IP2).isEmpty());
+        assertEquals(1, ecXHostStore.getHosts(VlanId.NONE).size());
+    }
+
     @Test
     public void testHostOverride() {
         Host hostInStore;
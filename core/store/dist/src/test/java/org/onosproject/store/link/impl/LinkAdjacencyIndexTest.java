@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.link.impl;
+
+import org.junit.Test;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.LinkKey;
+import org.onosproject.net.PortNumber;
+
+import com.google.common.collect.ImmutableSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.net.DeviceId.deviceId;
+
+/**
+ * Unit tests for LinkAdjacencyIndex.
+ */
+public class LinkAdjacencyIndexTest {
+
+    private static final DeviceId DID1 = deviceId("of:1");
+    private static final DeviceId DID2 = deviceId("of:2");
+    private static final DeviceId DID3 = deviceId("of:3");
+
+    private static final ConnectPoint CP1 = new ConnectPoint(DID1, PortNumber.portNumber(1));
+    private static final ConnectPoint CP2 = new ConnectPoint(DID2, PortNumber.portNumber(2));
+    private static final ConnectPoint CP3 = new ConnectPoint(DID3, PortNumber.portNumber(3));
+    private static final ConnectPoint CP4 = new ConnectPoint(DID1, PortNumber.portNumber(4));
+
+    private static final LinkKey L12 = LinkKey.linkKey(CP1, CP2);
+    private static final LinkKey L21 = LinkKey.linkKey(CP2, CP1);
+    private static final LinkKey L13 = LinkKey.linkKey(CP1, CP3);
+    private static final LinkKey L42 = LinkKey.linkKey(CP4, CP2);
+
+    private final LinkAdjacencyIndex index = new LinkAdjacencyIndex();
+
+    /**
+     * Tests that added links are reported by all four indexes.
+     */
+    @Test
+    public void testAdd() {
+        index.add(L12);
+        index.add(L21);
+        index.add(L12);
+
+        assertEquals(ImmutableSet.of(L12), index.egress(DID1));
+        assertEquals(ImmutableSet.of(L21), index.ingress(DID1));
+        assertEquals(ImmutableSet.of(L21), index.egress(DID2));
+        assertEquals(ImmutableSet.of(L12), index.ingress(DID2));
+        assertEquals(ImmutableSet.of(L12), index.egress(CP1));
+        assertEquals(ImmutableSet.of(L12), index.ingress(CP2));
+        assertTrue(index.egress(DID3).isEmpty());
+        assertTrue(index.ingress(CP3).isEmpty());
+    }
+
+    /**
+     * Tests that removed links are no longer reported and that links sharing
+     * an endpoint are left alone.
+     */
+    @Test
+    public void testRemove() {
+        index.add(L12);
+        index.add(L21);
+        index.remove(L12);
+
+        assertTrue(index.egress(DID1).isEmpty());
+        assertTrue(index.ingress(DID2).isEmpty());
+        assertTrue(index.egress(CP1).isEmpty());
+        assertTrue(index.ingress(CP2).isEmpty());
+        assertEquals(ImmutableSet.of(L21), index.egress(DID2));
+        assertEquals(ImmutableSet.of(L21), index.ingress(CP1));
+
+        index.remove(L12);
+        assertEquals(ImmutableSet.of(L21), index.ingress(DID1));
+    }
+
+    /**
+     * Tests that a link whose destination or source changes is only reported
+     * at its new endpoints. The link store sees such a change as the removal
+     * of the old link key and the addition of the new one.
+     */
+    @Test
+    public void testEndpointChange() {
+        index.add(L12);
+
+        index.remove(L12);
+        index.add(L13);
+        assertEquals(ImmutableSet.of(L13), index.egress(DID1));
+        assertEquals(ImmutableSet.of(L13), index.egress(CP1));
+        assertTrue(index.ingress(DID2).isEmpty());
+        assertTrue(index.ingress(CP2).isEmpty());
+        assertEquals(ImmutableSet.of(L13), index.ingress(DID3));
+        assertEquals(ImmutableSet.of(L13), index.ingress(CP3));
+
+        index.remove(L13);
+        index.add(L42);
+        assertEquals(ImmutableSet.of(L42), index.egress(DID1));
+        assertTrue(index.egress(CP1).isEmpty());
+        assertEquals(ImmutableSet.of(L42), index.egress(CP4));
+        assertTrue(index.ingress(DID3).isEmpty());
+        assertEquals(ImmutableSet.of(L42), index.ingress(CP2));
+    }
+
+    /**
+     * Tests that clearing the index removes all links.
+     */
+    @Test
+    public void testClear() {
+        index.add(L12);
+        index.add(L21);
+        index.clear();
+
+        assertTrue(index.egress(DID1).isEmpty());
+        assertTrue(index.egress(DID2).isEmpty());
+        assertTrue(index.ingress(CP1).isEmpty());
+        assertTrue(index.ingress(CP2).isEmpty());
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
+import org.onlab.util.Bandwidth;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.intent.IntentId;
+import org.onosproject.net.resource.ContinuousResource;
+import org.onosproject.net.resource.DiscreteResource;
+import org.onosproject.net.resource.DiscreteResourceId;
+import org.onosproject.net.resource.ResourceAllocation;
+import org.onosproject.net.resource.ResourceConsumer;
+import org.onosproject.net.resource.Resources;
+import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.ConsistentMap;
+import org.onosproject.store.service.ConsistentMapAdapter;
+import org.onosproject.store.service.ConsistentMapBuilder;
+import org.onosproject.store.service.TestConsistentMap;
+import org.onosproject.store.service.TestStorageService;
+import org.onosproject.store.service.Versioned;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the compare-and-set allocation path of ConsistentResourceStore.
+ */
+public class ConsistentResourceStoreTest {
+
+    private static final DeviceId DID = DeviceId.deviceId("of:1");
+    private static final PortNumber PN = PortNumber.portNumber(1);
+
+    private static final DiscreteResource PORT = Resources.discrete(DID, PN).resource();
+    private static final ContinuousResource CAPACITY =
+            Resources.continuous(DID, PN, Bandwidth.class).resource(100);
+    private static final ContinuousResource REQUEST =
+            Resources.continuous(DID, PN, Bandwidth.class).resource(40);
+
+    private static final ResourceConsumer CONSUMER1 = IntentId.valueOf(1);
+    private static final ResourceConsumer CONSUMER2 = IntentId.valueOf(2);
+
+    private final Map<String, ConflictingMap<?, ?>> maps = new HashMap<>();
+    private ConsistentResourceStore store;
+
+    @Before
+    public void setUp() {
+        store = new ConsistentResourceStore();
+        store.service = new TestStorageService() {
+            @Override
+            public <K, V> ConsistentMapBuilder<K, V> consistentMapBuilder() {
+                return new ConsistentMapBuilder<K, V>() {
+                    @Override
+                    public ConsistentMap<K, V> build() {
+                        ConflictingMap<K, V> map = new ConflictingMap<>(
+                                new TestConsistentMap.Builder<K, V>().withName(name()).build());
+                        maps.put(name(), map);
+                        return map;
+                    }
+
+                    @Override
+                    public AsyncConsistentMap<K, V> buildAsyncMap() {
+                        return null;
+                    }
+                };
+            }
+        };
+        store.metricsService = new MetricsManager();
+        store.activate();
+
+        // register the port and its bandwidth without going through a transaction
+        DiscreteResourceId device = Resources.discrete(DID).id();
+        this.<DiscreteResourceId, DiscreteResources>map(MapNames.DISCRETE_CHILD_MAP)
+                .put(device, DiscreteResources.of(ImmutableSet.of(PORT)));
+        this.<DiscreteResourceId, Set<ContinuousResource>>map(MapNames.CONTINUOUS_CHILD_MAP)
+                .put(PORT.id(), new LinkedHashSet<>(ImmutableSet.of(CAPACITY)));
+    }
+
+    @After
+    public void tearDown() {
+        maps.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> ConflictingMap<K, V> map(String name) {
+        return (ConflictingMap<K, V>) maps.get(name);
+    }
+
+    /**
+     * Tests allocating and releasing a discrete resource.
+     */
+    @Test
+    public void discreteAllocateAndRelease() {
+        assertTrue(store.allocate(ImmutableList.of(PORT), CONSUMER1));
+        assertFalse(store.allocate(ImmutableList.of(PORT), CONSUMER2));
+        assertEquals(ImmutableList.of(new ResourceAllocation(PORT, CONSUMER1)),
+                     store.getResourceAllocations(PORT.id()));
+
+        assertFalse(store.release(ImmutableList.of(new ResourceAllocation(PORT, CONSUMER2))));
+        assertTrue(store.release(ImmutableList.of(new ResourceAllocation(PORT, CONSUMER1))));
+        assertTrue(store.getResourceAllocations(PORT.id()).isEmpty());
+        assertTrue(store.isAvailable(PORT));
+    }
+
+    /**
+     * Tests allocating and releasing a continuous resource.
+     */
+    @Test
+    public void continuousAllocateAndRelease() {
+        assertTrue(store.allocate(ImmutableList.of(REQUEST), CONSUMER1));
+        assertTrue(store.allocate(ImmutableList.of(REQUEST), CONSUMER2));
+        assertFalse(store.allocate(ImmutableList.of(REQUEST), CONSUMER1));
+        assertEquals(2, store.getResourceAllocations(REQUEST.id()).size());
+
+        assertTrue(store.release(ImmutableList.of(new ResourceAllocation(REQUEST, CONSUMER1))));
+        assertEquals(ImmutableList.of(new ResourceAllocation(REQUEST, CONSUMER2)),
+                     store.getResourceAllocations(REQUEST.id()));
+    }
+
+    /**
+     * Tests that updates conflicting with an in-flight transaction are retried.
+     */
+    @Test
+    public void conflictIsRetried() {
+        ConflictingMap<?, ?> discreteConsumers = map(MapNames.DISCRETE_CONSUMER_MAP);
+        discreteConsumers.conflicts = 2;
+        assertTrue(store.allocate(ImmutableList.of(PORT), CONSUMER1));
+        assertEquals(0, discreteConsumers.conflicts);
+        assertEquals(ImmutableList.of(new ResourceAllocation(PORT, CONSUMER1)),
+                     store.getResourceAllocations(PORT.id()));
+
+        discreteConsumers.conflicts = 1;
+        assertTrue(store.release(ImmutableList.of(new ResourceAllocation(PORT, CONSUMER1))));
+        assertEquals(0, discreteConsumers.conflicts);
+        assertTrue(store.getResourceAllocations(PORT.id()).isEmpty());
+
+        ConflictingMap<?, ?> continuousConsumers = map(MapNames.CONTINUOUS_CONSUMER_MAP);
+        continuousConsumers.conflicts = 3;
+        assertTrue(store.allocate(ImmutableList.of(REQUEST), CONSUMER1));
+        assertEquals(0, continuousConsumers.conflicts);
+        assertEquals(1, store.getResourceAllocations(REQUEST.id()).size());
+    }
+
+    /**
+     * Tests that a continuous allocation racing with the unregistration of the
+     * resource is undone, even if undoing it conflicts at first.
+     */
+    @Test
+    public void continuousAllocationUndone() {
+        ConflictingMap<DiscreteResourceId, Set<ContinuousResource>> children =
+                map(MapNames.CONTINUOUS_CHILD_MAP);
+        ConflictingMap<?, ?> consumers = map(MapNames.CONTINUOUS_CONSUMER_MAP);
+        consumers.afterUpdate = () -> {
+            children.remove(PORT.id());
+            consumers.conflicts = 1;
+        };
+
+        assertFalse(store.allocate(ImmutableList.of(REQUEST), CONSUMER1));
+        assertEquals(0, consumers.conflicts);
+        assertTrue(store.getResourceAllocations(REQUEST.id()).isEmpty());
+    }
+
+    /**
+     * Consistent map whose compare-and-set updates can be made to conflict
+     * as if their keys were locked by a transaction.
+     */
+    private static final class ConflictingMap<K, V> extends ConsistentMapAdapter<K, V> {
+        private final ConsistentMap<K, V> delegate;
+        int conflicts;
+        Runnable afterUpdate;
+
+        ConflictingMap(ConsistentMap<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        private void checkConflict() {
+            if (conflicts > 0) {
+                conflicts--;
+                throw new ConcurrentModificationException("Another transaction in progress");
+            }
+        }
+
+        private <T> T updated(T result) {
+            Runnable runnable = afterUpdate;
+            afterUpdate = null;
+            if (runnable != null) {
+                runnable.run();
+            }
+            return result;
+        }
+
+        @Override
+        public Versioned<V> get(K key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public Versioned<V> put(K key, V value) {
+            return delegate.put(key, value);
+        }
+
+        @Override
+        public Versioned<V> remove(K key) {
+            return delegate.remove(key);
+        }
+
+        @Override
+        public Versioned<V> putIfAbsent(K key, V value) {
+            checkConflict();
+            return updated(delegate.putIfAbsent(key, value));
+        }
+
+        @Override
+        public boolean remove(K key, V value) {
+            checkConflict();
+            return updated(delegate.remove(key, value));
+        }
+
+        @Override
+        public boolean replace(K key, long oldVersion, V newValue) {
+            checkConflict();
+            return updated(delegate.replace(key, oldVersion, newValue));
+        }
+    }
+}
@@ -46,11 +46,13 @@ import org.onosproject.net.flow.TrafficTreatment;
 import org.onosproject.net.flow.instructions.Instruction;
 import org.onosproject.net.flow.instructions.Instructions;
 import org.onosproject.net.intent.IntentTestsMocks;
+import org.onosproject.net.statistic.PortLoad;
 import org.onosproject.net.statistic.StatisticStore;
 import org.onosproject.store.cluster.messaging.ClusterCommunicationServiceAdapter;
 import org.osgi.service.component.ComponentContext;
 
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.easymock.EasyMock.createMock;
@@ -226,4 +228,25 @@ public class DistributedStatisticStoreTest {
         assertThat(store.getCurrentStatistic(cp1), is(empty()));
     }
 
+    @Test
+    public void testLoad() {
+        FlowEntry flowEntry = makeFlowEntry(1);
+        cp1 = new ConnectPoint(flowEntry.deviceId(), PortNumber.portNumber(0));
+        assertThat(store.getLoad(cp1).isValid(), is(false));
+
+        store.prepareForStatistics(flowEntry);
+        store.addOrUpdateStatistic(flowEntry);
+        store.addOrUpdateStatistic(flowEntry);
+        PortLoad load = store.getLoad(cp1);
+        assertThat(load.isValid(), is(true));
+        assertThat(load.load().latest(), is(flowEntry.bytes()));
+
+        PortLoad copy = DistributedStatisticStore.SERIALIZER.decode(DistributedStatisticStore.SERIALIZER.encode(load));
+        assertThat(copy.load().latest(), is(flowEntry.bytes()));
+        assertThat(copy.load(APP_ID, Optional.of(flowEntry.groupId())).isValid(), is(true));
+
+        store.removeFromStatistics(flowEntry);
+        assertThat(store.getLoad(cp1).isValid(), is(false));
+    }
+
 }
\ No newline at end of file
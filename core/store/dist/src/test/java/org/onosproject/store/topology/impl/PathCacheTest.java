@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.topology.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.graph.DefaultEdgeWeigher;
+import org.onosproject.common.DefaultTopology;
+import org.onosproject.net.Path;
+import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.link.LinkEvent;
+import org.onosproject.net.provider.ProviderId;
+import org.onosproject.net.topology.DefaultGraphDescription;
+import org.onosproject.net.topology.HopCountLinkWeight;
+import org.onosproject.net.topology.LinkWeigher;
+import org.onosproject.net.topology.LinkWeight;
+import org.onosproject.net.topology.Topology;
+import org.onosproject.net.topology.TopologyEdge;
+import org.onosproject.net.topology.TopologyVertex;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.onosproject.net.NetTestTools.createPath;
+import static org.onosproject.net.NetTestTools.device;
+import static org.onosproject.net.NetTestTools.did;
+import static org.onosproject.net.NetTestTools.link;
+import static org.onosproject.net.topology.AdapterLinkWeigher.adapt;
+import static org.onosproject.net.topology.HopCountLinkWeigher.DEFAULT_HOP_COUNT_WEIGHER;
+
+/**
+ * Unit tests for the topology store path cache.
+ */
+public class PathCacheTest {
+
+    private final Path pathAbc = createPath("a", "b", "c");
+    private final Path pathDe = createPath("d", "e");
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    private Topology topology;
+    private PathCache cache;
+
+    private static Topology topology() {
+        return new DefaultTopology(ProviderId.NONE,
+                                   new DefaultGraphDescription(0L, System.currentTimeMillis(),
+                                                               Collections.emptyList(),
+                                                               Collections.emptyList()));
+    }
+
+    private Supplier<Set<Path>> search(Path path) {
+        return () -> {
+            searches.incrementAndGet();
+            return ImmutableSet.of(path);
+        };
+    }
+
+    private Set<Path> getAbc() {
+        return cache.getPaths(topology, did("a"), did("c"), null, search(pathAbc));
+    }
+
+    private Set<Path> getDe() {
+        return cache.getPaths(topology, did("d"), did("e"), null, search(pathDe));
+    }
+
+    @Before
+    public void setUp() {
+        topology = topology();
+        cache = new PathCache(topology, 1000);
+    }
+
+    /**
+     * Tests that repeated queries are served from the cache.
+     */
+    @Test
+    public void testCaching() {
+        Set<Path> paths = getAbc();
+        assertSame(paths, getAbc());
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+
+        cache.getPaths(topology, did("a"), did("c"), DEFAULT_HOP_COUNT_WEIGHER, search(pathAbc));
+        cache.getPaths(topology, did("a"), did("c"), DEFAULT_HOP_COUNT_WEIGHER, search(pathAbc));
+        assertEquals("paths filed per weigher", 2, searches.get());
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Tests that paths are shared by equal weighers created for each query.
+     */
+    @Test
+    public void testEqualWeighers() {
+        cache.getPaths(topology, did("a"), did("c"), adapt(new HopCountLinkWeight()), search(pathAbc));
+        cache.getPaths(topology, did("a"), did("c"), adapt(new HopCountLinkWeight()), search(pathAbc));
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.stats().hitCount());
+
+        cache.getPaths(topology, did("a"), did("c"), adapt(new HopCountLinkWeight(3)), search(pathAbc));
+        assertEquals("paths filed per weigher", 2, searches.get());
+    }
+
+    /**
+     * Tests that paths computed with weighers which are not cacheable are
+     * computed afresh and not cached.
+     */
+    @Test
+    public void testUncachedWeigher() {
+        cache.getPaths(topology, did("a"), did("c"), new IdentityWeigher(), search(pathAbc));
+        cache.getPaths(topology, did("a"), did("c"), new IdentityWeigher(), search(pathAbc));
+        LinkWeight weight = edge -> 1.0;
+        cache.getPaths(topology, did("a"), did("c"), adapt(weight), search(pathAbc));
+        cache.getPaths(topology, did("a"), did("c"), adapt(weight), search(pathAbc));
+        assertEquals(4, searches.get());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.stats().requestCount());
+    }
+
+    // Weigher which does not opt in to caching.
+    private static class IdentityWeigher extends DefaultEdgeWeigher<TopologyVertex, TopologyEdge>
+            implements LinkWeigher {
+    }
+
+    /**
+     * Tests that paths of a superseded topology are not cached.
+     */
+    @Test
+    public void testStaleTopology() {
+        Topology stale = topology;
+        cache.topologyChanged(topology(), null);
+        cache.getPaths(stale, did("a"), did("c"), null, search(pathAbc));
+        cache.getPaths(stale, did("a"), did("c"), null, search(pathAbc));
+        assertEquals(2, searches.get());
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Tests that removals only invalidate the paths which traverse them.
+     */
+    @Test
+    public void testSelectiveInvalidation() {
+        getAbc();
+        getDe();
+        topology = topology();
+        cache.topologyChanged(topology, ImmutableList.of(
+                new LinkEvent(LinkEvent.Type.LINK_REMOVED, link("b", 2, "c", 1))));
+        assertEquals(1, cache.size());
+
+        getDe();
+        assertEquals(2, searches.get());
+        getAbc();
+        assertEquals(3, searches.get());
+
+        topology = topology();
+        cache.topologyChanged(topology, ImmutableList.of(
+                new DeviceEvent(DeviceEvent.Type.DEVICE_REMOVED, device("d"))));
+        assertEquals(1, cache.size());
+        getAbc();
+        assertEquals(3, searches.get());
+    }
+
+    /**
+     * Tests that additions invalidate all paths.
+     */
+    @Test
+    public void testAdditionInvalidatesAll() {
+        getAbc();
+        getDe();
+        topology = topology();
+        cache.topologyChanged(topology, ImmutableList.of(
+                new LinkEvent(LinkEvent.Type.LINK_REMOVED, link("x", 2, "y", 1)),
+                new LinkEvent(LinkEvent.Type.LINK_ADDED, link("a", 2, "c", 1))));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Tests that the cache does not exceed its budget.
+     */
+    @Test
+    public void testBudget() {
+        cache = new PathCache(topology, 0);
+        getAbc();
+        getAbc();
+        assertEquals(2, searches.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.primitives.impl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Hash tree (Merkle tree) summarizing the contents of an eventually
+ * consistent map, used to compare replicas without exchanging a digest of
+ * every entry.
+ * <p>
+ * Entries are assigned to one of {@link #LEAVES} leaf buckets by the hash
+ * of their key. The hash of a leaf is the exclusive or of the hashes of its
+ * entries, so it does not depend on iteration order; the hash of an inner
+ * node is computed from the hashes of its {@link #FAN_OUT} children. Two
+ * replicas holding the same entries have the same root hash, and replicas
+ * which differ only need to descend into the subtrees whose hashes differ.
+ * </p>
+ */
+public final class AntiEntropyTree {
+
+    /**
+     * Number of children of each inner node.
+     */
+    public static final int FAN_OUT = 16;
+
+    /**
+     * Number of levels below the root.
+     */
+    public static final int DEPTH = 3;
+
+    /**
+     * Number of leaf buckets.
+     */
+    public static final int LEAVES = 1 << (4 * DEPTH);
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final long[][] levels = new long[DEPTH + 1][];
+
+    /**
+     * Creates a tree from the hashes of its leaf buckets.
+     *
+     * @param leaves leaf bucket hashes
+     */
+    AntiEntropyTree(long[] leaves) {
+        checkArgument(leaves.length == LEAVES, "expected %s leaves", LEAVES);
+        levels[DEPTH] = leaves.clone();
+        for (int level = DEPTH - 1; level >= 0; level--) {
+            long[] children = levels[level + 1];
+            long[] nodes = new long[children.length / FAN_OUT];
+            for (int i = 0; i < nodes.length; i++) {
+                Hasher hasher = HASH.newHasher();
+                for (int j = 0; j < FAN_OUT; j++) {
+                    hasher.putLong(children[i * FAN_OUT + j]);
+                }
+                nodes[i] = hasher.hash().asLong();
+            }
+            levels[level] = nodes;
+        }
+    }
+
+    /**
+     * Returns the leaf bucket of the entry with the specified key hash.
+     *
+     * @param keyHash hash of the entry key
+     * @return leaf bucket index
+     */
+    public static int bucket(long keyHash) {
+        return (int) (keyHash >>> (Long.SIZE - 4 * DEPTH));
+    }
+
+    /**
+     * Returns the hash contributed to its leaf bucket by a map entry.
+     *
+     * @param keyHash hash of the entry key
+     * @param digest  digest of the entry value
+     * @return entry hash
+     */
+    public static long entryHash(long keyHash, MapValue.Digest digest) {
+        return HASH.newHasher()
+                .putLong(keyHash)
+                .putInt(digest.hashCode())
+                .hash()
+                .asLong();
+    }
+
+    /**
+     * Returns the root hash.
+     *
+     * @return root hash
+     */
+    public long root() {
+        return levels[0][0];
+    }
+
+    /**
+     * Returns the hash of the specified node.
+     *
+     * @param level level of the node; 0 for the root and {@link #DEPTH} for the leaves
+     * @param index index of the node within its level
+     * @return node hash
+     */
+    public long hash(int level, int index) {
+        return levels[level][index];
+    }
+
+    /**
+     * Returns the hashes of the specified nodes.
+     *
+     * @param level   level of the nodes
+     * @param indexes indexes of the nodes within their level
+     * @return node hashes keyed by node index
+     */
+    public Map<Integer, Long> hashes(int level, Collection<Integer> indexes) {
+        Map<Integer, Long> hashes = Maps.newHashMapWithExpectedSize(indexes.size());
+        indexes.forEach(index -> hashes.put(index, levels[level][index]));
+        return hashes;
+    }
+
+    /**
+     * Returns the nodes whose hashes differ from those of another replica.
+     *
+     * @param level  level of the nodes
+     * @param hashes hashes of the other replica keyed by node index
+     * @return indexes of the differing nodes
+     * @throws IllegalArgumentException if the level or any node index is out of range
+     */
+    public Set<Integer> differing(int level, Map<Integer, Long> hashes) {
+        checkArgument(level >= 0 && level <= DEPTH, "invalid level %s", level);
+        long[] nodes = levels[level];
+        Set<Integer> differing = Sets.newHashSet();
+        hashes.forEach((index, hash) -> {
+            checkArgument(index != null && index >= 0 && index < nodes.length,
+                          "invalid index %s at level %s", index, level);
+            if (hash == null || nodes[index] != hash) {
+                differing.add(index);
+            }
+        });
+        return differing;
+    }
+
+    /**
+     * Returns the children of the specified nodes.
+     *
+     * @param indexes indexes of the nodes within their level
+     * @return indexes of the children within the next level
+     */
+    public static Set<Integer> children(Collection<Integer> indexes) {
+        Set<Integer> children = Sets.newHashSetWithExpectedSize(indexes.size() * FAN_OUT);
+        indexes.forEach(index -> {
+            for (int i = 0; i < FAN_OUT; i++) {
+                children.add(index * FAN_OUT + i);
+            }
+        });
+        return children;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.primitives.impl;
+
+import java.util.Map;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import org.onosproject.cluster.NodeId;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Request to compare a level of the {@link AntiEntropyTree} of an eventually
+ * consistent map with the tree of a peer.
+ */
+public class AntiEntropyTreeRequest {
+
+    private final NodeId sender;
+    private final int level;
+    private final Map<Integer, Long> hashes;
+
+    /**
+     * Creates a new anti-entropy tree request.
+     *
+     * @param sender the sender's node ID
+     * @param level  level of the tree being compared
+     * @param hashes hashes of the sender's nodes keyed by node index
+     */
+    public AntiEntropyTreeRequest(NodeId sender, int level, Map<Integer, Long> hashes) {
+        this.sender = checkNotNull(sender);
+        this.level = level;
+        this.hashes = ImmutableMap.copyOf(checkNotNull(hashes));
+    }
+
+    /**
+     * Returns the sender's node ID.
+     *
+     * @return the sender's node ID
+     */
+    public NodeId sender() {
+        return sender;
+    }
+
+    /**
+     * Returns the level of the tree being compared.
+     *
+     * @return tree level
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Returns the hashes of the sender's nodes.
+     *
+     * @return node hashes keyed by node index
+     */
+    public Map<Integer, Long> hashes() {
+        return hashes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass())
+                .add("sender", sender)
+                .add("level", level)
+                .add("nodes", hashes.size())
+                .toString();
+    }
+}
@@ -17,7 +17,9 @@ package org.onosproject.store.primitives.impl;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -31,6 +33,8 @@ import org.slf4j.Logger;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import static org.onosproject.store.service.DistributedPrimitive.Status.INACTIVE;
 import static org.onosproject.store.service.DistributedPrimitive.Status.SUSPENDED;
@@ -41,7 +45,8 @@ import static org.onosproject.store.service.DistributedPrimitive.Status.SUSPENDE
  * The cache entries are automatically invalidated when updates are detected either locally or
  * remotely.
  * <p> This implementation only attempts to serve cached entries for {@link AsyncConsistentMap#get get}
- * {@link AsyncConsistentMap#getOrDefault(Object, Object) getOrDefault}, and
+ * {@link AsyncConsistentMap#getOrDefault(Object, Object) getOrDefault},
+ * {@link AsyncConsistentMap#getAll(Set) getAll}, and
  * {@link AsyncConsistentMap#containsKey(Object) containsKey} calls. All other calls skip the cache
  * and directly go the backing map.
  *
@@ -131,6 +136,40 @@ public class CachingAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
         });
     }
 
+    @Override
+    public CompletableFuture<Map<K, Versioned<V>>> getAll(Set<K> keys) {
+        Map<K, CompletableFuture<Versioned<V>>> hits = Maps.newHashMap();
+        Set<K> misses = Sets.newHashSet();
+        keys.forEach(key -> {
+            CompletableFuture<Versioned<V>> value = cache.getIfPresent(key);
+            if (value != null) {
+                hits.put(key, value);
+            } else {
+                misses.add(key);
+            }
+        });
+        // Misses are fetched from the backing map in bulk but not cached, since the
+        // result of a bulk read may race with the update events which maintain the cache.
+        CompletableFuture<Map<K, Versioned<V>>> fetched = misses.isEmpty()
+                ? CompletableFuture.completedFuture(Maps.newHashMap())
+                : super.getAll(misses).thenApply(Maps::newHashMap);
+        return fetched.thenCompose(values -> CompletableFuture
+                .allOf(hits.values().toArray(new CompletableFuture[hits.size()]))
+                .thenApply(v -> {
+                    hits.forEach((key, value) -> {
+                        if (value.join() != null) {
+                            values.put(key, value.join());
+                        }
+                    });
+                    return values;
+                }))
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        cache.invalidateAll(hits.keySet());
+                    }
+                });
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> computeIf(K key,
             Predicate<? super V> condition,
@@ -163,6 +202,18 @@ public class CachingAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
                 .whenComplete((r, e) -> cache.invalidate(key));
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<K, V> entries) {
+        return super.putAll(entries)
+                .whenComplete((r, e) -> cache.invalidateAll(entries.keySet()));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAll(Set<K> keys) {
+        return super.removeAll(keys)
+                .whenComplete((r, e) -> cache.invalidateAll(keys));
+    }
+
     @Override
     public CompletableFuture<Boolean> containsKey(K key) {
         return cache.getUnchecked(key).thenApply(Objects::nonNull)
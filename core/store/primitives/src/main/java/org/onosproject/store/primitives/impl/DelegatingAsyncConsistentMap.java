@@ -17,6 +17,7 @@
 package org.onosproject.store.primitives.impl;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
@@ -30,6 +31,7 @@ import com.google.common.base.MoreObjects;
 import org.onosproject.store.primitives.MapUpdate;
 import org.onosproject.store.primitives.TransactionId;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncIterator;
 import org.onosproject.store.service.MapEventListener;
 import org.onosproject.store.service.TransactionLog;
 import org.onosproject.store.service.Version;
@@ -77,6 +79,11 @@ public class DelegatingAsyncConsistentMap<K, V>
         return delegateMap.getOrDefault(key, defaultValue);
     }
 
+    @Override
+    public CompletableFuture<Map<K, Versioned<V>>> getAll(Set<K> keys) {
+        return delegateMap.getAll(keys);
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> computeIf(K key,
             Predicate<? super V> condition,
@@ -99,6 +106,16 @@ public class DelegatingAsyncConsistentMap<K, V>
         return delegateMap.remove(key);
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<K, V> entries) {
+        return delegateMap.putAll(entries);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAll(Set<K> keys) {
+        return delegateMap.removeAll(keys);
+    }
+
     @Override
     public CompletableFuture<Void> clear() {
         return delegateMap.clear();
@@ -119,6 +136,11 @@ public class DelegatingAsyncConsistentMap<K, V>
         return delegateMap.entrySet();
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<Entry<K, Versioned<V>>>> iterator(int pageSize) {
+        return delegateMap.iterator(pageSize);
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value) {
         return delegateMap.putIfAbsent(key, value);
@@ -18,9 +18,11 @@ package org.onosproject.store.primitives.impl;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onlab.util.AbstractAccumulator;
 import org.onlab.util.KryoNamespace;
@@ -62,6 +64,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -98,6 +102,7 @@ public class EventuallyConsistentMapImpl<K, V>
     private final MessageSubject initializeMessageSubject;
     private final MessageSubject updateMessageSubject;
     private final MessageSubject antiEntropyAdvertisementSubject;
+    private final MessageSubject antiEntropyTreeSubject;
     private final MessageSubject updateRequestSubject;
 
     private final Set<EventuallyConsistentMapListener<K, V>> listeners
@@ -113,6 +118,15 @@ public class EventuallyConsistentMapImpl<K, V>
     private long previousTombstonePurgeTime;
     private final Map<NodeId, Long> antiEntropyTimes = Maps.newConcurrentMap();
 
+    // Hash tree anti-entropy state; leaf hashes are maintained as the items
+    // change and the inner nodes are recomputed when the tree is next needed
+    private final boolean treeAntiEntropy;
+    private final Map<K, Long> keyHashes = Maps.newConcurrentMap();
+    private final AtomicLongArray leafHashes = new AtomicLongArray(AntiEntropyTree.LEAVES);
+    private final AtomicLong itemsVersion = new AtomicLong();
+    private AntiEntropyTree antiEntropyTree;
+    private long antiEntropyTreeVersion = -1;
+
     private final String mapName;
 
     private volatile boolean destroyed = false;
@@ -158,9 +172,12 @@ public class EventuallyConsistentMapImpl<K, V>
      * @param antiEntropyPeriod     period that the anti-entropy task should run
      * @param antiEntropyTimeUnit   time unit for anti-entropy period
      * @param convergeFaster        make anti-entropy try to converge faster
+     * @param treeAntiEntropy       compare hash trees rather than full digests
+     *                              during anti-entropy
      * @param persistent            persist data to disk
      * @param persistenceService    persistence service
      */
+    // CHECKSTYLE:OFF ParameterNumber
     EventuallyConsistentMapImpl(String mapName,
                                 ClusterService clusterService,
                                 ClusterCommunicationService clusterCommunicator,
@@ -174,6 +191,7 @@ public class EventuallyConsistentMapImpl<K, V>
                                 long antiEntropyPeriod,
                                 TimeUnit antiEntropyTimeUnit,
                                 boolean convergeFaster,
+                                boolean treeAntiEntropy,
                                 boolean persistent,
                                 PersistenceService persistenceService) {
         this.mapName = mapName;
@@ -189,6 +207,8 @@ public class EventuallyConsistentMapImpl<K, V>
         } else {
             items = Maps.newConcurrentMap();
         }
+        this.treeAntiEntropy = treeAntiEntropy;
+        items.forEach((key, value) -> updateTree(key, null, value));
         senderPending = Maps.newConcurrentMap();
         destroyedMessage = mapName + ERROR_DESTROYED;
 
@@ -239,13 +259,13 @@ public class EventuallyConsistentMapImpl<K, V>
 
         bootstrapMessageSubject = new MessageSubject("ecm-" + mapName + "-bootstrap");
         clusterCommunicator.addSubscriber(bootstrapMessageSubject,
-                                          serializer::decode,
+                                          serializer.decoder(),
                                           (Function<NodeId, CompletableFuture<Void>>) this::handleBootstrap,
                                           serializer::encode);
 
         initializeMessageSubject = new MessageSubject("ecm-" + mapName + "-initialize");
         clusterCommunicator.addSubscriber(initializeMessageSubject,
-                serializer::decode,
+                serializer.decoder(),
                 (Function<Collection<UpdateEntry<K, V>>, Void>) u -> {
                     processUpdates(u);
                     return null;
@@ -255,20 +275,27 @@ public class EventuallyConsistentMapImpl<K, V>
 
         updateMessageSubject = new MessageSubject("ecm-" + mapName + "-update");
         clusterCommunicator.addSubscriber(updateMessageSubject,
-                                          serializer::decode,
+                                          serializer.decoder(),
                                           this::processUpdates,
                                           this.executor);
 
         antiEntropyAdvertisementSubject = new MessageSubject("ecm-" + mapName + "-anti-entropy");
         clusterCommunicator.addSubscriber(antiEntropyAdvertisementSubject,
-                                          serializer::decode,
+                                          serializer.decoder(),
                                           this::handleAntiEntropyAdvertisement,
                                           serializer::encode,
                                           this.backgroundExecutor);
 
+        antiEntropyTreeSubject = new MessageSubject("ecm-" + mapName + "-anti-entropy-tree");
+        clusterCommunicator.addSubscriber(antiEntropyTreeSubject,
+                                          serializer.decoder(),
+                                          this::handleAntiEntropyTreeRequest,
+                                          serializer::encode,
+                                          this.backgroundExecutor);
+
         updateRequestSubject = new MessageSubject("ecm-" + mapName + "-update-request");
         clusterCommunicator.addSubscriber(updateRequestSubject,
-                                          serializer::decode,
+                                          serializer.decoder(),
                                           this::handleUpdateRequests,
                                           this.backgroundExecutor);
 
@@ -286,6 +313,7 @@ public class EventuallyConsistentMapImpl<K, V>
         // Initiate first round of Gossip
         this.bootstrap();
     }
+    // CHECKSTYLE:ON
 
     private StoreSerializer createSerializer(KryoNamespace ns) {
         return StoreSerializer.using(KryoNamespace.newBuilder()
@@ -302,6 +330,7 @@ public class EventuallyConsistentMapImpl<K, V>
                          .register(MapValue.class)
                          .register(MapValue.Digest.class)
                          .register(UpdateRequest.class)
+                         .register(AntiEntropyTreeRequest.class)
                          .build(name() + "-ecmap"));
     }
 
@@ -423,6 +452,9 @@ public class EventuallyConsistentMapImpl<K, V>
                 return existing;
             }
         });
+        if (updated.get()) {
+            updateTree(key, previousValue.get(), tombstone.orElse(null));
+        }
         return previousValue.get();
     }
 
@@ -452,6 +484,7 @@ public class EventuallyConsistentMapImpl<K, V>
             }
         });
         if (updated.get()) {
+            updateTree(key, previousValue.get(), computedValue);
             notifyPeers(new UpdateEntry<>(key, computedValue), peerUpdateFunction.apply(key, computedValue.get()));
             EventuallyConsistentMapEvent.Type updateType = computedValue.isTombstone() ? REMOVE : PUT;
             V value = computedValue.isTombstone()
@@ -514,13 +547,18 @@ public class EventuallyConsistentMapImpl<K, V>
         checkState(newValue.isAlive());
         counter.incrementCount();
         AtomicBoolean updated = new AtomicBoolean(false);
+        AtomicReference<MapValue<V>> previousValue = new AtomicReference<>();
         items.compute(key, (k, existing) -> {
             if (existing == null || newValue.isNewerThan(existing)) {
                 updated.set(true);
+                previousValue.set(existing);
                 return newValue;
             }
             return existing;
         });
+        if (updated.get()) {
+            updateTree(key, previousValue.get(), newValue);
+        }
         return updated.get();
     }
 
@@ -558,6 +596,7 @@ public class EventuallyConsistentMapImpl<K, V>
         clusterCommunicator.removeSubscriber(updateMessageSubject);
         clusterCommunicator.removeSubscriber(updateRequestSubject);
         clusterCommunicator.removeSubscriber(antiEntropyAdvertisementSubject);
+        clusterCommunicator.removeSubscriber(antiEntropyTreeSubject);
         return CompletableFuture.completedFuture(null);
     }
 
@@ -608,10 +647,17 @@ public class EventuallyConsistentMapImpl<K, V>
 
     private void sendAdvertisementToPeer(NodeId peer) {
         long adCreationTime = System.currentTimeMillis();
-        AntiEntropyAdvertisement<K> ad = createAdvertisement();
+        if (treeAntiEntropy) {
+            sendTreeToPeer(peer, adCreationTime, currentTree(), 0, ImmutableSet.of(0));
+        } else {
+            sendAdvertisementToPeer(peer, adCreationTime, createAdvertisement());
+        }
+    }
+
+    private void sendAdvertisementToPeer(NodeId peer, long adCreationTime, AntiEntropyAdvertisement<K> ad) {
         clusterCommunicator.sendAndReceive(ad,
                 antiEntropyAdvertisementSubject,
-                serializer::encode,
+                serializer.encoder(),
                 serializer::decode,
                 peer)
                 .whenComplete((result, error) -> {
@@ -628,7 +674,7 @@ public class EventuallyConsistentMapImpl<K, V>
         UpdateRequest<K> request = new UpdateRequest<>(localNodeId, keys);
         clusterCommunicator.unicast(request,
                 updateRequestSubject,
-                serializer::encode,
+                serializer.encoder(),
                 peer)
                 .whenComplete((result, error) -> {
                     if (error != null) {
@@ -638,11 +684,111 @@ public class EventuallyConsistentMapImpl<K, V>
                 });
     }
 
+    /**
+     * Compares one level of the local hash tree with the peer, descending
+     * into the differing nodes until the differing leaf buckets are known
+     * and then advertising the entries in those buckets only.
+     */
+    private void sendTreeToPeer(NodeId peer, long adCreationTime, AntiEntropyTree tree,
+                                int level, Set<Integer> nodes) {
+        AntiEntropyTreeRequest request = new AntiEntropyTreeRequest(localNodeId, level, tree.hashes(level, nodes));
+        clusterCommunicator.<AntiEntropyTreeRequest, Set<Integer>>sendAndReceive(request,
+                antiEntropyTreeSubject,
+                serializer.encoder(),
+                serializer::decode,
+                peer)
+                .whenCompleteAsync((differing, error) -> {
+                    if (error != null) {
+                        log.debug("Failed to send anti-entropy tree to {}: {}",
+                                peer, error.getMessage());
+                    } else if (differing == null) {
+                        log.trace("Anti-entropy tree ignored by {}", peer);
+                    } else if (differing.isEmpty()) {
+                        antiEntropyTimes.put(peer, adCreationTime);
+                    } else if (level == AntiEntropyTree.DEPTH) {
+                        sendAdvertisementToPeer(peer, adCreationTime, createAdvertisement(differing));
+                    } else {
+                        sendTreeToPeer(peer, adCreationTime, tree, level + 1, AntiEntropyTree.children(differing));
+                    }
+                }, backgroundExecutor);
+    }
+
     private AntiEntropyAdvertisement<K> createAdvertisement() {
         return new AntiEntropyAdvertisement<>(localNodeId,
                 ImmutableMap.copyOf(Maps.transformValues(items, MapValue::digest)));
     }
 
+    private AntiEntropyAdvertisement<K> createAdvertisement(Set<Integer> buckets) {
+        Map<K, MapValue.Digest> digest = Maps.newHashMap();
+        items.forEach((key, value) -> {
+            if (buckets.contains(bucket(key))) {
+                digest.put(key, value.digest());
+            }
+        });
+        return new AntiEntropyAdvertisement<>(localNodeId, digest, buckets);
+    }
+
+    private int bucket(K key) {
+        Long keyHash = keyHashes.get(key);
+        return AntiEntropyTree.bucket(keyHash != null ? keyHash : hashKey(key));
+    }
+
+    private long hashKey(K key) {
+        return Hashing.murmur3_128().hashBytes(serializer.encode(key)).asLong();
+    }
+
+    /**
+     * Folds a change of the value held for a key into its leaf bucket hash.
+     * Leaf hashes are the exclusive or of their entry hashes, so concurrent
+     * changes may be folded in any order.
+     */
+    private void updateTree(K key, MapValue<V> previous, MapValue<V> current) {
+        if (!treeAntiEntropy) {
+            return;
+        }
+        long keyHash = keyHashes.computeIfAbsent(key, this::hashKey);
+        long delta = 0;
+        if (previous != null) {
+            delta ^= AntiEntropyTree.entryHash(keyHash, previous.digest());
+        }
+        if (current != null) {
+            delta ^= AntiEntropyTree.entryHash(keyHash, current.digest());
+        } else {
+            keyHashes.remove(key);
+        }
+        leafHashes.accumulateAndGet(AntiEntropyTree.bucket(keyHash), delta, (hash, d) -> hash ^ d);
+        itemsVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the hash tree of the current items, recomputing its inner nodes
+     * from the leaf hashes if the items have changed since it was last built.
+     */
+    private synchronized AntiEntropyTree currentTree() {
+        long version = itemsVersion.get();
+        if (antiEntropyTree == null || antiEntropyTreeVersion != version) {
+            long[] leaves = new long[AntiEntropyTree.LEAVES];
+            for (int i = 0; i < leaves.length; i++) {
+                leaves[i] = leafHashes.get(i);
+            }
+            antiEntropyTree = new AntiEntropyTree(leaves);
+            antiEntropyTreeVersion = version;
+        }
+        return antiEntropyTree;
+    }
+
+    private Set<Integer> handleAntiEntropyTreeRequest(AntiEntropyTreeRequest request) {
+        if (destroyed || underHighLoad()) {
+            return null;
+        }
+        try {
+            return currentTree().differing(request.level(), request.hashes());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed anti-entropy tree from {}: {}", request.sender(), e.getMessage());
+            return null;
+        }
+    }
+
     private AntiEntropyResponse handleAntiEntropyAdvertisement(AntiEntropyAdvertisement<K> ad) {
         if (destroyed || underHighLoad()) {
             return AntiEntropyResponse.IGNORED;
@@ -665,6 +811,8 @@ public class EventuallyConsistentMapImpl<K, V>
      * 1. If peer has an old entry, updates peer.
      * 2. If peer indicates an entry is removed and has a more recent
      * timestamp than the local entry, update local state.
+     * If the ad only covers some hash tree buckets, local entries in other
+     * buckets are left alone.
      */
     private List<EventuallyConsistentMapEvent<K, V>> antiEntropyCheckLocalItems(
             AntiEntropyAdvertisement<K> ad) {
@@ -673,8 +821,12 @@ public class EventuallyConsistentMapImpl<K, V>
         final List<NodeId> peers = ImmutableList.of(sender);
         Set<K> staleOrMissing = new HashSet<>();
         Set<K> locallyUnknown = new HashSet<>(ad.digest().keySet());
+        Set<Integer> buckets = ad.buckets();
 
         items.forEach((key, localValue) -> {
+            if (buckets != null && !buckets.contains(bucket(key))) {
+                return;
+            }
             locallyUnknown.remove(key);
             MapValue.Digest remoteValueDigest = ad.digest().get(key);
             if (remoteValueDigest == null || localValue.isNewerThan(remoteValueDigest.timestamp())) {
@@ -737,7 +889,11 @@ public class EventuallyConsistentMapImpl<K, V>
                                           .filter(e -> e.getValue().creationTime() <= currentSafeTombstonePurgeTime)
                                           .collect(Collectors.toList());
         previousTombstonePurgeTime = currentSafeTombstonePurgeTime;
-        tombStonesToDelete.forEach(entry -> items.remove(entry.getKey(), entry.getValue()));
+        tombStonesToDelete.forEach(entry -> {
+            if (items.remove(entry.getKey(), entry.getValue())) {
+                updateTree(entry.getKey(), entry.getValue(), null);
+            }
+        });
     }
 
     private void processUpdates(Collection<UpdateEntry<K, V>> updates) {
@@ -844,7 +1000,7 @@ public class EventuallyConsistentMapImpl<K, V>
         return clusterCommunicator.<NodeId, Void>sendAndReceive(
                 localNodeId,
                 bootstrapMessageSubject,
-                serializer::encode,
+                serializer.encoder(),
                 serializer::decode,
                 peer)
                 .whenComplete((updates, error) -> {
@@ -871,7 +1027,7 @@ public class EventuallyConsistentMapImpl<K, V>
             return clusterCommunicator.<List<UpdateEntry<K, V>>, Void>sendAndReceive(
                     ImmutableList.copyOf(updates),
                     initializeMessageSubject,
-                    serializer::encode,
+                    serializer.encoder(),
                     serializer::decode,
                     peer)
                     .whenComplete((result, error) -> {
@@ -925,7 +1081,7 @@ public class EventuallyConsistentMapImpl<K, V>
                 try {
                     clusterCommunicator.unicast(ImmutableList.copyOf(map.values()),
                             updateMessageSubject,
-                            serializer::encode,
+                            serializer.encoder(),
                             peer)
                             .whenComplete((result, error) -> {
                                 if (error != null) {
@@ -16,12 +16,16 @@
 package org.onosproject.store.primitives.impl;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import org.onosproject.store.service.AsyncConsistentMap;
 import org.onosproject.store.service.Versioned;
 
@@ -54,6 +58,12 @@ public class NotNullAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
         return super.getOrDefault(key, defaultValue).thenApply(v -> v != null && v.value() == null ? null : v);
     }
 
+    @Override
+    public CompletableFuture<Map<K, Versioned<V>>> getAll(Set<K> keys) {
+        return super.getAll(keys).thenApply(values ->
+                ImmutableMap.copyOf(Maps.filterValues(values, v -> v != null && v.value() != null)));
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> put(K key, V value) {
         if (value == null) {
@@ -70,6 +80,23 @@ public class NotNullAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
         return super.putAndGet(key, value);
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<K, V> entries) {
+        if (!entries.containsValue(null)) {
+            return super.putAll(entries);
+        }
+        Map<K, V> puts = new HashMap<>();
+        Set<K> removes = new HashSet<>();
+        entries.forEach((k, v) -> {
+            if (v == null) {
+                removes.add(k);
+            } else {
+                puts.put(k, v);
+            }
+        });
+        return CompletableFuture.allOf(super.putAll(puts), super.removeAll(removes));
+    }
+
     @Override
     public CompletableFuture<Collection<Versioned<V>>> values() {
         return super.values().thenApply(value -> value.stream()
@@ -35,12 +35,14 @@ import org.onosproject.cluster.PartitionId;
 import org.onosproject.store.primitives.MapUpdate;
 import org.onosproject.store.primitives.TransactionId;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncIterator;
 import org.onosproject.store.service.MapEventListener;
 import org.onosproject.store.service.TransactionLog;
 import org.onosproject.store.service.Version;
 import org.onosproject.store.service.Versioned;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 
@@ -104,6 +106,15 @@ public class PartitionedAsyncConsistentMap<K, V> implements AsyncConsistentMap<K
         return getMap(key).getOrDefault(key, defaultValue);
     }
 
+    @Override
+    public CompletableFuture<Map<K, Versioned<V>>> getAll(Set<K> keys) {
+        return Tools.allOf(getKeysByMap(keys).entrySet().stream()
+                                   .map(e -> e.getKey().getAll(e.getValue()))
+                                   .collect(Collectors.toList()),
+                (m1, m2) -> ImmutableMap.<K, Versioned<V>>builder().putAll(m1).putAll(m2).build(),
+                ImmutableMap.of());
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> computeIf(K key,
             Predicate<? super V> condition,
@@ -126,6 +137,23 @@ public class PartitionedAsyncConsistentMap<K, V> implements AsyncConsistentMap<K
         return getMap(key).remove(key);
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<K, V> entries) {
+        Map<AsyncConsistentMap<K, V>, Map<K, V>> entriesByMap = Maps.newHashMap();
+        entries.forEach((key, value) ->
+                entriesByMap.computeIfAbsent(getMap(key), m -> Maps.newHashMap()).put(key, value));
+        return CompletableFuture.allOf(entriesByMap.entrySet().stream()
+                                               .map(e -> e.getKey().putAll(e.getValue()))
+                                               .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAll(Set<K> keys) {
+        return CompletableFuture.allOf(getKeysByMap(keys).entrySet().stream()
+                                               .map(e -> e.getKey().removeAll(e.getValue()))
+                                               .toArray(CompletableFuture[]::new));
+    }
+
     @Override
     public CompletableFuture<Void> clear() {
         return CompletableFuture.allOf(getMaps().stream()
@@ -154,6 +182,12 @@ public class PartitionedAsyncConsistentMap<K, V> implements AsyncConsistentMap<K
                 ImmutableSet.of());
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<Entry<K, Versioned<V>>>> iterator(int pageSize) {
+        return Tools.allOf(getMaps().stream().map(m -> m.iterator(pageSize)).collect(Collectors.toList()))
+                .thenApply(PartitionedAsyncIterator::new);
+    }
+
     @Override
     public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value) {
         return getMap(key).putIfAbsent(key, value);
@@ -247,6 +281,15 @@ public class PartitionedAsyncConsistentMap<K, V> implements AsyncConsistentMap<K
         return partitions.get(keyHasher.hash(key));
     }
 
+    /**
+     * Groups the specified keys by the map (partition) to which they map.
+     * @param keys keys
+     * @return keys grouped by AsyncConsistentMap
+     */
+    private Map<AsyncConsistentMap<K, V>, Set<K>> getKeysByMap(Set<K> keys) {
+        return keys.stream().collect(Collectors.groupingBy(this::getMap, Collectors.toSet()));
+    }
+
     /**
      * Returns all the constituent maps.
      * @return collection of maps.
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.primitives.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import org.onlab.util.Tools;
+import org.onosproject.store.service.AsyncIterator;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * {@link AsyncIterator} which iterates over the elements of several
+ * partitions, one partition after the other.
+ *
+ * @param <T> element type
+ */
+public class PartitionedAsyncIterator<T> implements AsyncIterator<T> {
+    private final ImmutableList<AsyncIterator<T>> partitions;
+    private final Iterator<AsyncIterator<T>> remaining;
+    private volatile AsyncIterator<T> current;
+
+    public PartitionedAsyncIterator(Iterable<AsyncIterator<T>> partitions) {
+        this.partitions = ImmutableList.copyOf(partitions);
+        this.remaining = this.partitions.iterator();
+        this.current = remaining.hasNext() ? remaining.next() : null;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasNext() {
+        AsyncIterator<T> iterator = current;
+        if (iterator == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return iterator.hasNext().thenCompose(hasNext -> {
+            if (hasNext) {
+                return CompletableFuture.completedFuture(true);
+            }
+            current = remaining.hasNext() ? remaining.next() : null;
+            return hasNext();
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> next() {
+        return hasNext().thenCompose(hasNext -> {
+            if (!hasNext) {
+                return Tools.exceptionalFuture(new NoSuchElementException());
+            }
+            return current.next();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        current = null;
+        return CompletableFuture.allOf(partitions.stream()
+                                               .map(AsyncIterator::close)
+                                               .toArray(CompletableFuture[]::new));
+    }
+}
@@ -21,6 +21,7 @@ import org.onlab.util.Tools;
 import org.onosproject.store.primitives.MapUpdate;
 import org.onosproject.store.primitives.TransactionId;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncIterator;
 import org.onosproject.store.service.MapEvent;
 import org.onosproject.store.service.MapEventListener;
 import org.onosproject.store.service.TransactionLog;
@@ -119,6 +120,20 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
         }
     }
 
+    @Override
+    public CompletableFuture<Map<K1, Versioned<V1>>> getAll(Set<K1> keys) {
+        try {
+            return backingMap.getAll(keys.stream().map(keyEncoder).collect(Collectors.toSet()))
+                    .thenApply(m -> {
+                        Map<K1, Versioned<V1>> values = Maps.newHashMapWithExpectedSize(m.size());
+                        m.forEach((k, v) -> values.put(keyDecoder.apply(k), versionedValueTransform.apply(v)));
+                        return values;
+                    });
+        } catch (Exception e) {
+            return Tools.exceptionalFuture(e);
+        }
+    }
+
     @Override
     public CompletableFuture<Versioned<V1>> computeIf(K1 key,
             Predicate<? super V1> condition,
@@ -163,6 +178,26 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
         }
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<K1, V1> entries) {
+        try {
+            Map<K2, V2> encoded = Maps.newHashMapWithExpectedSize(entries.size());
+            entries.forEach((k, v) -> encoded.put(keyEncoder.apply(k), valueEncoder.apply(v)));
+            return backingMap.putAll(encoded);
+        } catch (Exception e) {
+            return Tools.exceptionalFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAll(Set<K1> keys) {
+        try {
+            return backingMap.removeAll(keys.stream().map(keyEncoder).collect(Collectors.toSet()));
+        } catch (Exception e) {
+            return Tools.exceptionalFuture(e);
+        }
+    }
+
     @Override
     public CompletableFuture<Void> clear() {
         return backingMap.clear();
@@ -189,6 +224,14 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
                                           .collect(Collectors.toSet()));
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<Entry<K1, Versioned<V1>>>> iterator(int pageSize) {
+        return backingMap.iterator(pageSize)
+                .thenApply(i -> new TranscodingAsyncIterator<>(i,
+                        e -> Maps.immutableEntry(keyDecoder.apply(e.getKey()),
+                                                 versionedValueTransform.apply(e.getValue()))));
+    }
+
     @Override
     public CompletableFuture<Versioned<V1>> putIfAbsent(K1 key, V1 value) {
         try {
@@ -16,10 +16,13 @@
 package org.onosproject.store.primitives.resources.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,9 +38,13 @@ import org.onosproject.store.primitives.TransactionId;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ContainsKey;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ContainsValue;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Get;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GetAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GetOrDefault;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.IteratorNext;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Put;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PutAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Remove;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveValue;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveVersion;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Replace;
@@ -50,6 +57,7 @@ import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperat
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.TransactionRollback;
 import org.onosproject.store.serializers.KryoNamespaces;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncIterator;
 import org.onosproject.store.service.ConsistentMapException;
 import org.onosproject.store.service.MapEvent;
 import org.onosproject.store.service.MapEventListener;
@@ -67,15 +75,19 @@ import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMa
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.CONTAINS_VALUE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ENTRY_SET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET_OR_DEFAULT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.IS_EMPTY;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ITERATOR_NEXT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.KEY_SET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PREPARE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PREPARE_AND_COMMIT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_AND_GET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_IF_ABSENT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_LISTENER;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_VALUE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_VERSION;
@@ -152,6 +164,11 @@ public class AtomixConsistentMap extends AbstractRaftPrimitive implements AsyncC
                 serializer()::decode);
     }
 
+    @Override
+    public CompletableFuture<Map<String, Versioned<byte[]>>> getAll(Set<String> keys) {
+        return proxy.invoke(GET_ALL, serializer()::encode, new GetAll(keys), serializer()::decode);
+    }
+
     @Override
     public CompletableFuture<Set<String>> keySet() {
         return proxy.invoke(KEY_SET, serializer()::decode);
@@ -167,6 +184,11 @@ public class AtomixConsistentMap extends AbstractRaftPrimitive implements AsyncC
         return proxy.invoke(ENTRY_SET, serializer()::decode);
     }
 
+    @Override
+    public CompletableFuture<AsyncIterator<Entry<String, Versioned<byte[]>>>> iterator(int pageSize) {
+        return CompletableFuture.completedFuture(new ConsistentMapIterator(pageSize));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public CompletableFuture<Versioned<byte[]>> put(String key, byte[] value) {
@@ -179,6 +201,19 @@ public class AtomixConsistentMap extends AbstractRaftPrimitive implements AsyncC
                 .thenApply(v -> v.result());
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, byte[]> entries) {
+        return proxy.<PutAll, MapEntryUpdateResult.Status>invoke(
+                PUT_ALL,
+                serializer()::encode,
+                new PutAll(entries),
+                serializer()::decode)
+                .thenApply(status -> {
+                    throwIfLocked(status);
+                    return null;
+                });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public CompletableFuture<Versioned<byte[]>> putAndGet(String key, byte[] value) {
@@ -215,6 +250,19 @@ public class AtomixConsistentMap extends AbstractRaftPrimitive implements AsyncC
                 .thenApply(v -> v.result());
     }
 
+    @Override
+    public CompletableFuture<Void> removeAll(Set<String> keys) {
+        return proxy.<RemoveAll, MapEntryUpdateResult.Status>invoke(
+                REMOVE_ALL,
+                serializer()::encode,
+                new RemoveAll(keys),
+                serializer()::decode)
+                .thenApply(status -> {
+                    throwIfLocked(status);
+                    return null;
+                });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public CompletableFuture<Boolean> remove(String key, byte[] value) {
@@ -430,4 +478,59 @@ public class AtomixConsistentMap extends AbstractRaftPrimitive implements AsyncC
     private boolean isListening() {
         return !mapEventListeners.isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Iterator which fetches the map entries from the service a page at a time.
+     * The service keeps no state for the iterator: each page is requested
+     * with the last key returned so far.
+     */
+    private class ConsistentMapIterator implements AsyncIterator<Entry<String, Versioned<byte[]>>> {
+        private final int pageSize;
+        private volatile Iterator<Entry<String, Versioned<byte[]>>> page = Collections.emptyIterator();
+        private volatile String lastKey;
+        private volatile boolean last;
+
+        ConsistentMapIterator(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> hasNext() {
+            if (page.hasNext()) {
+                return CompletableFuture.completedFuture(true);
+            } else if (last) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return proxy.<IteratorNext, IteratorPage>invoke(
+                    ITERATOR_NEXT,
+                    serializer()::encode,
+                    new IteratorNext(lastKey, pageSize),
+                    serializer()::decode)
+                    .thenCompose(result -> {
+                        List<Entry<String, Versioned<byte[]>>> entries = result.entries();
+                        if (!entries.isEmpty()) {
+                            lastKey = entries.get(entries.size() - 1).getKey();
+                        }
+                        page = entries.iterator();
+                        last = result.isLast();
+                        return hasNext();
+                    });
+        }
+
+        @Override
+        public CompletableFuture<Entry<String, Versioned<byte[]>>> next() {
+            return hasNext().thenApply(hasNext -> {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            });
+        }
+
+        @Override
+        public CompletableFuture<Void> close() {
+            last = true;
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -15,6 +15,11 @@
  */
 package org.onosproject.store.primitives.resources.impl;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import io.atomix.protocols.raft.operation.OperationId;
 import io.atomix.protocols.raft.operation.OperationType;
 import io.atomix.utils.ArraySizeHashPrinter;
@@ -39,13 +44,16 @@ public enum AtomixConsistentMapOperations implements OperationId {
     CONTAINS_VALUE("containsValue", OperationType.QUERY),
     GET("get", OperationType.QUERY),
     GET_OR_DEFAULT("getOrDefault", OperationType.QUERY),
+    GET_ALL("getAll", OperationType.QUERY),
     KEY_SET("keySet", OperationType.QUERY),
     VALUES("values", OperationType.QUERY),
     ENTRY_SET("entrySet", OperationType.QUERY),
     PUT("put", OperationType.COMMAND),
     PUT_IF_ABSENT("putIfAbsent", OperationType.COMMAND),
     PUT_AND_GET("putAndGet", OperationType.COMMAND),
+    PUT_ALL("putAll", OperationType.COMMAND),
     REMOVE("remove", OperationType.COMMAND),
+    REMOVE_ALL("removeAll", OperationType.COMMAND),
     REMOVE_VALUE("removeValue", OperationType.COMMAND),
     REMOVE_VERSION("removeVersion", OperationType.COMMAND),
     REPLACE("replace", OperationType.COMMAND),
@@ -58,7 +66,8 @@ public enum AtomixConsistentMapOperations implements OperationId {
     PREPARE("prepare", OperationType.COMMAND),
     PREPARE_AND_COMMIT("prepareAndCommit", OperationType.COMMAND),
     COMMIT("commit", OperationType.COMMAND),
-    ROLLBACK("rollback", OperationType.COMMAND);
+    ROLLBACK("rollback", OperationType.COMMAND),
+    ITERATOR_NEXT("iteratorNext", OperationType.QUERY);
 
     private final String id;
     private final OperationType type;
@@ -109,6 +118,11 @@ public enum AtomixConsistentMapOperations implements OperationId {
             .register(MapEntryUpdateResult.Status.class)
             .register(Versioned.class)
             .register(byte[].class)
+            .register(GetAll.class)
+            .register(PutAll.class)
+            .register(RemoveAll.class)
+            .register(IteratorNext.class)
+            .register(IteratorPage.class)
             .build("AtomixConsistentMapOperations");
 
     /**
@@ -285,6 +299,93 @@ public enum AtomixConsistentMapOperations implements OperationId {
         }
     }
 
+    /**
+     * Bulk get operation.
+     */
+    public static class GetAll extends MapOperation {
+        private Set<String> keys;
+
+        public GetAll() {
+        }
+
+        public GetAll(Set<String> keys) {
+            this.keys = new HashSet<>(checkNotNull(keys, "keys cannot be null"));
+        }
+
+        /**
+         * Returns the keys.
+         * @return keys
+         */
+        public Set<String> keys() {
+            return keys;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(getClass())
+                    .add("keys", keys)
+                    .toString();
+        }
+    }
+
+    /**
+     * Bulk put operation.
+     */
+    public static class PutAll extends MapOperation {
+        private Map<String, byte[]> entries;
+
+        public PutAll() {
+        }
+
+        public PutAll(Map<String, byte[]> entries) {
+            this.entries = new HashMap<>(checkNotNull(entries, "entries cannot be null"));
+        }
+
+        /**
+         * Returns the entries.
+         * @return entries
+         */
+        public Map<String, byte[]> entries() {
+            return entries;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(getClass())
+                    .add("keys", entries.keySet())
+                    .toString();
+        }
+    }
+
+    /**
+     * Bulk remove operation.
+     */
+    public static class RemoveAll extends MapOperation {
+        private Set<String> keys;
+
+        public RemoveAll() {
+        }
+
+        public RemoveAll(Set<String> keys) {
+            this.keys = new HashSet<>(checkNotNull(keys, "keys cannot be null"));
+        }
+
+        /**
+         * Returns the keys.
+         * @return keys
+         */
+        public Set<String> keys() {
+            return keys;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(getClass())
+                    .add("keys", keys)
+                    .toString();
+        }
+    }
+
     /**
      * Remove operation.
      */
@@ -518,6 +619,46 @@ public enum AtomixConsistentMapOperations implements OperationId {
         }
     }
 
+    /**
+     * Iterator next page query.
+     */
+    public static class IteratorNext extends MapOperation {
+        private String lastKey;
+        private int pageSize;
+
+        public IteratorNext() {
+        }
+
+        public IteratorNext(String lastKey, int pageSize) {
+            this.lastKey = lastKey;
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Returns the last key returned by the iterator.
+         * @return last key, or {@code null} for the first page
+         */
+        public String lastKey() {
+            return lastKey;
+        }
+
+        /**
+         * Returns the maximum number of entries to fetch.
+         * @return page size
+         */
+        public int pageSize() {
+            return pageSize;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(getClass())
+                    .add("lastKey", lastKey)
+                    .add("pageSize", pageSize)
+                    .toString();
+        }
+    }
+
     /**
      * Get query.
      */
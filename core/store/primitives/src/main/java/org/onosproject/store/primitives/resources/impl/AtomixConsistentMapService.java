@@ -17,11 +17,13 @@ package org.onosproject.store.primitives.resources.impl;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -43,9 +45,13 @@ import org.onosproject.store.primitives.TransactionId;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ContainsKey;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ContainsValue;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Get;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GetAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GetOrDefault;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.IteratorNext;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Put;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PutAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Remove;
+import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveAll;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveValue;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.RemoveVersion;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.Replace;
@@ -72,15 +78,19 @@ import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMa
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.CONTAINS_VALUE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ENTRY_SET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.GET_OR_DEFAULT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.IS_EMPTY;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.ITERATOR_NEXT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.KEY_SET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PREPARE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PREPARE_AND_COMMIT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_AND_GET;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.PUT_IF_ABSENT;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE;
+import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_ALL;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_LISTENER;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_VALUE;
 import static org.onosproject.store.primitives.resources.impl.AtomixConsistentMapOperations.REMOVE_VERSION;
@@ -114,6 +124,7 @@ public class AtomixConsistentMapService extends AbstractRaftService {
     protected Set<String> preparedKeys = Sets.newHashSet();
     protected Map<TransactionId, TransactionScope> activeTransactions = Maps.newHashMap();
     protected long currentVersion;
+    private List<MapEvent<String, byte[]>> batchedEvents;
 
     public AtomixConsistentMapService() {
         map = createMap();
@@ -163,6 +174,7 @@ public class AtomixConsistentMapService extends AbstractRaftService {
         executor.register(ENTRY_SET, (Commit<Void> c) -> entrySet(), serializer()::encode);
         executor.register(GET, serializer()::decode, this::get, serializer()::encode);
         executor.register(GET_OR_DEFAULT, serializer()::decode, this::getOrDefault, serializer()::encode);
+        executor.register(GET_ALL, serializer()::decode, this::getAll, serializer()::encode);
         executor.register(IS_EMPTY, (Commit<Void> c) -> isEmpty(), serializer()::encode);
         executor.register(KEY_SET, (Commit<Void> c) -> keySet(), serializer()::encode);
         executor.register(SIZE, (Commit<Void> c) -> size(), serializer()::encode);
@@ -171,7 +183,9 @@ public class AtomixConsistentMapService extends AbstractRaftService {
         executor.register(PUT, serializer()::decode, this::put, serializer()::encode);
         executor.register(PUT_IF_ABSENT, serializer()::decode, this::putIfAbsent, serializer()::encode);
         executor.register(PUT_AND_GET, serializer()::decode, this::putAndGet, serializer()::encode);
+        executor.register(PUT_ALL, serializer()::decode, this::putAll, serializer()::encode);
         executor.register(REMOVE, serializer()::decode, this::remove, serializer()::encode);
+        executor.register(REMOVE_ALL, serializer()::decode, this::removeAll, serializer()::encode);
         executor.register(REMOVE_VALUE, serializer()::decode, this::removeValue, serializer()::encode);
         executor.register(REMOVE_VERSION, serializer()::decode, this::removeVersion, serializer()::encode);
         executor.register(REPLACE, serializer()::decode, this::replace, serializer()::encode);
@@ -183,6 +197,7 @@ public class AtomixConsistentMapService extends AbstractRaftService {
         executor.register(PREPARE_AND_COMMIT, serializer()::decode, this::prepareAndCommit, serializer()::encode);
         executor.register(COMMIT, serializer()::decode, this::commit, serializer()::encode);
         executor.register(ROLLBACK, serializer()::decode, this::rollback, serializer()::encode);
+        executor.register(ITERATOR_NEXT, serializer()::decode, this::iteratorNext, serializer()::encode);
     }
 
     /**
@@ -236,6 +251,23 @@ public class AtomixConsistentMapService extends AbstractRaftService {
         }
     }
 
+    /**
+     * Handles a getAll commit.
+     *
+     * @param commit getAll commit
+     * @return values mapped to the keys which are present in the map
+     */
+    protected Map<String, Versioned<byte[]>> getAll(Commit<? extends GetAll> commit) {
+        Map<String, Versioned<byte[]>> values = Maps.newHashMap();
+        commit.value().keys().forEach(key -> {
+            MapEntryValue value = entries().get(key);
+            if (!valueIsNull(value)) {
+                values.put(key, toVersioned(value));
+            }
+        });
+        return values;
+    }
+
     /**
      * Handles a size commit.
      *
@@ -293,6 +325,46 @@ public class AtomixConsistentMapService extends AbstractRaftService {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Handles an iterator next query.
+     * <p>
+     * Iteration holds no state in the service: the client passes the last key
+     * it was handed, and the page is made of the entries with the smallest
+     * keys following it. Each page is selected in a single scan of the map
+     * with a heap bounded by the page size, so the map itself need not be
+     * kept sorted.
+     *
+     * @param commit iterator next commit
+     * @return next page of entries
+     */
+    protected IteratorPage iteratorNext(Commit<? extends IteratorNext> commit) {
+        String lastKey = commit.value().lastKey();
+        int pageSize = Math.max(commit.value().pageSize(), 1);
+        // Largest key of the page at the head
+        PriorityQueue<String> keys = new PriorityQueue<>(Collections.reverseOrder());
+        boolean last = true;
+        for (Map.Entry<String, MapEntryValue> entry : entries().entrySet()) {
+            String key = entry.getKey();
+            if (valueIsNull(entry.getValue()) || (lastKey != null && key.compareTo(lastKey) <= 0)) {
+                continue;
+            }
+            if (keys.size() < pageSize) {
+                keys.add(key);
+            } else {
+                last = false;
+                if (key.compareTo(keys.peek()) < 0) {
+                    keys.poll();
+                    keys.add(key);
+                }
+            }
+        }
+        List<Map.Entry<String, Versioned<byte[]>>> page = keys.stream()
+                .sorted()
+                .map(key -> Maps.immutableEntry(key, toVersioned(entries().get(key))))
+                .collect(Collectors.toList());
+        return new IteratorPage(page, last);
+    }
+
     /**
      * Returns a boolean indicating whether the given MapEntryValues are equal.
      *
@@ -334,9 +406,20 @@ public class AtomixConsistentMapService extends AbstractRaftService {
      * @return map entry update result
      */
     protected MapEntryUpdateResult<String, byte[]> put(Commit<? extends Put> commit) {
-        String key = commit.value().key();
+        return putValue(commit.index(), commit.value().key(), commit.value().value());
+    }
+
+    /**
+     * Puts a value in the map.
+     *
+     * @param index the commit index
+     * @param key the key to put
+     * @param value the value to put
+     * @return map entry update result
+     */
+    private MapEntryUpdateResult<String, byte[]> putValue(long index, String key, byte[] value) {
         MapEntryValue oldValue = entries().get(key);
-        MapEntryValue newValue = new MapEntryValue(MapEntryValue.Type.VALUE, commit.index(), commit.value().value());
+        MapEntryValue newValue = new MapEntryValue(MapEntryValue.Type.VALUE, index, value);
 
         // If the value is null or a tombstone, this is an insert.
         // Otherwise, only update the value if it has changed to reduce the number of events.
@@ -345,32 +428,57 @@ public class AtomixConsistentMapService extends AbstractRaftService {
             if (preparedKeys.contains(key)) {
                 return new MapEntryUpdateResult<>(
                         MapEntryUpdateResult.Status.WRITE_LOCK,
-                        commit.index(),
+                        index,
                         key,
                         toVersioned(oldValue));
             }
-            entries().put(commit.value().key(),
+            entries().put(key,
                     new MapEntryValue(MapEntryValue.Type.VALUE, newValue.version(), newValue.value()));
             Versioned<byte[]> result = toVersioned(oldValue);
             publish(new MapEvent<>(MapEvent.Type.INSERT, "", key, toVersioned(newValue), result));
-            return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.OK, commit.index(), key, result);
+            return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.OK, index, key, result);
         } else if (!valuesEqual(oldValue, newValue)) {
             // If the key has been locked by a transaction, return a WRITE_LOCK error.
             if (preparedKeys.contains(key)) {
                 return new MapEntryUpdateResult<>(
                         MapEntryUpdateResult.Status.WRITE_LOCK,
-                        commit.index(),
+                        index,
                         key,
                         toVersioned(oldValue));
             }
-            entries().put(commit.value().key(),
+            entries().put(key,
                     new MapEntryValue(MapEntryValue.Type.VALUE, newValue.version(), newValue.value()));
             Versioned<byte[]> result = toVersioned(oldValue);
             publish(new MapEvent<>(MapEvent.Type.UPDATE, "", key, toVersioned(newValue), result));
-            return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.OK, commit.index(), key, result);
+            return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.OK, index, key, result);
         }
         // If the value hasn't changed, return a NOOP result.
-        return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.NOOP, commit.index(), key, toVersioned(oldValue));
+        return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.NOOP, index, key, toVersioned(oldValue));
+    }
+
+    /**
+     * Handles a putAll commit.
+     * <p>
+     * Keys locked by a transaction are skipped; the events for all the
+     * other entries are published to listeners together.
+     *
+     * @param commit putAll commit
+     * @return {@code WRITE_LOCK} if any of the keys was locked, {@code OK} otherwise
+     */
+    protected MapEntryUpdateResult.Status putAll(Commit<? extends PutAll> commit) {
+        batchedEvents = Lists.newArrayList();
+        try {
+            MapEntryUpdateResult.Status status = MapEntryUpdateResult.Status.OK;
+            for (Map.Entry<String, byte[]> entry : commit.value().entries().entrySet()) {
+                if (putValue(commit.index(), entry.getKey(), entry.getValue()).status()
+                        == MapEntryUpdateResult.Status.WRITE_LOCK) {
+                    status = MapEntryUpdateResult.Status.WRITE_LOCK;
+                }
+            }
+            return status;
+        } finally {
+            publishBatchedEvents();
+        }
     }
 
     /**
@@ -495,6 +603,30 @@ public class AtomixConsistentMapService extends AbstractRaftService {
         return removeIf(commit.index(), commit.value().key(), v -> true);
     }
 
+    /**
+     * Handles a removeAll commit.
+     * <p>
+     * Keys locked by a transaction are skipped; the events for all the
+     * other keys are published to listeners together.
+     *
+     * @param commit removeAll commit
+     * @return {@code WRITE_LOCK} if any of the keys was locked, {@code OK} otherwise
+     */
+    protected MapEntryUpdateResult.Status removeAll(Commit<? extends RemoveAll> commit) {
+        batchedEvents = Lists.newArrayList();
+        try {
+            MapEntryUpdateResult.Status status = MapEntryUpdateResult.Status.OK;
+            for (String key : commit.value().keys()) {
+                if (removeIf(commit.index(), key, v -> true).status() == MapEntryUpdateResult.Status.WRITE_LOCK) {
+                    status = MapEntryUpdateResult.Status.WRITE_LOCK;
+                }
+            }
+            return status;
+        } finally {
+            publishBatchedEvents();
+        }
+    }
+
     /**
      * Handles a removeValue commit.
      *
@@ -903,7 +1035,22 @@ public class AtomixConsistentMapService extends AbstractRaftService {
      * @param event event to publish
      */
     private void publish(MapEvent<String, byte[]> event) {
-        publish(Lists.newArrayList(event));
+        if (batchedEvents != null) {
+            batchedEvents.add(event);
+        } else {
+            publish(Lists.newArrayList(event));
+        }
+    }
+
+    /**
+     * Publishes the events batched by a bulk update to listeners.
+     */
+    private void publishBatchedEvents() {
+        List<MapEvent<String, byte[]>> events = batchedEvents;
+        batchedEvents = null;
+        if (!events.isEmpty()) {
+            publish(events);
+        }
     }
 
     /**
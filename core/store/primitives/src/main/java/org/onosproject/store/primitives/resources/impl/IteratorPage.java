@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.primitives.resources.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.onosproject.store.service.Versioned;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Page of map entries returned to an {@link AtomixConsistentMap} iterator.
+ */
+public class IteratorPage {
+    private final List<Map.Entry<String, Versioned<byte[]>>> entries;
+    private final boolean last;
+
+    public IteratorPage(List<Map.Entry<String, Versioned<byte[]>>> entries, boolean last) {
+        this.entries = entries;
+        this.last = last;
+    }
+
+    /**
+     * Returns the entries in the page; removed keys are left out, so a page
+     * may hold fewer entries than requested.
+     *
+     * @return map entries
+     */
+    public List<Map.Entry<String, Versioned<byte[]>>> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns whether this is the last page of the iteration.
+     *
+     * @return {@code true} if there are no more pages
+     */
+    public boolean isLast() {
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("entries", entries.size())
+                .add("last", last)
+                .toString();
+    }
+}
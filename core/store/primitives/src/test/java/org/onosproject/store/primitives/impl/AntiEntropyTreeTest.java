@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.primitives.impl;
+
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.onosproject.store.LogicalTimestamp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Unit tests for the anti-entropy hash tree.
+ */
+public class AntiEntropyTreeTest {
+
+    private static final long KEY_HASH = 0x123456789abcdefL;
+
+    private AntiEntropyTree tree(long... keyHashes) {
+        long[] leaves = new long[AntiEntropyTree.LEAVES];
+        for (long keyHash : keyHashes) {
+            MapValue.Digest digest = new MapValue.Digest(new LogicalTimestamp(1), false);
+            leaves[AntiEntropyTree.bucket(keyHash)] ^= AntiEntropyTree.entryHash(keyHash, digest);
+        }
+        return new AntiEntropyTree(leaves);
+    }
+
+    /**
+     * Tests that the leaf hashes do not depend on the order of the entries.
+     */
+    @Test
+    public void testOrderIndependence() {
+        long other = ~KEY_HASH;
+        assertThat(tree(KEY_HASH, other).root(), is(tree(other, KEY_HASH).root()));
+    }
+
+    /**
+     * Tests descending from the root to the differing leaf bucket.
+     */
+    @Test
+    public void testDescent() {
+        AntiEntropyTree empty = tree();
+        AntiEntropyTree local = tree(KEY_HASH);
+        assertThat(local.root(), is(not(empty.root())));
+
+        Set<Integer> differing = local.differing(0, empty.hashes(0, ImmutableSet.of(0)));
+        for (int level = 1; level <= AntiEntropyTree.DEPTH; level++) {
+            Set<Integer> children = AntiEntropyTree.children(differing);
+            assertThat(children.size(), is(differing.size() * AntiEntropyTree.FAN_OUT));
+            differing = local.differing(level, empty.hashes(level, children));
+        }
+        assertThat(differing, contains(AntiEntropyTree.bucket(KEY_HASH)));
+    }
+
+    /**
+     * Tests that identical trees have no differing nodes.
+     */
+    @Test
+    public void testIdentical() {
+        AntiEntropyTree local = tree(KEY_HASH);
+        assertThat(local.differing(0, tree(KEY_HASH).hashes(0, ImmutableSet.of(0))), is(empty()));
+    }
+
+    /**
+     * Tests that node indexes out of range of the level are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIndexOutOfRange() {
+        tree(KEY_HASH).differing(1, ImmutableMap.of(AntiEntropyTree.FAN_OUT, 0L));
+    }
+
+    /**
+     * Tests that levels out of range of the tree are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testLevelOutOfRange() {
+        tree(KEY_HASH).differing(AntiEntropyTree.DEPTH + 1, ImmutableMap.of(0, 0L));
+    }
+}
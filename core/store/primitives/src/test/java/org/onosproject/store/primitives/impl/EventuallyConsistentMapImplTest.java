@@ -68,6 +68,7 @@ import org.onosproject.store.service.EventuallyConsistentMapEvent;
 import org.onosproject.store.service.EventuallyConsistentMapListener;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.MoreExecutors;
 
@@ -92,6 +93,8 @@ public class EventuallyConsistentMapImplTest {
             = new MessageSubject("ecm-" + MAP_NAME + "-update");
     private static final MessageSubject ANTI_ENTROPY_MESSAGE_SUBJECT
             = new MessageSubject("ecm-" + MAP_NAME + "-anti-entropy");
+    private static final MessageSubject ANTI_ENTROPY_TREE_SUBJECT
+            = new MessageSubject("ecm-" + MAP_NAME + "-anti-entropy-tree");
     private static final MessageSubject UPDATE_REQUEST_SUBJECT
             = new MessageSubject("ecm-" + MAP_NAME + "-update-request");
 
@@ -106,6 +109,7 @@ public class EventuallyConsistentMapImplTest {
     private Consumer<Collection<UpdateEntry<String, String>>> updateHandler;
     private Consumer<Collection<UpdateRequest<String>>> requestHandler;
     private Function<AntiEntropyAdvertisement<String>, AntiEntropyResponse> antiEntropyHandler;
+    private Function<AntiEntropyTreeRequest, Set<Integer>> antiEntropyTreeHandler;
 
     @Before
     public void setUp() throws Exception {
@@ -140,7 +144,7 @@ public class EventuallyConsistentMapImplTest {
                                                           anyObject(Function.class),
                                                           anyObject(Function.class),
                                                           anyObject(Executor.class));
-        expectLastCall().andDelegateTo(new TestClusterCommunicationService()).times(1);
+        expectLastCall().andDelegateTo(new TestClusterCommunicationService()).times(2);
         clusterCommunicator.<Object>addSubscriber(anyObject(MessageSubject.class),
                 anyObject(Function.class), anyObject(Consumer.class), anyObject(Executor.class));
         expectLastCall().andDelegateTo(new TestClusterCommunicationService()).times(1);
@@ -160,6 +164,7 @@ public class EventuallyConsistentMapImplTest {
                 .withTimestampProvider((k, v) -> clockService.getTimestamp(k, v))
                 .withCommunicationExecutor(MoreExecutors.newDirectExecutorService())
                 .withPersistence()
+                .withTreeAntiEntropy()
                 .build();
 
         // Reset ready for tests to add their own expectations
@@ -649,6 +654,47 @@ public class EventuallyConsistentMapImplTest {
         return true;
     }
 
+    @Test
+    public void testAntiEntropyTree() throws Exception {
+        NodeId peer = new NodeId("peer");
+        AntiEntropyTree emptyTree = new AntiEntropyTree(new long[AntiEntropyTree.LEAVES]);
+        AntiEntropyTreeRequest rootRequest =
+                new AntiEntropyTreeRequest(peer, 0, emptyTree.hashes(0, ImmutableSet.of(0)));
+
+        // Both replicas are empty, so the roots match
+        assertTrue(antiEntropyTreeHandler.apply(rootRequest).isEmpty());
+
+        expectPeerMessage(clusterCommunicator);
+        ecMap.put(KEY1, VALUE1);
+
+        // The roots now differ, as does exactly one leaf bucket
+        assertEquals(ImmutableSet.of(0), antiEntropyTreeHandler.apply(rootRequest));
+        Set<Integer> leaves = new HashSet<>();
+        for (int i = 0; i < AntiEntropyTree.LEAVES; i++) {
+            leaves.add(i);
+        }
+        AntiEntropyTreeRequest leafRequest = new AntiEntropyTreeRequest(
+                peer, AntiEntropyTree.DEPTH, emptyTree.hashes(AntiEntropyTree.DEPTH, leaves));
+        assertEquals(1, antiEntropyTreeHandler.apply(leafRequest).size());
+
+        // Leaf hashes are updated in place; the tombstone left behind still
+        // differs from the empty replica in that single bucket
+        expectPeerMessage(clusterCommunicator);
+        ecMap.remove(KEY1);
+        assertEquals(1, antiEntropyTreeHandler.apply(leafRequest).size());
+
+        // Malformed requests are ignored
+        Map<Integer, Long> outOfRange = ImmutableMap.of(AntiEntropyTree.LEAVES, 0L);
+        assertNull(antiEntropyTreeHandler.apply(
+                new AntiEntropyTreeRequest(peer, AntiEntropyTree.DEPTH, outOfRange)));
+
+        // Requests are ignored once the map is under high load; the two
+        // updates above are at the threshold, so one more exceeds it
+        expectPeerMessage(clusterCommunicator);
+        ecMap.put(KEY1, VALUE1);
+        assertNull(antiEntropyTreeHandler.apply(leafRequest));
+    }
+
     @Test
     public void testDestroy() throws Exception {
         clusterCommunicator.removeSubscriber(BOOTSTRAP_MESSAGE_SUBJECT);
@@ -656,6 +702,7 @@ public class EventuallyConsistentMapImplTest {
         clusterCommunicator.removeSubscriber(UPDATE_MESSAGE_SUBJECT);
         clusterCommunicator.removeSubscriber(UPDATE_REQUEST_SUBJECT);
         clusterCommunicator.removeSubscriber(ANTI_ENTROPY_MESSAGE_SUBJECT);
+        clusterCommunicator.removeSubscriber(ANTI_ENTROPY_TREE_SUBJECT);
 
         replay(clusterCommunicator);
 
@@ -814,6 +861,8 @@ public class EventuallyConsistentMapImplTest {
                 Function<byte[], M> decoder, Function<M, R> handler, Function<R, byte[]> encoder, Executor executor) {
             if (subject.equals(ANTI_ENTROPY_MESSAGE_SUBJECT)) {
                 antiEntropyHandler = (Function<AntiEntropyAdvertisement<String>, AntiEntropyResponse>) handler;
+            } else if (subject.equals(ANTI_ENTROPY_TREE_SUBJECT)) {
+                antiEntropyTreeHandler = (Function<AntiEntropyTreeRequest, Set<Integer>>) handler;
             } else if (!subject.equals(INITIALIZE_MESSAGE_SUBJECT)) {
                 throw new RuntimeException("Unexpected message subject " + subject.toString());
             }
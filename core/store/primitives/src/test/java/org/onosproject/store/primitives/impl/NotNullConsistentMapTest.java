@@ -16,7 +16,12 @@
 package org.onosproject.store.primitives.impl;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.atomix.protocols.raft.proxy.RaftProxy;
 import io.atomix.protocols.raft.service.RaftService;
 import org.junit.Test;
@@ -25,7 +30,10 @@ import org.onosproject.store.primitives.resources.impl.AtomixConsistentMap;
 import org.onosproject.store.primitives.resources.impl.AtomixConsistentMapService;
 import org.onosproject.store.primitives.resources.impl.AtomixTestBase;
 import org.onosproject.store.service.AsyncConsistentMap;
+import org.onosproject.store.service.AsyncConsistentMapAdapter;
+import org.onosproject.store.service.Versioned;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -83,4 +91,26 @@ public class NotNullConsistentMapTest extends AtomixTestBase<AtomixConsistentMap
                 .thenAccept(replaced -> assertTrue(replaced)).join();
         map.get("foo").thenAccept(v -> assertNull(v)).join();
     }
+
+    /**
+     * Tests that bulk reads leave out null values without modifying the
+     * map returned by the delegate.
+     */
+    @Test
+    public void testGetAllLeavesDelegateResultIntact() {
+        Map<String, Versioned<String>> values = ImmutableMap.of(
+                "foo", new Versioned<>("Hello foo!", 1, 0),
+                "bar", new Versioned<>(null, 2, 0));
+        AsyncConsistentMap<String, String> map = new NotNullAsyncConsistentMap<>(
+                new AsyncConsistentMapAdapter<String, String>() {
+                    @Override
+                    public CompletableFuture<Map<String, Versioned<String>>> getAll(Set<String> keys) {
+                        return CompletableFuture.completedFuture(values);
+                    }
+                });
+
+        Map<String, Versioned<String>> result = map.getAll(ImmutableSet.of("foo", "bar")).join();
+        assertEquals(ImmutableSet.of("foo"), result.keySet());
+        assertEquals(2, values.size());
+    }
 }
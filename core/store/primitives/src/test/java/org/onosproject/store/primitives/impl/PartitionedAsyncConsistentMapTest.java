@@ -15,6 +15,8 @@
  */
 package org.onosproject.store.primitives.impl;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.hash.Hashing;
 import org.junit.Before;
@@ -297,4 +299,20 @@ public class PartitionedAsyncConsistentMapTest {
         assertThat(partitionedAsyncConsistentMap.isEmpty().join(), is(true));
 
     }
+
+    @Test
+    public void bulkOperations() {
+        partitionedAsyncConsistentMap.putAll(ImmutableMap.of(TEST3, VALUE3, TEST4, VALUE4)).join();
+        assertThat(baseMap.get(TEST3), is(VALUE3));
+        assertThat(baseMap.get(TEST4), is(VALUE4));
+
+        Map<String, Versioned<String>> values =
+                partitionedAsyncConsistentMap.getAll(ImmutableSet.of(KEY1, KEY2, TEST3)).join();
+        assertThat(values.size(), is(3));
+        assertThat(values.get(KEY1).value(), is(VALUE1));
+        assertThat(values.get(TEST3).value(), is(VALUE3));
+
+        partitionedAsyncConsistentMap.removeAll(ImmutableSet.of(KEY1, TEST3, TEST4)).join();
+        assertThat(baseMap.keySet(), is(ImmutableSet.of(KEY2)));
+    }
 }
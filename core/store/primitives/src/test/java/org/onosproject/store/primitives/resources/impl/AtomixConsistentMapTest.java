@@ -18,12 +18,18 @@ package org.onosproject.store.primitives.resources.impl;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.atomix.protocols.raft.proxy.RaftProxy;
 import io.atomix.protocols.raft.service.RaftService;
@@ -31,6 +37,7 @@ import org.junit.Test;
 import org.onlab.util.Tools;
 import org.onosproject.store.primitives.MapUpdate;
 import org.onosproject.store.primitives.TransactionId;
+import org.onosproject.store.service.AsyncIterator;
 import org.onosproject.store.service.MapEvent;
 import org.onosproject.store.service.MapEventListener;
 import org.onosproject.store.service.TransactionLog;
@@ -116,6 +123,112 @@ public class AtomixConsistentMapTest extends AtomixTestBase<AtomixConsistentMap>
         }).join();
     }
 
+    /**
+     * Tests bulk get, put and remove operations.
+     */
+    @Test
+    public void testBulkOperations() throws Throwable {
+        final byte[] value1 = Tools.getBytesUtf8("value1");
+        final byte[] value2 = Tools.getBytesUtf8("value2");
+
+        AtomixConsistentMap map = newPrimitive("testBulkOperations");
+        TestMapEventListener listener = new TestMapEventListener();
+        map.addListener(listener).join();
+
+        map.putAll(ImmutableMap.of("foo", value1, "bar", value2)).join();
+        Set<String> keys = Sets.newHashSet();
+        keys.add(listener.event().key());
+        keys.add(listener.event().key());
+        assertThat(keys, is(ImmutableSet.of("foo", "bar")));
+        assertThat(map.size().join(), is(2));
+
+        Map<String, Versioned<byte[]>> values = map.getAll(ImmutableSet.of("foo", "bar", "baz")).join();
+        assertThat(values.keySet(), is(ImmutableSet.of("foo", "bar")));
+        assertArrayEquals(value1, values.get("foo").value());
+        assertArrayEquals(value2, values.get("bar").value());
+
+        map.removeAll(ImmutableSet.of("foo", "baz")).join();
+        MapEvent<String, byte[]> event = listener.event();
+        assertEquals(MapEvent.Type.REMOVE, event.type());
+        assertEquals("foo", event.key());
+        assertFalse(listener.eventReceived());
+        assertThat(map.keySet().join(), is(ImmutableSet.of("bar")));
+
+        // Lock "bar" with a transaction and verify the other keys are still updated.
+        TransactionId transactionId = TransactionId.from("tx1");
+        Version lock = map.begin(transactionId).join();
+        MapUpdate<String, byte[]> update = MapUpdate.<String, byte[]>newBuilder()
+                .withType(MapUpdate.Type.LOCK)
+                .withKey("bar")
+                .withVersion(lock.value())
+                .build();
+        assertTrue(map.prepare(new TransactionLog<>(transactionId, lock.value(), Arrays.asList(update))).join());
+
+        try {
+            map.putAll(ImmutableMap.of("foo", value1, "bar", value1)).join();
+            fail("bulk update of a locked key should fail with Exception");
+        } catch (CompletionException e) {
+            assertEquals(ConcurrentModificationException.class, e.getCause().getClass());
+        }
+        assertEquals("foo", listener.event().key());
+        assertArrayEquals(value2, map.get("bar").join().value());
+        assertArrayEquals(value1, map.get("foo").join().value());
+
+        map.rollback(transactionId).join();
+        map.removeListener(listener).join();
+    }
+
+    /**
+     * Tests paginated iteration over the map entries.
+     */
+    @Test
+    public void testIterator() throws Throwable {
+        AtomixConsistentMap map = newPrimitive("testIterator");
+        for (int i = 0; i < 10; i++) {
+            map.put(String.valueOf(i), Tools.getBytesUtf8(String.valueOf(i))).join();
+        }
+
+        AsyncIterator<Map.Entry<String, Versioned<byte[]>>> iterator = map.iterator(3).join();
+        // Entries are returned in key order, a page at a time.
+        List<String> keys = Lists.newArrayList();
+        for (int i = 0; i < 3; i++) {
+            Map.Entry<String, Versioned<byte[]>> entry = iterator.next().join();
+            assertArrayEquals(Tools.getBytesUtf8(entry.getKey()), entry.getValue().value());
+            keys.add(entry.getKey());
+        }
+        assertThat(keys, is(Arrays.asList("0", "1", "2")));
+
+        // Removed keys are skipped; keys added behind the iterator are not
+        // returned while those added ahead of it are.
+        map.remove("4").join();
+        map.put("10", Tools.getBytesUtf8("10")).join();
+        map.put("55", Tools.getBytesUtf8("55")).join();
+        while (iterator.hasNext().join()) {
+            Map.Entry<String, Versioned<byte[]>> entry = iterator.next().join();
+            assertArrayEquals(Tools.getBytesUtf8(entry.getKey()), entry.getValue().value());
+            keys.add(entry.getKey());
+        }
+        assertThat(keys, is(Arrays.asList("0", "1", "2", "3", "5", "55", "6", "7", "8", "9")));
+
+        try {
+            iterator.next().join();
+            fail("next() on an exhausted iterator should fail with Exception");
+        } catch (CompletionException e) {
+            assertEquals(NoSuchElementException.class, e.getCause().getClass());
+        }
+
+        // An iterator closed early only returns the entries already fetched.
+        AsyncIterator<Map.Entry<String, Versioned<byte[]>>> closed = map.iterator(3).join();
+        assertTrue(closed.hasNext().join());
+        closed.close().join();
+        int count = 0;
+        while (closed.hasNext().join()) {
+            closed.next().join();
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
     /**
      * Tests map event notifications.
      */
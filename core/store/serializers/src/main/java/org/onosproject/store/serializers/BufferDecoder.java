@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.serializers;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Message decoder which can also read the encoded bytes from a region of a
+ * larger buffer, so that the messaging layer does not need to copy them out.
+ *
+ * @param <T> decoded type
+ */
+public interface BufferDecoder<T> extends Function<byte[], T> {
+
+    /**
+     * Deserializes the remaining bytes of a buffer into an object.
+     *
+     * @param buffer bytes to be deserialized
+     * @return deserialized object
+     */
+    T decode(ByteBuffer buffer);
+}
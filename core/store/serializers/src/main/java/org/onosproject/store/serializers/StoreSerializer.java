@@ -89,6 +89,46 @@ public interface StoreSerializer extends Serializer {
      */
     <T> T copy(final T object);
 
+    /**
+     * Returns a message encoder backed by this serializer.
+     *
+     * @return message encoder
+     * @param <T> encoded type
+     */
+    default <T> StreamEncoder<T> encoder() {
+        return new StreamEncoder<T>() {
+            @Override
+            public byte[] apply(T object) {
+                return StoreSerializer.this.encode(object);
+            }
+
+            @Override
+            public void encode(T object, OutputStream stream) {
+                StoreSerializer.this.encode(object, stream);
+            }
+        };
+    }
+
+    /**
+     * Returns a message decoder backed by this serializer.
+     *
+     * @return message decoder
+     * @param <T> decoded type
+     */
+    default <T> BufferDecoder<T> decoder() {
+        return new BufferDecoder<T>() {
+            @Override
+            public T apply(byte[] bytes) {
+                return StoreSerializer.this.decode(bytes);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer) {
+                return StoreSerializer.this.decode(buffer);
+            }
+        };
+    }
+
     /**
      * Creates a new StoreSerializer instance from a KryoNamespace.
      *
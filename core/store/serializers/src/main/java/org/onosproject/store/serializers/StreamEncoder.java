@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.serializers;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+
+/**
+ * Message encoder which can also write the encoded bytes straight into a
+ * stream, so that the messaging layer does not need an intermediate array.
+ *
+ * @param <T> encoded type
+ */
+public interface StreamEncoder<T> extends Function<T, byte[]> {
+
+    /**
+     * Serializes the specified object into a stream.
+     *
+     * @param object object to be serialized
+     * @param stream to write serialized bytes
+     */
+    void encode(T object, OutputStream stream);
+}
@@ -827,12 +827,14 @@ public class Ofdpa2GroupHandler {
                 deviceId, Integer.toHexString(l3ecmpGroupId),
                 l3ecmpGroupKey, nextObj.id());
         // finally we are ready to send the innermost groups
+        List<GroupDescription> innerMostGroupDescs = new ArrayList<>();
         for (GroupInfo gi : unsentGroups) {
             log.debug("Sending innermost group {} in group chain on device {} ",
                     Integer.toHexString(gi.innerMostGroupDesc().givenGroupId()), deviceId);
             updatePendingGroups(gi.nextGroupDesc().appCookie(), l3ecmpGce);
-            groupService.addGroup(gi.innerMostGroupDesc());
+            innerMostGroupDescs.add(gi.innerMostGroupDesc());
         }
+        groupService.addGroups(innerMostGroupDescs);
     }
 
     /**
@@ -1473,8 +1475,9 @@ public class Ofdpa2GroupHandler {
                 .map(Deque::getFirst).collect(Collectors.toList());
         addPendingRemoveNextObjective(nextObjective, groupKeys);
 
-        allActiveKeys.forEach(groupChain -> groupChain.forEach(groupKey ->
-                groupService.removeGroup(deviceId, groupKey, nextObjective.appId())));
+        List<GroupKey> chainKeys = allActiveKeys.stream()
+                .flatMap(Collection::stream).collect(Collectors.toList());
+        groupService.removeGroups(deviceId, chainKeys, nextObjective.appId());
         flowObjectiveStore.removeNextGroup(nextObjective.id());
     }
 
@@ -238,6 +238,15 @@ public class AbstractVirtualListenerManagerTest {
             return 0;
         }
 
+        @Override
+        public void setDispatchWorkers(int count) {
+        }
+
+        @Override
+        public int getDispatchWorkers() {
+            return 0;
+        }
+
         @Override
         public void post(Event event) {
             if (event instanceof VirtualEvent) {
@@ -21,7 +21,6 @@ import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 
 import org.onlab.packet.Ethernet;
-import org.onlab.packet.MacAddress;
 import org.onlab.packet.ONOSLLDP;
 import org.onlab.util.Timer;
 import org.onosproject.net.ConnectPoint;
@@ -40,6 +39,10 @@ import org.onosproject.net.link.ProbedLinkProvider;
 import org.slf4j.Logger;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -62,8 +65,9 @@ public class LinkDiscovery implements TimerTask {
     private final Device device;
     private final LinkDiscoveryContext context;
 
-    private final Ethernet ethPacket;
-    private final Ethernet bddpEth;
+    // Probe templates, recreated when the cluster fingerprint changes
+    private volatile LinkProbeTemplate lldpTemplate;
+    private volatile LinkProbeTemplate bddpTemplate;
 
     private Timeout timeout;
     private volatile boolean isStopped;
@@ -71,8 +75,9 @@ public class LinkDiscovery implements TimerTask {
     private final Set<Long> ports = Sets.newConcurrentHashSet();
 
     /**
-     * Instantiates discovery manager for the given physical switch. Creates a
-     * generic LLDP packet that will be customized for the port it is sent out on.
+     * Instantiates discovery manager for the given physical switch. Probes
+     * are produced from templates serialized once and customized for the
+     * port they are sent out on.
      * Starts the the timer for the discovery process.
      *
      * @param device  the physical switch
@@ -82,16 +87,6 @@ public class LinkDiscovery implements TimerTask {
         this.device = device;
         this.context = context;
 
-        ethPacket = new Ethernet();
-        ethPacket.setEtherType(Ethernet.TYPE_LLDP);
-        ethPacket.setDestinationMACAddress(MacAddress.ONOS_LLDP);
-        ethPacket.setPad(true);
-
-        bddpEth = new Ethernet();
-        bddpEth.setEtherType(Ethernet.TYPE_BSN);
-        bddpEth.setDestinationMACAddress(MacAddress.BROADCAST);
-        bddpEth.setPad(true);
-
         isStopped = true;
         start();
         log.debug("Started discovery manager for switch {}", device.id());
@@ -215,7 +210,7 @@ public class LinkDiscovery implements TimerTask {
 
         if (context.mastershipService().isLocalMaster(device.id())) {
             log.trace("Sending probes from {}", device.id());
-            ports.forEach(this::sendProbes);
+            sendProbes(ports);
         }
 
         if (!isStopped()) {
@@ -233,11 +228,15 @@ public class LinkDiscovery implements TimerTask {
         if (port == null) {
             return null;
         }
-        ONOSLLDP lldp = getLinkProbe(port);
-        ethPacket.setSourceMACAddress(context.fingerprint()).setPayload(lldp);
+        LinkProbeTemplate template = lldpTemplate;
+        String fingerprint = context.fingerprint();
+        if (template == null || !template.matches(fingerprint)) {
+            template = LinkProbeTemplate.lldp(device, fingerprint);
+            lldpTemplate = template;
+        }
         return new DefaultOutboundPacket(device.id(),
                                          builder().setOutput(portNumber(port)).build(),
-                                         ByteBuffer.wrap(ethPacket.serialize()));
+                                         ByteBuffer.wrap(template.frame(port)));
     }
 
     /**
@@ -250,28 +249,36 @@ public class LinkDiscovery implements TimerTask {
         if (port == null) {
             return null;
         }
-        ONOSLLDP lldp = getLinkProbe(port);
-        bddpEth.setSourceMACAddress(context.fingerprint()).setPayload(lldp);
+        LinkProbeTemplate template = bddpTemplate;
+        String fingerprint = context.fingerprint();
+        if (template == null || !template.matches(fingerprint)) {
+            template = LinkProbeTemplate.bddp(device, fingerprint);
+            bddpTemplate = template;
+        }
         return new DefaultOutboundPacket(device.id(),
                                          builder().setOutput(portNumber(port)).build(),
-                                         ByteBuffer.wrap(bddpEth.serialize()));
+                                         ByteBuffer.wrap(template.frame(port)));
     }
 
-    private ONOSLLDP getLinkProbe(Long port) {
-        return ONOSLLDP.onosLLDP(device.id().toString(), device.chassisId(), port.intValue());
+    private void sendProbes(Long portNumber) {
+        sendProbes(Collections.singleton(portNumber));
     }
 
-    private void sendProbes(Long portNumber) {
-        if (context.packetService() == null) {
+    // Emits the probes for all the given ports with a single call
+    private void sendProbes(Collection<Long> portNumbers) {
+        if (context.packetService() == null || portNumbers.isEmpty()) {
             return;
         }
-        log.trace("Sending probes out of {}@{}", portNumber, device.id());
-        OutboundPacket pkt = createOutBoundLldp(portNumber);
-        context.packetService().emit(pkt);
-        if (context.useBddp()) {
-            OutboundPacket bpkt = createOutBoundBddp(portNumber);
-            context.packetService().emit(bpkt);
+        boolean useBddp = context.useBddp();
+        List<OutboundPacket> packets = new ArrayList<>(useBddp ? 2 * portNumbers.size() : portNumbers.size());
+        for (Long portNumber : portNumbers) {
+            log.trace("Sending probes out of {}@{}", portNumber, device.id());
+            packets.add(createOutBoundLldp(portNumber));
+            if (useBddp) {
+                packets.add(createOutBoundBddp(portNumber));
+            }
         }
+        context.packetService().emit(packets);
     }
 
     public boolean containsPort(long portNumber) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.lldpcommon;
+
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.ONOSLLDP;
+import org.onosproject.net.Device;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Pre-serialized discovery probe of a device, from which the probe for each
+ * port is produced by patching the port number into a copy of the frame
+ * instead of building and serializing the whole probe again.
+ */
+final class LinkProbeTemplate {
+
+    private final String fingerprint;
+    private final byte[] frame;
+    private final int portOffset;
+
+    private LinkProbeTemplate(String fingerprint, Ethernet eth, ONOSLLDP lldp) {
+        this.fingerprint = fingerprint;
+        this.frame = eth.setPayload(lldp).serialize();
+
+        // Locate the port number by serializing the probe for another port
+        lldp.setPortId(-1);
+        byte[] other = eth.setPayload(lldp).serialize();
+        int offset = 0;
+        while (offset < frame.length && frame[offset] == other[offset]) {
+            offset++;
+        }
+        checkState(offset + Integer.BYTES <= frame.length, "Unable to locate port in probe");
+        this.portOffset = offset;
+    }
+
+    /**
+     * Creates an LLDP probe template for the specified device.
+     *
+     * @param device      device the probes are sent from
+     * @param fingerprint source MAC address of the probes
+     * @return probe template
+     */
+    static LinkProbeTemplate lldp(Device device, String fingerprint) {
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_LLDP);
+        eth.setDestinationMACAddress(MacAddress.ONOS_LLDP);
+        eth.setSourceMACAddress(fingerprint);
+        eth.setPad(true);
+        return new LinkProbeTemplate(fingerprint, eth, probe(device));
+    }
+
+    /**
+     * Creates a BDDP probe template for the specified device.
+     *
+     * @param device      device the probes are sent from
+     * @param fingerprint source MAC address of the probes
+     * @return probe template
+     */
+    static LinkProbeTemplate bddp(Device device, String fingerprint) {
+        Ethernet eth = new Ethernet();
+        eth.setEtherType(Ethernet.TYPE_BSN);
+        eth.setDestinationMACAddress(MacAddress.BROADCAST);
+        eth.setSourceMACAddress(fingerprint);
+        eth.setPad(true);
+        return new LinkProbeTemplate(fingerprint, eth, probe(device));
+    }
+
+    private static ONOSLLDP probe(Device device) {
+        return ONOSLLDP.onosLLDP(device.id().toString(), device.chassisId(), 0);
+    }
+
+    /**
+     * Returns whether the template was created for the specified fingerprint.
+     *
+     * @param fingerprint source MAC address of the probes
+     * @return true if the template matches the fingerprint
+     */
+    boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+
+    /**
+     * Returns the serialized probe for the specified port.
+     *
+     * @param port port number
+     * @return probe frame
+     */
+    byte[] frame(long port) {
+        byte[] probe = frame.clone();
+        int value = (int) port;
+        probe[portOffset] = (byte) (value >>> 24);
+        probe[portOffset + 1] = (byte) (value >>> 16);
+        probe[portOffset + 2] = (byte) (value >>> 8);
+        probe[portOffset + 3] = (byte) value;
+        return probe;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.lldpcommon;
+
+import org.junit.Test;
+import org.onlab.packet.ChassisId;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.ONOSLLDP;
+import org.onosproject.net.DefaultDevice;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.provider.ProviderId;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for LinkProbeTemplate.
+ */
+public class LinkProbeTemplateTest {
+
+    private static final String FINGERPRINT = "00:11:22:33:44:55";
+
+    private static final Device DEVICE =
+            new DefaultDevice(new ProviderId("of", "foo"), DeviceId.deviceId("of:0000000000000001"),
+                              Device.Type.SWITCH, "", "", "", "", new ChassisId(1));
+
+    private static final long[] PORTS = {
+            0, 1, 2, 255, 256, 65535, 65536, Integer.MAX_VALUE,
+            0x80000000L, 0xfffffff0L, 0xfffffffeL, 0xffffffffL
+    };
+
+    /**
+     * Tests that LLDP probes produced from the template match freshly
+     * serialized ones.
+     */
+    @Test
+    public void lldpFrame() {
+        LinkProbeTemplate template = LinkProbeTemplate.lldp(DEVICE, FINGERPRINT);
+        for (long port : PORTS) {
+            Ethernet eth = new Ethernet();
+            eth.setEtherType(Ethernet.TYPE_LLDP);
+            eth.setDestinationMACAddress(MacAddress.ONOS_LLDP);
+            eth.setSourceMACAddress(FINGERPRINT);
+            eth.setPad(true);
+            assertArrayEquals("port " + port, serialize(eth, port), template.frame(port));
+        }
+    }
+
+    /**
+     * Tests that BDDP probes produced from the template match freshly
+     * serialized ones.
+     */
+    @Test
+    public void bddpFrame() {
+        LinkProbeTemplate template = LinkProbeTemplate.bddp(DEVICE, FINGERPRINT);
+        for (long port : PORTS) {
+            Ethernet eth = new Ethernet();
+            eth.setEtherType(Ethernet.TYPE_BSN);
+            eth.setDestinationMACAddress(MacAddress.BROADCAST);
+            eth.setSourceMACAddress(FINGERPRINT);
+            eth.setPad(true);
+            assertArrayEquals("port " + port, serialize(eth, port), template.frame(port));
+        }
+    }
+
+    /**
+     * Tests matching templates against fingerprints.
+     */
+    @Test
+    public void matches() {
+        LinkProbeTemplate template = LinkProbeTemplate.lldp(DEVICE, FINGERPRINT);
+        assertTrue(template.matches(FINGERPRINT));
+        assertFalse(template.matches("00:11:22:33:44:66"));
+    }
+
+    private static byte[] serialize(Ethernet eth, long port) {
+        ONOSLLDP lldp = ONOSLLDP.onosLLDP(DEVICE.id().toString(), DEVICE.chassisId(), (int) port);
+        return eth.setPayload(lldp).serialize();
+    }
+}
@@ -28,7 +28,9 @@ import org.apache.felix.scr.annotations.Modified;
 import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
+import org.onlab.metrics.MetricsService;
 import org.onlab.packet.ChassisId;
+import org.onlab.util.PollScheduler;
 import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.core.ApplicationId;
@@ -86,12 +88,9 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static java.util.concurrent.Executors.newScheduledThreadPool;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.net.config.basics.SubjectFactories.APP_SUBJECT_FACTORY;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -129,6 +128,9 @@ public class NetconfDeviceProvider extends AbstractProvider
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService componentConfigService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
 
     protected static final String APP_NAME = "org.onosproject.netconf";
     protected static final String SCHEME_NAME = "netconf";
@@ -138,7 +140,6 @@ public class NetconfDeviceProvider extends AbstractProvider
     private static final String IPADDRESS = "ipaddress";
     private static final String NETCONF = "netconf";
     private static final String PORT = "port";
-    private static final int CORE_POOL_SIZE = 10;
 
     private static final int DEFAULT_POLL_FREQUENCY_SECONDS = 30;
     @Property(name = "pollFrequency", intValue = DEFAULT_POLL_FREQUENCY_SECONDS,
@@ -155,16 +156,13 @@ public class NetconfDeviceProvider extends AbstractProvider
     protected ExecutorService executor =
             Executors.newFixedThreadPool(5, groupedThreads("onos/netconfdeviceprovider",
                                                            "device-installer-%d", log));
-    protected ScheduledExecutorService connectionExecutor
-            = newScheduledThreadPool(CORE_POOL_SIZE,
-                                     groupedThreads("onos/netconfdeviceprovider",
-                                                    "connection-executor-%d", log));
 
     protected DeviceProviderService providerService;
     private NetconfDeviceListener innerNodeListener = new InnerNetconfDeviceListener();
     private InternalDeviceListener deviceListener = new InternalDeviceListener();
     private final Map<DeviceId, AtomicInteger> retriedPortDiscoveryMap = new ConcurrentHashMap<>();
-    protected ScheduledFuture<?> scheduledTask;
+    private PollScheduler scheduler;
+    protected PollScheduler.PollTask scheduledTask;
 
     protected final List<ConfigFactory> factories = ImmutableList.of(
             // TODO consider moving Config registration to NETCONF ctl bundle
@@ -195,6 +193,7 @@ public class NetconfDeviceProvider extends AbstractProvider
     public void activate(ComponentContext context) {
         active = true;
         componentConfigService.registerProperties(getClass());
+        scheduler = PollScheduler.acquire(metricsService);
         providerService = providerRegistry.register(this);
         appId = coreService.registerApplication(APP_NAME);
         factories.forEach(cfgService::registerConfigFactory);
@@ -223,7 +222,9 @@ public class NetconfDeviceProvider extends AbstractProvider
         providerService = null;
         retriedPortDiscoveryMap.clear();
         factories.forEach(cfgService::unregisterConfigFactory);
-        scheduledTask.cancel(true);
+        scheduledTask.cancel();
+        PollScheduler.release();
+        scheduler = null;
         executor.shutdown();
         log.info("Stopped");
     }
@@ -242,7 +243,7 @@ public class NetconfDeviceProvider extends AbstractProvider
             log.info("Configured. Number of retries is configured to {} times", maxRetries);
         }
         if (scheduledTask != null) {
-            scheduledTask.cancel(false);
+            scheduledTask.cancel();
         }
         scheduledTask = schedulePolling();
     }
@@ -253,10 +254,10 @@ public class NetconfDeviceProvider extends AbstractProvider
 
     // Checks connection to devices in the config file
     // every DEFAULT_POLL_FREQUENCY_SECONDS seconds.
-    private ScheduledFuture schedulePolling() {
-        return connectionExecutor.scheduleAtFixedRate(exceptionSafe(this::checkAndUpdateDevices),
-                                                      pollFrequency / 10,
-                                                      pollFrequency, TimeUnit.SECONDS);
+    private PollScheduler.PollTask schedulePolling() {
+        return scheduler.schedule(this, exceptionSafe(this::checkAndUpdateDevices),
+                                  pollFrequency / 10,
+                                  pollFrequency, TimeUnit.SECONDS);
     }
 
     private Runnable exceptionSafe(Runnable runnable) {
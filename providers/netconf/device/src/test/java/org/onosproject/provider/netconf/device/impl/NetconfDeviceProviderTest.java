@@ -26,6 +26,7 @@ import org.apache.commons.lang.StringUtils;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onlab.packet.IpAddress;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.core.ApplicationId;
@@ -189,6 +190,7 @@ public class NetconfDeviceProviderTest {
         provider.controller = controller;
         provider.deviceKeyAdminService = deviceKeyAdminService;
         provider.componentConfigService = new ComponentConfigAdapter();
+        provider.metricsService = new MetricsManager();
         AbstractProjectableModel.setDriverService(null, new DriverServiceAdapter());
         provider.activate(null);
         devices.clear();
@@ -27,8 +27,10 @@ import org.apache.felix.scr.annotations.Modified;
 import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
+import org.onlab.metrics.MetricsService;
 import org.onlab.packet.ChassisId;
 import org.onlab.util.Frequency;
+import org.onlab.util.PollScheduler;
 import org.onlab.util.Spectrum;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.net.AnnotationKeys;
@@ -119,7 +121,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -220,6 +221,9 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected DriverService driverService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private DeviceProviderService providerService;
 
     private final InternalDeviceProvider listener = new InternalDeviceProvider();
@@ -230,7 +234,7 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
     label = "Frequency (in seconds) for polling switch Port statistics")
     private int portStatsPollFrequency = POLL_INTERVAL;
 
-    private final Timer timer = new Timer("onos-openflow-portstats-collector");
+    private PollScheduler scheduler;
 
     private HashMap<Dpid, PortStatsCollector> collectors = Maps.newHashMap();
 
@@ -244,6 +248,7 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
     @Activate
     public void activate(ComponentContext context) {
         cfgService.registerProperties(getClass());
+        scheduler = PollScheduler.acquire(metricsService);
         providerService = providerRegistry.register(this);
         controller.addListener(listener);
         controller.addEventListener(listener);
@@ -262,6 +267,8 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
         providerRegistry.unregister(this);
         collectors.values().forEach(PortStatsCollector::stop);
         collectors.clear();
+        PollScheduler.release();
+        scheduler = null;
         providerService = null;
         LOG.info("Stopped");
     }
@@ -469,7 +476,7 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
             providerService.deviceConnected(did, description);
             providerService.updatePorts(did, buildPortDescriptions(sw));
 
-            PortStatsCollector psc = new PortStatsCollector(timer, sw, portStatsPollFrequency);
+            PortStatsCollector psc = new PortStatsCollector(scheduler, sw, portStatsPollFrequency);
             stopCollectorIfNeeded(collectors.put(dpid, psc));
             psc.start();
 
@@ -16,14 +16,15 @@
 
 package org.onosproject.provider.of.device.impl;
 
+import org.onlab.util.PollScheduler;
+import org.onosproject.openflow.controller.Dpid;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
 import org.projectfloodlight.openflow.protocol.OFPortStatsRequest;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.slf4j.Logger;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -36,11 +37,9 @@ public class PortStatsCollector {
 
     private final Logger log = getLogger(getClass());
 
-    private static final int SECONDS = 1000;
-
     private OpenFlowSwitch sw;
-    private Timer timer;
-    private TimerTask task;
+    private final PollScheduler scheduler;
+    private PollScheduler.PollTask task;
 
     private int refreshInterval;
     private final AtomicLong xidAtomic = new AtomicLong(1);
@@ -48,32 +47,23 @@ public class PortStatsCollector {
     /**
      * Creates a port states collector object.
      *
-     * @param timer     timer to use for scheduling
+     * @param scheduler scheduler to use for polling
      * @param sw        switch to pull
      * @param interval  interval for collecting port statistic
      */
-    PortStatsCollector(Timer timer, OpenFlowSwitch sw, int interval) {
-        this.timer = timer;
+    PortStatsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int interval) {
+        this.scheduler = scheduler;
         this.sw = checkNotNull(sw, "Null switch");
         this.refreshInterval = interval;
     }
 
-    private class InternalTimerTask extends TimerTask {
-
-        @Override
-        public void run() {
-            sendPortStatisticRequest();
-        }
-    }
-
     /**
      * Starts the port statistic collector.
      */
     public synchronized void start() {
         log.info("Starting Port Stats collection thread for {}", sw.getStringId());
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, 1 * SECONDS,
-                                  refreshInterval * SECONDS);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::sendPortStatisticRequest,
+                                  1, refreshInterval, TimeUnit.SECONDS);
     }
 
     /**
@@ -92,10 +82,7 @@ public class PortStatsCollector {
      */
     public synchronized void adjustPollInterval(int pollInterval) {
         this.refreshInterval = pollInterval;
-        task.cancel();
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, refreshInterval * SECONDS,
-                                  refreshInterval * SECONDS);
+        task.setPeriod(refreshInterval, TimeUnit.SECONDS);
     }
 
     /**
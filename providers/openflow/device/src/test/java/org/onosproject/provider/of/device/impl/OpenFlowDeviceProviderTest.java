@@ -23,6 +23,7 @@ import com.google.common.collect.Multimap;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.net.DefaultDevice;
 import org.onosproject.net.Device;
@@ -93,6 +94,7 @@ public class OpenFlowDeviceProviderTest {
         provider.controller = controller;
         provider.cfgService = new ComponentConfigAdapter();
         provider.driverService = new DriverServiceAdapter();
+        provider.metricsService = new MetricsManager();
         controller.switchMap.put(DPID1, SW1);
         provider.activate(null);
         assertNotNull("provider should be registered", registry.provider);
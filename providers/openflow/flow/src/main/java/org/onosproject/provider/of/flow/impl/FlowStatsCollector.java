@@ -16,6 +16,9 @@
 package org.onosproject.provider.of.flow.impl;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.onlab.util.PollScheduler;
+import org.onosproject.openflow.controller.Dpid;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
@@ -23,8 +26,7 @@ import org.projectfloodlight.openflow.types.OFPort;
 import org.projectfloodlight.openflow.types.TableId;
 import org.slf4j.Logger;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -35,23 +37,21 @@ class FlowStatsCollector implements SwitchDataCollector {
 
     private final Logger log = getLogger(getClass());
 
-    public static final int SECONDS = 1000;
-
     private final OpenFlowSwitch sw;
-    private Timer timer;
-    private TimerTask task;
+    private final PollScheduler scheduler;
+    private PollScheduler.PollTask task;
 
     private int pollInterval;
 
     /**
      * Creates a new collector for the given switch and poll frequency.
      *
-     * @param timer        timer to use for scheduling
+     * @param scheduler    scheduler to use for polling
      * @param sw           switch to pull
      * @param pollInterval poll frequency in seconds
      */
-    FlowStatsCollector(Timer timer, OpenFlowSwitch sw, int pollInterval) {
-        this.timer = timer;
+    FlowStatsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int pollInterval) {
+        this.scheduler = scheduler;
         this.sw = checkNotNull(sw, "Null switch");
         this.pollInterval = pollInterval;
     }
@@ -63,32 +63,26 @@ class FlowStatsCollector implements SwitchDataCollector {
      */
     synchronized void adjustPollInterval(int pollInterval) {
         this.pollInterval = pollInterval;
-        task.cancel();
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, pollInterval * SECONDS, pollInterval * 1000);
+        task.setPeriod(pollInterval, TimeUnit.SECONDS);
     }
 
-    private class InternalTimerTask extends TimerTask {
-        @Override
-        public void run() {
-            if (sw.getRole() == RoleState.MASTER) {
-                log.trace("Collecting stats for {}", sw.getStringId());
-                OFFlowStatsRequest request = sw.factory().buildFlowStatsRequest()
-                        .setMatch(sw.factory().matchWildcardAll())
-                        .setTableId(TableId.ALL)
-                        .setOutPort(OFPort.NO_MASK)
-                        .build();
-                sw.sendMsg(request);
-            }
+    private void poll() {
+        if (sw.getRole() == RoleState.MASTER) {
+            log.trace("Collecting stats for {}", sw.getStringId());
+            OFFlowStatsRequest request = sw.factory().buildFlowStatsRequest()
+                    .setMatch(sw.factory().matchWildcardAll())
+                    .setTableId(TableId.ALL)
+                    .setOutPort(OFPort.NO_MASK)
+                    .build();
+            sw.sendMsg(request);
         }
     }
 
     public synchronized void start() {
         // Initially start polling quickly. Then drop down to configured value
         log.debug("Starting Stats collection thread for {}", sw.getStringId());
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, 1 * SECONDS,
-                                  pollInterval * SECONDS);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::poll,
+                                  1, pollInterval, TimeUnit.SECONDS);
     }
 
     public synchronized void stop() {
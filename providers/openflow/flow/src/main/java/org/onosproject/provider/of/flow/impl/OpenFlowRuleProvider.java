@@ -33,6 +33,8 @@ import org.apache.felix.scr.annotations.Modified;
 import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
+import org.onlab.metrics.MetricsService;
+import org.onlab.util.PollScheduler;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.net.DeviceId;
@@ -90,7 +92,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Timer;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -121,10 +122,14 @@ public class OpenFlowRuleProvider extends AbstractProvider
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected DriverService driverService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private static final int DEFAULT_POLL_FREQUENCY = 5;
     private static final int MIN_EXPECTED_BYTE_LEN = 56;
     private static final int SKIP_BYTES = 4;
     private static final boolean DEFAULT_ADAPTIVE_FLOW_SAMPLING = false;
+    private static final boolean DEFAULT_SPLIT_FLOW_STATS = false;
 
     @Property(name = "flowPollFrequency", intValue = DEFAULT_POLL_FREQUENCY,
             label = "Frequency (in seconds) for polling flow statistics")
@@ -134,19 +139,27 @@ public class OpenFlowRuleProvider extends AbstractProvider
             label = "Adaptive Flow Sampling is on or off")
     private boolean adaptiveFlowSampling = DEFAULT_ADAPTIVE_FLOW_SAMPLING;
 
+    @Property(name = "splitFlowStats", boolValue = DEFAULT_SPLIT_FLOW_STATS,
+            label = "Split flow statistics requests across the poll interval; "
+                    + "ignored when adaptive flow sampling is on")
+    private boolean splitFlowStats = DEFAULT_SPLIT_FLOW_STATS;
+
     private FlowRuleProviderService providerService;
 
     private final InternalFlowProvider listener = new InternalFlowProvider();
 
     private Cache<Long, InternalCacheEntry> pendingBatches;
 
-    private final Timer timer = new Timer("onos-openflow-collector");
+    private PollScheduler scheduler;
 
     // Old simple collector set
     private final Map<Dpid, FlowStatsCollector> simpleCollectors = Maps.newConcurrentMap();
 
     // NewAdaptiveFlowStatsCollector Set
     private final Map<Dpid, NewAdaptiveFlowStatsCollector> afsCollectors = Maps.newConcurrentMap();
+
+    // SplitFlowStatsCollector Set
+    private final Map<Dpid, SplitFlowStatsCollector> splitCollectors = Maps.newConcurrentMap();
     private final Map<Dpid, TableStatisticsCollector> tableStatsCollectors = Maps.newConcurrentMap();
 
     /**
@@ -159,6 +172,7 @@ public class OpenFlowRuleProvider extends AbstractProvider
     @Activate
     protected void activate(ComponentContext context) {
         cfgService.registerProperties(getClass());
+        scheduler = PollScheduler.acquire(metricsService);
         providerService = providerRegistry.register(this);
         controller.addListener(listener);
         controller.addEventListener(listener);
@@ -169,14 +183,16 @@ public class OpenFlowRuleProvider extends AbstractProvider
 
         createCollectors();
 
-        log.info("Started with flowPollFrequency = {}, adaptiveFlowSampling = {}",
-                flowPollFrequency, adaptiveFlowSampling);
+        log.info("Started with flowPollFrequency = {}, adaptiveFlowSampling = {}, splitFlowStats = {}",
+                flowPollFrequency, adaptiveFlowSampling, splitFlowStats);
     }
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
         cfgService.unregisterProperties(getClass(), false);
         stopCollectors();
+        PollScheduler.release();
+        scheduler = null;
         providerRegistry.unregister(this);
         providerService = null;
 
@@ -206,15 +222,20 @@ public class OpenFlowRuleProvider extends AbstractProvider
         String s = get(properties, "adaptiveFlowSampling");
         newAdaptiveFlowSampling = isNullOrEmpty(s) ? adaptiveFlowSampling : Boolean.parseBoolean(s.trim());
 
-        if (newAdaptiveFlowSampling != adaptiveFlowSampling) {
+        boolean newSplitFlowStats;
+        s = get(properties, "splitFlowStats");
+        newSplitFlowStats = isNullOrEmpty(s) ? splitFlowStats : Boolean.parseBoolean(s.trim());
+
+        if (newAdaptiveFlowSampling != adaptiveFlowSampling || newSplitFlowStats != splitFlowStats) {
             // stop previous collector
             stopCollectors();
             adaptiveFlowSampling = newAdaptiveFlowSampling;
+            splitFlowStats = newSplitFlowStats;
             // create new collectors
             createCollectors();
         }
 
-        log.info("Settings: adaptiveFlowSampling={}", adaptiveFlowSampling);
+        log.info("Settings: adaptiveFlowSampling={}, splitFlowStats={}", adaptiveFlowSampling, splitFlowStats);
     }
 
     private Cache<Long, InternalCacheEntry> createBatchCache() {
@@ -242,12 +263,16 @@ public class OpenFlowRuleProvider extends AbstractProvider
                     new NewAdaptiveFlowStatsCollector(driverService, sw, flowPollFrequency);
             stopCollectorIfNeeded(afsCollectors.put(new Dpid(sw.getId()), fsc));
             fsc.start();
+        } else if (splitFlowStats) {
+            SplitFlowStatsCollector fsc = new SplitFlowStatsCollector(scheduler, sw, flowPollFrequency);
+            stopCollectorIfNeeded(splitCollectors.put(new Dpid(sw.getId()), fsc));
+            fsc.start();
         } else {
-            FlowStatsCollector fsc = new FlowStatsCollector(timer, sw, flowPollFrequency);
+            FlowStatsCollector fsc = new FlowStatsCollector(scheduler, sw, flowPollFrequency);
             stopCollectorIfNeeded(simpleCollectors.put(new Dpid(sw.getId()), fsc));
             fsc.start();
         }
-        TableStatisticsCollector tsc = new TableStatisticsCollector(timer, sw, flowPollFrequency);
+        TableStatisticsCollector tsc = new TableStatisticsCollector(scheduler, sw, flowPollFrequency);
         stopCollectorIfNeeded(tableStatsCollectors.put(new Dpid(sw.getId()), tsc));
         tsc.start();
     }
@@ -263,6 +288,9 @@ public class OpenFlowRuleProvider extends AbstractProvider
             // NewAdaptiveFlowStatsCollector Destructor
             afsCollectors.values().forEach(NewAdaptiveFlowStatsCollector::stop);
             afsCollectors.clear();
+        } else if (splitFlowStats) {
+            splitCollectors.values().forEach(SplitFlowStatsCollector::stop);
+            splitCollectors.clear();
         } else {
             simpleCollectors.values().forEach(FlowStatsCollector::stop);
             simpleCollectors.clear();
@@ -276,6 +304,8 @@ public class OpenFlowRuleProvider extends AbstractProvider
         if (adaptiveFlowSampling) {
             // NewAdaptiveFlowStatsCollector calAndPollInterval
             afsCollectors.values().forEach(fsc -> fsc.adjustCalAndPollInterval(flowPollFrequency));
+        } else if (splitFlowStats) {
+            splitCollectors.values().forEach(fsc -> fsc.adjustPollInterval(flowPollFrequency));
         } else {
             simpleCollectors.values().forEach(fsc -> fsc.adjustPollInterval(flowPollFrequency));
         }
@@ -407,6 +437,8 @@ public class OpenFlowRuleProvider extends AbstractProvider
         public void switchRemoved(Dpid dpid) {
             if (adaptiveFlowSampling) {
                 stopCollectorIfNeeded(afsCollectors.remove(dpid));
+            } else if (splitFlowStats) {
+                stopCollectorIfNeeded(splitCollectors.remove(dpid));
             } else {
                 stopCollectorIfNeeded(simpleCollectors.remove(dpid));
             }
@@ -611,6 +643,7 @@ public class OpenFlowRuleProvider extends AbstractProvider
 
             DeviceId did = DeviceId.deviceId(Dpid.uri(dpid));
             NewAdaptiveFlowStatsCollector afsc = afsCollectors.get(dpid);
+            SplitFlowStatsCollector sfsc = splitCollectors.get(dpid);
 
             if (adaptiveFlowSampling && afsc != null)  {
                 List<FlowEntry> flowEntries = replies.getEntries().stream()
@@ -633,6 +666,21 @@ public class OpenFlowRuleProvider extends AbstractProvider
                     // call individual flow stats update
                     providerService.pushFlowMetricsWithoutFlowMissing(did, flowEntries);
                 }
+            } else if (splitFlowStats && sfsc != null) {
+                List<FlowEntry> flowEntries = replies.getEntries().stream()
+                        .map(entry -> new FlowEntryBuilder(did, entry, driverService).build())
+                        .collect(Collectors.toList());
+
+                if (sfsc.gather(replies.getXid(), flowEntries)) {
+                    // the entries of a whole round are pushed with flowMissing synchronization
+                    List<FlowEntry> roundEntries = sfsc.completed();
+                    if (roundEntries != null) {
+                        providerService.pushFlowMetrics(did, roundEntries);
+                    }
+                } else {
+                    // a slice of the flow table, only updates the flow stats
+                    providerService.pushFlowMetricsWithoutFlowMissing(did, flowEntries);
+                }
             } else {
                 List<FlowEntry> flowEntries = replies.getEntries().stream()
                         .map(entry -> new FlowEntryBuilder(did, entry, driverService).build())
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.of.flow.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.onlab.util.PollScheduler;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.openflow.controller.Dpid;
+import org.onosproject.openflow.controller.OpenFlowSwitch;
+import org.onosproject.openflow.controller.RoleState;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
+import org.projectfloodlight.openflow.protocol.OFVersion;
+import org.projectfloodlight.openflow.types.OFPort;
+import org.projectfloodlight.openflow.types.TableId;
+import org.projectfloodlight.openflow.types.U64;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Collects flow statistics for the specified switch with requests that each
+ * cover a slice of the flow table, spread across the poll interval.
+ * <p>
+ * The flow table is split by cookie mask into a number of slices, sized
+ * after the number of entries reported in the previous round, and the
+ * request for each slice is sent at an even share of the poll interval.
+ * The first round of each switch is delayed by a random jitter so that the
+ * rounds of different switches do not line up. Switches that do not
+ * support cookie masks in flow statistics requests (OpenFlow 1.0) are
+ * polled with a single request per round.
+ * </p>
+ * <p>
+ * Flows removed by the switch are reported through flow-removed messages,
+ * so the replies of most rounds only refresh the flow counters. Every few
+ * rounds, the whole table is requested at once instead, and the reply is
+ * pushed so that flows missing from the switch can be detected. A single
+ * request makes the reply a snapshot of the table: slices answered over the
+ * poll interval would miss the flows installed after their slice was
+ * answered, which would then be reported missing and reinstalled. A round
+ * which is not answered one poll interval after its last slot, or which
+ * could not be requested, is abandoned without flow-missing detection.
+ * </p>
+ */
+class SplitFlowStatsCollector implements SwitchDataCollector {
+
+    private final Logger log = getLogger(getClass());
+
+    public static final int SECONDS = 1000;
+
+    // target number of flow entries covered by a single request
+    static final int ENTRIES_PER_REQUEST = 1000;
+    static final int MAX_SLICES = 64;
+    // every so many rounds the whole table is requested for flow-missing detection
+    static final int SYNC_ROUNDS = 6;
+
+    private final PollScheduler scheduler;
+    private final OpenFlowSwitch sw;
+    private PollScheduler.PollTask task;
+
+    private int pollInterval;
+
+    private int slices = 1;
+    private int slice;
+    private int round;
+    private int roundEntries;
+    private int lastRoundEntries;
+
+    // state of the round gathered for flow-missing detection; the slots of
+    // the round are being polled while syncRound is set
+    private boolean syncing;
+    private boolean syncRound;
+    private long syncDeadline;
+    private final Set<Long> syncXids = Sets.newHashSet();
+    private final List<FlowEntry> syncEntries = Lists.newArrayList();
+
+    /**
+     * Creates a new collector for the given switch and poll frequency.
+     *
+     * @param scheduler    scheduler to use for polling
+     * @param sw           switch to pull
+     * @param pollInterval poll frequency in seconds
+     */
+    SplitFlowStatsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int pollInterval) {
+        this.scheduler = scheduler;
+        this.sw = checkNotNull(sw, "Null switch");
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Adjusts poll frequency.
+     *
+     * @param pollInterval poll frequency in seconds
+     */
+    synchronized void adjustPollInterval(int pollInterval) {
+        this.pollInterval = pollInterval;
+        if (task != null) {
+            task.setPeriod(sliceDelay(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Accounts for the specified flow statistics reply. The entries of a
+     * reply which belongs to a round gathered for flow-missing detection are
+     * retained until the round completes.
+     *
+     * @param xid     transaction id of the reply
+     * @param entries flow entries of the reply
+     * @return true if the entries have been retained for flow-missing detection
+     */
+    synchronized boolean gather(long xid, List<FlowEntry> entries) {
+        roundEntries += entries.size();
+        if (!syncXids.remove(xid)) {
+            return false;
+        }
+        syncEntries.addAll(entries);
+        return true;
+    }
+
+    /**
+     * Returns the entries of the round gathered for flow-missing detection,
+     * once the request of the round has been answered.
+     *
+     * @return flow entries of the whole round, or null if the round is not complete
+     */
+    synchronized List<FlowEntry> completed() {
+        if (!syncing || syncRound || !syncXids.isEmpty()) {
+            return null;
+        }
+        List<FlowEntry> entries = Lists.newArrayList(syncEntries);
+        resetSync();
+        return entries;
+    }
+
+    /**
+     * Abandons the round gathered for flow-missing detection if it is still
+     * unanswered one poll interval after its last slot.
+     *
+     * @param now current time in milliseconds
+     */
+    synchronized void expire(long now) {
+        if (syncing && !syncRound && now >= syncDeadline) {
+            log.debug("Stats round for {} timed out with {} replies missing",
+                      sw.getStringId(), syncXids.size());
+            resetSync();
+        }
+    }
+
+    private void resetSync() {
+        syncing = false;
+        syncRound = false;
+        syncXids.clear();
+        syncEntries.clear();
+    }
+
+    /**
+     * Requests the statistics of the next slice of the flow table.
+     */
+    synchronized void pollSlice() {
+        if (task == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        expire(now);
+        if (slice == 0 && startRound()) {
+            // the number of slices changed; so does the time between them
+            task.setPeriod(sliceDelay(), TimeUnit.MILLISECONDS);
+        }
+        if (sw.getRole() == RoleState.MASTER) {
+            if (!syncRound) {
+                log.trace("Collecting stats slice {}/{} for {}", slice + 1, slices, sw.getStringId());
+                sw.sendMsg(statsRequest(slice, slices));
+            } else if (slice == 0) {
+                // the whole table in one request; the other slots of the
+                // round are left idle
+                OFFlowStatsRequest request = statsRequest(0, 1);
+                syncXids.add(request.getXid());
+                log.trace("Collecting stats of the whole table for {}", sw.getStringId());
+                sw.sendMsg(request);
+            }
+        } else if (syncRound && slice == 0) {
+            // the round cannot tell which flows are missing without its request
+            resetSync();
+        }
+        slice++;
+        if (slice == slices) {
+            if (syncRound) {
+                // the round is complete once its request is answered
+                syncRound = false;
+                syncDeadline = now + (long) pollInterval * SECONDS;
+            }
+            slice = 0;
+        }
+    }
+
+    private boolean startRound() {
+        int previousSlices = slices;
+        lastRoundEntries = roundEntries;
+        roundEntries = 0;
+        if (sw.factory().getVersion() == OFVersion.OF_10) {
+            slices = 1;
+        } else {
+            slices = slicesFor(lastRoundEntries);
+        }
+        if (round % SYNC_ROUNDS == 0) {
+            if (syncing) {
+                log.debug("Abandoning incomplete stats round for {}", sw.getStringId());
+                resetSync();
+            }
+            syncing = true;
+            syncRound = true;
+        }
+        round++;
+        return slices != previousSlices;
+    }
+
+    /**
+     * Returns the number of slices to split a table of the specified size into.
+     *
+     * @param entries number of flow entries
+     * @return number of slices, a power of two
+     */
+    static int slicesFor(int entries) {
+        int slices = 1;
+        while (slices < MAX_SLICES && slices * ENTRIES_PER_REQUEST < entries) {
+            slices <<= 1;
+        }
+        return slices;
+    }
+
+    // Returns the request for the specified slice of a table split in count slices.
+    private OFFlowStatsRequest statsRequest(int index, int count) {
+        OFFlowStatsRequest.Builder builder = sw.factory().buildFlowStatsRequest()
+                .setMatch(sw.factory().matchWildcardAll())
+                .setTableId(TableId.ALL)
+                .setOutPort(OFPort.NO_MASK);
+        if (count > 1) {
+            builder.setCookie(U64.of(index))
+                    .setCookieMask(U64.of(count - 1));
+        }
+        return builder.build();
+    }
+
+    private long sliceDelay() {
+        return Math.max(1, (long) pollInterval * SECONDS / slices);
+    }
+
+    @Override
+    public synchronized void start() {
+        log.debug("Starting split stats collection for {}", sw.getStringId());
+        slice = 0;
+        round = 0;
+        // spread the rounds of the switches across the poll interval
+        long jitter = ThreadLocalRandom.current().nextLong((long) pollInterval * SECONDS + 1);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::pollSlice,
+                                  SECONDS + jitter, sliceDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        log.debug("Stopping split stats collection for {}", sw.getStringId());
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        resetSync();
+    }
+}
@@ -15,14 +15,14 @@
  */
 package org.onosproject.provider.of.flow.impl;
 
-import org.onlab.util.SharedExecutors;
+import org.onlab.util.PollScheduler;
+import org.onosproject.openflow.controller.Dpid;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
 import org.projectfloodlight.openflow.protocol.OFTableStatsRequest;
 import org.slf4j.Logger;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -33,23 +33,21 @@ class TableStatisticsCollector implements SwitchDataCollector {
 
     private final Logger log = getLogger(getClass());
 
-    public static final int SECONDS = 1000;
-
     private final OpenFlowSwitch sw;
-    private Timer timer;
-    private TimerTask task;
+    private final PollScheduler scheduler;
+    private PollScheduler.PollTask task;
 
     private int pollInterval;
 
     /**
      * Creates a new table statistics collector for the given switch and poll frequency.
      *
-     * @param timer        timer to use for scheduling
+     * @param scheduler    scheduler to use for polling
      * @param sw           switch to pull
      * @param pollInterval poll frequency in seconds
      */
-    TableStatisticsCollector(Timer timer, OpenFlowSwitch sw, int pollInterval) {
-        this.timer = timer;
+    TableStatisticsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int pollInterval) {
+        this.scheduler = scheduler;
         this.sw = sw;
         this.pollInterval = pollInterval;
     }
@@ -61,29 +59,23 @@ class TableStatisticsCollector implements SwitchDataCollector {
      */
     synchronized void adjustPollInterval(int pollInterval) {
         this.pollInterval = pollInterval;
-        task.cancel();
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, pollInterval * SECONDS, pollInterval * 1000);
+        task.setPeriod(pollInterval, TimeUnit.SECONDS);
     }
 
-    private class InternalTimerTask extends TimerTask {
-        @Override
-        public void run() {
-            if (sw.getRole() == RoleState.MASTER) {
-                log.trace("Collecting stats for {}", sw.getStringId());
-                OFTableStatsRequest request = sw.factory().buildTableStatsRequest()
-                        .build();
-                sw.sendMsg(request);
-            }
+    private void poll() {
+        if (sw.getRole() == RoleState.MASTER) {
+            log.trace("Collecting stats for {}", sw.getStringId());
+            OFTableStatsRequest request = sw.factory().buildTableStatsRequest()
+                    .build();
+            sw.sendMsg(request);
         }
     }
 
     public synchronized void start() {
         // Initially start polling quickly. Then drop down to configured value
         log.debug("Starting Table Stats collection thread for {}", sw.getStringId());
-        task = new InternalTimerTask();
-        SharedExecutors.getTimer().scheduleAtFixedRate(task, 1 * SECONDS,
-                                                       pollInterval * SECONDS);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::poll,
+                                  1, pollInterval, TimeUnit.SECONDS);
     }
 
     public synchronized void stop() {
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.of.flow.impl;
+
+import com.google.common.collect.Lists;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.util.PollScheduler;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.openflow.controller.OpenFlowSwitchAdapter;
+import org.onosproject.openflow.controller.RoleState;
+import org.projectfloodlight.openflow.protocol.OFFactories;
+import org.projectfloodlight.openflow.protocol.OFFactory;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
+import org.projectfloodlight.openflow.protocol.OFMessage;
+import org.projectfloodlight.openflow.protocol.OFVersion;
+import org.projectfloodlight.openflow.types.U64;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.provider.of.flow.impl.SplitFlowStatsCollector.ENTRIES_PER_REQUEST;
+import static org.onosproject.provider.of.flow.impl.SplitFlowStatsCollector.MAX_SLICES;
+import static org.onosproject.provider.of.flow.impl.SplitFlowStatsCollector.SYNC_ROUNDS;
+
+/**
+ * Tests of the split flow statistics collector.
+ */
+public class SplitFlowStatsCollectorTest {
+
+    private static final int POLL_INTERVAL = 5;
+    private static final int ROUND_ENTRIES = 2500;
+    private static final int ROUND_SLICES = 4;
+
+    private final TestSwitch sw = new TestSwitch();
+    // requests sent in the last gathered round
+    private final List<OFMessage> sent = Lists.newArrayList();
+    private SplitFlowStatsCollector collector;
+
+    @Before
+    public void setUp() {
+        // polls are driven by the tests; the timer never fires
+        PollScheduler scheduler = new PollScheduler(new IdleTimer(), Runnable::run);
+        collector = new SplitFlowStatsCollector(scheduler, sw, POLL_INTERVAL);
+        collector.start();
+    }
+
+    @After
+    public void tearDown() {
+        collector.stop();
+    }
+
+    /**
+     * Tests the number of slices a table is split into.
+     */
+    @Test
+    public void slicesFor() {
+        assertEquals(1, SplitFlowStatsCollector.slicesFor(0));
+        assertEquals(1, SplitFlowStatsCollector.slicesFor(ENTRIES_PER_REQUEST));
+        assertEquals(2, SplitFlowStatsCollector.slicesFor(ENTRIES_PER_REQUEST + 1));
+        assertEquals(ROUND_SLICES, SplitFlowStatsCollector.slicesFor(ROUND_ENTRIES));
+        assertEquals(MAX_SLICES, SplitFlowStatsCollector.slicesFor(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Tests that replies outside of the gathered rounds are not retained.
+     */
+    @Test
+    public void gather() {
+        assertFalse(collector.gather(1, entries(10)));
+
+        List<Long> xids = pollRound();
+        assertEquals(1, xids.size());
+        assertTrue(collector.gather(xids.get(0), entries(10)));
+        assertFalse("reply retained twice", collector.gather(xids.get(0), entries(10)));
+        assertEquals(10, collector.completed().size());
+
+        assertFalse(collector.gather(pollRound().get(0), entries(10)));
+        assertNull(collector.completed());
+    }
+
+    /**
+     * Tests that a gathered round requests the whole table at once, and
+     * completes once that request is answered.
+     */
+    @Test
+    public void completedSingleRequest() {
+        List<Long> xids = syncRound();
+        assertEquals("round should be a single request", 1, xids.size());
+        OFFlowStatsRequest request = (OFFlowStatsRequest) sent.get(0);
+        assertEquals("request should cover the whole table", U64.ZERO, request.getCookieMask());
+
+        assertNull("round completed early", collector.completed());
+        assertTrue(collector.gather(xids.get(0), entries(ROUND_ENTRIES)));
+        List<FlowEntry> completed = collector.completed();
+        assertNotNull(completed);
+        assertEquals(ROUND_ENTRIES, completed.size());
+        assertNull(collector.completed());
+
+        // the next round is split again
+        assertEquals(ROUND_SLICES, poll(ROUND_SLICES).size());
+    }
+
+    /**
+     * Tests that an unanswered round is abandoned once it times out.
+     */
+    @Test
+    public void completedTimeout() {
+        List<Long> xids = syncRound();
+        collector.expire(System.currentTimeMillis());
+        assertNull(collector.completed());
+
+        collector.expire(Long.MAX_VALUE);
+        assertFalse("late reply retained", collector.gather(xids.get(0), entries(1)));
+        assertNull(collector.completed());
+    }
+
+    /**
+     * Tests that a round which could not be requested is not gathered.
+     */
+    @Test
+    public void completedUnrequestedRound() {
+        List<Long> xids = syncRound(RoleState.SLAVE);
+        assertEquals("remaining slices should be requested", ROUND_SLICES - 1, xids.size());
+        xids.forEach(xid -> assertFalse(collector.gather(xid, entries(1))));
+        assertNull(collector.completed());
+    }
+
+    // Sends the requests of a round and returns their transaction ids.
+    private List<Long> pollRound() {
+        return poll(1);
+    }
+
+    private List<Long> poll(int slices) {
+        sw.sent.clear();
+        for (int i = 0; i < slices; i++) {
+            collector.pollSlice();
+        }
+        List<Long> xids = Lists.newArrayList();
+        sw.sent.forEach(msg -> xids.add(msg.getXid()));
+        return xids;
+    }
+
+    // Runs the rounds up to the next gathered one, with a table split in
+    // ROUND_SLICES slices, and polls all its slots; the switch has the
+    // specified role in the first slot.
+    private List<Long> syncRound(RoleState role) {
+        collector.gather(pollRound().get(0), entries(ROUND_ENTRIES));
+        assertNotNull(collector.completed());
+        for (int round = 1; round < SYNC_ROUNDS; round++) {
+            collector.gather(poll(ROUND_SLICES).get(0), entries(ROUND_ENTRIES));
+        }
+        sw.role = role;
+        List<Long> xids = poll(1);
+        sent.addAll(sw.sent);
+        sw.role = RoleState.MASTER;
+        xids.addAll(poll(ROUND_SLICES - 1));
+        sent.addAll(sw.sent);
+        return xids;
+    }
+
+    private List<Long> syncRound() {
+        return syncRound(RoleState.MASTER);
+    }
+
+    private static List<FlowEntry> entries(int count) {
+        return Collections.nCopies(count, null);
+    }
+
+    private static class TestSwitch extends OpenFlowSwitchAdapter {
+
+        private final OFFactory factory = OFFactories.getFactory(OFVersion.OF_13);
+        private final List<OFMessage> sent = Lists.newArrayList();
+        private RoleState role = RoleState.MASTER;
+
+        @Override
+        public void sendMsg(OFMessage msg) {
+            sent.add(msg);
+        }
+
+        @Override
+        public RoleState getRole() {
+            return role;
+        }
+
+        @Override
+        public OFFactory factory() {
+            return factory;
+        }
+    }
+
+    private static class IdleTimer implements Timer {
+
+        @Override
+        public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+            return new Timeout() {
+                @Override
+                public Timer timer() {
+                    return IdleTimer.this;
+                }
+
+                @Override
+                public TimerTask task() {
+                    return task;
+                }
+
+                @Override
+                public boolean isExpired() {
+                    return false;
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return false;
+                }
+
+                @Override
+                public boolean cancel() {
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public Set<Timeout> stop() {
+            return Collections.emptySet();
+        }
+    }
+}
@@ -16,7 +16,8 @@
 
 package org.onosproject.provider.of.group.impl;
 
-import org.onlab.util.Timer;
+import org.onlab.util.PollScheduler;
+import org.onosproject.openflow.controller.Dpid;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
 import org.projectfloodlight.openflow.protocol.OFGroupDescStatsRequest;
@@ -24,9 +25,6 @@ import org.projectfloodlight.openflow.protocol.OFGroupStatsRequest;
 import org.projectfloodlight.openflow.types.OFGroup;
 import org.slf4j.Logger;
 
-import io.netty.util.Timeout;
-import io.netty.util.TimerTask;
-
 import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -34,41 +32,28 @@ import static org.slf4j.LoggerFactory.getLogger;
 /*
  * Sends Group Stats Request and collect the group statistics with a time interval.
  */
-public class GroupStatsCollector implements TimerTask {
+public class GroupStatsCollector {
 
+    private final PollScheduler scheduler;
     private final OpenFlowSwitch sw;
     private final Logger log = getLogger(getClass());
     private int refreshInterval;
 
-    private Timeout timeout;
-
-    private boolean stopTimer = false;
+    private PollScheduler.PollTask task;
 
     /**
      * Creates a GroupStatsCollector object.
      *
+     * @param scheduler scheduler to use for polling
      * @param sw Open Flow switch
      * @param interval time interval for collecting group statistic
      */
-    public GroupStatsCollector(OpenFlowSwitch sw, int interval) {
+    public GroupStatsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int interval) {
+        this.scheduler = scheduler;
         this.sw = sw;
         this.refreshInterval = interval;
     }
 
-    @Override
-    public void run(Timeout timeout) throws Exception {
-        log.trace("Collecting stats for {}", sw.getStringId());
-
-        sendGroupStatisticRequest();
-
-        if (!this.stopTimer) {
-            log.trace("Scheduling stats collection in {} seconds for {}",
-                    this.refreshInterval, this.sw.getStringId());
-            timeout.timer().newTimeout(this, refreshInterval,
-                    TimeUnit.SECONDS);
-        }
-    }
-
     private void sendGroupStatisticRequest() {
         if (log.isTraceEnabled()) {
             log.trace("sendGroupStatistics {}:{}", sw.getStringId(), sw.getRole());
@@ -94,24 +79,30 @@ public class GroupStatsCollector implements TimerTask {
         sw.sendMsg(descStatsRequest);
     }
 
-    public void adjustRate(int pollInterval) {
+    public synchronized void adjustRate(int pollInterval) {
         this.refreshInterval = pollInterval;
+        if (task != null) {
+            task.setPeriod(pollInterval, TimeUnit.SECONDS);
+        }
     }
 
     /**
      * Starts the collector.
      */
-    public void start() {
+    public synchronized void start() {
         log.info("Starting Group Stats collection thread for {}", sw.getStringId());
-        timeout = Timer.newTimeout(this, 1, TimeUnit.SECONDS);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::sendGroupStatisticRequest,
+                                  1, refreshInterval, TimeUnit.SECONDS);
     }
 
     /**
      * Stops the collector.
      */
-    public void stop() {
+    public synchronized void stop() {
         log.info("Stopping Group Stats collection thread for {}", sw.getStringId());
-        this.stopTimer = true;
-        timeout.cancel();
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
     }
 }
@@ -36,6 +36,8 @@ import org.apache.felix.scr.annotations.Modified;
 import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
+import org.onlab.metrics.MetricsService;
+import org.onlab.util.PollScheduler;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.core.GroupId;
 import org.onosproject.net.DeviceId;
@@ -111,6 +113,9 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService cfgService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private GroupProviderService providerService;
 
     private static final int DEFAULT_POLL_INTERVAL = 10;
@@ -125,6 +130,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
 
     private static final AtomicLong XID_COUNTER = new AtomicLong(1);
     private final Map<Dpid, GroupStatsCollector> collectors = Maps.newHashMap();
+    private PollScheduler scheduler;
     private final Map<Long, OFStatsReply> groupStats = Maps.newConcurrentMap();
     private final Map<GroupId, GroupOperation> pendingGroupOperations =
             Maps.newConcurrentMap();
@@ -142,6 +148,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
     @Activate
     public void activate(ComponentContext context) {
         cfgService.registerProperties(getClass());
+        scheduler = PollScheduler.acquire(metricsService);
         providerService = providerRegistry.register(this);
         controller.addListener(listener);
         controller.addEventListener(listener);
@@ -150,7 +157,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
 
         for (OpenFlowSwitch sw : controller.getSwitches()) {
             if (isGroupSupported(sw)) {
-                GroupStatsCollector gsc = new GroupStatsCollector(sw, groupPollInterval);
+                GroupStatsCollector gsc = new GroupStatsCollector(scheduler, sw, groupPollInterval);
                 gsc.start();
                 collectors.put(new Dpid(sw.getId()), gsc);
             }
@@ -166,6 +173,8 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
         providerService = null;
         collectors.values().forEach(GroupStatsCollector::stop);
         collectors.clear();
+        PollScheduler.release();
+        scheduler = null;
         log.info("Stopped");
     }
 
@@ -192,11 +201,13 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
     public void performGroupOperation(DeviceId deviceId, GroupOperations groupOps) {
         final Dpid dpid = Dpid.dpid(deviceId.uri());
         OpenFlowSwitch sw = controller.getSwitch(dpid);
+        if (sw == null) {
+            log.error("SW {} is not found", dpid);
+            return;
+        }
+        // All the group mods of the batch are pushed to the switch at once
+        List<OFMessage> groupMods = new ArrayList<>(groupOps.operations().size());
         for (GroupOperation groupOperation: groupOps.operations()) {
-            if (sw == null) {
-                log.error("SW {} is not found", dpid);
-                return;
-            }
             final Long groupModXid = XID_COUNTER.getAndIncrement();
             GroupModBuilder builder = null;
             if (driverService == null) {
@@ -226,15 +237,23 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
                     break;
                 default:
                     log.error("Unsupported Group operation");
+                    sendGroupMods(sw, groupMods);
                     return;
             }
-            sw.sendMsg(groupMod);
             GroupId groudId = new GroupId(groupMod.getGroup().getGroupNumber());
             pendingGroupOperations.put(groudId, groupOperation);
             pendingXidMaps.put(groudId, groupModXid);
+            groupMods.add(groupMod);
         }
+        sendGroupMods(sw, groupMods);
      }
 
+    private void sendGroupMods(OpenFlowSwitch sw, List<OFMessage> groupMods) {
+        if (!groupMods.isEmpty()) {
+            sw.sendMsg(groupMods);
+        }
+    }
+
     private void pushGroupMetrics(Dpid dpid, OFStatsReply statsReply) {
         DeviceId deviceId = DeviceId.deviceId(Dpid.uri(dpid));
 
@@ -413,7 +432,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
                 return;
             }
             if (isGroupSupported(sw)) {
-                GroupStatsCollector gsc = new GroupStatsCollector(sw, groupPollInterval);
+                GroupStatsCollector gsc = new GroupStatsCollector(scheduler, sw, groupPollInterval);
                 stopCollectorIfNeeded(collectors.put(dpid, gsc));
                 gsc.start();
             }
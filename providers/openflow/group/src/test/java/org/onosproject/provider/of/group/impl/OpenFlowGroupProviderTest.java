@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.core.GroupId;
 import org.onosproject.net.Device;
@@ -82,6 +83,7 @@ public class OpenFlowGroupProviderTest {
         provider.controller = controller;
         provider.providerRegistry = providerRegistry;
         provider.cfgService = new ComponentConfigAdapter();
+        provider.metricsService = new MetricsManager();
         provider.activate(null);
     }
 
@@ -342,7 +344,7 @@ public class OpenFlowGroupProviderTest {
 
         @Override
         public void sendMsg(List<OFMessage> msgs) {
-
+            msgs.forEach(this::sendMsg);
         }
 
         @Override
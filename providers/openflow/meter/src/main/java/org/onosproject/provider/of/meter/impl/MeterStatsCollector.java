@@ -16,15 +16,13 @@
 
 package org.onosproject.provider.of.meter.impl;
 
-import org.onlab.util.Timer;
+import org.onlab.util.PollScheduler;
+import org.onosproject.openflow.controller.Dpid;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
 import org.projectfloodlight.openflow.protocol.OFMeterStatsRequest;
 import org.slf4j.Logger;
 
-import io.netty.util.Timeout;
-import io.netty.util.TimerTask;
-
 import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -32,44 +30,38 @@ import static org.slf4j.LoggerFactory.getLogger;
 /*
  * Sends Meter Stats Request and collect the Meter statistics with a time interval.
  */
-public class MeterStatsCollector implements TimerTask {
+public class MeterStatsCollector {
 
+    private final PollScheduler scheduler;
     private final OpenFlowSwitch sw;
     private final Logger log = getLogger(getClass());
     private final int refreshInterval;
 
-    private Timeout timeout;
-
-    private boolean stopTimer = false;
+    private PollScheduler.PollTask task;
 
     /**
      * Creates a GroupStatsCollector object.
      *
+     * @param scheduler scheduler to use for polling
      * @param sw Open Flow switch
      * @param interval time interval for collecting group statistic
      */
-    public MeterStatsCollector(OpenFlowSwitch sw, int interval) {
+    public MeterStatsCollector(PollScheduler scheduler, OpenFlowSwitch sw, int interval) {
+        this.scheduler = scheduler;
         this.sw = sw;
         this.refreshInterval = interval;
     }
 
-    @Override
-    public void run(Timeout timeout) throws Exception {
+    private void poll() {
         if (!sw.isConnected()) {
             log.debug("Switch {} disconnected. Aborting meter stats collection", sw.getStringId());
+            stop();
             return;
         }
 
         log.trace("Collecting stats for {}", sw.getStringId());
 
         sendMeterStatisticRequest();
-
-        if (!this.stopTimer) {
-            log.trace("Scheduling stats collection in {} seconds for {}",
-                    this.refreshInterval, this.sw.getStringId());
-            timeout.timer().newTimeout(this, refreshInterval,
-                    TimeUnit.SECONDS);
-        }
     }
 
     public void sendMeterStatisticRequest() {
@@ -91,17 +83,20 @@ public class MeterStatsCollector implements TimerTask {
     /**
      * Starts the collector.
      */
-    public void start() {
+    public synchronized void start() {
         log.info("Starting Meter Stats collection thread for {}", sw.getStringId());
-        timeout = Timer.newTimeout(this, 1, TimeUnit.SECONDS);
+        task = scheduler.schedule(new Dpid(sw.getId()), this::poll,
+                                  1, refreshInterval, TimeUnit.SECONDS);
     }
 
     /**
      * Stops the collector.
      */
-    public void stop() {
+    public synchronized void stop() {
         log.info("Stopping Meter Stats collection thread for {}", sw.getStringId());
-        this.stopTimer = true;
-        timeout.cancel();
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
     }
 }
@@ -28,7 +28,9 @@ import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.ItemNotFoundException;
+import org.onlab.util.PollScheduler;
 import org.onosproject.core.CoreService;
 import org.onosproject.net.driver.Driver;
 import org.onosproject.net.driver.DriverService;
@@ -104,6 +106,9 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected DriverService driverService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private MeterProviderService providerService;
 
     private static final AtomicLong XID_COUNTER = new AtomicLong(1);
@@ -116,6 +121,7 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
 
     private InternalMeterListener listener = new InternalMeterListener();
     private Map<Dpid, MeterStatsCollector> collectors = Maps.newHashMap();
+    private PollScheduler scheduler;
 
     private static final Set<Device.Type> NO_METER_SUPPORT =
             ImmutableSet.copyOf(EnumSet.of(Device.Type.ROADM,
@@ -132,6 +138,7 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
 
     @Activate
     public void activate() {
+        scheduler = PollScheduler.acquire(metricsService);
         providerService = providerRegistry.register(this);
 
         pendingOperations = CacheBuilder.newBuilder()
@@ -154,6 +161,8 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
         providerRegistry.unregister(this);
         collectors.values().forEach(MeterStatsCollector::stop);
         collectors.clear();
+        PollScheduler.release();
+        scheduler = null;
         controller.removeEventListener(listener);
         controller.removeListener(listener);
         providerService = null;
@@ -198,7 +207,7 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
         Dpid dpid = Dpid.dpid(deviceId.uri());
         OpenFlowSwitch sw = controller.getSwitch(dpid);
 
-        MeterStatsCollector once = new MeterStatsCollector(sw, 1);
+        MeterStatsCollector once = new MeterStatsCollector(scheduler, sw, 1);
         once.sendMeterStatisticRequest();
 
     }
@@ -238,7 +247,7 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
 
     private void createStatsCollection(OpenFlowSwitch sw) {
         if (sw != null && isMeterSupported(sw)) {
-            MeterStatsCollector msc = new MeterStatsCollector(sw, POLL_INTERVAL);
+            MeterStatsCollector msc = new MeterStatsCollector(scheduler, sw, POLL_INTERVAL);
             stopCollectorIfNeeded(collectors.put(new Dpid(sw.getId()), msc));
             msc.start();
         }
@@ -38,6 +38,7 @@ import org.onosproject.openflow.controller.OpenFlowController;
 import org.onosproject.openflow.controller.OpenFlowPacketContext;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.PacketListener;
+import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.OFPacketOut;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.protocol.action.OFAction;
@@ -47,7 +48,11 @@ import org.projectfloodlight.openflow.types.OFPort;
 import org.slf4j.Logger;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -95,7 +100,29 @@ public class OpenFlowPacketProvider extends AbstractProvider implements PacketPr
 
     @Override
     public void emit(OutboundPacket packet) {
-        DeviceId devId = packet.sendThrough();
+        OpenFlowSwitch sw = getSwitch(packet.sendThrough());
+        if (sw == null) {
+            return;
+        }
+        packetOuts(sw, packet).forEach(sw::sendMsg);
+    }
+
+    @Override
+    public void emit(Collection<OutboundPacket> packets) {
+        packets.stream()
+                .collect(Collectors.groupingBy(OutboundPacket::sendThrough))
+                .forEach((devId, devicePackets) -> {
+                    OpenFlowSwitch sw = getSwitch(devId);
+                    if (sw == null) {
+                        return;
+                    }
+                    List<OFMessage> msgs = new ArrayList<>();
+                    devicePackets.forEach(packet -> msgs.addAll(packetOuts(sw, packet)));
+                    sw.sendMsg(msgs);
+                });
+    }
+
+    private OpenFlowSwitch getSwitch(DeviceId devId) {
         String scheme = devId.toString().split(":")[0];
 
         if (!scheme.equals(this.id().scheme())) {
@@ -107,20 +134,19 @@ public class OpenFlowPacketProvider extends AbstractProvider implements PacketPr
         OpenFlowSwitch sw = controller.getSwitch(dpid);
         if (sw == null) {
             log.warn("Device {} isn't available?", devId);
-            return;
         }
+        return sw;
+    }
 
-        //Ethernet eth = new Ethernet();
-        //eth.deserialize(packet.data().array(), 0, packet.data().array().length);
-        OFPortDesc p = null;
+    private List<OFMessage> packetOuts(OpenFlowSwitch sw, OutboundPacket packet) {
+        List<OFMessage> msgs = new ArrayList<>();
         for (Instruction inst : packet.treatment().allInstructions()) {
             if (inst.type().equals(Instruction.Type.OUTPUT)) {
-                p = portDesc(((OutputInstruction) inst).port());
-                OFPacketOut po = packetOut(sw, packet.data().array(), p.getPortNo());
-                sw.sendMsg(po);
+                OFPortDesc p = portDesc(((OutputInstruction) inst).port());
+                msgs.add(packetOut(sw, packet.data().array(), p.getPortNo()));
             }
         }
-
+        return msgs;
     }
 
     private OFPortDesc portDesc(PortNumber port) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Compact immutable form of a graph, suitable for path searches which are
+ * performed repeatedly over the same graph.
+ * <p>
+ * Vertexes are assigned dense integer identifiers and the egress edges of
+ * all vertexes are laid out in a single array in compressed sparse row
+ * order: the egress edges of vertex {@code v} occupy the positions
+ * {@code [edgesFromStart(v), edgesFromEnd(v))} and the vertex each of them
+ * leads to is available through {@link #target(int)} without dereferencing
+ * the edge itself.
+ * </p>
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public final class CompactGraph<V extends Vertex, E extends Edge<V>> {
+
+    /**
+     * Graph which can provide its own compact form, typically computed
+     * once and then retained for the life-time of the graph.
+     *
+     * @param <V> vertex type
+     * @param <E> edge type
+     */
+    public interface Provider<V extends Vertex, E extends Edge<V>> {
+
+        /**
+         * Returns the compact form of this graph.
+         *
+         * @return compact graph
+         */
+        CompactGraph<V, E> compactGraph();
+    }
+
+    private final Map<V, Integer> indexes;
+    private final Object[] vertexes;
+    private final Object[] edges;
+    private final int[] offsets;
+    private final int[] targets;
+
+    private CompactGraph(Graph<V, E> graph) {
+        Set<V> vertexSet = graph.getVertexes();
+        ImmutableMap.Builder<V, Integer> builder = ImmutableMap.builder();
+        vertexes = new Object[vertexSet.size()];
+        int index = 0;
+        for (V vertex : vertexSet) {
+            builder.put(vertex, index);
+            vertexes[index++] = vertex;
+        }
+        indexes = builder.build();
+
+        edges = new Object[graph.getEdges().size()];
+        targets = new int[edges.length];
+        offsets = new int[vertexes.length + 1];
+        int position = 0;
+        for (int v = 0; v < vertexes.length; v++) {
+            offsets[v] = position;
+            for (E edge : graph.getEdgesFrom(vertex(v))) {
+                edges[position] = edge;
+                targets[position++] = indexes.get(edge.dst());
+            }
+        }
+        offsets[vertexes.length] = position;
+    }
+
+    /**
+     * Creates the compact form of the specified graph.
+     *
+     * @param graph graph to compact
+     * @param <V>   vertex type
+     * @param <E>   edge type
+     * @return compact graph
+     */
+    public static <V extends Vertex, E extends Edge<V>> CompactGraph<V, E> of(Graph<V, E> graph) {
+        checkNotNull(graph, "Graph cannot be null");
+        return new CompactGraph<>(graph);
+    }
+
+    /**
+     * Returns the number of vertexes in the graph.
+     *
+     * @return number of vertexes
+     */
+    public int vertexCount() {
+        return vertexes.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     *
+     * @return number of edges
+     */
+    public int edgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the identifier of the specified vertex.
+     *
+     * @param vertex graph vertex
+     * @return vertex identifier; -1 if the vertex is not in the graph
+     */
+    public int index(V vertex) {
+        Integer index = indexes.get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the vertex with the specified identifier.
+     *
+     * @param index vertex identifier
+     * @return graph vertex
+     */
+    @SuppressWarnings("unchecked")
+    public V vertex(int index) {
+        return (V) vertexes[index];
+    }
+
+    /**
+     * Returns the edge at the specified position.
+     *
+     * @param position edge position
+     * @return graph edge
+     */
+    @SuppressWarnings("unchecked")
+    public E edge(int position) {
+        return (E) edges[position];
+    }
+
+    /**
+     * Returns the identifier of the vertex the edge at the specified
+     * position leads to.
+     *
+     * @param position edge position
+     * @return destination vertex identifier
+     */
+    public int target(int position) {
+        return targets[position];
+    }
+
+    /**
+     * Returns the position of the first egress edge of the specified vertex.
+     *
+     * @param index vertex identifier
+     * @return position of the first egress edge
+     */
+    public int edgesFromStart(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the position following the last egress edge of the specified
+     * vertex.
+     *
+     * @param index vertex identifier
+     * @return position following the last egress edge
+     */
+    public int edgesFromEnd(int index) {
+        return offsets[index + 1];
+    }
+
+    /**
+     * Returns the weight of the edge at the specified position, as computed
+     * by the specified weigher. Edges which cannot be traversed are given an
+     * infinite weight.
+     *
+     * @param position edge position
+     * @param weigher  edge weigher
+     * @return edge weight; NaN if the weigher does not produce a
+     * {@link ScalarWeight scalar weight}
+     */
+    public double weight(int position, EdgeWeigher<V, E> weigher) {
+        Weight weight = weigher.weight(edge(position));
+        if (!(weight instanceof ScalarWeight)) {
+            return Double.NaN;
+        }
+        return weight.isViable() ? ((ScalarWeight) weight).value() : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("vertexes", vertexes.length)
+                .add("edges", edges.length)
+                .toString();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.math.DoubleMath;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra shortest-path graph search algorithm capable of finding not just
+ * one, but all shortest paths between the source and destinations, which
+ * operates over the {@link CompactGraph compact form} of the graph.
+ * <p>
+ * Path costs are accrued as primitive values and the nearest vertex is
+ * selected using an indexed binary heap supporting the decrease-key
+ * operation, which brings the complexity of the search down to
+ * O((V + E) log V). If the graph is a {@link CompactGraph.Provider}, its
+ * compact form is reused; otherwise the compact form is computed for each
+ * search. Edges are weighed as they are relaxed, so a search towards a
+ * single destination only weighs the edges it reaches. As with
+ * {@link DijkstraGraphSearch}, edges with negative weights are never
+ * traversed. The search is only applicable to {@link ScalarWeight scalar
+ * weights}; searches using other weights are delegated to
+ * {@link DijkstraGraphSearch}.
+ * </p>
+ */
+public class IndexedDijkstraGraphSearch<V extends Vertex, E extends Edge<V>>
+        extends AbstractGraphPathSearch<V, E> {
+
+    private static final int NONE = -1;
+
+    private final DijkstraGraphSearch<V, E> fallback = new DijkstraGraphSearch<>();
+
+    @Override
+    protected Result<V, E> internalSearch(Graph<V, E> graph, V src, V dst,
+                                          EdgeWeigher<V, E> weigher, int maxPaths) {
+        Weight initialWeight = weigher.getInitialWeight();
+        if (!(initialWeight instanceof ScalarWeight)) {
+            return fallback.internalSearch(graph, src, dst, weigher, maxPaths);
+        }
+
+        CompactGraph<V, E> compact = compactGraph(graph);
+        int vertexCount = compact.vertexCount();
+        int source = compact.index(src);
+        int target = dst == null ? NONE : compact.index(dst);
+
+        // Cumulative costs and parent edges of each vertex; the parent edges
+        // of a vertex are chained through the positions of those edges.
+        double[] costs = new double[vertexCount];
+        Arrays.fill(costs, Double.NaN);
+        int[] parentHead = new int[vertexCount];
+        int[] parentCount = new int[vertexCount];
+        int[] parentNext = new int[compact.edgeCount()];
+        Arrays.fill(parentHead, NONE);
+
+        costs[source] = ((ScalarWeight) initialWeight).value();
+        IndexedHeap minQueue = new IndexedHeap(vertexCount);
+        minQueue.insert(source, costs[source]);
+
+        while (!minQueue.isEmpty()) {
+            // Get the nearest vertex
+            int nearest = minQueue.extractMin();
+            if (nearest == target) {
+                break;
+            }
+
+            // Relax all its egress edges.
+            double cost = costs[nearest];
+            for (int e = compact.edgesFromStart(nearest); e < compact.edgesFromEnd(nearest); e++) {
+                double hopCost = compact.weight(e, weigher);
+                if (Double.isNaN(hopCost)) {
+                    return fallback.internalSearch(graph, src, dst, weigher, maxPaths);
+                }
+                if (hopCost < 0 || hopCost == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int v = compact.target(e);
+                double newCost = cost + hopCost;
+                int compareResult = Double.isNaN(costs[v]) ? -1 :
+                        DoubleMath.fuzzyCompare(newCost, costs[v], ScalarWeight.samenessThreshold());
+                if (compareResult > 0) {
+                    continue;
+                }
+                if (compareResult < 0) {
+                    costs[v] = newCost;
+                    parentHead[v] = NONE;
+                    parentCount[v] = 0;
+                    minQueue.insertOrDecrease(v, newCost);
+                }
+                if (maxPaths == ALL_PATHS || parentCount[v] < maxPaths) {
+                    parentNext[e] = parentHead[v];
+                    parentHead[v] = e;
+                    parentCount[v]++;
+                }
+            }
+        }
+
+        // Transfer the reached vertexes to the default result and construct
+        // a set of paths from it.
+        DefaultResult result = new DefaultResult(src, dst, maxPaths);
+        for (int v = 0; v < vertexCount; v++) {
+            if (Double.isNaN(costs[v])) {
+                continue;
+            }
+            V vertex = compact.vertex(v);
+            Weight cost = ScalarWeight.toWeight(costs[v]);
+            result.updateVertex(vertex, null, cost, false);
+            for (int e = parentHead[v]; e != NONE; e = parentNext[e]) {
+                result.updateVertex(vertex, compact.edge(e), cost, false);
+            }
+        }
+        result.buildPaths();
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompactGraph<V, E> compactGraph(Graph<V, E> graph) {
+        if (graph instanceof CompactGraph.Provider) {
+            return ((CompactGraph.Provider<V, E>) graph).compactGraph();
+        }
+        return CompactGraph.of(graph);
+    }
+
+    /**
+     * Binary min-heap of vertex identifiers keyed by their costs, which
+     * tracks the position of each vertex to support the decrease-key
+     * operation.
+     */
+    private static final class IndexedHeap {
+
+        private static final int SETTLED = Integer.MAX_VALUE;
+
+        private final int[] heap;
+        private final int[] positions;
+        private final double[] keys;
+        private int size;
+
+        private IndexedHeap(int capacity) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            keys = new double[capacity];
+            Arrays.fill(positions, NONE);
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void insert(int v, double key) {
+            heap[size] = v;
+            positions[v] = size;
+            keys[v] = key;
+            siftUp(size++);
+        }
+
+        private void insertOrDecrease(int v, double key) {
+            if (positions[v] == NONE) {
+                insert(v, key);
+            } else if (positions[v] != SETTLED && key < keys[v]) {
+                keys[v] = key;
+                siftUp(positions[v]);
+            }
+        }
+
+        private int extractMin() {
+            int min = heap[0];
+            heap[0] = heap[--size];
+            positions[heap[0]] = 0;
+            // Mark the vertex so that it is never re-inserted once settled.
+            positions[min] = SETTLED;
+            if (size > 0) {
+                siftDown(0);
+            }
+            return min;
+        }
+
+        private void siftUp(int i) {
+            int v = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[heap[parent]] <= keys[v]) {
+                    break;
+                }
+                move(heap[parent], i);
+                i = parent;
+            }
+            move(v, i);
+        }
+
+        private void siftDown(int i) {
+            int v = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                    child++;
+                }
+                if (keys[v] <= keys[heap[child]]) {
+                    break;
+                }
+                move(heap[child], i);
+                i = child;
+            }
+            move(v, i);
+        }
+
+        private void move(int v, int i) {
+            heap[i] = v;
+            positions[v] = i;
+        }
+    }
+}
@@ -151,6 +151,18 @@ public class IpAddress implements Comparable<IpAddress> {
         return Arrays.copyOf(octets, octets.length);
     }
 
+    /**
+     * Returns whether the bit at the specified position is set, position 0
+     * being the most significant bit of the address. Unlike
+     * {@link #toOctets()} this does not copy the address.
+     *
+     * @param index bit position
+     * @return true if the bit is set
+     */
+    public boolean isBitSet(int index) {
+        return (octets[index / Byte.SIZE] & (0x80 >>> (index % Byte.SIZE))) != 0;
+    }
+
     /**
      * Returns the IP address as InetAddress.
      *
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Pool of Kryo input or output instances, so that the buffers backing them
+ * can be reused across serialization calls instead of being allocated for
+ * every call.
+ * <p>
+ * Pooled instances are softly referenced and may be reclaimed by the
+ * garbage collector under memory pressure. Each instance keeps the same
+ * reference for its lifetime and the pool holds a fixed number of them, so
+ * borrowing and releasing a pooled instance allocates nothing.
+ * </p>
+ *
+ * @param <T> type of pooled instance
+ */
+abstract class KryoIOPool<T> {
+
+    private static final int CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final AtomicReferenceArray<SoftReference<T>> slots = new AtomicReferenceArray<>(CAPACITY);
+
+    /**
+     * Runs the specified function with a pooled instance.
+     *
+     * @param function   function to run
+     * @param bufferSize initial buffer size of the instance if one has to be created
+     * @param <R>        type of the function result
+     * @return function result
+     */
+    <R> R run(Function<T, R> function, int bufferSize) {
+        SoftReference<T> reference = null;
+        T element = null;
+        for (int i = 0; i < CAPACITY && element == null; i++) {
+            reference = slots.getAndSet(i, null);
+            element = reference != null ? reference.get() : null;
+        }
+        if (element == null) {
+            element = create(bufferSize);
+            reference = new SoftReference<>(element);
+        }
+        try {
+            return function.apply(element);
+        } finally {
+            if (recycle(element)) {
+                release(reference);
+            }
+        }
+    }
+
+    private void release(SoftReference<T> reference) {
+        for (int i = 0; i < CAPACITY; i++) {
+            if (slots.compareAndSet(i, null, reference)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param bufferSize initial buffer size
+     * @return new instance
+     */
+    protected abstract T create(int bufferSize);
+
+    /**
+     * Resets an instance so that it can be reused.
+     *
+     * @param element instance to reset
+     * @return true if the instance may be returned to the pool
+     */
+    protected abstract boolean recycle(T element);
+}
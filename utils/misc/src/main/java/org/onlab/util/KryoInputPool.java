@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import com.esotericsoftware.kryo.io.Input;
+
+/**
+ * Pool of Kryo inputs reading directly from byte arrays.
+ */
+final class KryoInputPool extends KryoIOPool<Input> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Override
+    protected Input create(int bufferSize) {
+        return new Input();
+    }
+
+    @Override
+    protected boolean recycle(Input input) {
+        // drop the reference to the deserialized bytes
+        input.setBuffer(EMPTY);
+        return true;
+    }
+}
@@ -20,8 +20,6 @@ import com.esotericsoftware.kryo.Registration;
 import com.esotericsoftware.kryo.Serializer;
 import com.esotericsoftware.kryo.io.ByteBufferInput;
 import com.esotericsoftware.kryo.io.ByteBufferOutput;
-import com.esotericsoftware.kryo.io.Input;
-import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.pool.KryoCallback;
 import com.esotericsoftware.kryo.pool.KryoFactory;
 import com.esotericsoftware.kryo.pool.KryoPool;
@@ -33,8 +31,6 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.objenesis.strategy.StdInstantiatorStrategy;
 import org.slf4j.Logger;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -78,6 +74,9 @@ public final class KryoNamespace implements KryoFactory, KryoPool {
                                         .softReferences()
                                         .build();
 
+    private final KryoOutputPool outputPool = new KryoOutputPool();
+    private final KryoInputPool inputPool = new KryoInputPool();
+
     private final ImmutableList<RegistrationBlock> registeredBlocks;
 
     private final boolean compatible;
@@ -299,19 +298,19 @@ public final class KryoNamespace implements KryoFactory, KryoPool {
 
     /**
      * Serializes given object to byte array using Kryo instance in pool.
+     * <p>
+     * The object is written into a pooled output buffer, so the only
+     * allocation per call is the returned array itself.
      *
      * @param obj Object to serialize
-     * @param bufferSize maximum size of serialized bytes
+     * @param bufferSize initial size of the output buffer
      * @return serialized bytes
      */
     public byte[] serialize(final Object obj, final int bufferSize) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferSize);
-        Output out = new Output(outputStream);
-        return pool.run(kryo -> {
+        return outputPool.run(out -> pool.run(kryo -> {
             kryo.writeClassAndObject(out, obj);
-            out.flush();
-            return outputStream.toByteArray();
-        });
+            return out.toBytes();
+        }), bufferSize);
     }
 
     /**
@@ -343,20 +342,27 @@ public final class KryoNamespace implements KryoFactory, KryoPool {
 
     /**
      * Serializes given object to OutputStream using Kryo instance in pool.
+     * <p>
+     * The object is written through a pooled output buffer, which is flushed
+     * to the stream whenever it fills up.
      *
      * @param obj Object to serialize
      * @param stream to write to
-     * @param bufferSize size of the buffer in front of the stream
+     * @param bufferSize initial size of the buffer in front of the stream
      */
     public void serialize(final Object obj, final OutputStream stream, final int bufferSize) {
-        ByteBufferOutput out = new ByteBufferOutput(stream, bufferSize);
-        Kryo kryo = borrow();
-        try {
-            kryo.writeClassAndObject(out, obj);
-            out.flush();
-        } finally {
-            release(kryo);
-        }
+        outputPool.run(out -> {
+            out.setOutputStream(stream);
+            try {
+                return pool.run(kryo -> {
+                    kryo.writeClassAndObject(out, obj);
+                    out.flush();
+                    return null;
+                });
+            } finally {
+                out.setOutputStream(null);
+            }
+        }, bufferSize);
     }
 
     /**
@@ -367,15 +373,17 @@ public final class KryoNamespace implements KryoFactory, KryoPool {
      * @return deserialized Object
      */
     public <T> T deserialize(final byte[] bytes) {
-        Input in = new Input(new ByteArrayInputStream(bytes));
-        Kryo kryo = borrow();
-        try {
-            @SuppressWarnings("unchecked")
-            T obj = (T) kryo.readClassAndObject(in);
-            return obj;
-        } finally {
-            release(kryo);
-        }
+        return inputPool.run(in -> {
+            in.setBuffer(bytes);
+            Kryo kryo = borrow();
+            try {
+                @SuppressWarnings("unchecked")
+                T obj = (T) kryo.readClassAndObject(in);
+                return obj;
+            } finally {
+                release(kryo);
+            }
+        }, DEFAULT_BUFFER_SIZE);
     }
 
     /**
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.UniformReservoir;
+import com.google.common.collect.Maps;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.onlab.util.Tools.groupedThreads;
+
+/**
+ * Scheduler of periodic polling tasks, such as the statistics collectors of
+ * the southbound providers, shared by all the pollers of the platform.
+ * <p>
+ * Polls are timed by a hashed-wheel timer and executed on a separate thread
+ * pool, so that a slow poll never delays the timing of the others. The
+ * polls registered by the same owner, typically a device, are executed one
+ * at a time, so that a device cannot take up more than one pool thread and
+ * the devices are served in turn. A poll which comes due while its previous
+ * run is still pending is coalesced with it rather than queued again. Each
+ * run is offset by a small random jitter so that polls registered at the
+ * same time do not keep firing together.
+ * </p>
+ * <p>
+ * The lateness of each run, i.e. the time between its due time and the
+ * time it actually started, is recorded for monitoring. The shared
+ * scheduler publishes it, along with the number of coalesced runs, through
+ * the metrics service.
+ * </p>
+ */
+public final class PollScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PollScheduler.class);
+
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    // maximum jitter of each run, as a fraction of the poll period
+    static final double JITTER_FRACTION = 0.1;
+    static final long MAX_JITTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    static final String METRICS_COMPONENT = "PollScheduler";
+    static final String METRICS_FEATURE = "polls";
+    static final String LATENESS_METRIC = "lateness";
+    static final String COALESCED_METRIC = "coalesced";
+
+    // the shared scheduler is started by its first user and shut down by
+    // its last one
+    private static PollScheduler shared;
+    private static ExecutorService sharedPool;
+    private static MetricsService sharedMetrics;
+    private static int sharedUsers;
+
+    private final io.netty.util.Timer timer;
+    private final Executor executor;
+    private final Map<Object, OwnerQueue> owners = Maps.newConcurrentMap();
+
+    private final Histogram lateness = new Histogram(new UniformReservoir());
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Creates a poll scheduler.
+     *
+     * @param timer    timer timing the polls
+     * @param executor executor running the polls
+     */
+    public PollScheduler(io.netty.util.Timer timer, Executor executor) {
+        this.timer = checkNotNull(timer);
+        this.executor = checkNotNull(executor);
+    }
+
+    /**
+     * Acquires the poll scheduler shared by the platform, timed by the shared
+     * hashed-wheel {@link Timer}. The first user starts the scheduler and
+     * registers its metrics; each user must {@link #release() release} it
+     * when done, so that the last one shuts its thread pool down.
+     *
+     * @param metricsService metrics service publishing the scheduler metrics
+     * @return shared poll scheduler
+     */
+    public static synchronized PollScheduler acquire(MetricsService metricsService) {
+        if (sharedUsers == 0) {
+            sharedPool = newFixedThreadPool(DEFAULT_POOL_SIZE,
+                                            groupedThreads("onos/shared/poll", "onos-poll-%d", log));
+            shared = new PollScheduler(new SharedTimer(), sharedPool);
+            sharedMetrics = checkNotNull(metricsService);
+            MetricsComponent component = sharedMetrics.registerComponent(METRICS_COMPONENT);
+            MetricsFeature feature = component.registerFeature(METRICS_FEATURE);
+            sharedMetrics.registerMetric(component, feature, LATENESS_METRIC, shared.lateness);
+            sharedMetrics.registerMetric(component, feature, COALESCED_METRIC,
+                                         (Gauge<Long>) shared.coalesced::get);
+        }
+        sharedUsers++;
+        return shared;
+    }
+
+    /**
+     * Releases the shared poll scheduler; the last user to release it
+     * unregisters its metrics and shuts its thread pool down.
+     */
+    public static synchronized void release() {
+        checkState(sharedUsers > 0, "Shared poll scheduler is not acquired");
+        if (--sharedUsers > 0) {
+            return;
+        }
+        MetricsComponent component = sharedMetrics.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(METRICS_FEATURE);
+        sharedMetrics.removeMetric(component, feature, LATENESS_METRIC);
+        sharedMetrics.removeMetric(component, feature, COALESCED_METRIC);
+        sharedPool.shutdown();
+        shared = null;
+        sharedPool = null;
+        sharedMetrics = null;
+    }
+
+    /**
+     * Schedules a periodic poll.
+     *
+     * @param owner        owner of the poll, e.g. the polled device; the polls
+     *                     of the same owner are executed one at a time
+     * @param poll         poll to execute
+     * @param initialDelay delay before the first run
+     * @param period       period between successive runs
+     * @param unit         time unit of the delay and period
+     * @return handle of the scheduled poll
+     */
+    public PollTask schedule(Object owner, Runnable poll,
+                             long initialDelay, long period, TimeUnit unit) {
+        checkNotNull(owner);
+        checkNotNull(poll);
+        checkArgument(period > 0, "Period must be positive");
+        OwnerQueue queue = owners.compute(owner, (o, q) -> {
+            OwnerQueue result = q == null ? new OwnerQueue(o) : q;
+            result.polls++;
+            return result;
+        });
+        PollTask task = new PollTask(queue, poll, unit.toNanos(period));
+        task.scheduleAt(System.nanoTime() + unit.toNanos(initialDelay));
+        return task;
+    }
+
+    /**
+     * Returns the histogram of the lateness of the poll runs, in milliseconds.
+     *
+     * @return lateness histogram
+     */
+    public Histogram lateness() {
+        return lateness;
+    }
+
+    /**
+     * Returns the number of poll runs skipped because the previous run of
+     * the same poll was still pending.
+     *
+     * @return number of coalesced runs
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    private void release(OwnerQueue queue) {
+        owners.computeIfPresent(queue.owner, (o, q) -> {
+            if (q != queue) {
+                return q;
+            }
+            q.polls--;
+            return q.polls > 0 ? q : null;
+        });
+    }
+
+    /**
+     * Handle of a periodic poll.
+     */
+    public final class PollTask implements TimerTask {
+
+        private final OwnerQueue queue;
+        private final Runnable poll;
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private volatile long period;
+        private volatile boolean cancelled;
+        // nominal time of the next run, and the same offset by the jitter
+        private long nominalTime;
+        private long dueTime;
+        private Timeout timeout;
+
+        private PollTask(OwnerQueue queue, Runnable poll, long period) {
+            this.queue = queue;
+            this.poll = poll;
+            this.period = period;
+        }
+
+        /**
+         * Changes the period of the poll; the next run is due one new
+         * period from now.
+         *
+         * @param period new period between successive runs
+         * @param unit   time unit of the period
+         */
+        public void setPeriod(long period, TimeUnit unit) {
+            checkArgument(period > 0, "Period must be positive");
+            this.period = unit.toNanos(period);
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                timeout.cancel();
+                scheduleAt(System.nanoTime() + this.period);
+            }
+        }
+
+        /**
+         * Cancels the poll. A run already in progress is not interrupted.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                timeout.cancel();
+            }
+            release(queue);
+        }
+
+        /**
+         * Returns whether the poll has been cancelled.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private synchronized void scheduleAt(long time) {
+            long jitter = (long) (ThreadLocalRandom.current().nextDouble() *
+                    Math.min(JITTER_FRACTION * period, MAX_JITTER_NANOS));
+            nominalTime = time;
+            dueTime = time + jitter;
+            timeout = timer.newTimeout(this, Math.max(0, dueTime - System.nanoTime()),
+                                       TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void run(Timeout expired) {
+            long due;
+            synchronized (this) {
+                if (cancelled || expired != timeout) {
+                    return;
+                }
+                due = dueTime;
+                // fixed rate; runs missed by falling more than a period
+                // behind are not caught up
+                scheduleAt(Math.max(nominalTime + period, System.nanoTime()));
+            }
+            if (pending.compareAndSet(false, true)) {
+                queue.submit(() -> execute(due));
+            } else {
+                coalesced.incrementAndGet();
+            }
+        }
+
+        private void execute(long due) {
+            try {
+                lateness.update(TimeUnit.NANOSECONDS.toMillis(Math.max(0, System.nanoTime() - due)));
+                if (!cancelled) {
+                    poll.run();
+                }
+            } catch (Exception e) {
+                log.warn("Uncaught exception in poll of {}", queue.owner, e);
+            } finally {
+                pending.set(false);
+            }
+        }
+    }
+
+    // Serializes the runs of the polls of an owner.
+    private final class OwnerQueue implements Runnable {
+
+        private final Object owner;
+        private final Deque<Runnable> runs = new ArrayDeque<>();
+        private boolean running;
+        private int polls;
+
+        private OwnerQueue(Object owner) {
+            this.owner = owner;
+        }
+
+        private void submit(Runnable run) {
+            synchronized (this) {
+                runs.addLast(run);
+                if (running) {
+                    return;
+                }
+                running = true;
+            }
+            executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            Runnable run;
+            synchronized (this) {
+                run = runs.pollFirst();
+            }
+            if (run != null) {
+                run.run();
+            }
+            synchronized (this) {
+                if (runs.isEmpty()) {
+                    running = false;
+                    return;
+                }
+            }
+            // yield the thread to the other owners between runs
+            executor.execute(this);
+        }
+    }
+
+    // Adapts the shared hashed-wheel timer, which must not be stopped.
+    private static final class SharedTimer implements io.netty.util.Timer {
+        @Override
+        public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+            return Timer.newTimeout(task, delay, unit);
+        }
+
+        @Override
+        public Set<Timeout> stop() {
+            return Collections.emptySet();
+        }
+    }
+}
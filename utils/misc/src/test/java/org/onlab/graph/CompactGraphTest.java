@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the compact graph form.
+ */
+public class CompactGraphTest {
+
+    private static final TestVertex A = new TestVertex("A");
+    private static final TestVertex B = new TestVertex("B");
+    private static final TestVertex C = new TestVertex("C");
+    private static final TestVertex D = new TestVertex("D");
+    private static final TestVertex Z = new TestVertex("Z");
+
+    private final Set<TestEdge> edges =
+            ImmutableSet.of(new TestEdge(A, B, ScalarWeight.toWeight(1)),
+                            new TestEdge(B, C, ScalarWeight.toWeight(2)),
+                            new TestEdge(B, D, ScalarWeight.NON_VIABLE_WEIGHT),
+                            new TestEdge(C, A, ScalarWeight.toWeight(3)));
+
+    private final CompactGraph<TestVertex, TestEdge> graph =
+            CompactGraph.of(new AdjacencyListsGraph<>(ImmutableSet.of(A, B, C, D), edges));
+
+    @Test
+    public void basics() {
+        assertEquals("incorrect vertex count", 4, graph.vertexCount());
+        assertEquals("incorrect edge count", 4, graph.edgeCount());
+        assertEquals("incorrect index", -1, graph.index(Z));
+
+        int b = graph.index(B);
+        assertEquals("incorrect vertex", B, graph.vertex(b));
+        assertEquals("incorrect egress edge count", 2, graph.edgesFromEnd(b) - graph.edgesFromStart(b));
+        for (int e = graph.edgesFromStart(b); e < graph.edgesFromEnd(b); e++) {
+            assertEquals("incorrect edge source", B, graph.edge(e).src());
+            assertEquals("incorrect edge target", graph.edge(e).dst(), graph.vertex(graph.target(e)));
+        }
+        int d = graph.index(D);
+        assertEquals("incorrect egress edge count", 0, graph.edgesFromEnd(d) - graph.edgesFromStart(d));
+    }
+
+    @Test
+    public void weights() {
+        EdgeWeigher<TestVertex, TestEdge> weigher = new DefaultEdgeWeigher<TestVertex, TestEdge>() {
+            @Override
+            public Weight weight(TestEdge edge) {
+                return edge.weight();
+            }
+        };
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            double expected = graph.edge(e).dst().equals(D) ? Double.POSITIVE_INFINITY :
+                    ((ScalarWeight) graph.edge(e).weight()).value();
+            assertEquals("incorrect weight", expected, graph.weight(e, weigher), 0);
+        }
+    }
+
+    @Test
+    public void nonScalarWeights() {
+        assertTrue("weight should not be computed",
+                   Double.isNaN(graph.weight(0, new DefaultEdgeWeigher<TestVertex, TestEdge>() {
+                       @Override
+                       public Weight weight(TestEdge edge) {
+                           return new TestDoubleWeight(1);
+                       }
+                   })));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.graph;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.collect.ImmutableSet.of;
+import static org.junit.Assert.assertEquals;
+import static org.onlab.graph.GraphPathSearch.ALL_PATHS;
+
+/**
+ * Test of the indexed-heap Dijkstra algorithm.
+ */
+public class IndexedDijkstraGraphSearchTest extends DijkstraGraphSearchTest {
+
+    private final EdgeWeigher<TestVertex, TestEdge> scalarWeigher =
+            new EdgeWeigher<TestVertex, TestEdge>() {
+                @Override
+                public Weight weight(TestEdge edge) {
+                    return edge.weight();
+                }
+
+                @Override
+                public Weight getInitialWeight() {
+                    return ScalarWeight.toWeight(0);
+                }
+
+                @Override
+                public Weight getNonViableWeight() {
+                    return ScalarWeight.NON_VIABLE_WEIGHT;
+                }
+            };
+
+    @Override
+    protected AbstractGraphPathSearch<TestVertex, TestEdge> graphSearch() {
+        return new IndexedDijkstraGraphSearch<>();
+    }
+
+    private static TestEdge edge(TestVertex src, TestVertex dst, double weight) {
+        return new TestEdge(src, dst, ScalarWeight.toWeight(weight));
+    }
+
+    // Asserts that the indexed search yields the same results as the
+    // original Dijkstra search for all pairs of vertexes.
+    private void assertSameAsDijkstra(Graph<TestVertex, TestEdge> graph) {
+        GraphPathSearch<TestVertex, TestEdge> expected = new DijkstraGraphSearch<>();
+        GraphPathSearch<TestVertex, TestEdge> actual = graphSearch();
+        for (TestVertex src : graph.getVertexes()) {
+            assertEquals("incorrect costs",
+                         expected.search(graph, src, null, scalarWeigher, ALL_PATHS).costs(),
+                         actual.search(graph, src, null, scalarWeigher, ALL_PATHS).costs());
+            for (TestVertex dst : graph.getVertexes()) {
+                assertEquals("incorrect paths",
+                             expected.search(graph, src, dst, scalarWeigher, ALL_PATHS).paths(),
+                             actual.search(graph, src, dst, scalarWeigher, ALL_PATHS).paths());
+                assertEquals("incorrect single path count",
+                             expected.search(graph, src, dst, scalarWeigher, 1).paths().size(),
+                             actual.search(graph, src, dst, scalarWeigher, 1).paths().size());
+            }
+        }
+    }
+
+    @Test
+    public void scalarWeights() {
+        graph = new AdjacencyListsGraph<>(vertexes(),
+                of(edge(A, B, 1), edge(A, C, 3), edge(B, D, 2), edge(B, C, 1),
+                   edge(B, E, 4), edge(C, E, 1), edge(D, H, 5), edge(D, E, 1),
+                   edge(E, F, 1), edge(F, D, 1), edge(F, G, 1), edge(F, H, 1)));
+        executeSearch(graphSearch(), graph, A, H, scalarWeigher, 1, ScalarWeight.toWeight(5.0));
+        executeSinglePathSearch(graphSearch(), graph, A, H, scalarWeigher, 1, ScalarWeight.toWeight(5.0));
+        assertSameAsDijkstra(graph);
+    }
+
+    @Test
+    public void scalarNegativeAndNonViableWeights() {
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D, E, F, G),
+                of(edge(A, B, 1), edge(A, C, -1), edge(B, D, 1), edge(D, A, -2),
+                   edge(C, D, 1), edge(D, E, 1), edge(D, F, Double.POSITIVE_INFINITY),
+                   edge(E, G, 1), edge(F, G, 1), edge(G, A, -5), edge(A, G, 4),
+                   edge(A, E, 0), edge(A, A, 0)));
+        executeSearch(graphSearch(), graph, A, G, scalarWeigher, 1, ScalarWeight.toWeight(1.0));
+        assertSameAsDijkstra(graph);
+    }
+
+    @Test
+    public void lazyWeights() {
+        AtomicInteger weighed = new AtomicInteger();
+        EdgeWeigher<TestVertex, TestEdge> countingWeigher = new DefaultEdgeWeigher<TestVertex, TestEdge>() {
+            @Override
+            public Weight weight(TestEdge edge) {
+                weighed.incrementAndGet();
+                return edge.weight();
+            }
+        };
+        graph = new AdjacencyListsGraph<>(of(A, B, C, D, E),
+                of(edge(A, B, 1), edge(A, C, 5), edge(B, D, 3), edge(C, E, 1), edge(D, E, 1)));
+        executeSearch(graphSearch(), graph, A, B, countingWeigher, 1, ScalarWeight.toWeight(1.0));
+        assertEquals("only the egress edges of the source should be weighed", 2, weighed.get());
+    }
+
+    @Test
+    public void compactGraphProvider() {
+        Set<TestEdge> edges = ImmutableSet.of(edge(A, B, 1), edge(B, C, 1), edge(A, C, 2));
+        graph = new CompactAdjacencyListsGraph(of(A, B, C), edges);
+        executeSearch(graphSearch(), graph, A, C, scalarWeigher, 2, ScalarWeight.toWeight(2.0));
+        assertSameAsDijkstra(graph);
+    }
+
+    @Test
+    public void benchmark() {
+        Random random = new Random(17);
+        int size = 30;
+        TestVertex[][] grid = new TestVertex[size][size];
+        ImmutableSet.Builder<TestVertex> vertexes = ImmutableSet.builder();
+        ImmutableSet.Builder<TestEdge> edges = ImmutableSet.builder();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                grid[i][j] = new TestVertex("v" + i + "-" + j);
+                vertexes.add(grid[i][j]);
+                if (i > 0) {
+                    edges.add(edge(grid[i - 1][j], grid[i][j], 1 + random.nextInt(3)));
+                    edges.add(edge(grid[i][j], grid[i - 1][j], 1 + random.nextInt(3)));
+                }
+                if (j > 0) {
+                    edges.add(edge(grid[i][j - 1], grid[i][j], 1 + random.nextInt(3)));
+                    edges.add(edge(grid[i][j], grid[i][j - 1], 1 + random.nextInt(3)));
+                }
+            }
+        }
+        graph = new CompactAdjacencyListsGraph(vertexes.build(), edges.build());
+
+        GraphPathSearch<TestVertex, TestEdge> dijkstra = new DijkstraGraphSearch<>();
+        GraphPathSearch<TestVertex, TestEdge> indexed = graphSearch();
+        long dijkstraCost = 0;
+        long indexedCost = 0;
+        for (int i = 0; i < size; i++) {
+            TestVertex src = grid[random.nextInt(size)][random.nextInt(size)];
+            long start = System.nanoTime();
+            Map<TestVertex, Weight> expected = dijkstra.search(graph, src, null, scalarWeigher, 1).costs();
+            long mid = System.nanoTime();
+            Map<TestVertex, Weight> actual = indexed.search(graph, src, null, scalarWeigher, 1).costs();
+            long end = System.nanoTime();
+            dijkstraCost += mid - start;
+            indexedCost += end - mid;
+            assertEquals("incorrect costs", expected, actual);
+        }
+        DecimalFormat fmt = new DecimalFormat("#,###");
+        System.out.println("Dijkstra compute cost is " + fmt.format(dijkstraCost) + " nanos");
+        System.out.println("Indexed Dijkstra compute cost is " + fmt.format(indexedCost) + " nanos");
+    }
+
+    /**
+     * Adjacency lists graph which retains its compact form.
+     */
+    private static final class CompactAdjacencyListsGraph
+            extends AdjacencyListsGraph<TestVertex, TestEdge>
+            implements CompactGraph.Provider<TestVertex, TestEdge> {
+
+        private final CompactGraph<TestVertex, TestEdge> compactGraph = CompactGraph.of(this);
+
+        private CompactAdjacencyListsGraph(Set<TestVertex> vertexes, Set<TestEdge> edges) {
+            super(vertexes, edges);
+        }
+
+        @Override
+        public CompactGraph<TestVertex, TestEdge> compactGraph() {
+            return compactGraph;
+        }
+    }
+}
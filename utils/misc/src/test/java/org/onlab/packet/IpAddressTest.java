@@ -93,6 +93,27 @@ public class IpAddressTest {
         assertFalse(ipAddress.isIp4());
     }
 
+    /**
+     * Tests reading individual bits of an address.
+     */
+    @Test
+    public void testIsBitSet() {
+        IpAddress ipAddress;
+
+        // IPv4
+        ipAddress = IpAddress.valueOf("128.0.0.1");
+        assertTrue(ipAddress.isBitSet(0));
+        assertFalse(ipAddress.isBitSet(1));
+        assertTrue(ipAddress.isBitSet(31));
+
+        // IPv6
+        ipAddress = IpAddress.valueOf("1::8000");
+        assertFalse(ipAddress.isBitSet(0));
+        assertTrue(ipAddress.isBitSet(15));
+        assertTrue(ipAddress.isBitSet(112));
+        assertFalse(ipAddress.isBitSet(127));
+    }
+
     /**
      * Tests whether the IP version of an address is IPv6.
      */
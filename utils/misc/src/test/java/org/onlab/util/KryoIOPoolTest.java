@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for KryoIOPool.
+ */
+public class KryoIOPoolTest {
+
+    private static final class BufferPool extends KryoIOPool<byte[]> {
+        @Override
+        protected byte[] create(int bufferSize) {
+            return new byte[bufferSize];
+        }
+
+        @Override
+        protected boolean recycle(byte[] element) {
+            return element.length <= 16;
+        }
+    }
+
+    private final BufferPool pool = new BufferPool();
+
+    /**
+     * Tests that released instances are handed out again.
+     */
+    @Test
+    public void testReuse() {
+        byte[] first = pool.run(b -> b, 8);
+        assertSame(first, pool.run(b -> b, 8));
+    }
+
+    /**
+     * Tests that an instance is never handed out twice at the same time.
+     */
+    @Test
+    public void testNested() {
+        pool.run(b -> {
+            assertNotSame(b, pool.run(inner -> inner, 8));
+            return b;
+        }, 8);
+    }
+
+    /**
+     * Tests that instances which may not be recycled are dropped.
+     */
+    @Test
+    public void testNotRecycled() {
+        byte[] large = pool.run(b -> b, 32);
+        assertNotSame(large, pool.run(b -> b, 32));
+    }
+}
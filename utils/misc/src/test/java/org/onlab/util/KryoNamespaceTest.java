@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for the pooled serialization paths of {@link KryoNamespace}.
+ */
+public class KryoNamespaceTest {
+
+    private final KryoNamespace namespace = KryoNamespace.newBuilder()
+            .register(String.class, byte[].class, ArrayList.class)
+            .build("test");
+
+    /**
+     * Tests that pooled buffers are reused without leaking previous contents.
+     */
+    @Test
+    public void testRoundTrip() {
+        byte[] first = namespace.serialize("a somewhat longer string");
+        byte[] second = namespace.serialize("short");
+        assertEquals("short", namespace.deserialize(second));
+        assertEquals("a somewhat longer string", namespace.deserialize(first));
+        assertArrayEquals(second, namespace.serialize("short"));
+    }
+
+    /**
+     * Tests serializing objects larger than the initial and pooled buffer sizes.
+     */
+    @Test
+    public void testLargeObject() {
+        byte[] large = new byte[KryoOutputPool.MAX_POOLED_BUFFER_SIZE * 2];
+        Arrays.fill(large, (byte) 7);
+        byte[] bytes = namespace.serialize(large);
+        assertArrayEquals(large, namespace.deserialize(bytes));
+
+        ArrayList<String> list = new ArrayList<>();
+        list.add("after");
+        assertEquals(list, namespace.deserialize(namespace.serialize(list)));
+    }
+
+    /**
+     * Tests that stream serialization through a pooled buffer produces the
+     * same bytes as array serialization, also for objects larger than the
+     * buffer.
+     */
+    @Test
+    public void testStream() {
+        byte[] large = new byte[KryoNamespace.DEFAULT_BUFFER_SIZE * 3];
+        Arrays.fill(large, (byte) 3);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        namespace.serialize(large, stream);
+        assertArrayEquals(namespace.serialize(large), stream.toByteArray());
+
+        stream.reset();
+        namespace.serialize("short", stream);
+        assertArrayEquals(namespace.serialize("short"), stream.toByteArray());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import com.codahale.metrics.MetricRegistry;
+import io.netty.util.HashedWheelTimer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.metrics.MetricsManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.onlab.junit.TestTools.assertAfter;
+
+/**
+ * Tests of the PollScheduler.
+ */
+public class PollSchedulerTest {
+
+    private HashedWheelTimer timer;
+    private ExecutorService executor;
+    private PollScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        timer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS);
+        executor = Executors.newFixedThreadPool(2);
+        scheduler = new PollScheduler(timer, executor);
+    }
+
+    @After
+    public void tearDown() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void periodicPoll() {
+        AtomicInteger runs = new AtomicInteger();
+        PollScheduler.PollTask task =
+                scheduler.schedule("d1", runs::incrementAndGet, 0, 20, TimeUnit.MILLISECONDS);
+        assertAfter(1000, () -> assertTrue("poll should run repeatedly", runs.get() >= 3));
+        assertTrue("lateness should be recorded", scheduler.lateness().getCount() >= 3);
+
+        task.cancel();
+        assertTrue(task.isCancelled());
+        int count = runs.get();
+        assertAfter(100, () -> assertTrue("cancelled poll should stop", runs.get() <= count + 1));
+    }
+
+    @Test
+    public void coalescing() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        PollScheduler.PollTask task = scheduler.schedule("d1", () -> {
+            runs.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        // the poll is held up, so the runs coming due meanwhile are coalesced
+        assertAfter(1000, () -> assertTrue(scheduler.coalescedCount() >= 3));
+        assertEquals(1, runs.get());
+
+        release.countDown();
+        assertAfter(1000, () -> assertTrue(runs.get() >= 2));
+        task.cancel();
+    }
+
+    @Test
+    public void ownerFairness() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger other = new AtomicInteger();
+        AtomicInteger sameOwner = new AtomicInteger();
+        PollScheduler.PollTask slow = scheduler.schedule("d1", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        PollScheduler.PollTask blocked =
+                scheduler.schedule("d1", sameOwner::incrementAndGet, 5, 10, TimeUnit.MILLISECONDS);
+        PollScheduler.PollTask free =
+                scheduler.schedule("d2", other::incrementAndGet, 5, 10, TimeUnit.MILLISECONDS);
+
+        // a slow device holds up its own polls only
+        assertAfter(1000, () -> assertTrue(other.get() >= 3));
+        assertEquals(0, sameOwner.get());
+
+        release.countDown();
+        assertAfter(1000, () -> assertTrue(sameOwner.get() >= 1));
+        slow.cancel();
+        blocked.cancel();
+        free.cancel();
+    }
+
+    @Test
+    public void adjustPeriod() {
+        AtomicInteger runs = new AtomicInteger();
+        PollScheduler.PollTask task =
+                scheduler.schedule("d1", runs::incrementAndGet, 0, 1, TimeUnit.HOURS);
+        assertAfter(2000, () -> assertEquals(1, runs.get()));
+
+        task.setPeriod(10, TimeUnit.MILLISECONDS);
+        assertAfter(1000, () -> assertTrue(runs.get() >= 3));
+        task.cancel();
+        assertFalse(runs.get() == 0);
+    }
+
+    @Test
+    public void sharedScheduler() {
+        MetricsManager metricsService = new MetricsManager();
+        PollScheduler first = PollScheduler.acquire(metricsService);
+        assertSame("scheduler should be shared", first, PollScheduler.acquire(metricsService));
+        String prefix = MetricRegistry.name(PollScheduler.METRICS_COMPONENT, PollScheduler.METRICS_FEATURE);
+        assertTrue("lateness should be published", metricsService.getMetrics()
+                .containsKey(MetricRegistry.name(prefix, PollScheduler.LATENESS_METRIC)));
+        assertTrue("coalesced runs should be published", metricsService.getMetrics()
+                .containsKey(MetricRegistry.name(prefix, PollScheduler.COALESCED_METRIC)));
+
+        PollScheduler.release();
+        assertFalse("metrics removed while in use", metricsService.getMetrics().isEmpty());
+        PollScheduler.release();
+        assertTrue("metrics should be removed", metricsService.getMetrics().isEmpty());
+
+        PollScheduler next = PollScheduler.acquire(metricsService);
+        assertNotSame("scheduler should be restarted", first, next);
+        PollScheduler.release();
+    }
+}